@@ -0,0 +1,60 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift.benchmark.support.FriendGraph;
+import com.d201.fundingift.friend.entity.Friend;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *  "친구가 나를 친한 친구로 설정했는가" 확인
+ *  - perFriendLookup: 친구마다 findById (기존 방식)
+ *  - pipelinedLookup: 키를 모아 한 번에 조회 (RedisPipelineUtil)
+ *  메모리 구현이므로 네트워크 왕복 비용은 포함하지 않는다. 실제 Redis 에서는 왕복 횟수 차이가 추가된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FriendRelationBenchmark {
+
+    @Param({"50", "500"})
+    private int friendCount;
+
+    private FriendGraph graph;
+    private List<Friend> myFriends;
+
+    @Setup
+    public void setUp() {
+        graph = new FriendGraph(friendCount);
+        myFriends = graph.friendRepository.findByConsumerId(FriendGraph.ME);
+    }
+
+    @Benchmark
+    public int perFriendLookup() {
+        int favorites = 0;
+        for (Friend f : myFriends) {
+            Optional<Friend> toFriend = graph.friendRepository.findById(f.getToConsumerId() + ":" + f.getConsumerId());
+            if (toFriend.isPresent() && toFriend.get().getIsFavorite()) {
+                favorites++;
+            }
+        }
+        return favorites;
+    }
+
+    @Benchmark
+    public int pipelinedLookup() {
+        List<String> keys = myFriends.stream()
+                .map(f -> "friend:" + f.getToConsumerId() + ":" + f.getConsumerId())
+                .toList();
+        int favorites = 0;
+        for (String isFavorite : graph.redisPipelineUtil.hGet(keys, "isFavorite")) {
+            if ("1".equals(isFavorite)) {
+                favorites++;
+            }
+        }
+        return favorites;
+    }
+
+}
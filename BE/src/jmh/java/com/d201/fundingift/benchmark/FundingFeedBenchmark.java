@@ -0,0 +1,63 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift._common.util.RedisPipelineUtil;
+import com.d201.fundingift._common.util.SecurityUtil;
+import com.d201.fundingift.benchmark.support.Fixtures;
+import com.d201.fundingift.benchmark.support.FriendGraph;
+import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import com.d201.fundingift.friend.repository.FriendRepository;
+import com.d201.fundingift.friend.service.FriendService;
+import com.d201.fundingift.funding.repository.FundingRepository;
+import com.d201.fundingift.funding.service.FundingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *  피드 / 스토리 응답 조립 비용 (Redis, JPA 는 메모리 구현)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FundingFeedBenchmark {
+
+    @Param({"50", "500"})
+    private int friendCount;
+
+    private FundingService fundingService;
+    private FriendService friendService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        FriendGraph graph = new FriendGraph(friendCount);
+        SecurityUtil securityUtil = new SecurityUtil(graph.consumerRepository);
+
+        Map<Class<?>, Object> dependencies = Map.of(
+                ConsumerRepository.class, graph.consumerRepository,
+                FriendRepository.class, graph.friendRepository,
+                FundingRepository.class, graph.fundingRepository,
+                RedisPipelineUtil.class, graph.redisPipelineUtil,
+                SecurityUtil.class, securityUtil);
+
+        fundingService = Fixtures.newService(FundingService.class, dependencies);
+        friendService = Fixtures.newService(FriendService.class, dependencies);
+        pageable = PageRequest.of(0, 20);
+
+        Fixtures.login(FriendGraph.ME);
+    }
+
+    @Benchmark
+    public Object getFundingFeeds() {
+        return fundingService.getFundingFeeds(pageable, null);
+    }
+
+    @Benchmark
+    public Object getFriendsStory() {
+        return friendService.getFriendsStory();
+    }
+
+}
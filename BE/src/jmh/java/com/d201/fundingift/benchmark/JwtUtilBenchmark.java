@@ -0,0 +1,44 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift._common.jwt.JwtUtil;
+import com.d201.fundingift.benchmark.support.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        Fixtures.setField(jwtUtil, "secret", Base64.getUrlEncoder().encodeToString(new byte[64]));
+        jwtUtil.init();
+
+        accessToken = jwtUtil.createAccessToken("1");
+        invalidToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtUtil.validateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateInvalidAccessToken() {
+        return jwtUtil.validateAccessToken(invalidToken);
+    }
+
+    @Benchmark
+    public Object getAuthentication() {
+        return jwtUtil.getAuthentication(accessToken);
+    }
+
+}
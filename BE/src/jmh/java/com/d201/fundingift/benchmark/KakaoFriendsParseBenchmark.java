@@ -0,0 +1,98 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift.friend.dto.FriendDto;
+import com.d201.fundingift.friend.dto.KakaoFriendsPage;
+import com.d201.fundingift.friend.service.KakaoFriendsPageReader;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *  카카오 친구 목록 한 페이지 파싱 (Gson 트리 + 바인딩 vs Jackson 트리 vs Jackson 스트리밍)
+ *  할당량 비교는 -prof gc 로 실행 (gc.alloc.rate.norm = 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KakaoFriendsParseBenchmark {
+
+    @Param({"100", "1000"})
+    private int friendCount;
+
+    private byte[] bodyBytes;
+
+    private final Gson gson = new Gson();
+    private final Type listType = new TypeToken<List<FriendDto>>(){}.getType();
+    private ObjectMapper objectMapper;
+    private ObjectReader friendListReader;
+    private KakaoFriendsPageReader kakaoFriendsPageReader;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("{\"elements\":[");
+        for (int i = 0; i < friendCount; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"profile_nickname\":\"친구").append(i)
+                    .append("\",\"profile_thumbnail_image\":\"https://k.kakaocdn.net/dn/profile/").append(i)
+                    .append(".jpg\",\"allowed_msg\":true,\"id\":").append(3_000_000_000L + i)
+                    .append(",\"uuid\":\"uuid-").append(i)
+                    .append("\",\"favorite\":").append(i % 7 == 0)
+                    .append('}');
+        }
+        sb.append("],\"total_count\":").append(friendCount)
+                .append(",\"after_url\":null,\"favorite_count\":").append(friendCount / 7 + 1)
+                .append('}');
+        String body = sb.toString();
+        bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+
+        objectMapper = new ObjectMapper()
+                .registerModule(new ParameterNamesModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        friendListReader = objectMapper.readerForListOf(FriendDto.class);
+        kakaoFriendsPageReader = new KakaoFriendsPageReader(new ObjectMapper());
+    }
+
+    // FriendService 의 기존 방식 (응답 본문을 String 으로 받은 뒤 트리 파싱 + 바인딩)
+    @Benchmark
+    public List<FriendDto> gsonTreeThenBind() {
+        String body = new String(bodyBytes, StandardCharsets.UTF_8);
+        JsonObject jsonResponse = JsonParser.parseString(body).getAsJsonObject();
+        List<FriendDto> friends = gson.fromJson(jsonResponse.get("elements"), listType);
+        jsonResponse.get("total_count").getAsInt();
+        return friends;
+    }
+
+    @Benchmark
+    public List<FriendDto> jacksonTreeThenBind() throws IOException {
+        JsonNode root = objectMapper.readTree(bodyBytes);
+        List<FriendDto> friends = friendListReader.readValue(root.get("elements"));
+        root.get("total_count").asInt();
+        return friends;
+    }
+
+    // FriendService 의 현재 방식 (응답 InputStream 을 스트리밍 파싱)
+    @Benchmark
+    public List<FriendDto> jacksonStreaming() throws IOException {
+        KakaoFriendsPage page = kakaoFriendsPageReader.read(new ByteArrayInputStream(bodyBytes));
+        return page.getElements();
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift.benchmark.support.Fixtures;
+import com.d201.fundingift.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductReviewBenchmark {
+
+    private Product product;
+    private int star;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        product = Fixtures.product(1L);
+        star = 1;
+    }
+
+    @Benchmark
+    public Double insertReview() {
+        star = star % 5 + 1;
+        product.insertReview(star);
+        return product.getReviewAvg();
+    }
+
+    @Benchmark
+    public Double insertAndDeleteReview() {
+        star = star % 5 + 1;
+        product.insertReview(star);
+        product.deleteReview(star);
+        return product.getReviewAvg();
+    }
+
+}
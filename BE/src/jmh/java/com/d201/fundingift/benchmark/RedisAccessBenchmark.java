@@ -0,0 +1,152 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift._common.util.RedisPipelineUtil;
+import io.lettuce.core.api.StatefulConnection;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *  실제 Redis 에 대한 친구 / 위시리스트 조회 처리량 (RedisConfig 와 같은 방식으로 커넥션을 만든다)
+ *  - friendPerKey / friendPipelined: 친구 해시 friendCount 개를 키마다 HGETALL / 파이프라인 한 번으로 조회
+ *  - wishlistPerKey / wishlistPipelined: 위시리스트 해시 productId 필드를 키마다 HGET / 파이프라인 한 번으로 조회
+ *  - pooled: 풀 사용 여부 (파이프라인은 풀에서 전용 커넥션을 빌리고, 풀이 없으면 매번 새 커넥션을 연다)
+ *
+ *  실행: Redis 를 띄운 뒤 ./gradlew jmh -Pjmh.includes=RedisAccessBenchmark
+ *       (-Dbenchmark.redis.host / -Dbenchmark.redis.port / -Dbenchmark.redis.password 로 대상 지정, 기본 localhost:6379)
+ *  benchmark: 로 시작하는 키만 쓰고, 끝나면 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RedisAccessBenchmark {
+
+    private static final String FRIEND_KEY_PREFIX = "benchmark:friend:";
+    private static final String WISHLIST_KEY_PREFIX = "benchmark:wishlist:";
+
+    @Param({"50", "500"})
+    private int friendCount;
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisPipelineUtil redisPipelineUtil;
+    private List<String> friendKeys;
+    private List<String> wishlistKeys;
+
+    @Setup
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.parseInt(System.getProperty("benchmark.redis.port", "6379")));
+        configuration.setPassword(System.getProperty("benchmark.redis.password", ""));
+
+        connectionFactory = new LettuceConnectionFactory(configuration, clientConfiguration());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        redisPipelineUtil = new RedisPipelineUtil(stringRedisTemplate);
+
+        friendKeys = new ArrayList<>(friendCount);
+        wishlistKeys = new ArrayList<>(friendCount);
+        for (int i = 0; i < friendCount; i++) {
+            friendKeys.add(FRIEND_KEY_PREFIX + i + ":1");
+            wishlistKeys.add(WISHLIST_KEY_PREFIX + "1:" + i);
+        }
+        redisPipelineUtil.write(connection -> {
+            for (int i = 0; i < friendCount; i++) {
+                connection.hMSet(friendKeys.get(i), Map.of(
+                        "consumerId", String.valueOf(i),
+                        "toConsumerId", "1",
+                        "isFavorite", i % 3 == 0 ? "1" : "0"));
+                connection.hMSet(wishlistKeys.get(i), Map.of(
+                        "consumerId", "1",
+                        "productId", String.valueOf(i)));
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        stringRedisTemplate.delete(friendKeys);
+        stringRedisTemplate.delete(wishlistKeys);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public int friendPerKey() {
+        int favorites = 0;
+        for (String key : friendKeys) {
+            Map<Object, Object> friend = stringRedisTemplate.opsForHash().entries(key);
+            if ("1".equals(friend.get("isFavorite"))) {
+                favorites++;
+            }
+        }
+        return favorites;
+    }
+
+    @Benchmark
+    public int friendPipelined() {
+        int favorites = 0;
+        for (Map<String, String> friend : redisPipelineUtil.hGetAll(friendKeys)) {
+            if ("1".equals(friend.get("isFavorite"))) {
+                favorites++;
+            }
+        }
+        return favorites;
+    }
+
+    @Benchmark
+    public long wishlistPerKey() {
+        long sum = 0;
+        for (String key : wishlistKeys) {
+            Object productId = stringRedisTemplate.opsForHash().get(key, "productId");
+            if (productId != null) {
+                sum += Long.parseLong(productId.toString());
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long wishlistPipelined() {
+        long sum = 0;
+        for (String productId : redisPipelineUtil.hGet(wishlistKeys, "productId")) {
+            if (productId != null) {
+                sum += Long.parseLong(productId);
+            }
+        }
+        return sum;
+    }
+
+    private LettuceClientConfiguration clientConfiguration() {
+        if (!pooled) {
+            return LettuceClientConfiguration.builder()
+                    .commandTimeout(Duration.ofSeconds(2))
+                    .build();
+        }
+
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(16);
+        poolConfig.setMaxIdle(8);
+        poolConfig.setMinIdle(2);
+        return LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+}
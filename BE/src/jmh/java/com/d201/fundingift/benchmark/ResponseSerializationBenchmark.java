@@ -0,0 +1,89 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift._common.response.SuccessResponse;
+import com.d201.fundingift._common.response.SuccessType;
+import com.d201.fundingift._common.util.ConditionalGet;
+import com.d201.fundingift._common.util.SerializedResponseCache;
+import com.d201.fundingift.benchmark.support.Fixtures;
+import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.funding.dto.response.GetFundingDetailResponse;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.product.entity.Product;
+import com.d201.fundingift.product.entity.ProductOption;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ *  종료된 펀딩 상세 응답 (LONGTEXT content 포함)
+ *  - serializeFresh: 요청마다 Jackson 직렬화 (기존)
+ *  - serializeFreshThenGzip: 요청마다 직렬화 + gzip (server.compression 만 켠 경우)
+ *  - cachedHit: SerializedResponseCache 에서 미리 직렬화 / 압축된 바이트 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "20000"})
+    private int contentLength;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SerializedResponseCache serializedResponseCache;
+    private SuccessResponse<GetFundingDetailResponse> response;
+    private String cacheKey;
+
+    @Setup
+    public void setUp() {
+        Consumer owner = Fixtures.consumer(1L);
+        Product product = Fixtures.product(1L);
+        ProductOption productOption = ProductOption.builder().name("기본").price(0).product(product).build();
+        Fixtures.setField(productOption, "id", 1L);
+
+        Funding funding = Fixtures.funding(1L, owner, product, Fixtures.anniversaryCategory(1), false);
+        Fixtures.setField(funding, "productOption", productOption);
+        Fixtures.setField(funding, "fundingStatus", FundingStatus.SUCCESS);
+        Fixtures.setField(funding, "content", "생일 축하해! 항상 고마워. ".repeat(contentLength / 16 + 1).substring(0, contentLength));
+
+        GetFundingDetailResponse fundingDetail = GetFundingDetailResponse.from(funding);
+        response = SuccessResponse.from(fundingDetail, SuccessType.GET_FUNDING_DETAIL_SUCCESS);
+        cacheKey = "fundingDetail:" + ConditionalGet.etagOf(fundingDetail);
+        serializedResponseCache = new SerializedResponseCache(256, 1024, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public byte[] serializeFresh() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeFreshThenGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(response));
+    }
+
+    @Benchmark
+    public SerializedResponseCache.Entry cachedHit() {
+        return serializedResponseCache.get(cacheKey, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(response);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift._common.response.SliceList;
+import com.d201.fundingift.benchmark.support.Fixtures;
+import com.d201.fundingift.product.dto.response.GetProductResponse;
+import com.d201.fundingift.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SliceListBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private Slice<Product> products;
+
+    @Setup
+    public void setUp() {
+        List<Product> content = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            content.add(Fixtures.product(id));
+        }
+        products = new SliceImpl<>(content, PageRequest.of(0, size), true);
+    }
+
+    @Benchmark
+    public SliceList<GetProductResponse> toSliceList() {
+        return SliceList.from(products.stream().map(GetProductResponse::from).collect(Collectors.toList()),
+                products.getPageable(),
+                products.hasNext());
+    }
+
+}
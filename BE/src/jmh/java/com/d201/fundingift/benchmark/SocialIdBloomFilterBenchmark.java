@@ -0,0 +1,107 @@
+package com.d201.fundingift.benchmark;
+
+import com.d201.fundingift._common.util.BloomFilter;
+import com.d201.fundingift.benchmark.support.Fixtures;
+import com.d201.fundingift.benchmark.support.InMemoryRepository;
+import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *  카카오 친구 1,000명 동기화 시 가입 여부 확인 (친구 중 registeredPercent% 만 가입자, 전체 가입자 10만 명)
+ *  - lookupEveryFriend: 친구마다 findBySocialIdAndDeletedAtIsNull (기존 방식)
+ *  - bloomGated: 블룸 필터(SocialIdBloomFilter 와 같은 설정)가 "없음"으로 판정한 친구는 조회하지 않음
+ *  보조 지표 queries / syncs = 동기화 한 번에 나간 DB 조회 수. 메모리 구현이므로 조회 한 번의 DB 왕복 비용은 포함하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocialIdBloomFilterBenchmark {
+
+    private static final int REGISTERED_CONSUMERS = 100_000;
+    private static final int FRIEND_COUNT = 1_000;
+
+    @Param({"5", "30"})
+    private int registeredPercent;
+
+    private ConsumerRepository consumerRepository;
+    private BloomFilter bloomFilter;
+    private byte[] bitmap;
+    private List<String> friendSocialIds;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+
+        public long queries;
+        public long syncs;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            queries = 0;
+            syncs = 0;
+        }
+
+    }
+
+    @Setup
+    public void setUp() {
+        Map<String, Consumer> consumersBySocialId = new HashMap<>();
+        bloomFilter = BloomFilter.of(1_000_000, 0.01);
+        bitmap = bloomFilter.newBitmap();
+        for (long id = 1; id <= REGISTERED_CONSUMERS; id++) {
+            Consumer consumer = Fixtures.consumer(id);
+            consumersBySocialId.put(consumer.getSocialId(), consumer);
+            bloomFilter.put(bitmap, consumer.getSocialId());
+        }
+
+        consumerRepository = InMemoryRepository.of(ConsumerRepository.class)
+                .on("findBySocialIdAndDeletedAtIsNull", args -> Optional.ofNullable(consumersBySocialId.get((String) args[0])))
+                .build();
+
+        // 가입자는 앞쪽 id, 미가입자는 가입자 범위 밖의 카카오 id
+        friendSocialIds = new ArrayList<>(FRIEND_COUNT);
+        int registered = FRIEND_COUNT * registeredPercent / 100;
+        for (int i = 0; i < FRIEND_COUNT; i++) {
+            long kakaoId = i < registered ? 3_000_000_000L + 1 + i * 97L : 4_000_000_000L + i;
+            friendSocialIds.add(String.valueOf(kakaoId));
+        }
+    }
+
+    @Benchmark
+    public int lookupEveryFriend(Queries queries) {
+        int found = 0;
+        for (String socialId : friendSocialIds) {
+            queries.queries++;
+            if (consumerRepository.findBySocialIdAndDeletedAtIsNull(socialId).isPresent()) {
+                found++;
+            }
+        }
+        queries.syncs++;
+        return found;
+    }
+
+    @Benchmark
+    public int bloomGated(Queries queries) {
+        int found = 0;
+        for (String socialId : friendSocialIds) {
+            if (!bloomFilter.mightContain(bitmap, socialId)) {
+                continue;
+            }
+            queries.queries++;
+            if (consumerRepository.findBySocialIdAndDeletedAtIsNull(socialId).isPresent()) {
+                found++;
+            }
+        }
+        queries.syncs++;
+        return found;
+    }
+
+}
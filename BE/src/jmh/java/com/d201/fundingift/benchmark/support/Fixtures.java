@@ -0,0 +1,128 @@
+package com.d201.fundingift.benchmark.support;
+
+import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.friend.entity.Friend;
+import com.d201.fundingift.funding.entity.AnniversaryCategory;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.product.entity.Product;
+import com.d201.fundingift.product.entity.status.ProductStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/*
+ *  벤치마크용 엔티티 / 서비스 생성 도우미
+ */
+public class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static Consumer consumer(long id) {
+        Consumer consumer = Consumer.builder()
+                .socialId(String.valueOf(3_000_000_000L + id))
+                .email("user" + id + "@fundingift.com")
+                .name("사용자" + id)
+                .profileImageUrl("https://k.kakaocdn.net/profile/" + id + ".jpg")
+                .birthday("0101")
+                .build();
+        setField(consumer, "id", id);
+        return consumer;
+    }
+
+    public static Product product(long id) {
+        Product product = Product.builder()
+                .name("상품" + id)
+                .price(10000 + (int) id)
+                .description("상품 설명")
+                .image("https://image.fundingift.com/product/" + id + ".jpg")
+                .reviewAvg(0.0)
+                .reviewCnt(0)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        setField(product, "id", id);
+        return product;
+    }
+
+    public static AnniversaryCategory anniversaryCategory(int id) {
+        AnniversaryCategory anniversaryCategory = newInstance(AnniversaryCategory.class);
+        setField(anniversaryCategory, "id", id);
+        setField(anniversaryCategory, "name", "생일");
+        return anniversaryCategory;
+    }
+
+    public static Funding funding(long id, Consumer owner, Product product, AnniversaryCategory anniversaryCategory, boolean isPrivate) {
+        LocalDate today = LocalDate.now();
+        Funding funding = Funding.builder()
+                .sumPrice(0)
+                .minPrice(1000)
+                .targetPrice(product.getPrice())
+                .anniversaryDate(today.plusDays(3))
+                .startDate(today.minusDays(id % 3))
+                .endDate(today.plusDays(5))
+                .title("펀딩" + id)
+                .content("펀딩 내용")
+                .fundingStatus(FundingStatus.IN_PROGRESS)
+                .isPrivate(isPrivate)
+                .consumer(owner)
+                .anniversaryCategory(anniversaryCategory)
+                .product(product)
+                .build();
+        setField(funding, "id", id);
+        return funding;
+    }
+
+    public static Friend friend(long consumerId, long toConsumerId, boolean isFavorite) {
+        return Friend.builder()
+                .id(consumerId + ":" + toConsumerId)
+                .consumerId(consumerId)
+                .toConsumerId(toConsumerId)
+                .isFavorite(isFavorite)
+                .build();
+    }
+
+    public static void login(long consumerId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(String.valueOf(consumerId), "", Collections.emptyList()));
+    }
+
+    // 생성자 파라미터 타입으로 의존성을 찾아 주입 (없는 의존성은 null)
+    public static <T> T newService(Class<T> type, Map<Class<?>, Object> dependencies) {
+        Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = dependencies.get(parameterTypes[i]);
+        }
+        try {
+            ReflectionUtils.makeAccessible(constructor);
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    private static <T> T newInstance(Class<T> type) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            ReflectionUtils.makeAccessible(constructor);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
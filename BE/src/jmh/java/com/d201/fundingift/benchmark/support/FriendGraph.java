@@ -0,0 +1,87 @@
+package com.d201.fundingift.benchmark.support;
+
+import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import com.d201.fundingift.friend.entity.Friend;
+import com.d201.fundingift.friend.repository.FriendRepository;
+import com.d201.fundingift.funding.entity.AnniversaryCategory;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.funding.repository.FundingRepository;
+import com.d201.fundingift.product.entity.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.*;
+
+/*
+ *  "나(ME)" 와 친구 N 명, 친구마다 진행 중인 펀딩 2개(공개 / 친한 친구 공개)를 가진 메모리 데이터
+ *  - 친구의 1/4 은 나를 친한 친구로 설정
+ */
+public class FriendGraph {
+
+    public static final long ME = 1L;
+
+    public final Map<Long, Consumer> consumers = new HashMap<>();
+    public final Map<String, Friend> friends = new HashMap<>();
+    public final Map<Long, List<Funding>> fundingsByConsumerId = new HashMap<>();
+    public final InMemoryRedisPipelineUtil redisPipelineUtil = new InMemoryRedisPipelineUtil();
+
+    public final ConsumerRepository consumerRepository;
+    public final FriendRepository friendRepository;
+    public final FundingRepository fundingRepository;
+
+    public FriendGraph(int friendCount) {
+        Product product = Fixtures.product(1L);
+        AnniversaryCategory anniversaryCategory = Fixtures.anniversaryCategory(1);
+        consumers.put(ME, Fixtures.consumer(ME));
+
+        long fundingId = 1L;
+        for (long id = 2; id < friendCount + 2; id++) {
+            Consumer consumer = Fixtures.consumer(id);
+            consumers.put(id, consumer);
+
+            putFriend(Fixtures.friend(ME, id, id % 5 == 0));
+            putFriend(Fixtures.friend(id, ME, id % 4 == 0));
+
+            fundingsByConsumerId.put(id, List.of(
+                    Fixtures.funding(fundingId++, consumer, product, anniversaryCategory, false),
+                    Fixtures.funding(fundingId++, consumer, product, anniversaryCategory, true)));
+        }
+
+        consumerRepository = InMemoryRepository.of(ConsumerRepository.class)
+                .on("existsById", args -> consumers.containsKey((Long) args[0]))
+                .on("findByIdAndDeletedAtIsNull", args -> Optional.ofNullable(consumers.get((Long) args[0])))
+                .build();
+
+        friendRepository = InMemoryRepository.of(FriendRepository.class)
+                .on("findById", args -> Optional.ofNullable(friends.get((String) args[0])))
+                .on("findByConsumerId", args -> friends.values().stream()
+                        .filter(f -> f.getConsumerId().equals(args[0]))
+                        .toList())
+                .build();
+
+        fundingRepository = InMemoryRepository.of(FundingRepository.class)
+                .on("findAllByConsumerIdsAndFundingStatusAndDeletedAtIsNull", args -> feedSlice((List<?>) args[0], (Pageable) args[1]))
+                .on("findAllByConsumerIdAndFundingStatusAndIsPrivateAndDeletedAtIsNullOrderByStartDateAsc", args -> fundingsByConsumerId
+                        .getOrDefault((Long) args[0], List.of()).stream()
+                        .filter(f -> f.getIsPrivate() == (boolean) args[1])
+                        .toList())
+                .build();
+    }
+
+    private void putFriend(Friend friend) {
+        friends.put(friend.getId(), friend);
+        redisPipelineUtil.hSet("friend:" + friend.getId(), "isFavorite", friend.getIsFavorite() ? "1" : "0");
+    }
+
+    private SliceImpl<Funding> feedSlice(List<?> consumerIds, Pageable pageable) {
+        List<Funding> all = new ArrayList<>();
+        for (Object consumerId : consumerIds) {
+            all.addAll(fundingsByConsumerId.getOrDefault((Long) consumerId, List.of()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new SliceImpl<>(all.subList(from, to), pageable, to < all.size());
+    }
+
+}
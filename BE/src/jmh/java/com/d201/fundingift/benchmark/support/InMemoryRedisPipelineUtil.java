@@ -0,0 +1,40 @@
+package com.d201.fundingift.benchmark.support;
+
+import com.d201.fundingift._common.util.RedisPipelineUtil;
+
+import java.util.*;
+
+/*
+ *  RedisPipelineUtil 의 메모리 구현 (해시 조회만 지원)
+ */
+public class InMemoryRedisPipelineUtil extends RedisPipelineUtil {
+
+    private final Map<String, Map<String, String>> hashes = new HashMap<>();
+
+    public InMemoryRedisPipelineUtil() {
+        super(null);
+    }
+
+    public void hSet(String key, String field, String value) {
+        hashes.computeIfAbsent(key, k -> new HashMap<>()).put(field, value);
+    }
+
+    @Override
+    public List<Map<String, String>> hGetAll(List<String> keys) {
+        List<Map<String, String>> results = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            results.add(hashes.getOrDefault(key, Collections.emptyMap()));
+        }
+        return results;
+    }
+
+    @Override
+    public List<String> hGet(List<String> keys, String field) {
+        List<String> results = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            results.add(hashes.getOrDefault(key, Collections.emptyMap()).get(field));
+        }
+        return results;
+    }
+
+}
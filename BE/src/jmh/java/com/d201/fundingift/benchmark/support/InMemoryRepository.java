@@ -0,0 +1,50 @@
+package com.d201.fundingift.benchmark.support;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+ *  Spring Data 리포지토리 인터페이스를 메모리 상에서 흉내내는 프록시
+ *  - 벤치마크에서 호출하는 메서드만 메서드 이름으로 등록한다.
+ *  - 등록하지 않은 메서드를 호출하면 UnsupportedOperationException
+ */
+public class InMemoryRepository<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+    private InMemoryRepository(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T> InMemoryRepository<T> of(Class<T> type) {
+        return new InMemoryRepository<>(type);
+    }
+
+    public InMemoryRepository<T> on(String methodName, Function<Object[], Object> handler) {
+        handlers.put(methodName, handler);
+        return this;
+    }
+
+    public T build() {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> type.getSimpleName() + "(in-memory)";
+                };
+            }
+
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return handler.apply(args);
+        });
+        return type.cast(proxy);
+    }
+
+}
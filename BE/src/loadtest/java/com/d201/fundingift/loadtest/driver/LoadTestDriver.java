@@ -0,0 +1,182 @@
+package com.d201.fundingift.loadtest.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ *  부하 테스트 드라이버 (./gradlew loadTest)
+ *  loadtest 프로필로 띄운 서버(./gradlew bootRunLoadtest)에 대해 사용자 여정을 반복하고 엔드포인트별 p50 / p99 / 처리량을 출력한다.
+ *
+ *  여정: 토큰 발급 -> 카카오 친구 갱신 -> 펀딩 피드 -> 친구 스토리 -> 펀딩 상세 -> 펀딩 참여 -> 결제 정보 저장
+ *
+ *  시스템 프로퍼티
+ *  - loadtest.base-url (http://localhost:8081)
+ *  - loadtest.users    동시 사용자 수 (50)
+ *  - loadtest.duration 측정 시간 초 (60)
+ *  - loadtest.warmup   워밍업 시간 초 (10)
+ */
+public class LoadTestDriver {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Map<String, Recorder> recorders = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean measuring = new AtomicBoolean(false);
+
+    public LoadTestDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8081");
+        int users = Integer.getInteger("loadtest.users", 50);
+        int duration = Integer.getInteger("loadtest.duration", 60);
+        int warmup = Integer.getInteger("loadtest.warmup", 10);
+
+        new LoadTestDriver(baseUrl).run(users, warmup, duration);
+    }
+
+    public void run(int users, int warmupSeconds, int durationSeconds) throws Exception {
+        JsonNode seed = send("seed", HttpRequest.newBuilder(uri("/loadtest/seed")).GET());
+        List<Long> consumerIds = new ArrayList<>();
+        seed.get("consumerIds").forEach(id -> consumerIds.add(id.asLong()));
+        if (consumerIds.isEmpty()) {
+            throw new IllegalStateException("시드된 사용자가 없습니다. ./gradlew bootRunLoadtest 로 서버를 실행하세요.");
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(users);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds + durationSeconds);
+        for (int u = 0; u < users; u++) {
+            workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    try {
+                        journey(consumerIds.get(random.nextInt(consumerIds.size())));
+                    } catch (Exception e) {
+                        // 실패는 Recorder 에 기록되었으므로 다음 여정을 계속한다.
+                    }
+                }
+            });
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+        recorders.clear();
+        measuring.set(true);
+        long measureStart = System.nanoTime();
+
+        workers.shutdown();
+        workers.awaitTermination(durationSeconds + 30L, TimeUnit.SECONDS);
+        report(users, (System.nanoTime() - measureStart) / 1e9);
+    }
+
+    private void journey(Long consumerId) throws Exception {
+        String accessToken = send("POST /loadtest/tokens", HttpRequest.newBuilder(uri("/loadtest/tokens/" + consumerId))
+                .POST(HttpRequest.BodyPublishers.noBody()))
+                .get("accessToken").asText();
+
+        send("GET /api/friends/kakao", authorized(accessToken, "/api/friends/kakao").GET());
+        JsonNode feed = send("GET /api/fundings/feed", authorized(accessToken, "/api/fundings/feed?page=0&size=10").GET());
+        send("GET /api/friends/fundings-story", authorized(accessToken, "/api/friends/fundings-story").GET());
+
+        JsonNode fundings = feed.path("data").path("data");
+        if (!fundings.isArray() || fundings.isEmpty()) {
+            return;
+        }
+        long fundingId = fundings.get(ThreadLocalRandom.current().nextInt(fundings.size())).get("fundingId").asLong();
+        send("GET /api/fundings/detail", authorized(accessToken, "/api/fundings/detail/" + fundingId).GET());
+
+        int price = 1000 * ThreadLocalRandom.current().nextInt(1, 11);
+        Map<String, Object> attendance = Map.of(
+                "sendMessageTitle", "부하 테스트 축하",
+                "sendMessage", "부하 테스트 축하 메시지입니다.",
+                "price", price,
+                "fundingId", fundingId);
+        JsonNode attendanceResponse = send("POST /api/attendance", authorized(accessToken, "/api/attendance")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(attendance))));
+
+        Map<String, Object> paymentInfo = Map.of(
+                "paymentInfoUid", "loadtest_" + price + "_" + UUID.randomUUID().toString().replace("-", ""),
+                "attendanceId", attendanceResponse.path("data").path("attendanceId").asLong());
+        send("POST /api/payment-info", authorized(accessToken, "/api/payment-info")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(paymentInfo))));
+    }
+
+    private HttpRequest.Builder authorized(String accessToken, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + accessToken);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private JsonNode send(String name, HttpRequest.Builder request) throws Exception {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpResponse<String> response = httpClient.send(request.timeout(Duration.ofSeconds(10)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() / 100 == 2;
+            if (!success) {
+                throw new IllegalStateException(name + " " + response.statusCode());
+            }
+            return objectMapper.readTree(response.body());
+        } finally {
+            if (measuring.get()) {
+                recorders.computeIfAbsent(name, k -> new Recorder()).record(System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    private void report(int users, double seconds) {
+        System.out.printf("%n동시 사용자 %d명, 측정 %.1f초%n", users, seconds);
+        System.out.printf("%-34s %8s %8s %10s %10s %10s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "req/s");
+        recorders.forEach((name, recorder) -> System.out.printf("%-34s %8d %8d %10.1f %10.1f %10.1f%n",
+                name, recorder.count(), recorder.errors.sum(),
+                recorder.percentile(0.50), recorder.percentile(0.99), recorder.count() / seconds));
+    }
+
+    // 엔드포인트별 지연 시간 기록 (ns)
+    private static class Recorder {
+
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean success) {
+            latencies.add(nanos);
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        int count() {
+            return latencies.size();
+        }
+
+        double percentile(double p) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.d201.fundingift.loadtest.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.d201.fundingift.loadtest.stub.StubAmazonS3;
+import com.d201.fundingift.loadtest.stub.StubIamportClient;
+import com.d201.fundingift.loadtest.stub.StubLatency;
+import com.siot.IamportRestClient.IamportClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+ *  loadtest 프로필: 외부 서비스(아임포트, S3)를 로컬 스텁으로 대체
+ *  - FCM: StubFcmMessageSender
+ *  - 카카오: KakaoStubController (kakao.api-url, OAuth provider URI 를 로컬로 지정)
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestStubConfig {
+
+    @Bean
+    public IamportClient iamportClient(StubLatency stubLatency) {
+        return new StubIamportClient(stubLatency);
+    }
+
+    @Bean
+    public AmazonS3 amazonS3(StubLatency stubLatency) {
+        return new StubAmazonS3(stubLatency);
+    }
+
+}
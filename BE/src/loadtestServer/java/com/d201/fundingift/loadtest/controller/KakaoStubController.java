@@ -0,0 +1,139 @@
+package com.d201.fundingift.loadtest.controller;
+
+import com.d201.fundingift.loadtest.service.LoadTestFriendGraph;
+import com.d201.fundingift.loadtest.stub.StubLatency;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.*;
+
+/*
+ *  카카오 API 스텁 (loadtest 프로필)
+ *  - OAuth: authorize / token / user me
+ *  - 친구 목록 (offset, limit 페이징 + after_url), 로그아웃, 연결 끊기
+ *  카카오 액세스 토큰은 "loadtest-kakao-{카카오 ID}" 형식이다.
+ */
+@Slf4j
+@Profile("loadtest")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/loadtest/kakao")
+public class KakaoStubController {
+
+    private static final String TOKEN_PREFIX = "Bearer loadtest-kakao-";
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final LoadTestFriendGraph friendGraph;
+    private final StubLatency stubLatency;
+
+    // 로그인 화면 없이 바로 인가 코드 발급 (login_hint 가 없으면 임의의 사용자)
+    @GetMapping("/oauth/authorize")
+    public ResponseEntity<Void> authorize(@RequestParam("redirect_uri") String redirectUri,
+                                          @RequestParam(required = false, name = "state") String state,
+                                          @RequestParam(required = false, name = "login_hint") Integer index) {
+        int consumerIndex = index != null ? index : new Random().nextInt(friendGraph.getConsumers());
+        URI location = UriComponentsBuilder.fromUriString(redirectUri)
+                .queryParam("code", friendGraph.socialIdOf(consumerIndex))
+                .queryParamIfPresent("state", Optional.ofNullable(state))
+                .build().toUri();
+        return ResponseEntity.status(HttpStatus.FOUND).location(location).build();
+    }
+
+    @PostMapping("/oauth/token")
+    public Map<String, Object> token(@RequestParam("code") String code) {
+        stubLatency.simulate(StubLatency.Upstream.KAKAO);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("access_token", "loadtest-kakao-" + code);
+        response.put("token_type", "bearer");
+        response.put("refresh_token", "loadtest-kakao-refresh-" + code);
+        response.put("expires_in", 21599);
+        response.put("scope", "profile_nickname profile_image account_email friends");
+        response.put("refresh_token_expires_in", 5183999);
+        return response;
+    }
+
+    @GetMapping("/v2/user/me")
+    public Map<String, Object> me(@RequestHeader("Authorization") String authorization) {
+        stubLatency.simulate(StubLatency.Upstream.KAKAO);
+        long socialId = socialIdOf(authorization);
+
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("nickname", "부하" + (socialId - LoadTestFriendGraph.SOCIAL_ID_BASE));
+        profile.put("profile_image_url", "https://k.kakaocdn.net/loadtest/" + socialId + ".jpg");
+
+        Map<String, Object> kakaoAccount = new LinkedHashMap<>();
+        kakaoAccount.put("email", "loadtest" + socialId + "@fundingift.com");
+        kakaoAccount.put("profile", profile);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", socialId);
+        response.put("kakao_account", kakaoAccount);
+        return response;
+    }
+
+    @GetMapping("/v1/api/talk/friends")
+    public Map<String, Object> friends(@RequestHeader("Authorization") String authorization,
+                                       @RequestParam(defaultValue = "0", name = "offset") int offset,
+                                       @RequestParam(defaultValue = "" + DEFAULT_LIMIT, name = "limit") int limit) {
+        stubLatency.simulate(StubLatency.Upstream.KAKAO);
+        int index = friendGraph.indexOf(socialIdOf(authorization));
+        List<Long> friendSocialIds = index < 0 ? List.of() : friendGraph.kakaoFriendSocialIdsOf(index);
+
+        int from = Math.min(offset, friendSocialIds.size());
+        int to = Math.min(from + limit, friendSocialIds.size());
+
+        List<Map<String, Object>> elements = new ArrayList<>(to - from);
+        int favoriteCount = 0;
+        for (Long friendSocialId : friendSocialIds.subList(from, to)) {
+            int friendIndex = friendGraph.indexOf(friendSocialId);
+            boolean favorite = friendIndex >= 0 && friendGraph.isFavorite(index, friendIndex);
+            favoriteCount += favorite ? 1 : 0;
+
+            Map<String, Object> element = new LinkedHashMap<>();
+            element.put("profile_nickname", "친구" + friendSocialId);
+            element.put("profile_thumbnail_image", "https://k.kakaocdn.net/loadtest/" + friendSocialId + ".jpg");
+            element.put("allowed_msg", true);
+            element.put("id", friendSocialId);
+            element.put("uuid", "uuid-" + friendSocialId);
+            element.put("favorite", favorite);
+            elements.add(element);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("elements", elements);
+        response.put("total_count", friendSocialIds.size());
+        response.put("after_url", to < friendSocialIds.size()
+                ? ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("offset", to)
+                        .replaceQueryParam("limit", limit)
+                        .toUriString()
+                : null);
+        response.put("favorite_count", favoriteCount);
+        return response;
+    }
+
+    @PostMapping({"/v1/user/logout", "/v1/user/unlink"})
+    public Map<String, Object> logout(@RequestHeader("Authorization") String authorization) {
+        stubLatency.simulate(StubLatency.Upstream.KAKAO);
+        return Map.of("id", socialIdOf(authorization));
+    }
+
+    private long socialIdOf(String authorization) {
+        if (authorization == null || !authorization.startsWith(TOKEN_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(authorization.substring(TOKEN_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.d201.fundingift.loadtest.controller;
+
+import com.d201.fundingift._common.jwt.JwtUtil;
+import com.d201.fundingift._common.jwt.RedisJwtRepository;
+import com.d201.fundingift.loadtest.service.LoadTestSeeder;
+import com.d201.fundingift.payment.service.RefundService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ *  부하 테스트 드라이버 전용 API (loadtest 프로필)
+ *  - 브라우저 OAuth 로그인 대신 시드된 사용자의 토큰을 바로 발급한다.
+ *  - 펀딩 상태와 관계없이 환불 파이프라인을 바로 실행한다. (아임포트 스텁의 지연 / 실패 주입과 함께 사용)
+ */
+@Slf4j
+@Profile("loadtest")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/loadtest")
+public class LoadTestController {
+
+    private final JwtUtil jwtUtil;
+    private final RedisJwtRepository redisJwtRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RefundService refundService;
+
+    @PostMapping("/tokens/{consumer-id}")
+    public Map<String, String> issueToken(@PathVariable("consumer-id") Long consumerId) {
+        String accessToken = jwtUtil.createAccessToken(String.valueOf(consumerId));
+        String refreshToken = jwtUtil.createRefreshToken(String.valueOf(consumerId));
+        redisJwtRepository.saveAccessToken(consumerId, accessToken);
+        redisJwtRepository.saveRefreshToken(consumerId, refreshToken);
+        return Map.of("accessToken", accessToken, "refreshToken", refreshToken);
+    }
+
+    @GetMapping("/seed")
+    public Map<String, List<Long>> getSeed() {
+        return Map.of(
+                "consumerIds", range(LoadTestSeeder.CONSUMERS_KEY),
+                "fundingIds", range(LoadTestSeeder.FUNDINGS_KEY));
+    }
+
+    @PostMapping("/refunds/{funding-id}")
+    public void requestRefund(@PathVariable("funding-id") Long fundingId) {
+        refundService.requestRefund(fundingId);
+    }
+
+    private List<Long> range(String key) {
+        List<String> ids = stringRedisTemplate.opsForList().range(key, 0, -1);
+        return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.d201.fundingift.loadtest.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ *  부하 테스트용 결정적(deterministic) 카카오 친구 그래프
+ *  - 사용자 i (0 ~ consumers-1) 의 카카오 ID 는 SOCIAL_ID_BASE + i
+ *  - 가입한 친구: 원형으로 앞뒤 degree/2 명 + 인플루언서(사용자 0~influencers-1)
+ *  - 미가입 친구: 사용자마다 unregistered 명 (카카오 친구지만 fundingift 회원이 아님)
+ *  시더와 카카오 스텁이 같은 그래프를 사용한다.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestFriendGraph {
+
+    public static final long SOCIAL_ID_BASE = 9_000_000_000L;
+    private static final long UNREGISTERED_SOCIAL_ID_BASE = 8_000_000_000L;
+
+    @Value("${loadtest.seed.consumers:1000}")
+    private int consumers;
+
+    @Value("${loadtest.seed.friend-degree:40}")
+    private int degree;
+
+    @Value("${loadtest.seed.influencers:3}")
+    private int influencers;
+
+    @Value("${loadtest.seed.unregistered-friends:200}")
+    private int unregistered;
+
+    public int getConsumers() {
+        return consumers;
+    }
+
+    public long socialIdOf(int index) {
+        return SOCIAL_ID_BASE + index;
+    }
+
+    // 카카오 ID -> 사용자 번호 (부하 테스트 사용자가 아니면 -1)
+    public int indexOf(long socialId) {
+        long index = socialId - SOCIAL_ID_BASE;
+        return index >= 0 && index < consumers ? (int) index : -1;
+    }
+
+    // 가입한 친구의 사용자 번호
+    public List<Integer> registeredFriendsOf(int index) {
+        Set<Integer> friends = new LinkedHashSet<>();
+        for (int k = 1; k <= degree / 2 && k < consumers; k++) {
+            friends.add(Math.floorMod(index + k, consumers));
+            friends.add(Math.floorMod(index - k, consumers));
+        }
+        for (int hub = 0; hub < Math.min(influencers, consumers); hub++) {
+            friends.add(hub);
+        }
+        // 인플루언서는 모든 사용자와 친구
+        if (index < influencers) {
+            for (int other = 0; other < consumers; other++) {
+                friends.add(other);
+            }
+        }
+        friends.remove(index);
+        return new ArrayList<>(friends);
+    }
+
+    // 카카오 친구 ID 전체 (가입 + 미가입)
+    public List<Long> kakaoFriendSocialIdsOf(int index) {
+        List<Long> socialIds = new ArrayList<>();
+        registeredFriendsOf(index).forEach(i -> socialIds.add(socialIdOf(i)));
+        for (int k = 0; k < unregistered; k++) {
+            socialIds.add(UNREGISTERED_SOCIAL_ID_BASE + (long) index * unregistered + k);
+        }
+        return socialIds;
+    }
+
+    public boolean isFavorite(int from, int to) {
+        return (from + to) % 5 == 0;
+    }
+
+    public String kakaoAccessTokenOf(int index) {
+        return "loadtest-kakao-" + socialIdOf(index);
+    }
+
+}
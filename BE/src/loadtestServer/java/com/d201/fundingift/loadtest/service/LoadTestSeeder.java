@@ -0,0 +1,180 @@
+package com.d201.fundingift.loadtest.service;
+
+import com.d201.fundingift._common.jwt.RedisJwtRepository;
+import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import com.d201.fundingift.friend.entity.Friend;
+import com.d201.fundingift.friend.repository.FriendRepository;
+import com.d201.fundingift.funding.entity.AnniversaryCategory;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.repository.AnniversaryCategoryRepository;
+import com.d201.fundingift.funding.repository.FundingRepository;
+import com.d201.fundingift.product.entity.ProductOption;
+import com.d201.fundingift.product.repository.ProductOptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ *  부하 테스트 데이터 시더 (loadtest 프로필)
+ *  - 사용자, 친구 관계(Redis), 카카오 액세스 토큰, 진행 중인 펀딩을 만든다.
+ *  - 이미 존재하는 사용자는 다시 만들지 않으므로 여러 번 실행해도 된다.
+ *  - 만든 사용자 / 펀딩 ID 는 loadtest:consumers, loadtest:fundings 에 기록한다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestSeeder implements ApplicationRunner {
+
+    public static final String CONSUMERS_KEY = "loadtest:consumers";
+    public static final String FUNDINGS_KEY = "loadtest:fundings";
+
+    private final LoadTestFriendGraph friendGraph;
+    private final ConsumerRepository consumerRepository;
+    private final FundingRepository fundingRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final AnniversaryCategoryRepository anniversaryCategoryRepository;
+    private final FriendRepository friendRepository;
+    private final RedisJwtRepository redisJwtRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${loadtest.seed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${loadtest.seed.chunk-size:200}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<Long> consumerIds = seedConsumers();
+        seedFriends(consumerIds);
+        int fundings = seedFundings(consumerIds);
+        log.info("[LoadTestSeeder] 사용자 {}명, 펀딩 {}개 준비 완료 ({}ms)",
+                consumerIds.size(), fundings, System.currentTimeMillis() - start);
+    }
+
+    // 사용자 생성 + 카카오 액세스 토큰 저장 (반환: 사용자 번호 순서의 consumerId)
+    private List<Long> seedConsumers() {
+        int consumers = friendGraph.getConsumers();
+        List<Long> consumerIds = new ArrayList<>(consumers);
+
+        for (int from = 0; from < consumers; from += chunkSize) {
+            int to = Math.min(from + chunkSize, consumers);
+            List<Consumer> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                String socialId = String.valueOf(friendGraph.socialIdOf(i));
+                chunk.add(consumerRepository.findBySocialIdAndDeletedAtIsNull(socialId)
+                        .orElseGet(() -> newConsumer(socialId)));
+            }
+
+            for (Consumer consumer : consumerRepository.saveAll(chunk)) {
+                consumerIds.add(consumer.getId());
+            }
+        }
+
+        for (int i = 0; i < consumers; i++) {
+            redisJwtRepository.saveKakaoAccessToken(consumerIds.get(i), friendGraph.kakaoAccessTokenOf(i));
+        }
+
+        stringRedisTemplate.delete(CONSUMERS_KEY);
+        stringRedisTemplate.opsForList().rightPushAll(CONSUMERS_KEY, consumerIds.stream().map(String::valueOf).toList());
+        return consumerIds;
+    }
+
+    private Consumer newConsumer(String socialId) {
+        return Consumer.builder()
+                .socialId(socialId)
+                .email("loadtest" + socialId + "@fundingift.com")
+                .name("부하" + (Long.parseLong(socialId) - LoadTestFriendGraph.SOCIAL_ID_BASE))
+                .profileImageUrl("https://k.kakaocdn.net/loadtest/" + socialId + ".jpg")
+                .birthday(String.format("%02d%02d", 1 + Long.parseLong(socialId) % 12, 1 + Long.parseLong(socialId) % 28))
+                .build();
+    }
+
+    // 친구 관계 (Redis) 저장
+    private void seedFriends(List<Long> consumerIds) {
+        List<Friend> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < consumerIds.size(); i++) {
+            for (Integer j : friendGraph.registeredFriendsOf(i)) {
+                chunk.add(Friend.builder()
+                        .id(consumerIds.get(i) + ":" + consumerIds.get(j))
+                        .consumerId(consumerIds.get(i))
+                        .toConsumerId(consumerIds.get(j))
+                        .isFavorite(friendGraph.isFavorite(i, j))
+                        .build());
+
+                if (chunk.size() >= chunkSize) {
+                    friendRepository.saveAll(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        friendRepository.saveAll(chunk);
+    }
+
+    // 사용자마다 진행 중인 펀딩 1개 (상품 / 기념일 카테고리가 없으면 건너뜀)
+    private int seedFundings(List<Long> consumerIds) {
+        Long seeded = stringRedisTemplate.opsForList().size(FUNDINGS_KEY);
+        if (seeded != null && seeded > 0) {
+            return seeded.intValue();
+        }
+
+        Optional<ProductOption> productOption = productOptionRepository.findAll().stream().findFirst();
+        Optional<AnniversaryCategory> anniversaryCategory = anniversaryCategoryRepository.findAll().stream().findFirst();
+        if (productOption.isEmpty() || anniversaryCategory.isEmpty()) {
+            log.warn("[LoadTestSeeder] 상품 옵션 또는 기념일 카테고리가 없어 펀딩을 만들지 않습니다.");
+            return 0;
+        }
+
+        LocalDate today = LocalDate.now();
+        List<Long> fundingIds = new ArrayList<>(consumerIds.size());
+        for (int from = 0; from < consumerIds.size(); from += chunkSize) {
+            List<Funding> chunk = new ArrayList<>();
+            for (Long consumerId : consumerIds.subList(from, Math.min(from + chunkSize, consumerIds.size()))) {
+                chunk.add(Funding.builder()
+                        .sumPrice(0)
+                        .minPrice(1000)
+                        .targetPrice(1_000_000_000)
+                        .anniversaryDate(today.plusDays(7))
+                        .startDate(today)
+                        .endDate(today.plusDays(7))
+                        .title("부하 테스트 펀딩")
+                        .content("부하 테스트용 펀딩입니다.")
+                        .accountBank("테스트은행")
+                        .accountNo("000-0000-0000")
+                        .name("부하")
+                        .defaultAddr("서울특별시 강남구 테헤란로 212")
+                        .zipCode("06220")
+                        .fundingStatus(FundingStatus.IN_PROGRESS)
+                        .isPrivate(false)
+                        .consumer(consumerRepository.getReferenceById(consumerId))
+                        .anniversaryCategory(anniversaryCategory.get())
+                        .product(productOption.get().getProduct())
+                        .productOption(productOption.get())
+                        .build());
+            }
+            fundingRepository.saveAll(chunk).forEach(funding -> fundingIds.add(funding.getId()));
+        }
+
+        stringRedisTemplate.opsForList().rightPushAll(FUNDINGS_KEY, fundingIds.stream().map(String::valueOf).toList());
+        return fundingIds.size();
+    }
+
+}
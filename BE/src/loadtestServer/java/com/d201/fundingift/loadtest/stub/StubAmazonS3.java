@@ -0,0 +1,45 @@
+package com.d201.fundingift.loadtest.stub;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/*
+ *  S3Uploader 가 사용하는 putObject / getUrl 만 지원하는 스텁 (업로드 내용은 읽고 버린다)
+ */
+public class StubAmazonS3 extends AbstractAmazonS3 {
+
+    private final StubLatency stubLatency;
+
+    public StubAmazonS3(StubLatency stubLatency) {
+        this.stubLatency = stubLatency;
+    }
+
+    @Override
+    public PutObjectResult putObject(String bucketName, String key, InputStream input, ObjectMetadata metadata) {
+        try (input) {
+            input.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        stubLatency.simulate(StubLatency.Upstream.S3);
+        return new PutObjectResult();
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.loadtest.local/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.d201.fundingift.loadtest.stub;
+
+import com.d201.fundingift._common.util.FcmMessageSender;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class StubFcmMessageSender implements FcmMessageSender {
+
+    private final StubLatency stubLatency;
+
+    @Override
+    public String send(Message message) {
+        stubLatency.simulate(StubLatency.Upstream.FCM);
+        return "projects/loadtest/messages/" + UUID.randomUUID();
+    }
+
+    @Override
+    public MulticastResult sendMulticast(List<String> tokens, Notification notification) {
+        stubLatency.simulate(StubLatency.Upstream.FCM);
+        return new MulticastResult(tokens.size(), List.of());
+    }
+
+}
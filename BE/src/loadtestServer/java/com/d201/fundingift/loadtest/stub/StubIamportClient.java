@@ -0,0 +1,87 @@
+package com.d201.fundingift.loadtest.stub;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ *  아임포트 스텁
+ *  - imp_uid 는 "loadtest_{결제금액}_{임의값}" 형식으로 받아, 해당 금액으로 결제 완료(paid)된 것으로 응답한다.
+ *  - 응답 객체는 실제 클라이언트와 같이 Gson 으로 만든다.
+ *  - 취소된 imp_uid 를 기억해 조회 시 cancelled 로, 다시 취소하면 실제 아임포트처럼 거절(code 1)로 응답한다.
+ *  - 취소의 실패 주입은 취소를 반영한 뒤에 일어나므로 "취소는 됐지만 응답을 못 받은" 경우를 재현한다.
+ */
+public class StubIamportClient extends IamportClient {
+
+    private static final Type PAYMENT_RESPONSE_TYPE = new TypeToken<IamportResponse<Payment>>(){}.getType();
+
+    private final Gson gson = new Gson();
+    private final StubLatency stubLatency;
+    private final Set<String> cancelledImpUids = ConcurrentHashMap.newKeySet();
+
+    public StubIamportClient(StubLatency stubLatency) {
+        super("loadtest", "loadtest");
+        this.stubLatency = stubLatency;
+    }
+
+    @Override
+    public IamportResponse<Payment> paymentByImpUid(String impUid) {
+        stubLatency.simulate(StubLatency.Upstream.IAMPORT);
+        return paymentResponse(impUid, parseAmount(impUid), cancelledImpUids.contains(impUid) ? "cancelled" : "paid");
+    }
+
+    @Override
+    public IamportResponse<Payment> cancelPaymentByImpUid(CancelData cancelData) {
+        JsonObject request = gson.toJsonTree(cancelData).getAsJsonObject();
+        String impUid = request.has("imp_uid") ? request.get("imp_uid").getAsString() : "";
+        boolean cancelled = cancelledImpUids.add(impUid);
+        stubLatency.simulate(StubLatency.Upstream.IAMPORT);
+
+        if (!cancelled) {
+            return rejectedResponse("이미 전액취소된 주문입니다.");
+        }
+        return paymentResponse(impUid, parseAmount(impUid), "cancelled");
+    }
+
+    private IamportResponse<Payment> rejectedResponse(String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("code", 1);
+        response.addProperty("message", message);
+        return gson.fromJson(response, PAYMENT_RESPONSE_TYPE);
+    }
+
+    private IamportResponse<Payment> paymentResponse(String impUid, long amount, String status) {
+        JsonObject payment = new JsonObject();
+        payment.addProperty("imp_uid", impUid);
+        payment.addProperty("merchant_uid", "merchant_" + impUid);
+        payment.addProperty("amount", amount);
+        payment.addProperty("cancel_amount", "cancelled".equals(status) ? amount : 0);
+        payment.addProperty("status", status);
+
+        JsonObject response = new JsonObject();
+        response.addProperty("code", 0);
+        response.add("response", payment);
+        return gson.fromJson(response, PAYMENT_RESPONSE_TYPE);
+    }
+
+    private long parseAmount(String impUid) {
+        String[] tokens = impUid.split("_");
+        if (tokens.length < 2) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(tokens[1]);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+}
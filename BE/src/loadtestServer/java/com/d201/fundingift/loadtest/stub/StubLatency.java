@@ -0,0 +1,89 @@
+package com.d201.fundingift.loadtest.stub;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ *  외부 서비스 스텁의 지연 시간 / 실패율 시뮬레이션
+ *  - 지연: 평균 latency-ms, ±jitter-ms 범위에서 균등 분포
+ *  - 실패: error-rate (0.0 ~ 1.0) 확률로 StubFailureException
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class StubLatency {
+
+    public enum Upstream {
+        KAKAO, IAMPORT, FCM, S3
+    }
+
+    @Value("${loadtest.stub.kakao.latency-ms:80}")
+    private long kakaoLatency;
+    @Value("${loadtest.stub.kakao.error-rate:0.0}")
+    private double kakaoErrorRate;
+
+    @Value("${loadtest.stub.iamport.latency-ms:150}")
+    private long iamportLatency;
+    @Value("${loadtest.stub.iamport.error-rate:0.0}")
+    private double iamportErrorRate;
+
+    @Value("${loadtest.stub.fcm.latency-ms:40}")
+    private long fcmLatency;
+    @Value("${loadtest.stub.fcm.error-rate:0.0}")
+    private double fcmErrorRate;
+
+    @Value("${loadtest.stub.s3.latency-ms:60}")
+    private long s3Latency;
+    @Value("${loadtest.stub.s3.error-rate:0.0}")
+    private double s3ErrorRate;
+
+    @Value("${loadtest.stub.jitter-ms:20}")
+    private long jitter;
+
+    public void simulate(Upstream upstream) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delay = Math.max(0, latencyOf(upstream) + (jitter > 0 ? random.nextLong(-jitter, jitter + 1) : 0));
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (random.nextDouble() < errorRateOf(upstream)) {
+            log.info("[StubLatency] {} 스텁 실패 주입", upstream);
+            throw new StubFailureException(upstream + " stub injected failure");
+        }
+    }
+
+    private long latencyOf(Upstream upstream) {
+        return switch (upstream) {
+            case KAKAO -> kakaoLatency;
+            case IAMPORT -> iamportLatency;
+            case FCM -> fcmLatency;
+            case S3 -> s3Latency;
+        };
+    }
+
+    private double errorRateOf(Upstream upstream) {
+        return switch (upstream) {
+            case KAKAO -> kakaoErrorRate;
+            case IAMPORT -> iamportErrorRate;
+            case FCM -> fcmErrorRate;
+            case S3 -> s3ErrorRate;
+        };
+    }
+
+    public static class StubFailureException extends RuntimeException {
+        public StubFailureException(String message) {
+            super(message);
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import com.siot.IamportRestClient.IamportClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
 public class AppConfig {
@@ -15,6 +16,7 @@ public class AppConfig {
     String secretKey;
 
     @Bean
+    @Profile("!loadtest")
     public IamportClient iamportClient() {
         return new IamportClient(apiKey, secretKey);
     }
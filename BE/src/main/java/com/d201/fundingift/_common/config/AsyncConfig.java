@@ -0,0 +1,125 @@
+package com.d201.fundingift._common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /*
+     *  한 요청 안에서 독립적인 조회를 병렬로 실행할 때 사용하는 Executor
+     *  - Java 21 이상 + spring.threads.virtual.enabled=true 이면 가상 스레드
+     *  - 그 외(Java 17)에는 크기가 제한된 플랫폼 스레드 풀
+     */
+    @Bean
+    public AsyncTaskExecutor fanOutTaskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+
+    // 회원 탈퇴 데이터 삭제처럼 요청과 분리해 천천히 처리해도 되는 작업용 Executor
+    @Bean
+    public AsyncTaskExecutor backgroundTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("background-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // 아웃박스에 저장된 도메인 이벤트 처리용 Executor (대기열이 차면 주기적인 재처리가 이어서 처리)
+    @Bean
+    public AsyncTaskExecutor domainEventTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(2000);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // 실패한 펀딩의 아임포트 취소 요청용 Executor (스레드 수 = 동시 취소 요청 수)
+    @Bean
+    public AsyncTaskExecutor refundTaskExecutor(@Value("${refund.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("refund-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 알람 SSE 연결별 전송 큐를 비우는 Executor (연결당 작업 하나, 느린 연결이 Redis 리스너를 막지 않도록 분리)
+    @Bean
+    public AsyncTaskExecutor alarmStreamTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(4000);
+        executor.setThreadNamePrefix("alarm-stream-");
+        return executor;
+    }
+
+    // 펀딩 진행 현황 SSE 연결별 최신 값을 보내는 Executor (alarmStreamTaskExecutor 와 같은 이유로 리스너 스레드와 분리)
+    @Bean
+    public AsyncTaskExecutor progressStreamTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(4000);
+        executor.setThreadNamePrefix("progress-stream-");
+        return executor;
+    }
+
+    // JobRunner 배치 작업 실행용 Executor (커넥션 풀이 작으므로 동시에 실행하는 작업 수를 제한, 넘치면 다음 주기에 다시 시도)
+    @Bean
+    public AsyncTaskExecutor jobTaskExecutor(@Value("${job.parallelism:2}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 여러 사용자에게 보내는 FCM 멀티캐스트 청크 발송용 Executor (스레드 수 = 동시 발송 요청 수)
+    @Bean
+    public AsyncTaskExecutor fcmTaskExecutor(@Value("${fcm.fan-out.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("fcm-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.d201.fundingift._common.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ *  enum 컬럼 변환
+ *  - MariaDBDialect 는 @Enumerated(STRING) 컬럼을 enum('READY','PAID') 처럼 만들고, ddl-auto: update 는 이미 있는 컬럼을 바꾸지 않는다.
+ *    그래서 상태 값을 추가해도 기존 DB 에는 새 값을 쓸 수 없다. (Data truncated)
+ *  - 상태 값이 늘어나는 컬럼은 엔티티에서 varchar 로 매핑하고(columnDefinition), 기존 DB 에 남은 enum 컬럼은 시작 시 한 번 varchar 로 바꾼다.
+ *    (information_schema 로 확인해 이미 varchar 면 아무것도 하지 않는다)
+ *  - Hibernate 스키마 갱신 뒤, 스케줄 작업이 시작되기 전에 실행된다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class EnumColumnMigration {
+
+    private static final List<EnumColumn> COLUMNS = List.of(
+            new EnumColumn("payment_info", "payment_status", "varchar(20) not null"),
+            new EnumColumn("settlement", "status", "varchar(20) not null")
+    );
+
+    private static final String DATA_TYPE_SQL = """
+            select data_type from information_schema.columns
+            where table_schema = database() and table_name = ? and column_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    record EnumColumn(String table, String column, String definition) {
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (EnumColumn enumColumn : COLUMNS) {
+            List<String> dataTypes = jdbcTemplate.queryForList(DATA_TYPE_SQL, String.class, enumColumn.table(), enumColumn.column());
+            if (dataTypes.isEmpty() || !"enum".equalsIgnoreCase(dataTypes.get(0))) {
+                continue;
+            }
+            jdbcTemplate.execute("alter table " + enumColumn.table() + " modify " + enumColumn.column() + " " + enumColumn.definition());
+            log.info("[EnumColumnMigration] {}.{} 컬럼을 {} 로 바꿨습니다.", enumColumn.table(), enumColumn.column(), enumColumn.definition());
+        }
+    }
+
+}
@@ -7,12 +7,14 @@ import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
 
 @Slf4j
 @Configuration
+@Profile("!loadtest")
 public class FirebaseConfig {
 
     @Value("${fcm.key.path}")
@@ -0,0 +1,103 @@
+package com.d201.fundingift._common.config;
+
+import com.d201.fundingift._common.event.DomainEventRelay;
+import com.d201.fundingift._common.util.SchedulerService;
+import com.d201.fundingift.consumer.service.ConsumerBirthdayIndex;
+import com.d201.fundingift.consumer.service.SocialIdBloomFilter;
+import com.d201.fundingift.funding.service.FundingReconciliationService;
+import com.d201.fundingift.funding.service.FundingSchedulerService;
+import com.d201.fundingift.job.service.IdRange;
+import com.d201.fundingift.job.service.ScheduledJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalTime;
+
+/*
+ *  JobRunner 가 실행하는 일 단위 배치 작업 (실행 시각은 Asia/Seoul 기준)
+ */
+@Configuration
+public class JobConfig {
+
+    // 시작일이 된 펀딩 진행 시작
+    @Bean
+    public ScheduledJob fundingStatusInProgressJob(FundingSchedulerService fundingSchedulerService) {
+        return ScheduledJob.builder()
+                .name("funding-status-in-progress")
+                .runAt(LocalTime.MIDNIGHT)
+                .work(context -> fundingSchedulerService.updateFundingStatusInProgress(context.window()))
+                .build();
+    }
+
+    // 전날 종료된 펀딩 성공 / 실패 처리
+    @Bean
+    public ScheduledJob fundingStatusSuccessOrFailJob(FundingSchedulerService fundingSchedulerService) {
+        return ScheduledJob.builder()
+                .name("funding-status-success-or-fail")
+                .runAt(LocalTime.MIDNIGHT)
+                .work(context -> fundingSchedulerService.updateFundingStatusSuccessOrFail(context.window().minusDays(1)))
+                .build();
+    }
+
+    // 생일이 다가오는 사용자 알림 (지난 날짜의 알림은 보내지 않는다)
+    @Bean
+    public ScheduledJob birthdayFundingAlarmJob(SchedulerService schedulerService) {
+        return ScheduledJob.builder()
+                .name("birthday-funding-alarm")
+                .runAt(LocalTime.of(9, 0))
+                .catchUpDays(0)
+                .work(context -> schedulerService.postFundingAlarm(context.window()))
+                .build();
+    }
+
+    // 펀딩 모인 금액 야간 대사 (funding_id 범위로 나눠 여러 노드가 실행)
+    @Bean
+    public ScheduledJob fundingReconciliationJob(FundingReconciliationService fundingReconciliationService,
+                                                 @Value("${reconciliation.run-at:04:30}") String runAt,
+                                                 @Value("${reconciliation.partitions:4}") int partitions) {
+        return ScheduledJob.builder()
+                .name("funding-reconciliation")
+                .runAt(LocalTime.parse(runAt))
+                .catchUpDays(1)
+                .partitions(partitions)
+                .idRange(() -> new IdRange(0, fundingReconciliationService.findMaxFundingId()))
+                .work(fundingReconciliationService::reconcile)
+                .build();
+    }
+
+    // 가입자 socialId 블룸 필터 재구성 (탈퇴한 사용자 제거)
+    @Bean
+    public ScheduledJob socialIdBloomRebuildJob(SocialIdBloomFilter socialIdBloomFilter) {
+        return ScheduledJob.builder()
+                .name("social-id-bloom-rebuild")
+                .runAt(LocalTime.of(5, 0))
+                .catchUpDays(0)
+                .work(context -> socialIdBloomFilter.rebuild())
+                .build();
+    }
+
+    // 생일 버킷 재구성 (어긋난 버킷 바로잡기)
+    @Bean
+    public ScheduledJob consumerBirthdayIndexRebuildJob(ConsumerBirthdayIndex consumerBirthdayIndex) {
+        return ScheduledJob.builder()
+                .name("consumer-birthday-index-rebuild")
+                .runAt(LocalTime.of(5, 10))
+                .catchUpDays(0)
+                .work(context -> consumerBirthdayIndex.rebuild())
+                .build();
+    }
+
+    // 처리된 도메인 이벤트 정리 (아웃박스 테이블이 계속 커지지 않도록)
+    @Bean
+    public ScheduledJob domainEventOutboxPurgeJob(DomainEventRelay domainEventRelay,
+                                                  @Value("${domain-event.purge.run-at:05:20}") String runAt) {
+        return ScheduledJob.builder()
+                .name("domain-event-outbox-purge")
+                .runAt(LocalTime.parse(runAt))
+                .catchUpDays(0)
+                .work(context -> domainEventRelay.purgeDispatched())
+                .build();
+    }
+
+}
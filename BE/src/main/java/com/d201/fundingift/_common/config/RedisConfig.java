@@ -1,17 +1,29 @@
 package com.d201.fundingift._common.config;
 
-import com.d201.fundingift.consumeralarm.entity.ConsumerAlarm;
-import com.d201.fundingift.friend.entity.Friend;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulConnection;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 public class RedisConfig {
 
@@ -24,23 +36,93 @@ public class RedisConfig {
     @Value("${redis.password}")
     private String password;
 
+    @Value("${redis.timeout.connect:1000}")
+    private long connectTimeout;
+
+    @Value("${redis.timeout.command:2000}")
+    private long commandTimeout;
+
+    @Value("${redis.pool.max-active:16}")
+    private int maxActive;
+
+    @Value("${redis.pool.max-idle:8}")
+    private int maxIdle;
+
+    @Value("${redis.pool.min-idle:2}")
+    private int minIdle;
+
+    @Value("${redis.pool.max-wait:1000}")
+    private long maxWait;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
         redisStandaloneConfiguration.setHostName(host);
         redisStandaloneConfiguration.setPort(port);
         redisStandaloneConfiguration.setPassword(password);
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        return new LettuceConnectionFactory(redisStandaloneConfiguration, lettuceClientConfiguration());
+    }
+
+    /*
+     *  일반 명령은 공유 커넥션 하나로 멀티플렉싱되고,
+     *  파이프라인 / 트랜잭션 / 블로킹 명령은 풀에서 전용 커넥션을 빌려 사용한다.
+     */
+    private LettuceClientConfiguration lettuceClientConfiguration() {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxActive);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(maxWait));
+
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(connectTimeout))
+                        .keepAlive(true)
+                        .build())
+                .build();
+
+        return LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(Duration.ofMillis(commandTimeout))
+                .clientOptions(clientOptions)
+                .build();
     }
 
+    // 객체 저장용 템플릿 (key: String, value: Smile 바이너리)
     @Bean
-    public RedisTemplate<?, ?> redisTemplate() {
-        RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
+    public RedisTemplate<String, Object> redisTemplate() {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         // 직렬화 설정 추가.
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        StringRedisSerializer keySerializer = new StringRedisSerializer();
+        GenericJackson2JsonRedisSerializer valueSerializer = smileRedisSerializer();
+        redisTemplate.setKeySerializer(keySerializer);
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.setHashKeySerializer(keySerializer);
+        redisTemplate.setHashValueSerializer(valueSerializer);
         return redisTemplate;
     }
 
+    // pub/sub 구독용 컨테이너 (구독은 전용 커넥션 하나를 사용)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    // JDK 직렬화 대신 Jackson Smile(바이너리 JSON)으로 직렬화
+    private GenericJackson2JsonRedisSerializer smileRedisSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.d201.fundingift.")
+                        .allowIfSubType("java.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
 }
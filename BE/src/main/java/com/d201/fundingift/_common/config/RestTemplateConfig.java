@@ -1,16 +1,139 @@
 package com.d201.fundingift._common.config;
 
+import com.d201.fundingift._common.util.OutboundMetricsInterceptor;
+import com.d201.fundingift._common.util.OutboundRetryInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
-// Oauth2 연결 끊기 기능 구현 시 HTTP API 요청을 위해.
+
+import java.net.URI;
+import java.util.Map;
+
+/*
+ *  외부 API(카카오 등) 호출용 공용 RestTemplate
+ *  - 커넥션 풀 + keep-alive 로 호출마다 TCP / TLS 핸드셰이크를 하지 않는다.
+ *  - 호스트별 커넥션 수 제한, 연결 / 응답 타임아웃
+ *  - 메트릭 -> 재시도 순서로 인터셉터 적용 (재시도는 반드시 마지막)
+ *  - OAuth2 로그인(카카오 토큰 발급 / 사용자 정보 조회)도 같은 커넥션 풀 / 인터셉터를 쓴다.
+ *    (Spring Security 기본 클라이언트가 쓰는 메시지 컨버터 / OAuth2 오류 응답 처리만 따로 맞춘다)
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${outbound.http.max-total:100}")
+    private int maxTotal;
+
+    @Value("${outbound.http.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${outbound.http.connect-timeout-millis:1000}")
+    private long connectTimeout;
+
+    @Value("${outbound.http.read-timeout-millis:3000}")
+    private long readTimeout;
+
+    @Value("${outbound.http.pool-timeout-millis:1000}")
+    private long poolTimeout;
+
+    @Value("${outbound.http.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    @Value("${outbound.http.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${outbound.http.retry.backoff-millis:100}")
+    private long retryBackoff;
+
+    @Value("${outbound.http.retry.max-backoff-millis:1000}")
+    private long retryMaxBackoff;
+
+    @Value("${kakao.api-url}")
+    private String kakaoApiUrl;
+
+    @Value("${spring.security.oauth2.client.provider.kakao.token-uri}")
+    private String kakaoTokenUri;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoKeepAlive(true)
+                        .setTcpNoDelay(true)
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .disableAutomaticRetries() // 재시도는 OutboundRetryInterceptor 에서만
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient outboundHttpClient,
+                                     MeterRegistry meterRegistry) {
+        return outbound(restTemplateBuilder, outboundHttpClient, meterRegistry).build();
+    }
+
+    // OAuth2 인가 코드 -> 토큰 교환 (DefaultAuthorizationCodeTokenResponseClient 기본 설정과 같은 컨버터 / 오류 처리)
+    @Bean
+    public RestTemplate oAuth2TokenRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient outboundHttpClient,
+                                                MeterRegistry meterRegistry) {
+        return outbound(restTemplateBuilder, outboundHttpClient, meterRegistry)
+                .messageConverters(new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter())
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+    }
+
+    // OAuth2 사용자 정보 조회 (DefaultOAuth2UserService 기본 설정과 같은 오류 처리)
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    public RestTemplate oAuth2UserInfoRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient outboundHttpClient,
+                                                   MeterRegistry meterRegistry) {
+        return outbound(restTemplateBuilder, outboundHttpClient, meterRegistry)
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+    }
+
+    private RestTemplateBuilder outbound(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient outboundHttpClient,
+                                         MeterRegistry meterRegistry) {
+        Map<String, String> upstreams = Map.of(
+                URI.create(kakaoApiUrl).getHost(), "kakao",
+                URI.create(kakaoTokenUri).getHost(), "kakao-auth");
 
-        return restTemplateBuilder.build();
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(outboundHttpClient))
+                .interceptors(
+                        new OutboundMetricsInterceptor(meterRegistry, upstreams),
+                        new OutboundRetryInterceptor(retryMaxAttempts, retryBackoff, retryMaxBackoff));
     }
 }
@@ -6,6 +6,7 @@ import com.d201.fundingift._common.oauth2.handler.OAuth2AuthenticationFailureHan
 import com.d201.fundingift._common.oauth2.handler.OAuth2AuthenticationSuccessHandler;
 import com.d201.fundingift._common.oauth2.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,8 +14,10 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.client.RestTemplate;
 
 import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
@@ -30,7 +33,8 @@ public class SecurityConfig {
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Qualifier("oAuth2TokenRestTemplate") RestTemplate oAuth2TokenRestTemplate) throws Exception {
         http
                 // CORS 설정 (기본 설정 사용)
 //                .cors(Customizer.withDefaults())
@@ -50,6 +54,7 @@ public class SecurityConfig {
                         .requestMatchers(antMatcher("/api/funding/**")).authenticated()
                         .requestMatchers(antMatcher("/api/attendance/**")).authenticated()
                         .requestMatchers(antMatcher("/api/payment-info/**")).authenticated()
+                        .requestMatchers(antMatcher("/api/admin/**")).authenticated()
                         .requestMatchers(antMatcher("/h2-console/**")).permitAll()
                         .requestMatchers(antMatcher("/swagger-ui/")).permitAll()
                         .anyRequest().permitAll()
@@ -57,6 +62,7 @@ public class SecurityConfig {
                 // OAuth2 로그인 설정
                 .oauth2Login(configure ->
                         configure.authorizationEndpoint(config -> config.authorizationRequestRepository(httpCookieOAuth2AuthorizationRequestRepository))
+                                .tokenEndpoint(config -> config.accessTokenResponseClient(accessTokenResponseClient(oAuth2TokenRestTemplate))) // 공용 커넥션 풀로 토큰 발급
                                 .userInfoEndpoint(config -> config.userService(customOAuth2UserService))
                                 .failureHandler(oAuth2AuthenticationFailureHandler) // 로그인 실패 핸들러
                                 .successHandler(oAuth2AuthenticationSuccessHandler) // 로그인 성공 핸들러
@@ -66,6 +72,12 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    private DefaultAuthorizationCodeTokenResponseClient accessTokenResponseClient(RestTemplate oAuth2TokenRestTemplate) {
+        DefaultAuthorizationCodeTokenResponseClient accessTokenResponseClient = new DefaultAuthorizationCodeTokenResponseClient();
+        accessTokenResponseClient.setRestOperations(oAuth2TokenRestTemplate);
+        return accessTokenResponseClient;
+    }
 }
 
 /**
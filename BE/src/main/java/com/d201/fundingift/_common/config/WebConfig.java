@@ -1,11 +1,18 @@
 package com.d201.fundingift._common.config;
 
+import com.d201.fundingift._common.util.CachedJsonHttpMessageConverter;
+import com.d201.fundingift._common.util.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
@@ -13,13 +20,24 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${base-url}")
     private String baseUrl;
 
+    private final SerializedResponseCache serializedResponseCache;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:5173", baseUrl)
                 .allowedMethods("GET", "POST", "PUT", "DELETE")
+                .exposedHeaders(HttpHeaders.ETAG)
                 .allowCredentials(true)
                 .maxAge(3000);
     }
 
-}
\ No newline at end of file
+    // 기본 Jackson 컨버터를 같은 ObjectMapper 를 쓰는, 직렬화 결과 캐시를 지원하는 컨버터로 교체
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new CachedJsonHttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), serializedResponseCache)
+                : converter);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.d201.fundingift._common.event;
+
+/*
+ *  아웃박스에 저장한 뒤 커밋 후 비동기로 처리되는 도메인 이벤트
+ *  - 필드는 JSON(Gson)으로 저장되므로 엔티티 대신 id / 값만 담는다.
+ *  - 핸들러는 @EventListener 로 이벤트 타입을 받으며, 재시도 시 같은 이벤트를 다시 받을 수 있다.
+ */
+public interface DomainEvent {
+}
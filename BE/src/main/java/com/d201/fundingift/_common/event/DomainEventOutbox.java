@@ -0,0 +1,84 @@
+package com.d201.fundingift._common.event;
+
+import com.d201.fundingift._common.entity.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "domain_event_outbox", indexes = @Index(name = "idx_domain_event_outbox_status", columnList = "status, domain_event_outbox_id"))
+public class DomainEventOutbox extends BaseTime {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "domain_event_outbox_id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private String eventType; // 이벤트 클래스 이름
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // 이벤트 JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventStatus status; // PENDING, DISPATCHED, FAILED
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    private LocalDateTime lockedUntil; // 처리 중인 서버가 잡고 있는 시각
+
+    private LocalDateTime nextAttemptAt; // 실패 후 재처리 가능 시각 (처음에는 null)
+
+    private LocalDateTime dispatchedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    private DomainEventOutbox(Long id, String eventType, String payload, DomainEventStatus status, Integer attempts) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+    }
+
+    public static DomainEventOutbox of(DomainEvent event, String payload) {
+        return builder()
+                .eventType(event.getClass().getName())
+                .payload(payload)
+                .status(DomainEventStatus.PENDING)
+                .attempts(0)
+                .build();
+    }
+
+    public void dispatched() {
+        this.status = DomainEventStatus.DISPATCHED;
+        this.dispatchedAt = LocalDateTime.now();
+        this.lockedUntil = null;
+        this.attempts += 1;
+        this.lastError = null;
+    }
+
+    // 최대 시도 횟수를 넘으면 FAILED 로 남겨 수동 확인, 그 전에는 retryDelay 부터 두 배씩(maxRetryDelay 까지) 미뤄 재처리
+    public void failed(String error, int maxAttempts, long retryDelayMillis, long maxRetryDelayMillis) {
+        this.attempts += 1;
+        this.lockedUntil = null;
+        long delayMillis = Math.min(maxRetryDelayMillis, retryDelayMillis << Math.min(attempts - 1, 20));
+        this.nextAttemptAt = LocalDateTime.now().plusNanos(delayMillis * 1_000_000);
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = DomainEventStatus.FAILED;
+        }
+    }
+
+}
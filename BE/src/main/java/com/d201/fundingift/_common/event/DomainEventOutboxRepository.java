@@ -0,0 +1,41 @@
+package com.d201.fundingift._common.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DomainEventOutboxRepository extends JpaRepository<DomainEventOutbox, Long> {
+
+    // 처리 권한 선점 - 한 서버만 1 을 받는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update DomainEventOutbox e set e.lockedUntil = :lockedUntil " +
+            "where e.id = :id and e.status = com.d201.fundingift._common.event.DomainEventStatus.PENDING " +
+            "and (e.lockedUntil is null or e.lockedUntil < :now)")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 커밋 후 바로 처리되지 못한 이벤트 (실패한 이벤트는 다음 시도 시각이 지난 것만)
+    @Query("select e.id from DomainEventOutbox e " +
+            "where e.status = com.d201.fundingift._common.event.DomainEventStatus.PENDING and e.createdAt < :before " +
+            "and (e.nextAttemptAt is null or e.nextAttemptAt < :now) " +
+            "order by e.id")
+    List<Long> findPendingIds(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리된 지 오래된 이벤트 (정리 대상)
+    @Query("select e.id from DomainEventOutbox e " +
+            "where e.status = com.d201.fundingift._common.event.DomainEventStatus.DISPATCHED and e.dispatchedAt < :before " +
+            "order by e.id")
+    List<Long> findDispatchedIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from DomainEventOutbox e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+}
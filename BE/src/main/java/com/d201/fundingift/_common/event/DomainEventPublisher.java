@@ -0,0 +1,36 @@
+package com.d201.fundingift._common.event;
+
+import com.google.gson.Gson;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ *  도메인 이벤트 발행 (트랜잭션 아웃박스)
+ *  - 이벤트를 호출한 쪽 트랜잭션 안에서 domain_event_outbox 에 저장한다.
+ *    (본 작업이 롤백되면 이벤트도 함께 사라지고, 커밋되면 이벤트도 반드시 남는다)
+ *  - 실제 처리(FCM, 알람 등)는 커밋 후 DomainEventRelay 가 비동기로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final DomainEventOutboxRepository domainEventOutboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Gson gson = new Gson();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        DomainEventOutbox outbox = domainEventOutboxRepository.save(DomainEventOutbox.of(event, gson.toJson(event)));
+
+        // 커밋되면 DomainEventRelay 가 바로 처리
+        applicationEventPublisher.publishEvent(new DomainEventRecorded(outbox.getId()));
+    }
+
+    // 아웃박스 저장 알림 (같은 서버 안에서만 쓰임)
+    record DomainEventRecorded(Long outboxId) {
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.d201.fundingift._common.event;
+
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ *  아웃박스에 저장된 도메인 이벤트를 핸들러(@EventListener)에 전달하는 클래스
+ *  - 커밋 직후 도메인 이벤트 전용 Executor 에서 바로 처리한다. (요청 응답 시간에서 제외)
+ *  - 바로 처리되지 못한 이벤트(Executor 포화, 핸들러 실패, 서버 재시작)는 주기적인 재처리가 다시 시도한다.
+ *  - 처리 전에 행을 선점하므로 여러 서버가 같은 이벤트를 동시에 처리하지 않는다.
+ *  - 최소 한 번 전달이므로 핸들러는 같은 이벤트를 다시 받아도 문제가 없어야 한다.
+ *  - 처리된(DISPATCHED) 이벤트는 retention-days 가 지나면 매일 정리 작업(JobConfig)이 batch-size 씩 나눠 지운다.
+ *    (FAILED 는 수동 확인을 위해 남긴다)
+ */
+@Slf4j
+@Component
+public class DomainEventRelay {
+
+    private final DomainEventOutboxRepository domainEventOutboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AsyncTaskExecutor executor;
+    private final Gson gson = new Gson();
+
+    @Value("${domain-event.lock-millis:60000}")
+    private long lockMillis;
+
+    @Value("${domain-event.retry-delay-millis:60000}")
+    private long retryDelayMillis;
+
+    @Value("${domain-event.max-retry-delay-millis:3600000}")
+    private long maxRetryDelayMillis;
+
+    @Value("${domain-event.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${domain-event.batch-size:100}")
+    private int batchSize;
+
+    @Value("${domain-event.purge.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${domain-event.purge.batch-size:1000}")
+    private int purgeBatchSize;
+
+    public DomainEventRelay(DomainEventOutboxRepository domainEventOutboxRepository,
+                            ApplicationEventPublisher applicationEventPublisher,
+                            @Qualifier("domainEventTaskExecutor") AsyncTaskExecutor domainEventTaskExecutor) {
+        this.domainEventOutboxRepository = domainEventOutboxRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.executor = domainEventTaskExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecorded(DomainEventPublisher.DomainEventRecorded recorded) {
+        submit(recorded.outboxId());
+    }
+
+    // 재처리: 만들어진 지 retry-delay 가 지났는데 아직 PENDING 인 이벤트 (실패했으면 시도 횟수에 따라 늘어나는 대기 후)
+    @Scheduled(fixedDelayString = "${domain-event.sweep-interval-millis:30000}", initialDelayString = "${domain-event.sweep-interval-millis:30000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = domainEventOutboxRepository.findPendingIds(
+                now.minusNanos(retryDelayMillis * 1_000_000), now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return;
+        }
+        log.info("[DomainEventRelay.sweep] 미처리 도메인 이벤트 {}건 재처리", ids.size());
+        ids.forEach(this::submit);
+    }
+
+    // 처리된 지 retention-days 가 지난 이벤트 삭제 (지운 행 수)
+    public long purgeDispatched() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long purged = 0;
+        List<Long> ids;
+        while (!(ids = domainEventOutboxRepository.findDispatchedIds(before, PageRequest.of(0, purgeBatchSize))).isEmpty()) {
+            purged += domainEventOutboxRepository.deleteAllByIdIn(ids);
+        }
+        if (purged > 0) {
+            log.info("[DomainEventRelay.purgeDispatched] 처리된 도메인 이벤트 {}건 삭제", purged);
+        }
+        return purged;
+    }
+
+    private void submit(Long outboxId) {
+        try {
+            executor.execute(() -> dispatch(outboxId));
+        } catch (TaskRejectedException e) {
+            // PENDING 으로 남아 재처리 대상이 된다
+            log.warn("[DomainEventRelay] 도메인 이벤트({}) 처리 대기열 초과, 재처리로 넘김", outboxId);
+        }
+    }
+
+    void dispatch(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (domainEventOutboxRepository.claim(outboxId, now, now.plusNanos(lockMillis * 1_000_000)) == 0) {
+            return; // 이미 처리됐거나 다른 서버가 처리 중
+        }
+
+        DomainEventOutbox outbox = domainEventOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            applicationEventPublisher.publishEvent(deserialize(outbox));
+            outbox.dispatched();
+        } catch (Exception e) {
+            log.error("[DomainEventRelay] 도메인 이벤트({}, {}) 처리 실패 ({}회) : {}",
+                    outboxId, outbox.getEventType(), outbox.getAttempts() + 1, e.getMessage());
+            outbox.failed(e.toString(), maxAttempts, retryDelayMillis, maxRetryDelayMillis);
+        }
+        domainEventOutboxRepository.save(outbox);
+    }
+
+    private DomainEvent deserialize(DomainEventOutbox outbox) throws ClassNotFoundException {
+        Class<? extends DomainEvent> type = Class.forName(outbox.getEventType()).asSubclass(DomainEvent.class);
+        return gson.fromJson(outbox.getPayload(), type);
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.d201.fundingift._common.event;
+
+public enum DomainEventStatus {
+    PENDING, DISPATCHED, FAILED
+}
@@ -6,7 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -21,7 +20,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate; // RedisTemplate 추가
+    private final JwtRepository jwtRepository;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -40,10 +39,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 logger.info("JwtAuthorizationFilter: Token is expired");
                 String userId = jwtUtil.extractUserIdFromExpiredToken(token);
                 logger.info("JwtAuthorizationFilter: Extracted userId: " + userId);
-                String refreshToken = redisTemplate.opsForValue().get("refreshToken:" + userId);
+                String refreshToken = userId == null ? null : jwtRepository.getRefreshToken(Long.valueOf(userId));
                 if (refreshToken != null && jwtUtil.validateRefreshToken(refreshToken)) {
                     logger.info("JwtAuthorizationFilter: Valid refresh token");
-                    String newAccessToken = jwtUtil.createAccessToken(userId);
+                    String newAccessToken = reissue(Long.valueOf(userId), refreshToken);
                     SecurityContextHolder.getContext().setAuthentication(jwtUtil.getAuthentication(newAccessToken));
                     response.setHeader(AUTHORIZATION_HEADER, BEARER_PREFIX + newAccessToken);
                     isTokenRefreshed = true;
@@ -70,6 +69,18 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         }
     }
 
+    // 리프레시 토큰도 함께 교체한다. 동시에 들어온 다른 요청이 먼저 교체했으면 그 요청이 저장한 액세스 토큰을 쓴다.
+    private String reissue(Long consumerId, String refreshToken) {
+        String newAccessToken = jwtUtil.createAccessToken(consumerId.toString());
+        String newRefreshToken = jwtUtil.createRefreshToken(consumerId.toString());
+        if (jwtRepository.rotateRefreshToken(consumerId, refreshToken, newRefreshToken, newAccessToken)) {
+            return newAccessToken;
+        }
+
+        String rotatedAccessToken = jwtRepository.getAccessToken(consumerId);
+        return rotatedAccessToken != null && jwtUtil.validateAccessToken(rotatedAccessToken) ? rotatedAccessToken : newAccessToken;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String token = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(token) && token.startsWith(BEARER_PREFIX)) {
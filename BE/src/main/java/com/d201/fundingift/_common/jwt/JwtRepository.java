@@ -9,7 +9,13 @@ public interface JwtRepository {
     String getRefreshToken(Long consumerId);
     String getKakaoAccessToken(Long consumerId);
 
+    // 저장된 리프레시 토큰이 oldRefreshToken 일 때만 새 리프레시 / 액세스 토큰으로 바꾼다, 반환: 바꿨으면 true
+    boolean rotateRefreshToken(Long consumerId, String oldRefreshToken, String newRefreshToken, String newAccessToken);
+
     void deleteAccessToken(Long consumerId);
     void deleteRefreshToken(Long consumerId);
     void deleteKakaoAccessToken(Long consumerId);
-}
\ No newline at end of file
+
+    // 사용자의 토큰 전부 삭제 (로그아웃, 회원 탈퇴)
+    void deleteAll(Long consumerId);
+}
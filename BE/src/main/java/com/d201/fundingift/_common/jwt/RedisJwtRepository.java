@@ -1,58 +1,379 @@
 package com.d201.fundingift._common.jwt;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.d201.fundingift._common.jwt.JwtUtil.ACCESS_TOKEN_EXPIRE_TIME_IN_MILLISECONDS;
+import static com.d201.fundingift._common.jwt.JwtUtil.REFRESH_TOKEN_EXPIRE_TIME_IN_MILLISECONDS;
+
+/*
+ *  사용자 토큰 저장소 (Redis)
+ *  - auth:{consumerId} 해시 하나에 액세스(a) / 리프레시(r) / 카카오 액세스(k) 토큰과 각 만료 시각(ax, rx, kx, ms)을 둔다.
+ *    (사용자마다 키 세 개 대신 하나라 키 당 부가 메모리가 1/3 로 준다)
+ *  - 만료 시각은 JwtUtil 의 토큰 수명, 카카오 토큰은 kakao-access-token-ttl-minutes 를 따른다.
+ *  - 조회 시 만료 시각이 지난 토큰은 없는 것으로 본다.
+ *  - 쓸 때마다 만료된 필드를 지우고 키 TTL 을 남은 토큰 중 가장 늦은 만료 시각으로 맞춰, 로그인하지 않는 사용자의 키는 사라진다.
+ *
+ *  리프레시 토큰 교체 (JwtAuthorizationFilter)
+ *  - 저장된 리프레시 토큰이 요청 시점에 읽은 값과 같을 때만 새 리프레시 / 액세스 토큰으로 바꾼다. (동시에 재발급돼도 한 번만 바뀐다)
+ *
+ *  측정 (actuator /actuator/metrics, metrics-interval-millis 마다 SCAN 으로 갱신)
+ *  - auth.token.keys{layout=hash|legacy}: 해시 키 수 / 이전 구조(accessToken:, refreshToken:, kakaoAccessToken:) 키 수
+ *  - auth.token.memory.bytes: 해시 키 일부의 MEMORY USAGE 평균 x 키 수 (추정치)
+ *  - SCAN 은 주기마다 락(auth-metrics:lock, TTL = 측정 주기)을 잡은 서버 한 대만 하고, 결과를 auth-metrics:result 에 남긴다.
+ *    다른 서버는 그 결과를 읽어 같은 값을 보고한다. (측정에 실패하면 락을 바로 풀어 다른 서버가 다음 주기에 측정한다)
+ *  - 이전 구조의 키가 하나도 없음을 확인하면 auth-legacy:migrated 를 남기고, 이후에는 옮기기 / 이전 구조 SCAN 을 하지 않는다.
+ *
+ *  메모: JWT 가 64바이트보다 길어 Redis 기본 설정(hash-max-listpack-value 64)에서는 listpack 이 아닌 hashtable 로 저장된다.
+ *       hash-max-listpack-value 를 512 로 올리면 키 당 메모리가 더 준다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisJwtRepository implements JwtRepository {
 
+    private static final String KEY_PREFIX = "auth:";
+    private static final String ACCESS = "a";
+    private static final String REFRESH = "r";
+    private static final String KAKAO = "k";
+    private static final String EXPIRE_SUFFIX = "x";
+    private static final String LEGACY_ACCESS_PREFIX = "accessToken:";
+    private static final String LEGACY_REFRESH_PREFIX = "refreshToken:";
+    private static final String LEGACY_KAKAO_PREFIX = "kakaoAccessToken:";
+    private static final int SCAN_COUNT = 1000;
+    private static final int MEMORY_SAMPLE_SIZE = 100;
+    private static final String METRICS_LOCK_KEY = "auth-metrics:lock";
+    private static final String METRICS_RESULT_KEY = "auth-metrics:result";
+    private static final String LEGACY_MIGRATED_KEY = "auth-legacy:migrated";
+    private static final String HASH_KEYS = "hashKeys";
+    private static final String LEGACY_KEYS = "legacyKeys";
+    private static final String MEMORY_BYTES = "memoryBytes";
+
+    // 만료된 필드를 지우고 키 TTL 을 남은 토큰 중 가장 늦은 만료 시각으로 맞춘다 (남은 토큰이 없으면 키 삭제)
+    private static final String EXPIRE_FUNCTION = """
+            local function refresh_expire(key, now)
+                local latest = 0
+                for _, field in ipairs({'a', 'r', 'k'}) do
+                    local expireAt = tonumber(redis.call('HGET', key, field .. 'x'))
+                    if expireAt and expireAt > now then
+                        latest = math.max(latest, expireAt)
+                    else
+                        redis.call('HDEL', key, field, field .. 'x')
+                    end
+                end
+                if latest == 0 then
+                    redis.call('DEL', key)
+                else
+                    redis.call('PEXPIREAT', key, latest)
+                end
+            end
+            """;
+
+    // KEYS[1]: 사용자 해시 / ARGV: 지금(ms), 있으면 건너뛰기(1 / 0), (필드, 토큰, 만료 시각(ms)) 반복, 토큰이 '' 면 삭제
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(EXPIRE_FUNCTION + """
+            local now = tonumber(ARGV[1])
+            for i = 3, #ARGV, 3 do
+                if ARGV[i + 1] == '' then
+                    redis.call('HDEL', KEYS[1], ARGV[i], ARGV[i] .. 'x')
+                elseif ARGV[2] == '0' or redis.call('HEXISTS', KEYS[1], ARGV[i]) == 0 then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1], ARGV[i] .. 'x', ARGV[i + 2])
+                end
+            end
+            refresh_expire(KEYS[1], now)
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 사용자 해시 / ARGV: 지금(ms), 이전 리프레시 토큰, 새 리프레시 토큰, 만료 시각(ms), 새 액세스 토큰, 만료 시각(ms)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(EXPIRE_FUNCTION + """
+            local now = tonumber(ARGV[1])
+            if redis.call('HGET', KEYS[1], 'r') ~= ARGV[2] then
+                return 0
+            end
+            local expireAt = tonumber(redis.call('HGET', KEYS[1], 'rx'))
+            if not expireAt or expireAt <= now then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'r', ARGV[3], 'rx', ARGV[4], 'a', ARGV[5], 'ax', ARGV[6])
+            refresh_expire(KEYS[1], now)
+            return 1
+            """, Long.class);
+
+    // KEYS: 표본 키 / 결과: MEMORY USAGE 합 (바이트)
+    private static final RedisScript<Long> MEMORY_SCRIPT = new DefaultRedisScript<>("""
+            local total = 0
+            for _, key in ipairs(KEYS) do
+                total = total + (redis.call('MEMORY', 'USAGE', key) or 0)
+            end
+            return total
+            """, Long.class);
+
+    // KEYS[1]: 락 / ARGV[1]: 토큰 (자신이 잡은 락일 때만 해제)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final AsyncTaskExecutor backgroundExecutor;
+    private final long kakaoAccessTokenTtlMillis;
+    private final long metricsIntervalMillis;
+    private final AtomicLong hashKeys = new AtomicLong();
+    private final AtomicLong legacyKeys = new AtomicLong();
+    private final AtomicLong memoryBytes = new AtomicLong();
+
+    public RedisJwtRepository(StringRedisTemplate redisTemplate,
+                              @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.store.kakao-access-token-ttl-minutes:360}") long kakaoAccessTokenTtlMinutes,
+                              @Value("${jwt.store.metrics-interval-millis:600000}") long metricsIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.backgroundExecutor = backgroundTaskExecutor;
+        this.kakaoAccessTokenTtlMillis = Duration.ofMinutes(kakaoAccessTokenTtlMinutes).toMillis();
+        this.metricsIntervalMillis = metricsIntervalMillis;
+
+        Gauge.builder("auth.token.keys", hashKeys, AtomicLong::get).tag("layout", "hash").register(meterRegistry);
+        Gauge.builder("auth.token.keys", legacyKeys, AtomicLong::get).tag("layout", "legacy").register(meterRegistry);
+        Gauge.builder("auth.token.memory.bytes", memoryBytes, AtomicLong::get).register(meterRegistry);
+    }
 
     @Override
     public void saveAccessToken(Long consumerId, String accessToken) {
-        redisTemplate.opsForValue().set("accessToken:" + consumerId, accessToken);
+        put(consumerId, false, ACCESS, accessToken, ACCESS_TOKEN_EXPIRE_TIME_IN_MILLISECONDS);
     }
 
     @Override
     public void saveRefreshToken(Long consumerId, String refreshToken) {
-        redisTemplate.opsForValue().set("refreshToken:" + consumerId, refreshToken);
+        put(consumerId, false, REFRESH, refreshToken, REFRESH_TOKEN_EXPIRE_TIME_IN_MILLISECONDS);
     }
 
     @Override
     public void saveKakaoAccessToken(Long consumerId, String kakaoAccessToken) {
-        redisTemplate.opsForValue().set("kakaoAccessToken:" + consumerId, kakaoAccessToken);
+        put(consumerId, false, KAKAO, kakaoAccessToken, kakaoAccessTokenTtlMillis);
     }
 
     @Override
     public String getAccessToken(Long consumerId) {
-        return (String) redisTemplate.opsForValue().get("accessToken:" + consumerId);
+        return get(consumerId, ACCESS);
     }
 
     @Override
     public String getRefreshToken(Long consumerId) {
-        return (String) redisTemplate.opsForValue().get("refreshToken:" + consumerId);
+        return get(consumerId, REFRESH);
     }
 
     @Override
     public String getKakaoAccessToken(Long consumerId) {
-        return (String) redisTemplate.opsForValue().get("kakaoAccessToken:" + consumerId);
+        return get(consumerId, KAKAO);
+    }
+
+    @Override
+    public boolean rotateRefreshToken(Long consumerId, String oldRefreshToken, String newRefreshToken, String newAccessToken) {
+        long now = System.currentTimeMillis();
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(consumerId)),
+                String.valueOf(now), oldRefreshToken,
+                newRefreshToken, String.valueOf(now + REFRESH_TOKEN_EXPIRE_TIME_IN_MILLISECONDS),
+                newAccessToken, String.valueOf(now + ACCESS_TOKEN_EXPIRE_TIME_IN_MILLISECONDS));
+        return Long.valueOf(1).equals(rotated);
     }
 
     @Override
     public void deleteAccessToken(Long consumerId) {
-        redisTemplate.delete("accessToken:" + consumerId);
+        put(consumerId, false, ACCESS, "", 0);
     }
 
     @Override
     public void deleteRefreshToken(Long consumerId) {
-        redisTemplate.delete("refreshToken:" + consumerId);
+        put(consumerId, false, REFRESH, "", 0);
     }
 
     @Override
     public void deleteKakaoAccessToken(Long consumerId) {
-        redisTemplate.delete("kakaoAccessToken:" + consumerId);
+        put(consumerId, false, KAKAO, "", 0);
+    }
+
+    @Override
+    public void deleteAll(Long consumerId) {
+        // 아직 옮기지 않은 이전 구조의 키도 함께 지운다
+        redisTemplate.delete(List.of(key(consumerId),
+                LEGACY_ACCESS_PREFIX + consumerId, LEGACY_REFRESH_PREFIX + consumerId, LEGACY_KAKAO_PREFIX + consumerId));
     }
+
+    // 이전 구조(만료 없는 키 세 개)에 남은 토큰을 해시로 옮기고 지운다 (옮길 키가 없으면 완료 표시를 남기고, 이후에는 SCAN 하지 않는다)
+    // 만료 시각은 지금부터 토큰 수명으로 잡는다. (이미 만료된 JWT 는 검증에서 걸러지고, 키는 수명이 지나면 사라진다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyTokens() {
+        backgroundExecutor.execute(() -> {
+            try {
+                if (legacyMigrated()) {
+                    return;
+                }
+                long migrated = migrateLegacy(LEGACY_ACCESS_PREFIX, ACCESS, ACCESS_TOKEN_EXPIRE_TIME_IN_MILLISECONDS)
+                        + migrateLegacy(LEGACY_REFRESH_PREFIX, REFRESH, REFRESH_TOKEN_EXPIRE_TIME_IN_MILLISECONDS)
+                        + migrateLegacy(LEGACY_KAKAO_PREFIX, KAKAO, kakaoAccessTokenTtlMillis);
+                if (migrated > 0) {
+                    log.info("[RedisJwtRepository] 이전 저장 구조의 토큰 {}개를 옮겼습니다.", migrated);
+                } else {
+                    // 옮기는 동안 이전 버전 서버가 새로 쓴 키가 있을 수 있어, 옮긴 키가 없을 때만 완료로 본다 (아니면 측정에서 확인)
+                    markLegacyMigrated();
+                }
+            } catch (Exception e) {
+                log.error("[RedisJwtRepository] 이전 토큰 옮기기 실패 : {}", e.getMessage());
+            }
+        });
+    }
+
+    // 측정은 락을 잡은 서버 한 대만 하고, 모든 서버가 공유 결과로 게이지를 갱신한다
+    @Scheduled(fixedDelayString = "${jwt.store.metrics-interval-millis:600000}")
+    public void measure() {
+        try {
+            String token = UUID.randomUUID().toString();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(METRICS_LOCK_KEY, token, Duration.ofMillis(metricsIntervalMillis)))) {
+                try {
+                    measureKeys();
+                } catch (Exception e) {
+                    redisTemplate.execute(RELEASE_SCRIPT, List.of(METRICS_LOCK_KEY), token);
+                    throw e;
+                }
+            }
+
+            Map<Object, Object> result = redisTemplate.opsForHash().entries(METRICS_RESULT_KEY);
+            hashKeys.set(parseLong(result.get(HASH_KEYS)));
+            legacyKeys.set(parseLong(result.get(LEGACY_KEYS)));
+            memoryBytes.set(parseLong(result.get(MEMORY_BYTES)));
+        } catch (Exception e) {
+            log.warn("[RedisJwtRepository] 토큰 키 측정 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void measureKeys() {
+        List<String> sample = new ArrayList<>(MEMORY_SAMPLE_SIZE);
+        long hashes = 0;
+        try (Cursor<String> cursor = scan(KEY_PREFIX + "*")) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (sample.size() < MEMORY_SAMPLE_SIZE) {
+                    sample.add(key);
+                }
+                hashes++;
+            }
+        }
+
+        // 옮기기가 끝난 뒤에는 전체 키를 도는 이전 구조 SCAN 을 하지 않는다
+        long legacy = 0;
+        if (!legacyMigrated()) {
+            try (Cursor<String> cursor = scan("*Token:*")) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    if (key.startsWith(LEGACY_ACCESS_PREFIX) || key.startsWith(LEGACY_REFRESH_PREFIX) || key.startsWith(LEGACY_KAKAO_PREFIX)) {
+                        legacy++;
+                    }
+                }
+            }
+            if (legacy == 0) {
+                markLegacyMigrated();
+            }
+        }
+
+        Long sampledBytes = sample.isEmpty() ? Long.valueOf(0) : redisTemplate.execute(MEMORY_SCRIPT, sample);
+        long memory = sample.isEmpty() || sampledBytes == null ? 0 : sampledBytes / sample.size() * hashes;
+        redisTemplate.opsForHash().putAll(METRICS_RESULT_KEY, Map.of(
+                HASH_KEYS, String.valueOf(hashes),
+                LEGACY_KEYS, String.valueOf(legacy),
+                MEMORY_BYTES, String.valueOf(memory)));
+        // 측정하던 서버가 모두 사라지면 오래된 값이 남지 않도록 몇 주기 뒤 만료
+        redisTemplate.expire(METRICS_RESULT_KEY, Duration.ofMillis(metricsIntervalMillis * 3));
+    }
+
+    private boolean legacyMigrated() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_MIGRATED_KEY));
+    }
+
+    private void markLegacyMigrated() {
+        redisTemplate.opsForValue().set(LEGACY_MIGRATED_KEY, "1");
+        log.info("[RedisJwtRepository] 이전 저장 구조의 토큰이 남아있지 않습니다.");
+    }
+
+    private long parseLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    private long migrateLegacy(String legacyPrefix, String field, long ttlMillis) {
+        long migrated = 0;
+        List<String> keys = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = scan(legacyPrefix + "*")) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    migrated += migrateLegacy(keys, legacyPrefix, field, ttlMillis);
+                    keys.clear();
+                }
+            }
+        }
+        return migrated + migrateLegacy(keys, legacyPrefix, field, ttlMillis);
+    }
+
+    private long migrateLegacy(List<String> keys, String legacyPrefix, String field, long ttlMillis) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<String> tokens = redisTemplate.opsForValue().multiGet(keys);
+        long migrated = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String token = tokens == null ? null : tokens.get(i);
+            String consumerId = keys.get(i).substring(legacyPrefix.length());
+            if (token != null && !token.isEmpty() && !consumerId.isEmpty() && consumerId.chars().allMatch(Character::isDigit)) {
+                // 옮기는 사이 새로 로그인해 저장된 토큰은 덮어쓰지 않는다
+                put(Long.valueOf(consumerId), true, field, token, ttlMillis);
+                migrated++;
+            }
+        }
+        redisTemplate.unlink(keys);
+        return migrated;
+    }
+
+    private void put(Long consumerId, boolean onlyIfAbsent, String field, String token, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(PUT_SCRIPT, List.of(key(consumerId)),
+                String.valueOf(now), onlyIfAbsent ? "1" : "0", field, token, String.valueOf(now + ttlMillis));
+    }
+
+    private String get(Long consumerId, String field) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(key(consumerId), List.of(field, field + EXPIRE_SUFFIX));
+        if (values.get(0) == null || values.get(1) == null
+                || Long.parseLong(values.get(1).toString()) <= System.currentTimeMillis()) {
+            return null;
+        }
+        return values.get(0).toString();
+    }
+
+    private Cursor<String> scan(String pattern) {
+        return redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build());
+    }
+
+    private String key(Long consumerId) {
+        return KEY_PREFIX + consumerId;
+    }
+
 }
@@ -13,6 +13,7 @@ import com.d201.fundingift._common.response.ResponseUtils;
 import com.d201.fundingift.attendance.entity.Attendance;
 import com.d201.fundingift.attendance.repository.AttendanceRepository;
 import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.consumer.service.ConsumerErasureService;
 import com.d201.fundingift.consumer.service.ConsumerService;
 import com.d201.fundingift.friend.service.FriendService;
 import com.d201.fundingift.funding.entity.Funding;
@@ -47,6 +48,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private final JwtUtil jwtUtil;
     private final ConsumerService consumerService;
     private final FriendService friendService;
+    private final ConsumerErasureService consumerErasureService;
     private final RedisJwtRepository redisJwtRepository;
 
     @Override
@@ -161,31 +163,10 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
                 // Handle the error appropriately
             }
 
-            try {
-                redisJwtRepository.deleteAccessToken(consumerId);
-                log.info("Deleted access token for consumerId: {}", consumerId);
-            } catch (Exception e) {
-                log.error("Error deleting access token for consumerId: {}: {}", consumerId, e.getMessage());
-            }
-
-            try {
-                redisJwtRepository.deleteRefreshToken(consumerId);
-                log.info("Deleted refresh token for consumerId: {}", consumerId);
-            } catch (Exception e) {
-                log.error("Error deleting refresh token for consumerId: {}: {}", consumerId, e.getMessage());
-            }
-
-            try {
-                redisJwtRepository.deleteKakaoAccessToken(consumerId);
-                log.info("Deleted Kakao access token for consumerId: {}", consumerId);
-            } catch (Exception e) {
-                log.error("Error deleting Kakao access token for consumerId: {}: {}", consumerId, e.getMessage());
-            }
-
-            // 친구 목록 전부 삭제
-            friendService.deleteAllFriendsByConsumerId(consumerId);
+            // 토큰은 즉시 삭제하고 친구 / 위시리스트 / 알람 / FCM 토큰 / DB 데이터는 백그라운드에서 삭제
+            consumerErasureService.requestErasure(consumerId);
 
-            log.info("Completed unlink process for consumerId: {}", consumerId);
+            log.info("Requested erasure for consumerId: {}", consumerId);
 
             return UriComponentsBuilder.fromUriString(targetUrl)
                     .build().toUriString();
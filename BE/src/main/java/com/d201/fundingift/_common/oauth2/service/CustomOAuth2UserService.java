@@ -3,7 +3,7 @@ package com.d201.fundingift._common.oauth2.service;
 import com.d201.fundingift._common.oauth2.exception.OAuth2AuthenticationProcessingException;
 import com.d201.fundingift._common.oauth2.user.OAuth2UserInfo;
 import com.d201.fundingift._common.oauth2.user.OAuth2UserInfoFactory;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -12,16 +12,21 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
 
 /**
  * CustomOAuth2UserService 클래스는 OAuth2 로그인 프로세스 중 사용자 정보를 로드하는 서비스를 정의합니다.
  * loadUser 메서드는 Spring Security의 OAuth2LoginAuthenticationFilter에 의해 호출되며,
  * OAuth2 제공자로부터 액세스 토큰을 받은 후 사용자 정보를 로드하는 시점에 호출됩니다.
  */
-@RequiredArgsConstructor
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
+    // 사용자 정보 조회도 공용 커넥션 풀 / 타임아웃 / 메트릭을 쓰는 RestTemplate 으로 (RestTemplateConfig)
+    public CustomOAuth2UserService(@Qualifier("oAuth2UserInfoRestTemplate") RestTemplate oAuth2UserInfoRestTemplate) {
+        setRestOperations(oAuth2UserInfoRestTemplate);
+    }
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(oAuth2UserRequest);
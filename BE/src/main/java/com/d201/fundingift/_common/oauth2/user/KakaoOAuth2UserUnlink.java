@@ -1,6 +1,7 @@
 package com.d201.fundingift._common.oauth2.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -12,15 +13,18 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class KakaoOAuth2UserUnlink implements OAuth2UserUnlink {
 
-    private static final String URL = "https://kapi.kakao.com/v1/user/unlink";
+    private static final String PATH = "/v1/user/unlink";
     private final RestTemplate restTemplate;
 
+    @Value("${kakao.api-url}")
+    private String kakaoApiUrl;
+
     @Override
     public void unlink(String accessToken) {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
         HttpEntity<Object> entity = new HttpEntity<>("", headers);
-        restTemplate.exchange(URL, HttpMethod.POST, entity, String.class);
+        restTemplate.exchange(kakaoApiUrl + PATH, HttpMethod.POST, entity, String.class);
     }
 }
@@ -19,8 +19,11 @@ public enum ErrorType {
      * CUSTOM ERROR
      */
     SORT_NOT_FOUND(HttpStatus.BAD_REQUEST, "정렬 조건을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "파일의 포맷이 올바르지 않습니다."),
     IMAGE_FILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 파일 업로드에 실패하였습니다."),
+    FAN_OUT_TASK_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "병렬 조회 작업에 실패하였습니다."),
+    FAN_OUT_TASK_TIMEOUT(HttpStatus.INTERNAL_SERVER_ERROR, "병렬 조회 작업 시간이 초과되었습니다."),
 
     // 액세스 토큰
     TOKEN_NOT_FOUND(HttpStatus.BAD_REQUEST, "Http Header에 토큰이 없습니다."),
@@ -35,6 +38,8 @@ public enum ErrorType {
     FRIEND_NOT_FOUND(HttpStatus.BAD_REQUEST, "내 친구가 아닙니다."),
     FRIEND_NOT_IS_FAVORITE(HttpStatus.BAD_REQUEST, "친한 친구가 아닙니다."),
     KAKAO_FRIEND_NOT_FOUND(HttpStatus.BAD_REQUEST, "카카오 친구목록 조회에 실패하였습니다."),
+    KAKAO_FRIEND_REFRESH_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "카카오 친구목록 갱신 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    KAKAO_FRIEND_REFRESH_IN_PROGRESS(HttpStatus.CONFLICT, "카카오 친구목록을 갱신하는 중입니다. 잠시 후 다시 시도해주세요."),
     FRIEND_RELATIONSHIP_NOT_FOUND(HttpStatus.NOT_FOUND, "친구 관계를 찾을 수 없습니다"),
     FRIEND_RELATIONSHIP_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "친구 관계 삭제 중 오류 발생"),
 
@@ -49,6 +54,7 @@ public enum ErrorType {
     FUNDING_START_DATE_IS_PAST(HttpStatus.BAD_REQUEST, "펀딩 시작일이 과거입니다."),
     FUNDING_END_DATE_IS_PAST(HttpStatus.BAD_REQUEST, "펀딩 종료일이 기념일보다 과거입니다."),
     FUNDING_ANNIVERSARY_DATE_IS_PAST(HttpStatus.BAD_REQUEST, "기념일이 시작일보다 과거입니다."),
+    FUNDING_PROGRESS_STREAM_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "펀딩 진행 현황 실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 펀딩 참여
     FUNDING_NOT_VERIFY_MIN_PRICE(HttpStatus.BAD_REQUEST,"펀딩 참여 금액이 최소 금액을 만족하지 않습니다."),
@@ -82,6 +88,7 @@ public enum ErrorType {
     ALARM_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "알람 읽음 상태 업데이트 중 오류 발생"),
     ALARM_DELETION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "알람 삭제 중 오류 발생"),
     ALARM_DELETION_BY_USER_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "사용자 ID로 알람 삭제 중 오류 발생"),
+    ALARM_STREAM_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "알람 실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // FCM
     FCM_TOKEN_ALREADY_EXIST(HttpStatus.BAD_REQUEST, "이미 존재하는 fcm token 입니다."),
@@ -13,13 +13,15 @@ public class SliceList<T> {
     private int page;
     private int size;
     private boolean hasNext;
+    private String nextCursor; // 커서 모드에서 다음 요청에 넘길 값 (페이지 모드에서는 null)
 
     @Builder
-    private SliceList(List<T> data, int page, int size, boolean hasNext) {
+    private SliceList(List<T> data, int page, int size, boolean hasNext, String nextCursor) {
         this.data = data;
         this.page = page;
         this.size = size;
         this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 
     public static SliceList of(List<Object> data, int page, int size, boolean hasNext) {
@@ -40,4 +42,13 @@ public class SliceList<T> {
                 .build();
     }
 
+    public static <T> SliceList<T> ofCursor(List<T> data, int size, String nextCursor) {
+        return SliceList.<T>builder()
+                .data(data)
+                .size(size)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
 }
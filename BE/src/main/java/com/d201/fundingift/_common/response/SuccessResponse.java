@@ -3,6 +3,7 @@ package com.d201.fundingift._common.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import org.springframework.http.HttpStatus;
@@ -21,6 +22,11 @@ public class SuccessResponse <T>{
     @Schema(description = "성공 데이터")
     private T data;
 
+    // 직렬화 결과를 재사용할 키 (내용이 바뀌지 않는 응답에만 설정, 응답 본문에는 포함되지 않음)
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String cacheKey;
+
     @Builder
     private SuccessResponse(int code, String msg, T data) {
         this.code = code;
@@ -28,6 +34,12 @@ public class SuccessResponse <T>{
         this.data = data;
     }
 
+    // 같은 키의 응답은 CachedJsonHttpMessageConverter 가 캐시된 바이트로 내려보낸다
+    public SuccessResponse<T> cacheSerializedAs(String cacheKey) {
+        this.cacheKey = cacheKey;
+        return this;
+    }
+
     public static <T> SuccessResponse<T> from(T data, SuccessType successType) {
         return SuccessResponse.<T>builder()
                 .code(HttpStatus.OK.value())
@@ -15,6 +15,7 @@ public enum SuccessType {
     GET_KAKAO_FRIEND_INFO_SUCCESS("카카오 친구 목록 조회에 성공하였습니다."),
     GET_FRIEND_INFO_SUCCESS("친구 목록 조회에 성공하였습니다."),
     GET_FRIENDS_STORY_SUCCESS("친구 펀딩 스토리 리스트 조회에 성공하였습니다."),
+    GET_FRIEND_BIRTHDAYS_SUCCESS("다가오는 친구 생일 조회에 성공하였습니다."),
     PUT_FAVORITE_TOGGLE_SUCCESS("친한 친구 토글에 성공하였습니다."),
     DELETE_FRIEND_RELATIONSHIP_SUCCESS("친구 관계 삭제에 성공하였습니다."),
 
@@ -28,6 +29,7 @@ public enum SuccessType {
     GET_FUNDING_CALENDARS_SUCCESS("펀딩 캘린더 목록 조회에 성공하였습니다."),
     GET_FUNDINGS_FEED_SUCCESS("펀딩 목록 피드 조회에 성공하였습니다."),
     GET_FUNDING_DETAIL_SUCCESS("펀딩 상세 조회에 성공하였습니다."),
+    GET_FUNDING_VIEWERS_SUCCESS("펀딩 조회자 수 조회에 성공하였습니다."),
     GET_ATTENDANCE_SUCCESS("펀딩 참여자 리스트 조회에 성공하였습니다."),
     GET_ATTENDANCE_DETAIL_SUCCESS("펀딩 참여자 상세 정보 조회에 성공하였습니다."),
     POST_ATTENDANCE_SUCCESS("펀딩 참여에 성공하였습니다."),
@@ -69,6 +71,10 @@ public enum SuccessType {
     // FCM
     SAVE_FCM_TOKEN_SUCCESS("fcm token 이 성공적으로 저장되었습니다."),
     DELETE_FCM_TOKEN_SUCCESS("fcm token 이 성공적으로 삭제되었습니다."),
+
+    // 배치 작업
+    GET_JOBS_SUCCESS("배치 작업 목록 조회에 성공하였습니다."),
+    GET_JOB_RUNS_SUCCESS("배치 작업 실행 이력 조회에 성공하였습니다."),
     ;
 
     private final String msg;
@@ -0,0 +1,86 @@
+package com.d201.fundingift._common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ *  블룸 필터 해시 / 비트 위치 계산 (저장소와 무관 - 비트는 Redis 비트맵 또는 byte[] 에 둔다)
+ *  - 없는 값은 반드시 "없음"으로 판정하고, 있는 값은 falsePositiveRate 확률로 잘못 "있음"이 나올 수 있다.
+ *  - 비트 순서는 Redis 비트맵과 같다. (바이트의 최상위 비트가 0번)
+ *  - 위치 = h1 + i * h2 (i = 0..k-1), h1 / h2 는 UTF-8 바이트의 FNV-1a 64비트 해시를 섞어 만든다.
+ */
+public class BloomFilter {
+
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+    private static final long MAX_BIT_SIZE = (long) Integer.MAX_VALUE * Byte.SIZE;
+
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    // 예상 원소 수 n, 오탐률 p -> 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n * ln 2
+    public static BloomFilter of(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bitSize = Math.min(MAX_BIT_SIZE, Math.max(Byte.SIZE, (long) Math.ceil(-n * Math.log(falsePositiveRate) / LN2_SQUARED)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long[] positions(String value) {
+        long h1 = mix(fnv1a(value));
+        long h2 = mix(h1) | 1; // 홀수로 만들어 위치가 한 곳에 겹치지 않게 한다
+
+        long[] positions = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            positions[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+        return positions;
+    }
+
+    public byte[] newBitmap() {
+        return new byte[(int) ((bitSize + Byte.SIZE - 1) / Byte.SIZE)];
+    }
+
+    public void put(byte[] bitmap, String value) {
+        for (long position : positions(value)) {
+            bitmap[(int) (position >>> 3)] |= (byte) (0x80 >>> (position & 7));
+        }
+    }
+
+    public boolean mightContain(byte[] bitmap, String value) {
+        for (long position : positions(value)) {
+            if ((bitmap[(int) (position >>> 3)] & (0x80 >>> (position & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.d201.fundingift._common.util;
+
+import com.d201.fundingift._common.response.SuccessResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+/*
+ *  cacheKey 가 설정된 SuccessResponse 는 SerializedResponseCache 의 바이트를 그대로 내려보내는 Jackson 컨버터
+ *  - 클라이언트가 gzip 을 받으면 미리 압축해 둔 바이트를 Content-Encoding: gzip 으로 보낸다.
+ *    (Content-Encoding 이 설정된 응답은 Tomcat 이 다시 압축하지 않는다)
+ *  - 그 외 응답은 기본 Jackson 컨버터와 똑같이 직렬화한다.
+ */
+public class CachedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final SerializedResponseCache serializedResponseCache;
+
+    public CachedJsonHttpMessageConverter(ObjectMapper objectMapper, SerializedResponseCache serializedResponseCache) {
+        super(objectMapper);
+        this.serializedResponseCache = serializedResponseCache;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (!(object instanceof SuccessResponse<?> response) || response.getCacheKey() == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        String cacheKey = response.getCacheKey();
+        SerializedResponseCache.Entry entry = serializedResponseCache.get(cacheKey, () -> serialize(response));
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        byte[] body = entry.json();
+        String encoding = "identity";
+        if (entry.gzip() != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip()) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = entry.gzip();
+                encoding = "gzip";
+            }
+        }
+
+        headers.setContentLength(body.length);
+        outputMessage.getBody().write(body);
+        serializedResponseCache.recordWritten(cacheKey, encoding, body.length);
+    }
+
+    private byte[] serialize(SuccessResponse<?> response) {
+        try {
+            return getObjectMapper().writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean acceptsGzip() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        // gzip 을 직접 지정했으면 그 q 값을, 없으면 * 의 q 값을 따른다 (q=0 은 거절)
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            double quality = quality(parts);
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+}
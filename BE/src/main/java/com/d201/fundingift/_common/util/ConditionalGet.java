@@ -0,0 +1,62 @@
+package com.d201.fundingift._common.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/*
+ *  조건부 GET (ETag / If-None-Match)
+ *  - 수정 시각 같은 버전 값(또는 응답 데이터)으로 강한 ETag 를 만든다.
+ *  - 요청의 If-None-Match 와 같으면 304 로 응답하고, 컨트롤러는 본문 대신 null 을 반환한다.
+ *    (Spring MVC 가 본문 없는 304 응답으로 처리한다)
+ *  - Cache-Control 은 200 / 304 응답 모두에 싣는다.
+ */
+public final class ConditionalGet {
+
+    // 응답 형식이 바뀌면 올려서 기존 ETag 를 모두 무효화한다
+    private static final String ETAG_VERSION = "1";
+
+    // 카테고리처럼 거의 바뀌지 않고 사용자마다 같은 데이터
+    public static final CacheControl SHARED = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    // 사용자마다 다르거나 자주 바뀌는 데이터 - 매번 ETag 로 재검증
+    public static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    // 버전 값들로 ETag 생성 (값의 toString 을 이어 붙여 SHA-256 의 앞 16바이트)
+    public static String etagOf(Object... versions) {
+        MessageDigest digest = sha256();
+        digest.update(ETAG_VERSION.getBytes(StandardCharsets.UTF_8));
+        for (Object version : versions) {
+            digest.update((byte) 0);
+            digest.update(String.valueOf(version).getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    // 304 로 응답해야 하면 true (ETag / Cache-Control 헤더는 항상 설정)
+    public static boolean notModified(WebRequest request, String etag, CacheControl cacheControl) {
+        if (request instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return request.checkNotModified(etag);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.d201.fundingift._common.util;
+
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift._common.response.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/*
+ *  한 요청 안에서 서로 독립적인 조회를 병렬로 실행하는 클래스
+ *  - fork 로 작업을 시작하고 join 으로 결과를 받는다.
+ *  - 호출 스레드의 SecurityContext 가 작업 스레드로 전파된다.
+ *  - 작업에서 발생한 CustomException 은 그대로 다시 던진다.
+ *  - Executor 가 포화되어 작업을 받지 않으면 호출 스레드에서 바로 실행한다. (요청을 실패시키지 않고 병렬화만 포기)
+ *  - 검증 실패 등으로 결과가 필요 없어지면 cancel 로 작업을 취소한다.
+ *
+ *  DB 커넥션 풀이 작으므로 JPA 조회는 호출 스레드에서 하고, Redis 조회처럼 커넥션을 잡지 않는 작업만 fork 한다.
+ */
+@Slf4j
+@Component
+public class FanOutExecutor {
+
+    private static final long JOIN_TIMEOUT_MILLIS = 3000;
+
+    private final AsyncTaskExecutor executor;
+
+    public FanOutExecutor(@Qualifier("fanOutTaskExecutor") AsyncTaskExecutor fanOutTaskExecutor) {
+        this.executor = new DelegatingSecurityContextAsyncTaskExecutor(fanOutTaskExecutor);
+    }
+
+    public <T> CompletableFuture<T> fork(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("[FanOutExecutor.fork] Executor 포화 - 호출 스레드에서 실행");
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException taskException) {
+                return CompletableFuture.failedFuture(taskException);
+            }
+        }
+    }
+
+    public void cancel(CompletableFuture<?>... futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(JOIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("[FanOutExecutor.join] 병렬 작업 실패 : {}", e.getCause().getMessage());
+            throw new CustomException(ErrorType.FAN_OUT_TASK_FAILED);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.error("[FanOutExecutor.join] 병렬 작업 시간 초과");
+            throw new CustomException(ErrorType.FAN_OUT_TASK_TIMEOUT);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorType.FAN_OUT_TASK_FAILED);
+        }
+    }
+
+}
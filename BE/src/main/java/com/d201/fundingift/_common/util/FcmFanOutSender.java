@@ -0,0 +1,147 @@
+package com.d201.fundingift._common.util;
+
+import com.d201.fundingift._common.dto.FcmNotificationDto;
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift.fcmtoken.service.FcmTokenRegistry;
+import com.google.firebase.messaging.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.d201.fundingift._common.response.ErrorType.FCM_NOTIFICATION_SEND_FAILED;
+
+/*
+ *  여러 사용자에게 같은 알림 보내기 (펀딩 등록 -> 나를 친한 친구로 등록한 사용자 등)
+ *  - 사용자 resolve-batch-size 명의 토큰을 파이프라인 한 번으로 조회한다. (FcmTokenRegistry)
+ *  - 토큰을 multicast-size 개씩 청크로 나눠 전용 Executor 에서 멀티캐스트로 보내고, 등록 해제된 토큰은 지운다.
+ *
+ *  재시도 (도메인 이벤트는 최소 한 번 전달)
+ *  - 청크마다 fcm:fan-out:{fanOutId}:{청크 토큰 목록의 SHA-256} 을 setIfAbsent 한 뒤 보내, 다시 호출돼도 이미 보낸 청크는 건너뛴다.
+ *    (청크 번호로 표시하면 재시도 사이에 토큰이 등록 / 해제돼 청크 경계가 밀릴 때 보내지 않은 토큰을 건너뛰게 된다)
+ *  - 실패한 청크는 키를 지우고 예외를 던져 이벤트 재처리 때 그 청크만 다시 보낸다.
+ *  - 토큰이 바뀌지 않았으면 같은 청크가 만들어지도록 사용자를 id 순으로 정렬한다.
+ */
+@Slf4j
+@Component
+public class FcmFanOutSender {
+
+    private static final String SENT_KEY_PREFIX = "fcm:fan-out:";
+    private static final Duration SENT_TTL = Duration.ofDays(1);
+
+    private final FcmMessageSender fcmMessageSender;
+    private final FcmTokenRegistry fcmTokenRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncTaskExecutor executor;
+
+    @Value("${fcm.fan-out.resolve-batch-size:500}")
+    private int resolveBatchSize;
+
+    @Value("${fcm.fan-out.multicast-size:500}")
+    private int multicastSize;
+
+    public FcmFanOutSender(FcmMessageSender fcmMessageSender, FcmTokenRegistry fcmTokenRegistry,
+                           StringRedisTemplate stringRedisTemplate,
+                           @Qualifier("fcmTaskExecutor") AsyncTaskExecutor fcmTaskExecutor) {
+        this.fcmMessageSender = fcmMessageSender;
+        this.fcmTokenRegistry = fcmTokenRegistry;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.executor = fcmTaskExecutor;
+    }
+
+    // 반환: 성공한 토큰 수 (이전 호출에서 보낸 청크 제외)
+    public int sendToMany(String fanOutId, Collection<Long> consumerIds, FcmNotificationDto fcmNotificationDto) {
+        long start = System.currentTimeMillis();
+        List<Long> recipients = consumerIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        Notification notification = Notification.builder()
+                .setTitle(fcmNotificationDto.getTitle())
+                .setBody(fcmNotificationDto.getBody())
+                .build();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        List<String> chunk = new ArrayList<>(multicastSize);
+        int tokenCount = 0;
+        for (int from = 0; from < recipients.size(); from += resolveBatchSize) {
+            for (String token : resolveTokens(recipients.subList(from, Math.min(from + resolveBatchSize, recipients.size())))) {
+                chunk.add(token);
+                tokenCount++;
+                if (chunk.size() == multicastSize) {
+                    futures.add(submit(fanOutId, futures.size(), chunk, notification));
+                    chunk = new ArrayList<>(multicastSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            futures.add(submit(fanOutId, futures.size(), chunk, notification));
+        }
+
+        int sent = 0;
+        int failedChunks = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                sent += future.join();
+            } catch (CompletionException e) {
+                failedChunks++;
+            }
+        }
+
+        log.info("[FcmFanOutSender] {} 대상 {}명, 토큰 {}개, 청크 {}개 (실패 {}개), 성공 {}건, {}ms",
+                fanOutId, recipients.size(), tokenCount, futures.size(), failedChunks, sent, System.currentTimeMillis() - start);
+        if (failedChunks > 0) {
+            throw new CustomException(FCM_NOTIFICATION_SEND_FAILED);
+        }
+        return sent;
+    }
+
+    // 사용자들의 토큰 (파이프라인 한 번, 사용자 순서대로)
+    private List<String> resolveTokens(List<Long> consumerIds) {
+        return fcmTokenRegistry.findTokens(consumerIds).stream().flatMap(List::stream).toList();
+    }
+
+    private CompletableFuture<Integer> submit(String fanOutId, int chunkNo, List<String> tokens, Notification notification) {
+        try {
+            return CompletableFuture.supplyAsync(() -> sendChunk(fanOutId, chunkNo, tokens, notification), executor);
+        } catch (RuntimeException e) {
+            // Executor 포화 - 이벤트 재처리 때 다시 보낸다
+            return CompletableFuture.failedFuture(new CompletionException(e));
+        }
+    }
+
+    private int sendChunk(String fanOutId, int chunkNo, List<String> tokens, Notification notification) {
+        String sentKey = SENT_KEY_PREFIX + fanOutId + ":" + digest(tokens);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(sentKey, "1", SENT_TTL))) {
+            return 0; // 이전 호출에서 보낸 청크
+        }
+
+        try {
+            FcmMessageSender.MulticastResult result = fcmMessageSender.sendMulticast(tokens, notification);
+            result.unregisteredTokens().forEach(fcmTokenRegistry::evict);
+            return result.successCount();
+        } catch (Exception e) {
+            log.error("[FcmFanOutSender] {} 청크 {} ({}개) 발송 실패 : {}", fanOutId, chunkNo, tokens.size(), e.getMessage());
+            stringRedisTemplate.delete(sentKey);
+            throw new CompletionException(e);
+        }
+    }
+
+    // 청크에 담긴 토큰 목록의 SHA-256 (hex)
+    private static String digest(List<String> tokens) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(String.join("\n", tokens).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.d201.fundingift._common.util;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+
+import java.util.List;
+
+/*
+ *  FCM 메시지 발송 (loadtest 프로필에서는 로컬 스텁으로 대체된다)
+ */
+public interface FcmMessageSender {
+
+    String send(Message message) throws FirebaseMessagingException;
+
+    // 같은 알림을 여러 토큰에 한 번에 발송 (최대 500개)
+    MulticastResult sendMulticast(List<String> tokens, Notification notification) throws FirebaseMessagingException;
+
+    // 앱 삭제 / 토큰 만료 등으로 다시 보낼 수 없는 토큰
+    static boolean isUnregistered(FirebaseMessagingException e) {
+        return e != null && (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED
+                || e.getMessagingErrorCode() == MessagingErrorCode.SENDER_ID_MISMATCH);
+    }
+
+    // successCount: 성공한 토큰 수, unregisteredTokens: 등록 해제돼 지워야 하는 토큰
+    record MulticastResult(int successCount, List<String> unregisteredTokens) {
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.d201.fundingift._common.util;
+
+import com.d201.fundingift._common.dto.FcmNotificationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+/*
+ *  같은 사람에게 짧은 시간에 몰리는 같은 종류의 알림을 하나로 묶어 보내는 클래스 (모든 서버가 Redis 로 공유)
+ *  - 알림은 fcm:digest:{종류}:{받는 사람} 해시에 모으고, 첫 알림 시각 + window 에 보내도록 fcm:digest-due 에 예약한다.
+ *  - 보낼 때 한 건이면 원래 문구, 여러 건이면 "○○님 외 N명이 ..." 로 한 번만 보낸다.
+ *  - FCM collapse key 를 종류 + 받는 사람으로 지정해, 기기가 꺼져 있던 동안 쌓인 알림도 마지막 하나만 전달된다.
+ *
+ *  한도
+ *  - 받는 사람마다 시간당 max-per-hour 번까지만 보내고, 넘으면 다음 정시로 미뤄 그 사이 알림을 계속 모은다.
+ *
+ *  중복 / 유실
+ *  - 받는 사람 + 종류별로 본 이벤트 id 를 fcm:digest-seen:{종류}:{받는 사람} Set 에 DIGEST_TTL(2시간) 동안 남겨,
+ *    도메인 이벤트가 묶음을 보낸 뒤에 다시 전달돼도 한 번만 센다. (2시간이 지난 재전달은 새 알림으로 센다)
+ *  - 예약 시각이 지난 묶음을 가져간 서버는 예약을 lease-millis 뒤로 미루고(다른 서버는 가져가지 못함),
+ *    묶음 해시를 fcm:digest-sending:{종류}:{받는 사람} 으로 옮긴 뒤 보낸다. 그 사이 들어온 알림은 새 묶음에 모인다.
+ *  - 보내면 sending 해시를 지우고, 실패하면 window 뒤에 다시 보낸다. 보내는 중 서버가 내려가도 lease 가 지나면 다른 서버가 보낸다.
+ *    (sending 해시는 원래 묶음의 TTL 을 이어받으므로 계속 실패하는 묶음은 2시간 뒤 버려진다)
+ *
+ *  측정 (actuator /actuator/metrics)
+ *  - fcm.digest{result=buffered|sent|deferred|retried}: buffered 대비 sent 가 줄어든 만큼이 아낀 발송 수
+ */
+@Slf4j
+@Component
+public class FcmNotificationDigester {
+
+    private static final String KEY_PREFIX = "fcm:digest:";
+    private static final String DUE_KEY = "fcm:digest-due";
+    private static final String SENDING_KEY_PREFIX = "fcm:digest-sending:";
+    private static final String SEEN_KEY_PREFIX = "fcm:digest-seen:";
+    private static final String RATE_KEY_PREFIX = "fcm:digest-rate:";
+    private static final String EVENT_FIELD_PREFIX = "e:";
+    private static final Duration DIGEST_TTL = Duration.ofHours(2);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    @Getter
+    public enum Type {
+        ATTENDANCE("펀딩 참여 알림", "%s님이 펀딩에 참여했어요!", "%s님 외 %d명이 펀딩에 참여했어요!"),
+        RECEIVE_MESSAGE("펀딩 감사 메시지 알림", "%s님이 감사 메시지를 등록했어요!", "%s님 외 %d명이 감사 메시지를 등록했어요!");
+
+        private final String title;
+        private final String single;
+        private final String collapsed;
+
+        Type(String title, String single, String collapsed) {
+            this.title = title;
+            this.single = single;
+            this.collapsed = collapsed;
+        }
+
+        FcmNotificationDto render(String name, int count) {
+            return FcmNotificationDto.of(title, count <= 1 ? single.formatted(name) : collapsed.formatted(name, count - 1));
+        }
+    }
+
+    // KEYS[1]: 묶음 해시, KEYS[2]: 예약 ZSET, KEYS[3]: 본 이벤트 Set / ARGV: 이벤트 필드, 이름, 보낼 시각(ms), TTL(초), 예약 멤버
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SADD', KEYS[3], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('EXPIRE', KEYS[3], ARGV[4])
+            redis.call('HSETNX', KEYS[1], ARGV[1], 1)
+            redis.call('HSETNX', KEYS[1], 'first', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('ZADD', KEYS[2], 'NX', ARGV[3], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 예약 ZSET, KEYS[2]: 묶음 해시, KEYS[3]: 보내는 중인 묶음 해시, KEYS[4]: 받는 사람 시간당 발송 수
+    // ARGV: 예약 멤버, 시간당 한도, 다음 정시(ms), 지금(ms), lease 만료 시각(ms)
+    // 결과: 다른 서버가 가져갔으면 {}, 한도 초과로 미뤘으면 {-1}, 묶음이 만료됐으면 {0}, 보낼 수 있으면 {이벤트 수, 첫 이름}
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not due or tonumber(due) > tonumber(ARGV[4]) then
+                return {}
+            end
+            local sent = redis.call('INCR', KEYS[4])
+            if sent == 1 then
+                redis.call('EXPIRE', KEYS[4], 3600)
+            end
+            if sent > tonumber(ARGV[2]) then
+                redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+                return {-1}
+            end
+            -- 이전 시도가 끝나지 못해 남은 sending 해시가 있으면 새로 모인 알림을 합친다 (첫 이름은 먼저 모인 쪽)
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                if redis.call('EXISTS', KEYS[3]) == 0 then
+                    redis.call('RENAME', KEYS[2], KEYS[3])
+                else
+                    local fields = redis.call('HGETALL', KEYS[2])
+                    for i = 1, #fields, 2 do
+                        redis.call('HSETNX', KEYS[3], fields[i], fields[i + 1])
+                    end
+                    redis.call('DEL', KEYS[2])
+                end
+            end
+            local first = redis.call('HGET', KEYS[3], 'first')
+            if not first then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                return {0}
+            end
+            redis.call('ZADD', KEYS[1], ARGV[5], ARGV[1])
+            return {redis.call('HLEN', KEYS[3]) - 1, first}
+            """, List.class);
+
+    // 발송 성공: sending 해시 삭제, 보내는 동안 새 알림이 모였으면 window 뒤로 예약, 아니면 예약 삭제
+    // KEYS[1]: 예약 ZSET, KEYS[2]: 묶음 해시, KEYS[3]: 보내는 중인 묶음 해시 / ARGV: 예약 멤버, 다음 예약 시각(ms)
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[3])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+                return 1
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcmNotificationProvider fcmNotificationProvider;
+    private final MeterRegistry meterRegistry;
+    private final AsyncTaskExecutor executor;
+
+    @Value("${fcm.digest.window-millis:30000}")
+    private long windowMillis;
+
+    @Value("${fcm.digest.lease-millis:300000}")
+    private long leaseMillis;
+
+    @Value("${fcm.digest.max-per-hour:12}")
+    private int maxPerHour;
+
+    @Value("${fcm.digest.flush-batch-size:200}")
+    private int flushBatchSize;
+
+    public FcmNotificationDigester(StringRedisTemplate stringRedisTemplate, FcmNotificationProvider fcmNotificationProvider,
+                                   MeterRegistry meterRegistry,
+                                   @Qualifier("fcmTaskExecutor") AsyncTaskExecutor fcmTaskExecutor) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.fcmNotificationProvider = fcmNotificationProvider;
+        this.meterRegistry = meterRegistry;
+        this.executor = fcmTaskExecutor;
+    }
+
+    // eventId: 같은 이벤트가 다시 들어와도 한 번만 세기 위한 값 (참여 id 등), name: "○○님" 에 들어갈 이름
+    public void add(Type type, Long consumerId, Long eventId, String name) {
+        String member = member(type, consumerId);
+        stringRedisTemplate.execute(ADD_SCRIPT, List.of(KEY_PREFIX + member, DUE_KEY, SEEN_KEY_PREFIX + member),
+                EVENT_FIELD_PREFIX + eventId, name,
+                String.valueOf(System.currentTimeMillis() + windowMillis),
+                String.valueOf(DIGEST_TTL.getSeconds()), member);
+        count("buffered");
+    }
+
+    @Scheduled(fixedDelayString = "${fcm.digest.flush-millis:5000}")
+    public void flush() {
+        Set<String> due;
+        try {
+            due = stringRedisTemplate.opsForZSet().rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, flushBatchSize);
+        } catch (Exception e) {
+            log.warn("[FcmNotificationDigester] 예약 조회 실패 : {}", e.getMessage());
+            return;
+        }
+        if (due == null) {
+            return;
+        }
+
+        // 발송은 FCM 전용 Executor 에서 (스케줄러 스레드를 막지 않는다)
+        for (String member : due) {
+            try {
+                executor.execute(() -> send(member));
+            } catch (TaskRejectedException e) {
+                return; // 남은 묶음은 다음 주기에
+            }
+        }
+    }
+
+    private void send(String member) {
+        int separator = member.indexOf(':');
+        Type type = Type.valueOf(member.substring(0, separator));
+        Long consumerId = Long.valueOf(member.substring(separator + 1));
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        long nowMillis = System.currentTimeMillis();
+        long nextHour = now.truncatedTo(ChronoUnit.HOURS).plusHours(1).atZone(ZONE).toInstant().toEpochMilli();
+        String rateKey = RATE_KEY_PREFIX + consumerId + ":" + now.format(HOUR_FORMAT);
+
+        List<?> claimed;
+        try {
+            claimed = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                    List.of(DUE_KEY, KEY_PREFIX + member, SENDING_KEY_PREFIX + member, rateKey),
+                    member, String.valueOf(maxPerHour), String.valueOf(nextHour),
+                    String.valueOf(nowMillis), String.valueOf(nowMillis + leaseMillis));
+        } catch (Exception e) {
+            log.error("[FcmNotificationDigester] {} 가져오기 실패 : {}", member, e.getMessage());
+            return;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return; // 다른 서버가 보내는 중
+        }
+
+        int count = ((Number) claimed.get(0)).intValue();
+        if (count < 0) {
+            count("deferred");
+            return;
+        }
+        if (count == 0) {
+            return; // 묶음이 만료됨
+        }
+
+        try {
+            fcmNotificationProvider.sendToOne(consumerId, type.render(claimed.get(1).toString(), count), member);
+        } catch (Exception e) {
+            // sending 해시는 그대로 두고 window 뒤에 다시 보낸다 (실패한 발송은 시간당 한도에서 뺀다)
+            log.error("[FcmNotificationDigester] {} 발송 실패, 다시 예약 : {}", member, e.getMessage());
+            requeue(member, rateKey);
+            return;
+        }
+
+        count("sent");
+        try {
+            stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(DUE_KEY, KEY_PREFIX + member, SENDING_KEY_PREFIX + member),
+                    member, String.valueOf(System.currentTimeMillis() + windowMillis));
+        } catch (Exception e) {
+            // lease 가 지나면 같은 묶음을 한 번 더 보낼 수 있다
+            log.warn("[FcmNotificationDigester] {} 발송 완료 기록 실패 : {}", member, e.getMessage());
+        }
+    }
+
+    private void requeue(String member, String rateKey) {
+        try {
+            stringRedisTemplate.opsForZSet().add(DUE_KEY, member, System.currentTimeMillis() + windowMillis);
+            stringRedisTemplate.opsForValue().decrement(rateKey);
+            count("retried");
+        } catch (Exception e) {
+            // 예약은 lease 만료 시각으로 남아 있으므로 그때 다시 보낸다
+            log.warn("[FcmNotificationDigester] {} 재예약 실패 : {}", member, e.getMessage());
+        }
+    }
+
+    private String member(Type type, Long consumerId) {
+        return type.name() + ":" + consumerId;
+    }
+
+    private void count(String result) {
+        Counter.builder("fcm.digest")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+}
@@ -2,18 +2,17 @@ package com.d201.fundingift._common.util;
 
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.dto.FcmNotificationDto;
-import com.d201.fundingift.consumer.entity.Consumer;
-import com.d201.fundingift.fcmtoken.repository.FcmTokenRepository;
-import com.google.firebase.messaging.FirebaseMessaging;
+import com.d201.fundingift.fcmtoken.service.FcmTokenRegistry;
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.WebpushConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 import static com.d201.fundingift._common.response.ErrorType.FCM_NOTIFICATION_SEND_FAILED;
 
 @Slf4j
@@ -21,43 +20,55 @@ import static com.d201.fundingift._common.response.ErrorType.FCM_NOTIFICATION_SE
 @RequiredArgsConstructor
 public class FcmNotificationProvider {
 
-    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenRegistry fcmTokenRegistry;
+    private final FcmMessageSender fcmMessageSender;
 
     public void sendToOne(Long consumerId, FcmNotificationDto fcmNotificationDto) {
-        send(consumerId, fcmNotificationDto);
+        send(consumerId, fcmNotificationDto, null);
     }
 
-    public void sendToMany(List<Consumer> consumers, FcmNotificationDto fcmNotificationDto) {
-        for (Consumer consumer : consumers) {
-            if (consumer == null) {
-                continue;
-            }
-            log.info("send to: {}", consumer.getId());
-            send(consumer.getId(), fcmNotificationDto);
-        }
+    // collapseKey: 같은 키의 알림은 기기에 전달되기 전이면 마지막 하나만 전달된다
+    public void sendToOne(Long consumerId, FcmNotificationDto fcmNotificationDto, String collapseKey) {
+        send(consumerId, fcmNotificationDto, collapseKey);
     }
 
-    private void send(Long consumerId, FcmNotificationDto fcmNotificationDto) {
-        fcmTokenRepository.findAllByConsumerId(consumerId).iterator()
-                .forEachRemaining(t -> sendMessage(buildMessage(t.getFcmTokenValue(), fcmNotificationDto)));
+    private void send(Long consumerId, FcmNotificationDto fcmNotificationDto, String collapseKey) {
+        fcmTokenRegistry.findTokens(consumerId)
+                .forEach(token -> sendMessage(token, buildMessage(token, fcmNotificationDto, collapseKey)));
     }
 
-    private Message buildMessage(String fcmToken, FcmNotificationDto fcmNotificationDto) {
-        return Message.builder()
+    private Message buildMessage(String fcmToken, FcmNotificationDto fcmNotificationDto, String collapseKey) {
+        Message.Builder builder = Message.builder()
                 .setToken(fcmToken)
                 .setNotification(
                         Notification.builder()
                                 .setTitle(fcmNotificationDto.getTitle())
                                 .setBody(fcmNotificationDto.getBody())
-                                .build())
-                .build();
+                                .build());
+        if (collapseKey != null) {
+            builder.setAndroidConfig(AndroidConfig.builder().setCollapseKey(collapseKey).build())
+                    .setApnsConfig(ApnsConfig.builder().putHeader("apns-collapse-id", collapseKey).build())
+                    .setWebpushConfig(WebpushConfig.builder().putHeader("Topic", webpushTopic(collapseKey)).build());
+        }
+        return builder.build();
     }
 
-    private void sendMessage(Message message) {
+    // 웹 푸시 Topic 헤더는 URL-safe base64 문자 32자 이내
+    private String webpushTopic(String collapseKey) {
+        String topic = collapseKey.replaceAll("[^A-Za-z0-9_-]", "-");
+        return topic.length() > 32 ? topic.substring(topic.length() - 32) : topic;
+    }
+
+    private void sendMessage(String token, Message message) {
         try {
-            FirebaseMessaging.getInstance().send(message);
+            fcmMessageSender.send(message);
             log.info("message send success");
         } catch (FirebaseMessagingException e) {
+            // 등록 해제된 토큰은 지우고 다음 기기로
+            if (FcmMessageSender.isUnregistered(e)) {
+                fcmTokenRegistry.evict(token);
+                return;
+            }
             log.error(e.getMessage());
             throw new CustomException(FCM_NOTIFICATION_SEND_FAILED);
         }
@@ -0,0 +1,44 @@
+package com.d201.fundingift._common.util;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Profile("!loadtest")
+public class FirebaseFcmMessageSender implements FcmMessageSender {
+
+    @Override
+    public String send(Message message) throws FirebaseMessagingException {
+        return FirebaseMessaging.getInstance().send(message);
+    }
+
+    @Override
+    public MulticastResult sendMulticast(List<String> tokens, Notification notification) throws FirebaseMessagingException {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(notification)
+                .build();
+        BatchResponse response = FirebaseMessaging.getInstance().sendMulticast(message);
+
+        // 응답 순서는 토큰 순서와 같다
+        List<String> unregistered = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            if (FcmMessageSender.isUnregistered(responses.get(i).getException())) {
+                unregistered.add(tokens.get(i));
+            }
+        }
+        return new MulticastResult(response.getSuccessCount(), unregistered);
+    }
+
+}
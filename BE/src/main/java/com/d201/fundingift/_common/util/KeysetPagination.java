@@ -0,0 +1,179 @@
+package com.d201.fundingift._common.util;
+
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift._common.response.SliceList;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.d201.fundingift._common.response.ErrorType.INVALID_CURSOR;
+
+/*
+ *  커서(keyset) 페이지네이션
+ *  - 정렬 키 하나 + id 로 마지막 행의 위치를 기억하고, 다음 페이지는 OFFSET 대신 그 위치 뒤의 행만 조회한다.
+ *    (정렬 키 DESC 이면: key < :key or (key = :key and id < :id))
+ *  - 커서는 "v정렬키값,id" (정렬 키가 null 이면 "n,id") 를 Base64 URL 인코딩한 불투명 문자열이다.
+ *  - 정렬 키는 엔티티의 최상위 필드여야 하고, 같은 값의 순서를 고정하기 위해 id 를 같은 방향으로 덧붙인다.
+ *  - 정렬 키가 null 인 행은 방향과 관계없이 맨 뒤에 둔다. (DB 마다 다른 null 정렬에 기대지 않도록 CASE 로 정렬)
+ */
+public final class KeysetPagination {
+
+    private static final String ID = "id";
+    private static final String VALUE_PREFIX = "v";
+    private static final String NULL_KEY = "n";
+
+    private KeysetPagination() {
+    }
+
+    // 정렬 + id 동점 처리
+    public static Sort sortOf(Sort sort) {
+        Sort.Order order = orderOf(sort);
+        if (ID.equals(order.getProperty())) {
+            return Sort.by(order);
+        }
+        return Sort.by(order, new Sort.Order(order.getDirection(), ID));
+    }
+
+    // 커서 뒤의 행 조건 (첫 페이지면 조건 없음)
+    public static <T> Specification<T> after(Sort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return (root, query, cb) -> null;
+        }
+
+        Sort.Order order = orderOf(sort);
+        String[] decoded = decode(cursor);
+        return (root, query, cb) -> {
+            Path<Long> id = root.get(ID);
+            Long lastId = parse(decoded[1], Long.class);
+            if (ID.equals(order.getProperty())) {
+                return compare(cb, order, id, lastId);
+            }
+
+            Path<Comparable<Object>> key = root.get(order.getProperty());
+            if (NULL_KEY.equals(decoded[0])) {
+                // null 은 맨 뒤이므로 뒤에는 null 인 행만 남는다
+                return cb.and(cb.isNull(key), compare(cb, order, id, lastId));
+            }
+            if (!decoded[0].startsWith(VALUE_PREFIX)) {
+                throw new CustomException(INVALID_CURSOR);
+            }
+
+            Comparable<Object> lastKey = parse(decoded[0].substring(VALUE_PREFIX.length()), key.getJavaType());
+            return cb.or(
+                    compare(cb, order, key, lastKey),
+                    cb.and(cb.equal(key, lastKey), compare(cb, order, id, lastId)),
+                    cb.isNull(key));
+        };
+    }
+
+    // 정렬 키 null 을 맨 뒤로 보내는 정렬 (Criteria 정렬은 null 위치 지정을 지원하지 않아 조건 안에서 직접 지정)
+    public static <T> Specification<T> orderBy(Sort sort) {
+        Sort.Order order = orderOf(sort);
+        return (root, query, cb) -> {
+            if (Long.class != query.getResultType() && long.class != query.getResultType()) {
+                Path<Long> id = root.get(ID);
+                if (ID.equals(order.getProperty())) {
+                    query.orderBy(order.isAscending() ? cb.asc(id) : cb.desc(id));
+                } else {
+                    Path<Object> key = root.get(order.getProperty());
+                    query.orderBy(
+                            cb.asc(cb.<Integer>selectCase().when(cb.isNull(key), 1).otherwise(0)),
+                            order.isAscending() ? cb.asc(key) : cb.desc(key),
+                            order.isAscending() ? cb.asc(id) : cb.desc(id));
+                }
+            }
+            return null;
+        };
+    }
+
+    // 조건 + 커서 뒤의 행을 size + 1 개 조회해 SliceList 로 변환
+    public static <T, R> SliceList<R> fetch(JpaSpecificationExecutor<T> repository, Specification<T> where,
+                                            Sort sort, String cursor, int size, Function<T, R> mapper) {
+        Sort keysetSort = sortOf(sort);
+        List<T> rows = repository.findBy(where.and(after(keysetSort, cursor)).and(orderBy(keysetSort)),
+                query -> query.limit(size + 1).all());
+        return sliceOf(rows, size, keysetSort, mapper);
+    }
+
+    /*
+     *  size + 1 개를 조회한 결과로 SliceList 를 만든다.
+     *  한 개가 더 있으면 다음 페이지가 있는 것이고, size 번째 행의 위치가 다음 커서가 된다.
+     */
+    public static <T, R> SliceList<R> sliceOf(List<T> rows, int size, Sort sort, Function<T, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf(page.get(page.size() - 1), orderOf(sort).getProperty()) : null;
+        return SliceList.ofCursor(page.stream().map(mapper).toList(), size, nextCursor);
+    }
+
+    public static String cursorOf(Object entity, String property) {
+        var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        Object key = accessor.getPropertyValue(property);
+        Object id = accessor.getPropertyValue(ID);
+        return encode((key == null ? NULL_KEY : VALUE_PREFIX + key) + "," + id);
+    }
+
+    private static Sort.Order orderOf(Sort sort) {
+        return sort.stream().findFirst().orElse(Sort.Order.desc(ID));
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate compare(CriteriaBuilder cb, Sort.Order order, Path<? extends Y> path, Y value) {
+        return order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(',');
+            if (separator < 0) {
+                throw new CustomException(INVALID_CURSOR);
+            }
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Y> Y parse(String value, Class<?> type) {
+        try {
+            if (type == Long.class) {
+                return (Y) Long.valueOf(value);
+            }
+            if (type == Integer.class) {
+                return (Y) Integer.valueOf(value);
+            }
+            if (type == Double.class) {
+                return (Y) Double.valueOf(value);
+            }
+            if (type == LocalDate.class) {
+                return (Y) LocalDate.parse(value);
+            }
+            if (type == LocalDateTime.class) {
+                return (Y) LocalDateTime.parse(value);
+            }
+            if (type == String.class) {
+                return (Y) value;
+            }
+        } catch (RuntimeException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+        throw new CustomException(INVALID_CURSOR);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.d201.fundingift._common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+/*
+ *  외부 API 호출 지연 시간 / 결과 기록 인터셉터
+ *  - 메트릭: outbound.http.requests (upstream, method, status)
+ *  - upstream 은 호스트 이름을 upstreams 설정으로 매핑한 값 (없으면 호스트 이름)
+ *  - 재시도를 포함한 호출 한 번을 하나의 샘플로 기록하도록 재시도 인터셉터보다 앞에 등록한다.
+ */
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String METRIC_NAME = "outbound.http.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> upstreams;
+
+    public OutboundMetricsInterceptor(MeterRegistry meterRegistry, Map<String, String> upstreams) {
+        this.meterRegistry = meterRegistry;
+        this.upstreams = upstreams;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            String host = request.getURI().getHost();
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("upstream", upstreams.getOrDefault(host, String.valueOf(host)))
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.d201.fundingift._common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ *  외부 API 호출 재시도 인터셉터
+ *  - 연결 실패는 요청이 전송되지 않았으므로 모든 메서드를 재시도한다.
+ *  - 그 외 I/O 오류와 429 / 502 / 503 / 504 응답은 멱등 메서드(GET, HEAD, PUT, DELETE, OPTIONS)만 재시도한다.
+ *  - 대기 시간은 지수 백오프 + full jitter (0 ~ base * 2^n)
+ *
+ *  InterceptingClientHttpRequest 는 마지막 인터셉터에서 execution 을 다시 호출하면 실제 요청을 다시 보내므로
+ *  반드시 인터셉터 목록의 마지막에 등록해야 한다.
+ */
+@Slf4j
+public class OutboundRetryInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS =
+            Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.OPTIONS);
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 502, 503, 504);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    public OutboundRetryInterceptor(int maxAttempts, long backoffMillis, long maxBackoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        boolean idempotent = IDEMPOTENT_METHODS.contains(request.getMethod());
+
+        for (int attempt = 1; ; attempt++) {
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                boolean retryable = isConnectFailure(e) || idempotent;
+                if (!retryable || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("[OutboundRetryInterceptor] {} {} 재시도 {}/{} : {}",
+                        request.getMethod(), request.getURI().getHost(), attempt, maxAttempts, e.getMessage());
+                sleep(attempt);
+                continue;
+            }
+
+            HttpStatusCode status = response.getStatusCode();
+            if (!idempotent || !RETRYABLE_STATUS.contains(status.value()) || attempt >= maxAttempts) {
+                return response;
+            }
+            response.close();
+            log.warn("[OutboundRetryInterceptor] {} {} 재시도 {}/{} : {}",
+                    request.getMethod(), request.getURI().getHost(), attempt, maxAttempts, status.value());
+            sleep(attempt);
+        }
+    }
+
+    private boolean isConnectFailure(IOException e) {
+        return e instanceof ConnectException || e instanceof ConnectTimeoutException;
+    }
+
+    private void sleep(int attempt) throws IOException {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("재시도 대기 중 인터럽트", e);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.d201.fundingift._common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+ *  @RedisHash 엔티티를 인덱스 값 기준으로 한꺼번에 삭제하는 클래스
+ *
+ *  Spring Data Redis 의 저장 구조
+ *  - {keyspace}:{id}              엔티티 해시
+ *  - {keyspace}                   전체 id Set
+ *  - {keyspace}:{field}:{value}   @Indexed 필드의 인덱스 Set
+ *  - {keyspace}:{id}:idx          엔티티가 들어있는 인덱스 Set 목록
+ *
+ *  CrudRepository.delete 는 엔티티마다 여러 번 왕복하므로, 인덱스 Set 을 SSCAN 으로 batch 만큼 읽어
+ *  idx 조회 한 번 + 삭제(SREM, UNLINK) 한 번의 파이프라인으로 처리한다.
+ *  처리한 id 는 인덱스 Set 에서 빠지므로 중간에 멈춰도 다시 호출하면 남은 것부터 이어서 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisHashIndexEraser {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipelineUtil redisPipelineUtil;
+
+    // 삭제한 엔티티 수 반환
+    public long deleteByIndex(String keyspace, String field, Object value, int batchSize) {
+        String indexKey = keyspace + ":" + field + ":" + value;
+        long deleted = 0;
+
+        List<String> ids;
+        while (!(ids = scan(indexKey, batchSize)).isEmpty()) {
+            List<String> batch = ids;
+            List<Set<String>> indexes = redisPipelineUtil.sMembers(batch.stream().map(id -> idxKey(keyspace, id)).toList());
+
+            redisPipelineUtil.write(connection -> {
+                List<String> keys = new ArrayList<>(batch.size() * 2);
+                for (int i = 0; i < batch.size(); i++) {
+                    String id = batch.get(i);
+                    for (String index : indexes.get(i)) {
+                        connection.sRem(index, id);
+                    }
+                    keys.add(keyspace + ":" + id);
+                    keys.add(idxKey(keyspace, id));
+                }
+                String[] members = batch.toArray(String[]::new);
+                connection.sRem(indexKey, members);
+                connection.sRem(keyspace, members);
+                connection.unlink(keys.toArray(String[]::new));
+            });
+            deleted += batch.size();
+        }
+        return deleted;
+    }
+
+    private List<String> scan(String key, int count) {
+        List<String> members = new ArrayList<>(count);
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(key, ScanOptions.scanOptions().count(count).build())) {
+            while (cursor.hasNext() && members.size() < count) {
+                members.add(cursor.next());
+            }
+        }
+        return members;
+    }
+
+    private String idxKey(String keyspace, String id) {
+        return keyspace + ":" + id + ":idx";
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.d201.fundingift._common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/*
+ *  여러 키에 대한 Redis 명령을 파이프라인으로 묶어 한 번의 왕복으로 실행하는 클래스
+ *  - 결과 리스트의 순서는 요청한 키의 순서와 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisPipelineUtil {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 여러 해시 조회 (없는 키는 빈 Map)
+    public List<Map<String, String>> hGetAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results = execute(connection -> keys.forEach(connection::hGetAll));
+
+        List<Map<String, String>> hashes = new ArrayList<>(results.size());
+        for (Object result : results) {
+            hashes.add(castToMap(result));
+        }
+        return hashes;
+    }
+
+    // 여러 해시의 특정 필드 조회 (없으면 null)
+    public List<String> hGet(List<String> keys, String field) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results = execute(connection -> keys.forEach(key -> connection.hGet(key, field)));
+        return results.stream().map(r -> (String) r).toList();
+    }
+
+    // 여러 키 존재 여부
+    public List<Boolean> exists(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results = execute(connection -> keys.forEach(connection::exists));
+        return results.stream().map(r -> Boolean.TRUE.equals(r)).toList();
+    }
+
+    // 여러 Set 의 원소 조회
+    public List<Set<String>> sMembers(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> results = execute(connection -> keys.forEach(connection::sMembers));
+
+        List<Set<String>> sets = new ArrayList<>(results.size());
+        for (Object result : results) {
+            sets.add(castToSet(result));
+        }
+        return sets;
+    }
+
+    // 쓰기 명령 묶음 실행 (SADD, SREM, DEL, EXPIRE 등)
+    public void write(Consumer<StringRedisConnection> commands) {
+        execute(commands);
+    }
+
+    // 임의의 명령 묶음 실행 후 결과 반환
+    public List<Object> execute(Consumer<StringRedisConnection> commands) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> castToMap(Object result) {
+        if (result == null) {
+            return Collections.emptyMap();
+        }
+        return (Map<String, String>) result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> castToSet(Object result) {
+        if (result == null) {
+            return Collections.emptySet();
+        }
+        return (Set<String>) result;
+    }
+
+}
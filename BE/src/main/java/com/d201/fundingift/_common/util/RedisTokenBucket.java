@@ -0,0 +1,80 @@
+package com.d201.fundingift._common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ *  Redis 기반 토큰 버킷
+ *  - 버킷은 해시(tokens, ts) 하나로 표현되며, 스크립트 한 번으로 충전 + 차감을 원자적으로 처리한다.
+ *  - 여러 버킷(사용자별 + 전체 등)을 한 번에 확인하면 모든 버킷에 토큰이 있을 때만 모두 차감한다.
+ *    (한 버킷이 거절해도 다른 버킷의 토큰은 쓰지 않는다)
+ *  - 여러 서버 인스턴스가 같은 버킷을 공유한다.
+ *  - 오래 사용하지 않은 버킷은 가득 찰 시간이 지나면 만료된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+    // KEYS: 버킷들 / ARGV: 지금(ms), 차감 수, (용량, ms 당 충전량) 버킷 순서대로
+    private static final RedisScript<Long> TRY_CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local requested = tonumber(ARGV[2])
+
+            local tokens = {}
+            local allowed = 1
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2 + 1])
+                local refillPerMillis = tonumber(ARGV[i * 2 + 2])
+                local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+                local current = tonumber(bucket[1]) or capacity
+                local ts = tonumber(bucket[2]) or now
+                tokens[i] = math.min(capacity, current + math.max(0, now - ts) * refillPerMillis)
+                if tokens[i] < requested then
+                    allowed = 0
+                end
+            end
+
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2 + 1])
+                local refillPerMillis = tonumber(ARGV[i * 2 + 2])
+                if allowed == 1 then
+                    tokens[i] = tokens[i] - requested
+                end
+                redis.call('HSET', key, 'tokens', tostring(tokens[i]), 'ts', tostring(now))
+                redis.call('PEXPIRE', key, math.ceil(capacity / refillPerMillis))
+            end
+            return allowed
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public record Limit(String key, int capacity, double refillPerSecond) {
+    }
+
+    // 토큰 1개 차감 시도 (성공 시 true)
+    public boolean tryConsume(String key, int capacity, double refillPerSecond) {
+        return tryConsumeAll(List.of(new Limit(key, capacity, refillPerSecond)));
+    }
+
+    // 모든 버킷에서 토큰 1개씩 차감 시도 (하나라도 부족하면 아무것도 차감하지 않고 false)
+    public boolean tryConsumeAll(List<Limit> limits) {
+        List<String> keys = new ArrayList<>(limits.size());
+        List<String> args = new ArrayList<>(limits.size() * 2 + 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add("1");
+        for (Limit limit : limits) {
+            keys.add(limit.key());
+            args.add(String.valueOf(limit.capacity()));
+            args.add(String.valueOf(limit.refillPerSecond() / 1000));
+        }
+        Long allowed = stringRedisTemplate.execute(TRY_CONSUME_SCRIPT, keys, args.toArray());
+        return Long.valueOf(1).equals(allowed);
+    }
+
+}
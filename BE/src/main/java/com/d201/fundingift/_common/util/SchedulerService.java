@@ -1,10 +1,10 @@
 package com.d201.fundingift._common.util;
 
+import com.d201.fundingift.consumer.entity.Consumer;
 import com.d201.fundingift.consumer.repository.ConsumerRepository;
 import com.d201.fundingift._common.dto.FcmNotificationDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,29 +22,31 @@ public class SchedulerService {
     private final ConsumerRepository consumerRepository;
     private final FcmNotificationProvider fcmNotificationProvider;
 
-    @Scheduled(cron = "0 0 9 * * ?", zone = "Asia/Seoul") // 초 분 시간 일 월 요일
+    // today 기준 7일 이내 생일인 사용자에게 알림 (JobConfig 의 birthday-funding-alarm 작업)
     @Transactional
-    public void postFundingAlarm() {
-        log.info("[SchedulerService.postFundingAlarm]");
+    public int postFundingAlarm(LocalDate today) {
+        log.info("[SchedulerService.postFundingAlarm] {}", today);
 
         // 7일 이내의 모든 날짜
-        List<String> dates = getIn7Days();
+        List<String> dates = getIn7Days(today);
 
         // 생일이 해당 날짜인 경우 알림 생성
+        int sent = 0;
         for (String date: dates) {
             log.info("date : {}", date);
-            consumerRepository.findByBirthday(date).stream().iterator()
-                .forEachRemaining(c -> fcmNotificationProvider.sendToOne(c.getId(),
-                                    FcmNotificationDto.of("생일이 곧 다가와요.", c.getName() + "님! 펀딩을 만들어보세요."))
-                );
+            List<Consumer> consumers = consumerRepository.findByBirthday(date);
+            consumers.forEach(c -> fcmNotificationProvider.sendToOne(c.getId(),
+                                    FcmNotificationDto.of("생일이 곧 다가와요.", c.getName() + "님! 펀딩을 만들어보세요.")));
+            sent += consumers.size();
         }
+        return sent;
     }
 
-    private List<String> getIn7Days() {
+    private List<String> getIn7Days(LocalDate today) {
         List<String> dates = new ArrayList<>();
 
         for (int i=1; i<=7; i++) {
-            LocalDate targetDate = LocalDate.now().plusDays(i);
+            LocalDate targetDate = today.plusDays(i);
             dates.add(targetDate.format(DateTimeFormatter.ofPattern("MMdd")));
         }
 
@@ -0,0 +1,100 @@
+package com.d201.fundingift._common.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ *  바뀌지 않는 응답(종료된 펀딩 상세, 카테고리 목록)의 직렬화 결과를 메모리에 보관하는 클래스
+ *  - 키에는 ETag 같은 내용 버전을 포함시켜, 내용이 바뀌면 다른 키가 되도록 한다.
+ *  - JSON 바이트와 gzip 바이트를 함께 보관해 직렬화 / 압축을 요청마다 반복하지 않는다.
+ *  - 인스턴스별 LRU 이며, 오래 쓰지 않은 항목부터 밀려난다.
+ *
+ *  측정 (actuator /actuator/metrics)
+ *  - http.response.serialization{cache, result=hit|miss}: 응답 바이트를 준비하는 데 걸린 시간
+ *  - http.response.bytes{cache, encoding=identity|gzip}: 실제로 내려간 본문 크기
+ */
+@Component
+public class SerializedResponseCache {
+
+    public record Entry(byte[] json, byte[] gzip) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final int gzipMinBytes;
+    private final MeterRegistry meterRegistry;
+
+    public SerializedResponseCache(@Value("${response-cache.max-entries:256}") int maxEntries,
+                                   @Value("${response-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+                                   MeterRegistry meterRegistry) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.gzipMinBytes = gzipMinBytes;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 캐시에 있으면 그대로, 없으면 serializer 로 직렬화해 보관
+    public Entry get(String key, Supplier<byte[]> serializer) {
+        String cacheName = cacheNameOf(key);
+        long start = System.nanoTime();
+
+        Entry entry = entries.get(key);
+        String result = "hit";
+        if (entry == null) {
+            byte[] json = serializer.get();
+            entry = new Entry(json, json.length >= gzipMinBytes ? gzip(json) : null);
+            entries.put(key, entry);
+            result = "miss";
+        }
+
+        Timer.builder("http.response.serialization")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return entry;
+    }
+
+    // 내려간 본문 크기 기록
+    public void recordWritten(String key, String encoding, int bytes) {
+        DistributionSummary.builder("http.response.bytes")
+                .baseUnit("bytes")
+                .tag("cache", cacheNameOf(key))
+                .tag("encoding", encoding)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    // "fundingDetail:{etag}" -> "fundingDetail"
+    private String cacheNameOf(String key) {
+        int separator = key.indexOf(':');
+        return separator < 0 ? key : key.substring(0, separator);
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
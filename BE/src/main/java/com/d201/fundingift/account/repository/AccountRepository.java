@@ -0,0 +1,18 @@
+package com.d201.fundingift.account.repository;
+
+import com.d201.fundingift.account.entity.Account;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Account a set a.deletedAt = :deletedAt " +
+            "where a.consumer.id = :consumerId and a.deletedAt is null")
+    int softDeleteAllByConsumerId(@Param("consumerId") Long consumerId, @Param("deletedAt") LocalDateTime deletedAt);
+
+}
@@ -2,11 +2,20 @@ package com.d201.fundingift.address.repository;
 
 import com.d201.fundingift.address.entity.Address;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface AddressRepository extends JpaRepository<Address, Long> {
     List<Address> findByConsumerId(Long consumerId);
-}
\ No newline at end of file
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Address a set a.deletedAt = :deletedAt " +
+            "where a.consumer.id = :consumerId and a.deletedAt is null")
+    int softDeleteAllByConsumerId(@Param("consumerId") Long consumerId, @Param("deletedAt") LocalDateTime deletedAt);
+}
@@ -55,22 +55,25 @@ public class AttendanceController {
             description = """
                            `token` \n
                            내 펀딩의 참여자 리스트를 보여줍니다.\n
+                           cursor를 넣으면 커서 기반으로 조회하고, 다음 요청에는 응답의 nextCursor를 넣어주세요. \n
                            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "성공",
                     useReturnTypeSchema = true),
             @ApiResponse(responseCode = "400",
-                    description = "로그인 여부 / 펀딩 존재 여부 / 내 펀딩이 맞는지 여부",
+                    description = "로그인 여부 / 펀딩 존재 여부 / 내 펀딩이 맞는지 여부 / 잘못된 cursor",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class)
                     ))
     })
     @GetMapping("/list")
     public SuccessResponse<SliceList<GetAttendancesResponse>> getAttendancesResponse(@RequestParam(required = true, name = "funding-id") Long fundingId,
+                                                                                     @Schema(description = "이전 응답의 nextCursor, 넣으면 커서 기반으로 조회합니다. (첫 페이지는 빈 값)")
+                                                                                     @RequestParam(required = false, name = "cursor") String cursor,
                                                                                      @PageableDefault(size=4, sort="createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        return ResponseUtils.ok(attendanceService.getAttendancesResponse(fundingId, pageable), SuccessType.GET_ATTENDANCE_SUCCESS);
+        return ResponseUtils.ok(attendanceService.getAttendancesResponse(fundingId, pageable, cursor), SuccessType.GET_ATTENDANCE_SUCCESS);
     }
 
     @Operation(summary = "펀딩참여 정보 상세 조회",
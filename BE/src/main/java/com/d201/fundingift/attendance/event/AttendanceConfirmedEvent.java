@@ -0,0 +1,37 @@
+package com.d201.fundingift.attendance.event;
+
+import com.d201.fundingift._common.event.DomainEvent;
+import com.d201.fundingift.attendance.entity.Attendance;
+import lombok.Builder;
+import lombok.Getter;
+
+// 펀딩 참여 결제 확인
+@Getter
+public class AttendanceConfirmedEvent implements DomainEvent {
+
+    private Long attendanceId;
+    private Long fundingId;
+    private Long fundingConsumerId;
+    private String attendeeName;
+    private Integer price;
+
+    @Builder
+    private AttendanceConfirmedEvent(Long attendanceId, Long fundingId, Long fundingConsumerId, String attendeeName, Integer price) {
+        this.attendanceId = attendanceId;
+        this.fundingId = fundingId;
+        this.fundingConsumerId = fundingConsumerId;
+        this.attendeeName = attendeeName;
+        this.price = price;
+    }
+
+    public static AttendanceConfirmedEvent from(Attendance attendance) {
+        return builder()
+                .attendanceId(attendance.getId())
+                .fundingId(attendance.getFunding().getId())
+                .fundingConsumerId(attendance.getFunding().getConsumer().getId())
+                .attendeeName(attendance.getConsumer().getName())
+                .price(attendance.getPrice())
+                .build();
+    }
+
+}
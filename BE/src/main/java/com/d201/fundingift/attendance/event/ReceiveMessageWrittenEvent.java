@@ -0,0 +1,32 @@
+package com.d201.fundingift.attendance.event;
+
+import com.d201.fundingift._common.event.DomainEvent;
+import com.d201.fundingift.attendance.entity.Attendance;
+import com.d201.fundingift.consumer.entity.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+
+// 펀딩 생성자의 감사 메시지 작성
+@Getter
+public class ReceiveMessageWrittenEvent implements DomainEvent {
+
+    private Long attendanceId;
+    private Long attendeeId;
+    private String writerName;
+
+    @Builder
+    private ReceiveMessageWrittenEvent(Long attendanceId, Long attendeeId, String writerName) {
+        this.attendanceId = attendanceId;
+        this.attendeeId = attendeeId;
+        this.writerName = writerName;
+    }
+
+    public static ReceiveMessageWrittenEvent of(Attendance attendance, Consumer writer) {
+        return builder()
+                .attendanceId(attendance.getId())
+                .attendeeId(attendance.getConsumer().getId())
+                .writerName(writer.getName())
+                .build();
+    }
+
+}
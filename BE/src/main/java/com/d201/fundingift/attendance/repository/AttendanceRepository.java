@@ -5,13 +5,14 @@ import com.d201.fundingift.funding.entity.Funding;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.List;
 
-public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, JpaSpecificationExecutor<Attendance> {
 
     Optional<Attendance> findByIdAndDeletedAtIsNull(Long id);
 
@@ -24,4 +25,7 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     Slice<Funding> findAllByConsumerIdAndAndDeletedAtIsNull(@Param("consumerId") Long consumerId, Pageable pageable);
 
     List<Attendance> findByConsumerIdAndDeletedAtIsNull(Long consumerId);
+
+    // 결제까지 완료된 참여자 수
+    long countByFundingIdAndDeletedAtIsNull(Long fundingId);
 }
@@ -0,0 +1,18 @@
+package com.d201.fundingift.attendance.repository;
+
+import com.d201.fundingift.attendance.entity.Attendance;
+import org.springframework.data.jpa.domain.Specification;
+
+// 커서 페이지네이션용 펀딩 참여 조회 조건 (AttendanceRepository 의 JPQL 조건과 같음)
+public final class AttendanceSpecifications {
+
+    private AttendanceSpecifications() {
+    }
+
+    public static Specification<Attendance> fundingIdEquals(Long fundingId) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("funding").get("id"), fundingId),
+                cb.isNull(root.get("deletedAt")));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.d201.fundingift.attendance.service;
+
+import com.d201.fundingift._common.util.FcmNotificationDigester;
+import com.d201.fundingift.attendance.event.AttendanceConfirmedEvent;
+import com.d201.fundingift.attendance.event.ReceiveMessageWrittenEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 펀딩 참여 도메인 이벤트 후처리 (DomainEventRelay 가 커밋 후 비동기로 호출)
+@Component
+@RequiredArgsConstructor
+public class AttendanceEventHandler {
+
+    private final FcmNotificationDigester fcmNotificationDigester;
+
+    // 참여 결제 확인 -> 펀딩 생성자에게 알림 (짧은 시간의 참여는 "○○님 외 N명" 으로 묶어서)
+    @EventListener
+    public void onAttendanceConfirmed(AttendanceConfirmedEvent event) {
+        fcmNotificationDigester.add(FcmNotificationDigester.Type.ATTENDANCE,
+                event.getFundingConsumerId(), event.getAttendanceId(), event.getAttendeeName());
+    }
+
+    // 감사 메시지 작성 -> 참여자에게 알림
+    @EventListener
+    public void onReceiveMessageWritten(ReceiveMessageWrittenEvent event) {
+        fcmNotificationDigester.add(FcmNotificationDigester.Type.RECEIVE_MESSAGE,
+                event.getAttendeeId(), event.getAttendanceId(), event.getWriterName());
+    }
+
+}
@@ -1,9 +1,10 @@
 package com.d201.fundingift.attendance.service;
 
+import com.d201.fundingift._common.event.DomainEventPublisher;
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.response.ErrorType;
 import com.d201.fundingift._common.response.SliceList;
-import com.d201.fundingift._common.util.FcmNotificationProvider;
+import com.d201.fundingift._common.util.KeysetPagination;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.attendance.dto.request.PostAttendanceRequest;
 import com.d201.fundingift.attendance.dto.request.UpdateAttendanceRequest;
@@ -11,13 +12,14 @@ import com.d201.fundingift.attendance.dto.response.GetAttendanceDetailResponse;
 import com.d201.fundingift.attendance.dto.response.GetAttendancesResponse;
 import com.d201.fundingift.attendance.dto.response.PostAttendanceResponse;
 import com.d201.fundingift.attendance.entity.Attendance;
+import com.d201.fundingift.attendance.event.ReceiveMessageWrittenEvent;
 import com.d201.fundingift.attendance.repository.AttendanceRepository;
+import com.d201.fundingift.attendance.repository.AttendanceSpecifications;
 import com.d201.fundingift.consumer.entity.Consumer;
 import com.d201.fundingift.friend.entity.Friend;
 import com.d201.fundingift.friend.repository.FriendRepository;
 import com.d201.fundingift.funding.entity.Funding;
 import com.d201.fundingift.funding.repository.FundingRepository;
-import com.d201.fundingift._common.dto.FcmNotificationDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -40,7 +42,7 @@ public class AttendanceService {
     private final FundingRepository fundingRepository;
     private final FriendRepository friendRepository;
     private final SecurityUtil securityUtil;
-    private final FcmNotificationProvider fcmNotificationProvider;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public PostAttendanceResponse postAttendance(PostAttendanceRequest postAttendanceRequest) {
@@ -73,15 +75,13 @@ public class AttendanceService {
         Attendance saved = attendanceRepository.save(Attendance.from(postAttendanceRequest, attendee, funding));
         saved.updateDeletedAt(LocalDateTime.now());
 
-        // 알림
-        fcmNotificationProvider.sendToOne(funding.getConsumer().getId(),
-                FcmNotificationDto.of("펀딩 참여 알림", attendee.getName() + "님이 펀딩에 참여했어요!"));
+        // 펀딩 생성자 알림은 결제 확인 후 (PaymentInfoService -> AttendanceConfirmedEvent)
 
         return PostAttendanceResponse.from(saved, attendee, funding);
     }
 
     //펀딩 상세 조회의 펀딩 참여자 정보 리스트
-    public SliceList<GetAttendancesResponse> getAttendancesResponse(Long fundingId, Pageable pageable) {
+    public SliceList<GetAttendancesResponse> getAttendancesResponse(Long fundingId, Pageable pageable, String cursor) {
         Long myConsumerId = securityUtil.getConsumerId();
 
         //펀딩 존재 여부 확인
@@ -89,11 +89,11 @@ public class AttendanceService {
 
         //내 펀딩, (나의 친구 펀딩 + isPrivate false), (펀딩 생성자의 친한친구가 나 + isPrivate true)일 경우 상세 보기 가능
         if(checkingMyFunding(myConsumerId, funding.getConsumer().getId())) {
-            return getMyAttendanceResponseSliceList(findAllByFundingId(funding.getId(), pageable));
+            return getAttendances(funding.getId(), pageable, cursor);
         } else if(!funding.getIsPrivate() && checkingMyFriend(myConsumerId, funding.getConsumer().getId())) {
-            return getMyAttendanceResponseSliceList(findAllByFundingId(funding.getId(), pageable));
+            return getAttendances(funding.getId(), pageable, cursor);
         } else if(funding.getIsPrivate() && checkingIsFavoriteFriend(funding.getConsumer().getId(), myConsumerId)) {
-            return getMyAttendanceResponseSliceList(findAllByFundingId(funding.getId(), pageable));
+            return getAttendances(funding.getId(), pageable, cursor);
         }
 
         throw new CustomException(ErrorType.USER_UNAUTHORIZED);
@@ -131,9 +131,8 @@ public class AttendanceService {
 
         attendance.writingReceiveMessage(updateAttendanceRequest.getReceiveMessage());
 
-        // 알림
-        fcmNotificationProvider.sendToOne(attendance.getConsumer().getId(),
-                FcmNotificationDto.of("펀딩 감사 메시지 알림", consumer.getName() + "님이 감사 메시지를 등록했어요!"));
+        // 알림 (커밋 후 비동기)
+        domainEventPublisher.publish(ReceiveMessageWrittenEvent.of(attendance, consumer));
     }
 
     /**
@@ -156,6 +155,15 @@ public class AttendanceService {
                 .orElseThrow(() -> new CustomException(ErrorType.FUNDING_NOT_FOUND));
     }
 
+    //cursor 가 있으면 커서 기반, 없으면 페이지 기반으로 참여자 목록 조회
+    private SliceList<GetAttendancesResponse> getAttendances(Long fundingId, Pageable pageable, String cursor) {
+        if(cursor != null)
+            return KeysetPagination.fetch(attendanceRepository, AttendanceSpecifications.fundingIdEquals(fundingId),
+                    pageable.getSort(), cursor, pageable.getPageSize(), GetAttendancesResponse::from);
+
+        return getMyAttendanceResponseSliceList(findAllByFundingId(fundingId, pageable));
+    }
+
     private SliceList<GetAttendancesResponse> getMyAttendanceResponseSliceList(Slice<Attendance> attendances) {
         return SliceList.from(attendances.stream().map(GetAttendancesResponse::from).collect(Collectors.toList()), attendances.getPageable(), attendances.hasNext());
     }
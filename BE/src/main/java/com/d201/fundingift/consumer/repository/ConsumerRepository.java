@@ -1,9 +1,15 @@
 package com.d201.fundingift.consumer.repository;
 
 import com.d201.fundingift.consumer.entity.Consumer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +20,37 @@ public interface ConsumerRepository extends JpaRepository<Consumer, Long> {
     Optional<Consumer> findByIdAndDeletedAtIsNull(Long id);
     Boolean existsByIdAndDeletedAtIsNull(Long Id);
     List<Consumer> findByBirthday(String birthday);
+    List<Consumer> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    // socialId 블룸 필터 재구성용 (id keyset)
+    @Query("select c.id as id, c.socialId as socialId from Consumer c where c.id > :afterId and c.deletedAt is null order by c.id")
+    List<SocialIdView> findSocialIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    // socialId 블룸 필터 재구성 중 가입한 사용자
+    @Query("select c.id as id, c.socialId as socialId from Consumer c where c.createdAt >= :createdSince and c.deletedAt is null")
+    List<SocialIdView> findSocialIdsCreatedSince(@Param("createdSince") LocalDateTime createdSince);
+
+    // 생일 버킷 재구성용 (id keyset)
+    @Query("select c.id as id, c.birthday as birthday, c.deletedAt as deletedAt from Consumer c where c.id > :afterId and c.deletedAt is null and c.birthday is not null order by c.id")
+    List<BirthdayView> findBirthdays(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 생일 버킷 재구성 중 수정 / 탈퇴한 사용자
+    @Query("select c.id as id, c.birthday as birthday, c.deletedAt as deletedAt from Consumer c where c.updatedAt >= :updatedSince or c.deletedAt >= :deletedSince")
+    List<BirthdayView> findBirthdaysChangedSince(@Param("updatedSince") LocalDateTime updatedSince, @Param("deletedSince") LocalDateTime deletedSince);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Consumer c set c.deletedAt = :deletedAt where c.id = :consumerId and c.deletedAt is null")
+    int softDeleteById(@Param("consumerId") Long consumerId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    interface SocialIdView {
+        Long getId();
+        String getSocialId();
+    }
+
+    interface BirthdayView {
+        Long getId();
+        String getBirthday();
+        LocalDateTime getDeletedAt();
+    }
 
 }
@@ -0,0 +1,302 @@
+package com.d201.fundingift.consumer.service;
+
+import com.d201.fundingift._common.util.RedisPipelineUtil;
+import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import com.d201.fundingift.consumer.repository.ConsumerRepository.BirthdayView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/*
+ *  생일(MMdd) 버킷 - 날짜별 소비자 id Set (consumer:birthday:{MMdd}, 2월 29일 포함 366개)
+ *  - 다가오는 친구 생일 조회에서 consumer 테이블을 읽지 않고, 친구 Set 과 날짜 버킷의 교집합을 Lua 스크립트 한 번으로 구한다.
+ *  - 윤년이 아닌 해에는 2월 29일 생일을 2월 28일에 포함한다.
+ *
+ *  갱신
+ *  - 정보 수정(updateConsumerInfo) 시 이전 버킷에서 빼고 새 버킷에 넣는다. 탈퇴 시 뺀다.
+ *  - 서버 시작 시(한 번도 만든 적이 없을 때)와 매일(JobConfig) DB 에서 id 순 chunk 로 읽어 임시 키에 만든 뒤 RENAME 으로 교체한다.
+ *    (롤백된 트랜잭션 / Redis 오류로 어긋난 버킷을 바로잡는다)
+ *  - 교체 후 재구성 중에 수정 / 탈퇴한 사용자를 다시 반영한다.
+ *  - 재구성은 락으로 한 서버만 한다. 락 값은 실행마다 만든 토큰이며, chunk 마다 토큰이 같을 때만 연장하고 잃으면 교체 전에 중단한다.
+ *    (TTL 이 지나 다른 서버가 잡은 락을 지우거나, 두 재구성이 버킷을 번갈아 바꾸지 않도록)
+ */
+@Slf4j
+@Component
+public class ConsumerBirthdayIndex {
+
+    private static final String KEY_PREFIX = "consumer:birthday:";
+    private static final String BUILDING_KEY_PREFIX = "consumer:birthday-building:";
+    private static final String BUILT_KEY = "consumer:birthday-built";
+    private static final String LOCK_KEY = "consumer:birthday-lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final DateTimeFormatter BIRTHDAY_FORMAT = DateTimeFormatter.ofPattern("MMdd");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final MonthDay LEAP_DAY = MonthDay.of(2, 29);
+    private static final List<String> BIRTHDAYS = LocalDate.of(2024, 1, 1).datesUntil(LocalDate.of(2025, 1, 1))
+            .map(date -> date.format(BIRTHDAY_FORMAT))
+            .toList();
+
+    // KEYS[1]: 대상 id Set (값 끝의 숫자를 id 로 본다 - 친구 인덱스 Set 의 "{id}:{친구 id}" 도 그대로 쓸 수 있다)
+    // KEYS[2..]: 날짜 버킷, 결과: [버킷 순번(1부터), id, 버킷 순번, id, ...]
+    // 버킷마다 작은 쪽을 순회한다 (버킷이 작으면 버킷 멤버를 대상 Set 에서 찾고, 크면 대상 id 마다 SISMEMBER)
+    private static final RedisScript<List> UPCOMING_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('SMEMBERS', KEYS[1])
+            local targets = {}
+            local count = 0
+            for _, member in ipairs(members) do
+                local id = string.match(member, '(%d+)$')
+                if id and not targets[id] then
+                    targets[id] = true
+                    count = count + 1
+                end
+            end
+            local result = {}
+            if count == 0 then
+                return result
+            end
+            for i = 2, #KEYS do
+                local day = tostring(i - 1)
+                if redis.call('SCARD', KEYS[i]) <= count then
+                    for _, id in ipairs(redis.call('SMEMBERS', KEYS[i])) do
+                        if targets[id] then
+                            result[#result + 1] = day
+                            result[#result + 1] = id
+                        end
+                    end
+                else
+                    for id in pairs(targets) do
+                        if redis.call('SISMEMBER', KEYS[i], id) == 1 then
+                            result[#result + 1] = day
+                            result[#result + 1] = id
+                        end
+                    end
+                end
+            end
+            return result
+            """, List.class);
+
+    // KEYS[1]: 락 / ARGV: 토큰, TTL(ms) (자신이 잡은 락일 때만 연장)
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]: 락 / ARGV[1]: 토큰 (자신이 잡은 락일 때만 해제)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    public record UpcomingBirthday(Long consumerId, LocalDate date) {
+    }
+
+    private final ConsumerRepository consumerRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipelineUtil redisPipelineUtil;
+    private final AsyncTaskExecutor backgroundExecutor;
+    private final int chunkSize;
+
+    public ConsumerBirthdayIndex(ConsumerRepository consumerRepository, StringRedisTemplate stringRedisTemplate,
+                                 RedisPipelineUtil redisPipelineUtil,
+                                 @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor,
+                                 @Value("${consumer-birthday.chunk-size:5000}") int chunkSize) {
+        this.consumerRepository = consumerRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisPipelineUtil = redisPipelineUtil;
+        this.backgroundExecutor = backgroundTaskExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    // from 부터 days 일 동안 생일인 사용자 중 memberSetKey 에 있는 사용자 (Redis 왕복 한 번)
+    public List<UpcomingBirthday> findUpcoming(String memberSetKey, LocalDate from, int days) {
+        List<String> keys = new ArrayList<>();
+        List<LocalDate> dates = new ArrayList<>();
+        keys.add(memberSetKey);
+        for (LocalDate date = from; date.isBefore(from.plusDays(days)); date = date.plusDays(1)) {
+            keys.add(key(date.format(BIRTHDAY_FORMAT)));
+            dates.add(date);
+            if (!date.isLeapYear() && MonthDay.from(date).equals(MonthDay.of(2, 28))) {
+                keys.add(key(LEAP_DAY.format(BIRTHDAY_FORMAT)));
+                dates.add(date);
+            }
+        }
+
+        List<?> result = stringRedisTemplate.execute(UPCOMING_SCRIPT, keys);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+
+        List<UpcomingBirthday> upcoming = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            int day = Integer.parseInt(result.get(i).toString());
+            upcoming.add(new UpcomingBirthday(Long.valueOf(result.get(i + 1).toString()), dates.get(day - 1)));
+        }
+        return upcoming;
+    }
+
+    // 생일 변경 (이전 버킷에서 빼고 새 버킷에 넣는다)
+    public void move(Long consumerId, String oldBirthday, String newBirthday) {
+        if (Objects.equals(oldBirthday, newBirthday)) {
+            return;
+        }
+        try {
+            String id = String.valueOf(consumerId);
+            redisPipelineUtil.write(connection -> {
+                if (isValid(oldBirthday)) {
+                    connection.sRem(key(oldBirthday), id);
+                }
+                if (isValid(newBirthday)) {
+                    connection.sAdd(key(newBirthday), id);
+                }
+            });
+        } catch (Exception e) {
+            // 다음 재구성 때 바로잡힌다
+            log.warn("[ConsumerBirthdayIndex] consumerId={} 생일 버킷 갱신 실패 : {}", consumerId, e.getMessage());
+        }
+    }
+
+    // 탈퇴 (생일을 다시 읽지 않도록 모든 버킷에서 뺀다, 파이프라인 한 번)
+    public void remove(Long consumerId) {
+        try {
+            String id = String.valueOf(consumerId);
+            redisPipelineUtil.write(connection -> BIRTHDAYS.forEach(birthday -> connection.sRem(key(birthday), id)));
+        } catch (Exception e) {
+            log.warn("[ConsumerBirthdayIndex] consumerId={} 생일 버킷 삭제 실패 : {}", consumerId, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(BUILT_KEY))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[ConsumerBirthdayIndex] 생일 버킷 확인 실패 : {}", e.getMessage());
+            return;
+        }
+        backgroundExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("[ConsumerBirthdayIndex] 재구성 실패 : {}", e.getMessage());
+            }
+        });
+    }
+
+    // 반환: 버킷에 넣은 사용자 수 (다른 서버가 재구성 중이면 0)
+    public long rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            return 0; // 다른 서버가 재구성 중
+        }
+
+        long start = System.currentTimeMillis();
+        // 수정 시각(updatedAt)은 서버 시간, 탈퇴 시각(deletedAt)은 Asia/Seoul 기준으로 기록된다
+        LocalDateTime updatedSince = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime deletedSince = LocalDateTime.now(ZONE).minusMinutes(1);
+        try {
+            redisPipelineUtil.write(connection -> connection.del(BIRTHDAYS.stream().map(this::buildingKey).toArray(String[]::new)));
+
+            Set<String> built = new HashSet<>();
+            long count = 0;
+            Long afterId = 0L;
+            List<BirthdayView> chunk;
+            while (!(chunk = consumerRepository.findBirthdays(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                Map<String, List<String>> idsByBirthday = new HashMap<>();
+                for (BirthdayView view : chunk) {
+                    if (isValid(view.getBirthday())) {
+                        idsByBirthday.computeIfAbsent(view.getBirthday(), birthday -> new ArrayList<>()).add(String.valueOf(view.getId()));
+                    }
+                }
+                redisPipelineUtil.write(connection -> idsByBirthday.forEach((birthday, ids) ->
+                        connection.sAdd(buildingKey(birthday), ids.toArray(String[]::new))));
+
+                built.addAll(idsByBirthday.keySet());
+                count += idsByBirthday.values().stream().mapToInt(List::size).sum();
+                afterId = chunk.get(chunk.size() - 1).getId();
+                extendLock(token);
+            }
+
+            // 임시 키로 교체 (생일인 사용자가 없는 날짜는 지운다)
+            redisPipelineUtil.write(connection -> BIRTHDAYS.forEach(birthday -> {
+                if (built.contains(birthday)) {
+                    connection.rename(buildingKey(birthday), key(birthday));
+                } else {
+                    connection.del(key(birthday));
+                }
+            }));
+
+            // 읽는 동안 수정 / 탈퇴한 사용자는 교체 전 버킷에만 반영됐을 수 있다
+            List<BirthdayView> changed = consumerRepository.findBirthdaysChangedSince(updatedSince, deletedSince);
+            if (!changed.isEmpty()) {
+                redisPipelineUtil.write(connection -> changed.forEach(view -> {
+                    String id = String.valueOf(view.getId());
+                    BIRTHDAYS.forEach(birthday -> connection.sRem(key(birthday), id));
+                    if (view.getDeletedAt() == null && isValid(view.getBirthday())) {
+                        connection.sAdd(key(view.getBirthday()), id);
+                    }
+                }));
+            }
+
+            stringRedisTemplate.opsForValue().set(BUILT_KEY, LocalDateTime.now().toString());
+            log.info("[ConsumerBirthdayIndex] 재구성 완료 {}명 (재반영 {}명), {}ms", count, changed.size(), System.currentTimeMillis() - start);
+            return count;
+        } finally {
+            try {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+            } catch (Exception e) {
+                log.warn("[ConsumerBirthdayIndex] 락 해제 실패 (TTL 만료 후 해제) : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 락을 잃었으면(다른 서버가 재구성 중) 버킷을 교체하기 전에 중단
+    private void extendLock(String token) {
+        if (!Long.valueOf(1).equals(stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(LOCK_KEY), token, String.valueOf(LOCK_TTL.toMillis())))) {
+            throw new IllegalStateException("생일 버킷 재구성 락을 잃어 중단");
+        }
+    }
+
+    private boolean isValid(String birthday) {
+        if (birthday == null) {
+            return false;
+        }
+        try {
+            MonthDay.parse(birthday, BIRTHDAY_FORMAT);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private String key(String birthday) {
+        return KEY_PREFIX + birthday;
+    }
+
+    private String buildingKey(String birthday) {
+        return BUILDING_KEY_PREFIX + birthday;
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.d201.fundingift.consumer.service;
+
+import com.d201.fundingift._common.jwt.RedisJwtRepository;
+import com.d201.fundingift._common.util.RedisHashIndexEraser;
+import com.d201.fundingift.fcmtoken.service.FcmTokenRegistry;
+import com.d201.fundingift.friend.service.FriendService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ *  회원 탈퇴 데이터 삭제 파이프라인
+ *  - 토큰 무효화만 요청 스레드에서 바로 하고, 나머지는 백그라운드에서 단계별로 처리한다.
+ *  - 단계가 끝날 때마다 erasure:{consumerId} 해시에 체크포인트를 남기므로
+ *    서버가 중간에 내려가도 주기적인 재개 작업이 다음 단계부터 이어서 처리한다.
+ *  - 각 단계는 여러 번 실행해도 결과가 같다.
+ *  - 사용자별 락으로 한 스레드 / 인스턴스만 처리한다. (락 값은 실행마다 만든 토큰이며, 해제는 토큰이 같을 때만 한다)
+ */
+@Slf4j
+@Service
+public class ConsumerErasureService {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "erasure:";
+    private static final String LOCK_KEY_PREFIX = "erasure:lock:";
+    private static final String PENDING_KEY = "erasure:pending";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    // KEYS[1]: 락 / ARGV[1]: 토큰 (자신이 잡은 락일 때만 해제)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    enum Step {
+        FRIEND, WISHLIST, FCM_TOKEN, CONSUMER_ALARM, KEYS, RELATIONAL
+    }
+
+    private final ConsumerService consumerService;
+    private final FriendService friendService;
+    private final RedisJwtRepository redisJwtRepository;
+    private final RedisHashIndexEraser redisHashIndexEraser;
+    private final FcmTokenRegistry fcmTokenRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncTaskExecutor executor;
+
+    @Value("${erasure.batch-size:500}")
+    private int batchSize;
+
+    public ConsumerErasureService(ConsumerService consumerService, FriendService friendService,
+                                  RedisJwtRepository redisJwtRepository, RedisHashIndexEraser redisHashIndexEraser,
+                                  FcmTokenRegistry fcmTokenRegistry, StringRedisTemplate stringRedisTemplate,
+                                  @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor) {
+        this.consumerService = consumerService;
+        this.friendService = friendService;
+        this.redisJwtRepository = redisJwtRepository;
+        this.redisHashIndexEraser = redisHashIndexEraser;
+        this.fcmTokenRegistry = fcmTokenRegistry;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.executor = backgroundTaskExecutor;
+    }
+
+    // 탈퇴 요청: 토큰은 즉시 삭제하고 나머지는 백그라운드에서 처리
+    public void requestErasure(Long consumerId) {
+        revokeTokens(consumerId);
+
+        stringRedisTemplate.opsForHash().putIfAbsent(checkpointKey(consumerId), "step", Step.values()[0].name());
+        stringRedisTemplate.opsForHash().putIfAbsent(checkpointKey(consumerId), "requestedAt", String.valueOf(System.currentTimeMillis()));
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, String.valueOf(consumerId));
+
+        executor.execute(() -> erase(consumerId));
+    }
+
+    // 중단된 삭제 작업 재개
+    @Scheduled(fixedDelayString = "${erasure.resume-interval-millis:300000}", initialDelayString = "${erasure.resume-interval-millis:300000}")
+    public void resumePending() {
+        Set<String> pending = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        log.info("[ConsumerErasureService.resumePending] 대기 중인 탈퇴 처리 {}건", pending.size());
+        pending.forEach(id -> executor.execute(() -> erase(Long.valueOf(id))));
+    }
+
+    void erase(Long consumerId) {
+        String lockKey = LOCK_KEY_PREFIX + consumerId;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+            return; // 다른 스레드 / 인스턴스가 처리 중
+        }
+
+        try {
+            Object saved = stringRedisTemplate.opsForHash().get(checkpointKey(consumerId), "step");
+            if (saved == null) {
+                stringRedisTemplate.opsForSet().remove(PENDING_KEY, String.valueOf(consumerId));
+                return;
+            }
+
+            for (Step step : List.of(Step.values()).subList(Step.valueOf((String) saved).ordinal(), Step.values().length)) {
+                long start = System.currentTimeMillis();
+                long deleted = run(step, consumerId);
+                log.info("[ConsumerErasureService] consumerId={} {} 완료 ({}건, {}ms)",
+                        consumerId, step, deleted, System.currentTimeMillis() - start);
+
+                if (step.ordinal() + 1 < Step.values().length) {
+                    stringRedisTemplate.opsForHash().put(checkpointKey(consumerId), "step", Step.values()[step.ordinal() + 1].name());
+                }
+            }
+
+            stringRedisTemplate.unlink(checkpointKey(consumerId));
+            stringRedisTemplate.opsForSet().remove(PENDING_KEY, String.valueOf(consumerId));
+            log.info("[ConsumerErasureService] consumerId={} 탈퇴 데이터 삭제 완료", consumerId);
+        } catch (Exception e) {
+            log.error("[ConsumerErasureService] consumerId={} 탈퇴 데이터 삭제 실패, 다음 재개 때 이어서 처리 : {}", consumerId, e.getMessage());
+        } finally {
+            releaseLock(lockKey, token);
+        }
+    }
+
+    private long run(Step step, Long consumerId) {
+        return switch (step) {
+            case FRIEND -> {
+                friendService.deleteAllFriendsByConsumerId(consumerId);
+                yield 0;
+            }
+            case WISHLIST -> redisHashIndexEraser.deleteByIndex("wishlist", "consumerId", consumerId, batchSize);
+            // 현재 저장 구조(FcmTokenRegistry) + 아직 옮겨지지 않은 이전 저장 구조
+            case FCM_TOKEN -> fcmTokenRegistry.deleteAll(consumerId)
+                    + redisHashIndexEraser.deleteByIndex("fcmtoken", "consumerId", consumerId, batchSize);
+            case CONSUMER_ALARM -> redisHashIndexEraser.deleteByIndex("consumer_alarm", "consumerId", consumerId, batchSize);
+            case KEYS -> {
+                revokeTokens(consumerId);
+                Long unlinked = stringRedisTemplate.unlink(List.of("rateLimit:kakaoFriends:" + consumerId));
+                yield unlinked == null ? 0 : unlinked;
+            }
+            case RELATIONAL -> consumerService.softDeleteConsumerData(consumerId);
+        };
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("[ConsumerErasureService] 락 해제 실패 {} (TTL 만료 후 해제) : {}", lockKey, e.getMessage());
+        }
+    }
+
+    private void revokeTokens(Long consumerId) {
+        redisJwtRepository.deleteAll(consumerId);
+    }
+
+    private String checkpointKey(Long consumerId) {
+        return CHECKPOINT_KEY_PREFIX + consumerId;
+    }
+
+}
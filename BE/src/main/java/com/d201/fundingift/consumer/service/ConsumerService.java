@@ -5,6 +5,8 @@ import com.d201.fundingift._common.jwt.RedisJwtRepository;
 import com.d201.fundingift._common.oauth2.service.OAuth2UserPrincipal;
 import com.d201.fundingift._common.response.ErrorType;
 import com.d201.fundingift._common.util.SecurityUtil;
+import com.d201.fundingift.account.repository.AccountRepository;
+import com.d201.fundingift.address.repository.AddressRepository;
 import com.d201.fundingift.attendance.entity.Attendance;
 import com.d201.fundingift.attendance.repository.AttendanceRepository;
 import com.d201.fundingift.consumer.dto.request.PutConsumerInfoRequestDto;
@@ -15,8 +17,12 @@ import com.d201.fundingift.consumer.repository.ConsumerRepository;
 import com.d201.fundingift.funding.entity.Funding;
 import com.d201.fundingift.funding.entity.status.FundingStatus;
 import com.d201.fundingift.funding.repository.FundingRepository;
+import com.d201.fundingift.product.entity.Product;
+import com.d201.fundingift.product.repository.ProductRepository;
+import com.d201.fundingift.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -26,8 +32,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.d201.fundingift._common.response.ErrorType.*;
 
@@ -43,7 +54,15 @@ public class ConsumerService {
     private final AttendanceRepository attendanceRepository;
     private final SecurityUtil securityUtil;
     private final RestTemplate restTemplate;
+    private final AddressRepository addressRepository;
+    private final AccountRepository accountRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+    private final SocialIdBloomFilter socialIdBloomFilter;
+    private final ConsumerBirthdayIndex consumerBirthdayIndex;
 
+    @Value("${kakao.api-url}")
+    private String kakaoApiUrl;
 
     // 회원가입
     @Transactional
@@ -56,7 +75,9 @@ public class ConsumerService {
                 // 필요한 다른 필드 설정
                 .build();
 
-        return consumerRepository.save(consumer).getId();
+        Long consumerId = consumerRepository.save(consumer).getId();
+        socialIdBloomFilter.add(consumer.getSocialId());
+        return consumerId;
     }
 
     // socialId로 회원 찾기.
@@ -109,7 +130,7 @@ public class ConsumerService {
         headers.set("Authorization", "Bearer " + kakaoAccessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<String> response = restTemplate.postForEntity("https://kapi.kakao.com/v1/user/logout", entity, String.class);
+        ResponseEntity<String> response = restTemplate.postForEntity(kakaoApiUrl + "/v1/user/logout", entity, String.class);
 
         if (!response.getStatusCode().is2xxSuccessful()) {
             // 에러 처리
@@ -118,9 +139,7 @@ public class ConsumerService {
 
         // 2. 로컬 로그아웃 처리: 토큰 무효화
         // 레디스에서 해당 사용자의 액세스 토큰 및 리프레시 토큰 및 카카오 액세스 토큰 삭제
-        redisJwtRepository.deleteAccessToken(consumerId);
-        redisJwtRepository.deleteRefreshToken(consumerId);
-        redisJwtRepository.deleteKakaoAccessToken(consumerId);
+        redisJwtRepository.deleteAll(consumerId);
 
     }
     @Transactional
@@ -129,7 +148,9 @@ public class ConsumerService {
         Consumer consumer = consumerRepository.findById(consumerId)
                 .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
         log.info("{} 사용자의 추가 정보 기입",consumerId);
+        String oldBirthday = consumer.getBirthday();
         consumer.updateInfo(putConsumerInfoRequestDto);
+        consumerBirthdayIndex.move(consumerId, oldBirthday, consumer.getBirthday());
     }
 
     @Transactional
@@ -140,6 +161,38 @@ public class ConsumerService {
         consumer.updateProfileImageUrl(newProfileImageUrl);
     }
 
+    // 회원 탈퇴 시 소비자의 관계형 데이터 일괄 soft delete (참여 내역은 다른 사용자의 펀딩 기록이므로 유지)
+    @Transactional
+    public int softDeleteConsumerData(Long consumerId) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        List<Long> reviewedProductIds = reviewRepository.findProductIdsByConsumerId(consumerId);
+
+        int deleted = addressRepository.softDeleteAllByConsumerId(consumerId, now)
+                + accountRepository.softDeleteAllByConsumerId(consumerId, now)
+                + reviewRepository.softDeleteAllByConsumerId(consumerId, now)
+                + fundingRepository.softDeleteAllNotInProgressByConsumerId(consumerId, now)
+                + consumerRepository.softDeleteById(consumerId, now);
+        recalculateReviewStats(reviewedProductIds);
+        socialIdBloomFilter.removed();
+        consumerBirthdayIndex.remove(consumerId);
+        log.info("[ConsumerService.softDeleteConsumerData] consumerId={}, {}건 삭제", consumerId, deleted);
+        return deleted;
+    }
+
+    // 리뷰를 일괄 삭제한 상품의 리뷰 수 / 평균 별점을 남은 리뷰로 다시 계산 (ReviewService 의 건별 갱신과 같은 값)
+    private void recalculateReviewStats(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<Long, ReviewRepository.ReviewStats> stats = reviewRepository.findStatsByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ReviewRepository.ReviewStats::getProductId, Function.identity()));
+        for (Product product : productRepository.findAllById(productIds)) {
+            ReviewRepository.ReviewStats stat = stats.get(product.getId());
+            product.resetReviewStats(stat == null ? 0 : stat.getReviewCnt().intValue(),
+                    stat == null || stat.getReviewAvg() == null ? 0.0 : stat.getReviewAvg());
+        }
+    }
+
     public Boolean isConsumerInProgressOrAttendanceFunding() {
         Long consumerId = Long.valueOf(securityUtil.getConsumer().getId());
         log.info("진행 중이거나 참여 중인 펀딩 확인, 사용자 ID: {}", consumerId);
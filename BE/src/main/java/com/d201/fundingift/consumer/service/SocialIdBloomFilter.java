@@ -0,0 +1,263 @@
+package com.d201.fundingift.consumer.service;
+
+import com.d201.fundingift._common.util.BloomFilter;
+import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import com.d201.fundingift.consumer.repository.ConsumerRepository.SocialIdView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ *  가입한 사용자 socialId 블룸 필터 (Redis 비트맵, 모든 서버 공유)
+ *  - 카카오 친구 동기화에서 "확실히 가입하지 않은" 친구의 DB 조회를 건너뛰는 데 쓴다.
+ *  - 키에 비트 수 / 해시 수를 넣어, 설정이 바뀌면 새 키를 다시 만들 때까지 필터를 쓰지 않는다.
+ *  - 필터가 아직 없거나 Redis 오류가 나면 모든 친구를 "있을 수 있음"으로 보고 DB 를 조회한다. (없는 사용자를 놓치지 않는다)
+ *
+ *  갱신
+ *  - 가입(saveOAuth2User) 시 비트를 켠다. (트랜잭션이 롤백돼도 오탐이 하나 늘 뿐이다)
+ *  - 블룸 필터는 원소를 뺄 수 없으므로 탈퇴는 개수만 세고, rebuild-after-removed 건이 쌓이면 다시 만든다.
+ *    (그 전까지 탈퇴한 사용자는 오탐으로 남아 DB 조회가 한 번 더 나갈 뿐이다)
+ *  - 서버 시작 시와 매일(JobConfig) socialId 를 id 순 chunk 로 읽어 메모리에서 비트맵을 만든 뒤 한 번에 교체한다.
+ *    교체 후 재구성을 시작한 시각(1분 여유) 이후 가입한 사용자를 다시 넣는다.
+ *    (id 는 insert 시점에 정해지고 커밋 순서와 다르므로, 마지막으로 읽은 id 이후만 보면 늦게 커밋된 작은 id 를 놓친다)
+ *  - 재구성 락은 실행마다 만든 토큰으로 잡고, 토큰이 같을 때만 지운다.
+ *
+ *  측정 (actuator /actuator/metrics)
+ *  - consumer.social-id.bloom.checks{result=negative|positive|unavailable}: negative 가 건너뛴 DB 조회 수
+ */
+@Slf4j
+@Component
+public class SocialIdBloomFilter {
+
+    private static final String KEY_PREFIX = "consumer:social-id:bloom:";
+    private static final String REMOVED_KEY = "consumer:social-id:bloom-removed";
+    private static final String LOCK_KEY = "consumer:social-id:bloom-lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    // 결과: 값마다 1(있을 수 있음) / 0(없음), 필터가 없으면 빈 목록
+    private static final RedisScript<List> MIGHT_CONTAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            local k = tonumber(ARGV[1])
+            local result = {}
+            for i = 2, #ARGV, k do
+                local hit = 1
+                for j = i, i + k - 1 do
+                    if redis.call('GETBIT', KEYS[1], ARGV[j]) == 0 then
+                        hit = 0
+                        break
+                    end
+                end
+                result[#result + 1] = hit
+            end
+            return result
+            """, List.class);
+
+    // 필터가 없으면 켜지 않는다 (일부만 켜진 비트맵이 만들어지면 가입자를 "없음"으로 판정하게 된다)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 1, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ConsumerRepository consumerRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncTaskExecutor backgroundExecutor;
+    private final MeterRegistry meterRegistry;
+    private final BloomFilter bloomFilter;
+    private final String key;
+    private final int chunkSize;
+    private final long rebuildAfterRemoved;
+
+    public SocialIdBloomFilter(ConsumerRepository consumerRepository, StringRedisTemplate stringRedisTemplate,
+                               @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${social-id-bloom.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${social-id-bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${social-id-bloom.chunk-size:5000}") int chunkSize,
+                               @Value("${social-id-bloom.rebuild-after-removed:10000}") long rebuildAfterRemoved) {
+        this.consumerRepository = consumerRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.backgroundExecutor = backgroundTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.bloomFilter = BloomFilter.of(expectedInsertions, falsePositiveRate);
+        this.key = KEY_PREFIX + bloomFilter.getBitSize() + ":" + bloomFilter.getHashCount();
+        this.chunkSize = chunkSize;
+        this.rebuildAfterRemoved = rebuildAfterRemoved;
+    }
+
+    // socialId 마다 가입했을 수 있으면 true, 확실히 가입하지 않았으면 false
+    public boolean[] mightContainAll(List<String> socialIds) {
+        boolean[] result = new boolean[socialIds.size()];
+        if (socialIds.isEmpty()) {
+            return result;
+        }
+
+        List<?> hits = null;
+        try {
+            hits = stringRedisTemplate.execute(MIGHT_CONTAIN_SCRIPT, List.of(key), positionArgs(socialIds));
+        } catch (Exception e) {
+            log.warn("[SocialIdBloomFilter] 필터 조회 실패, DB 조회로 대체 : {}", e.getMessage());
+        }
+
+        if (hits == null || hits.size() != socialIds.size()) {
+            Arrays.fill(result, true);
+            count("unavailable", socialIds.size());
+            return result;
+        }
+
+        int positives = 0;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((Number) hits.get(i)).longValue() == 1;
+            positives += result[i] ? 1 : 0;
+        }
+        count("positive", positives);
+        count("negative", result.length - positives);
+        return result;
+    }
+
+    public void add(String socialId) {
+        try {
+            stringRedisTemplate.execute(ADD_SCRIPT, List.of(key), toArgs(bloomFilter.positions(socialId)));
+        } catch (Exception e) {
+            // 다음 재구성 전까지 이 사용자를 놓칠 수 있으므로 재구성을 요청한다
+            log.error("[SocialIdBloomFilter] socialId 추가 실패, 재구성 요청 : {}", e.getMessage());
+            requestRebuild();
+        }
+    }
+
+    // 탈퇴 (블룸 필터에서 뺄 수 없으므로 개수만 센다)
+    public void removed() {
+        try {
+            Long removed = stringRedisTemplate.opsForValue().increment(REMOVED_KEY);
+            if (removed != null && removed % rebuildAfterRemoved == 0) {
+                requestRebuild();
+            }
+        } catch (Exception e) {
+            log.warn("[SocialIdBloomFilter] 탈퇴 수 기록 실패 : {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        requestRebuild();
+    }
+
+    public void requestRebuild() {
+        backgroundExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("[SocialIdBloomFilter] 재구성 실패 : {}", e.getMessage());
+            }
+        });
+    }
+
+    // 반환: 필터에 넣은 socialId 수 (다른 서버가 재구성 중이면 0)
+    public long rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            return 0; // 다른 서버가 재구성 중
+        }
+
+        long start = System.currentTimeMillis();
+        // 재구성 시작 전에 insert 됐지만 아직 커밋되지 않은 가입도 포함하도록 여유를 둔다
+        LocalDateTime createdSince = LocalDateTime.now().minusMinutes(1);
+        try {
+            byte[] bitmap = bloomFilter.newBitmap();
+            long count = 0;
+            Long afterId = 0L;
+            List<SocialIdView> chunk;
+            while (!(chunk = consumerRepository.findSocialIds(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                for (SocialIdView view : chunk) {
+                    bloomFilter.put(bitmap, view.getSocialId());
+                }
+                count += chunk.size();
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            replace(bitmap);
+            stringRedisTemplate.delete(REMOVED_KEY);
+
+            // 읽는 동안 가입한 사용자는 교체 전 필터에만 들어갔을 수 있다
+            List<SocialIdView> created = consumerRepository.findSocialIdsCreatedSince(createdSince);
+            created.forEach(view -> add(view.getSocialId()));
+            count += created.size();
+
+            log.info("[SocialIdBloomFilter] 재구성 완료 socialId {}건, 비트 {} / 해시 {}, {}ms",
+                    count, bloomFilter.getBitSize(), bloomFilter.getHashCount(), System.currentTimeMillis() - start);
+            return count;
+        } finally {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    // 임시 키에 비트맵 전체를 쓴 뒤 RENAME 으로 교체 (조회는 항상 완성된 필터를 본다)
+    private void replace(byte[] bitmap) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] buildingKeyBytes = (key + ":building").getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Void>) (RedisConnection connection) -> {
+            connection.stringCommands().set(buildingKeyBytes, bitmap);
+            connection.keyCommands().rename(buildingKeyBytes, keyBytes);
+            return null;
+        });
+    }
+
+    // [k, 값1의 위치 k개, 값2의 위치 k개, ...]
+    private Object[] positionArgs(List<String> socialIds) {
+        List<String> args = new ArrayList<>(socialIds.size() * bloomFilter.getHashCount() + 1);
+        args.add(String.valueOf(bloomFilter.getHashCount()));
+        for (String socialId : socialIds) {
+            for (long position : bloomFilter.positions(socialId)) {
+                args.add(String.valueOf(position));
+            }
+        }
+        return args.toArray();
+    }
+
+    private Object[] toArgs(long[] positions) {
+        return Arrays.stream(positions).mapToObj(String::valueOf).toArray();
+    }
+
+    private void count(String result, long amount) {
+        if (amount > 0) {
+            Counter.builder("consumer.social-id.bloom.checks")
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .increment(amount);
+        }
+    }
+
+}
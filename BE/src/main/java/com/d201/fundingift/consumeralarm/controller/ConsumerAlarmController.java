@@ -6,6 +6,7 @@ import com.d201.fundingift._common.response.SuccessType;
 import com.d201.fundingift.consumeralarm.dto.request.PostConsumerAlarmRequest;
 import com.d201.fundingift.consumeralarm.dto.response.GetConsumerAlarmResponse;
 import com.d201.fundingift.consumeralarm.service.ConsumerAlarmService;
+import com.d201.fundingift.consumeralarm.service.ConsumerAlarmStreamService;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,7 +17,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -27,6 +30,7 @@ import java.util.List;
 public class ConsumerAlarmController {
 
     private final ConsumerAlarmService consumerAlarmService;
+    private final ConsumerAlarmStreamService consumerAlarmStreamService;
 
     @Operation(summary = "알람 생성", description = """
         사용자 알람을 생성합니다.
@@ -48,6 +52,24 @@ public class ConsumerAlarmController {
         return ResponseUtils.ok(response, SuccessType.GET_ALARM_SUCCESS);
     }
 
+    @Operation(summary = "내 알람 실시간 수신", description = """
+        새 알람과 안 읽은 알람 수 변경을 SSE(text/event-stream)로 받습니다.
+        연결 직후 현재 안 읽은 알람 수를 먼저 보냅니다.
+        이벤트 종류
+        - alarm : 새 알람 (내 알람 조회 응답의 항목과 같은 형식)
+        - unread-count : { "unreadCount": 안 읽은 알람 수 }
+        - resync : 전달이 밀려 일부 알람을 건너뛰었으니 내 알람 조회 API 로 목록을 다시 조회합니다.
+        연결이 끊기면(기본 30분) 다시 연결합니다.
+    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "연결 성공", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "429", description = "연결 수 초과", content = @Content)
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAlarms() {
+        return consumerAlarmStreamService.subscribe();
+    }
+
     @Operation(summary = "알람 읽음 상태 업데이트", description = "특정 알람의 읽음 상태를 업데이트합니다.")
     @PutMapping("/{consumer-alarm-id}/read")
     public SuccessResponse<Void> updateAlarm(@PathVariable("consumer-alarm-id") String consumerAlarmId) {
@@ -28,6 +28,7 @@ public class ConsumerAlarm implements Serializable {
 
     private MessageType  messageType;
 
+    @Indexed
     private Boolean isRead;
 
     private LocalDateTime createdDate;
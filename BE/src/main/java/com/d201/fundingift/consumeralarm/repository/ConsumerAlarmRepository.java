@@ -7,4 +7,7 @@ import java.util.List;
 
 public interface ConsumerAlarmRepository extends CrudRepository<ConsumerAlarm, String> {
     List<ConsumerAlarm> findByConsumerId(Long consumerId);
+
+    // consumerId, isRead 보조 인덱스(Set)의 교집합 크기 - 알람을 읽어 오지 않는다
+    long countByConsumerIdAndIsRead(Long consumerId, Boolean isRead);
 }
\ No newline at end of file
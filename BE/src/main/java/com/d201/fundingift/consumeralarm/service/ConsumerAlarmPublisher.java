@@ -0,0 +1,92 @@
+package com.d201.fundingift.consumeralarm.service;
+
+import com.d201.fundingift.consumeralarm.dto.response.GetConsumerAlarmResponse;
+import com.d201.fundingift.consumeralarm.entity.ConsumerAlarm;
+import com.d201.fundingift.consumeralarm.repository.ConsumerAlarmRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ *  알람 변경을 소비자별 Redis 채널(consumer_alarm:channel:{consumerId})로 발행하는 클래스
+ *  - 메시지는 "이벤트명\n JSON" 형식이며, 구독 중인 서버가 그대로 SSE 이벤트로 내려보낸다.
+ *  - 발행 실패는 알람 저장 / 수정 결과에 영향을 주지 않는다. (클라이언트는 재연결 시 목록을 다시 조회)
+ *  - 안 읽은 알람 수는 consumerId / isRead 인덱스로 센다.
+ *    (isRead 인덱스가 생기기 전에 저장된 알람은 배포 후 처음 한 번 다시 저장해 인덱스를 만든다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsumerAlarmPublisher {
+
+    public static final String CHANNEL_PREFIX = "consumer_alarm:channel:";
+    public static final String ALARM_EVENT = "alarm";
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private static final String READ_INDEX_BACKFILLED_KEY = "consumer_alarm:isRead:backfilled";
+
+    private final ConsumerAlarmRepository consumerAlarmRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 새 알람 + 안 읽은 알람 수
+    public void publishAlarm(ConsumerAlarm alarm) {
+        Long receivers = publish(alarm.getConsumerId(), ALARM_EVENT, GetConsumerAlarmResponse.from(alarm));
+
+        // 구독 중인 서버가 없으면 안 읽은 수를 세지 않는다
+        if (receivers != null && receivers > 0) {
+            publishUnreadCount(alarm.getConsumerId());
+        }
+    }
+
+    // 안 읽은 알람 수
+    public void publishUnreadCount(Long consumerId) {
+        publish(consumerId, UNREAD_COUNT_EVENT, Map.of("unreadCount", countUnread(consumerId)));
+    }
+
+    // 전체 삭제처럼 개수를 이미 알고 있는 경우
+    public void publishUnreadCount(Long consumerId, long unreadCount) {
+        publish(consumerId, UNREAD_COUNT_EVENT, Map.of("unreadCount", unreadCount));
+    }
+
+    public long countUnread(Long consumerId) {
+        return consumerAlarmRepository.countByConsumerIdAndIsRead(consumerId, false);
+    }
+
+    // isRead 인덱스 백필 (여러 서버 중 한 곳에서 한 번만 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReadIndex() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(READ_INDEX_BACKFILLED_KEY, "1"))) {
+                return;
+            }
+            long count = 0;
+            for (ConsumerAlarm alarm : consumerAlarmRepository.findAll()) {
+                consumerAlarmRepository.save(alarm);
+                count++;
+            }
+            log.info("[ConsumerAlarmPublisher] 알람 {}개의 isRead 인덱스를 만들었습니다.", count);
+        } catch (RuntimeException e) {
+            // 다음 기동 때 다시 시도
+            stringRedisTemplate.delete(READ_INDEX_BACKFILLED_KEY);
+            log.warn("[ConsumerAlarmPublisher] isRead 인덱스 백필 실패 : {}", e.getMessage());
+        }
+    }
+
+    private Long publish(Long consumerId, String event, Object data) {
+        try {
+            return stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + consumerId, event + "\n" + objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[ConsumerAlarmPublisher] 사용자({}) 알람 이벤트({}) 발행 실패 : {}", consumerId, event, e.getMessage());
+            return 0L;
+        }
+    }
+
+}
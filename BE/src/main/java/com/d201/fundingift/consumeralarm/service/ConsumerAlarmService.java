@@ -28,6 +28,7 @@ public class ConsumerAlarmService {
     private final ConsumerAlarmRepository consumerAlarmRepository;
     private final ConsumerService consumerService;
     private final SecurityUtil securityUtil;
+    private final ConsumerAlarmPublisher consumerAlarmPublisher;
 
     @Transactional
     public void createAlarm(PostConsumerAlarmRequest request) {
@@ -38,14 +39,16 @@ public class ConsumerAlarmService {
             throw new CustomException(CONSUMER_NOT_FOUND);
         }
 
+        ConsumerAlarm alarm = ConsumerAlarm.from(request);
         try {
-            ConsumerAlarm alarm = ConsumerAlarm.from(request);
             consumerAlarmRepository.save(alarm);
             log.info("알람이 성공적으로 생성되었습니다: {}", alarm);
         } catch (Exception e) {
             log.error("알람 생성 중 오류 발생: ", e);
             throw new CustomException(ErrorType.ALARM_CREATION_FAILED);
         }
+
+        consumerAlarmPublisher.publishAlarm(alarm);
     }
 
     @Transactional(readOnly = true)
@@ -70,6 +73,7 @@ public class ConsumerAlarmService {
             alarm.setIsRead();
             consumerAlarmRepository.save(alarm);
             log.info("알람 읽음 상태가 성공적으로 업데이트되었습니다, ID: {}", id);
+            consumerAlarmPublisher.publishUnreadCount(alarm.getConsumerId());
         } catch (Exception e) {
             log.error("알람 읽음 상태 업데이트 중 오류 발생, 알람 ID: {}: ", id, e);
             throw new CustomException(ErrorType.ALARM_UPDATE_FAILED);
@@ -84,13 +88,19 @@ public class ConsumerAlarmService {
         }
 
         try {
-            if (!consumerAlarmRepository.existsById(consumerAlarmId)) {
-                log.error("존재하지 않는 알람 ID: {}", consumerAlarmId);
-                throw new CustomException(ErrorType.ALARM_NOT_FOUND);
-            }
+            ConsumerAlarm alarm = consumerAlarmRepository.findById(consumerAlarmId)
+                    .orElseThrow(() -> {
+                        log.error("존재하지 않는 알람 ID: {}", consumerAlarmId);
+                        return new CustomException(ErrorType.ALARM_NOT_FOUND);
+                    });
 
             consumerAlarmRepository.deleteById(consumerAlarmId);
             log.info("알람이 성공적으로 삭제되었습니다, ID: {}", consumerAlarmId);
+
+            // 안 읽은 알람을 지운 경우에만 개수가 바뀐다
+            if (!Boolean.TRUE.equals(alarm.getIsRead())) {
+                consumerAlarmPublisher.publishUnreadCount(alarm.getConsumerId());
+            }
         } catch (Exception e) {
             log.error("알람 삭제 중 오류 발생, 알람 ID: {}: ", consumerAlarmId, e);
             throw new CustomException(ErrorType.ALARM_DELETION_FAILED);
@@ -104,6 +114,7 @@ public class ConsumerAlarmService {
             List<ConsumerAlarm> alarms = consumerAlarmRepository.findByConsumerId(consumerId);
             alarms.forEach(alarm -> consumerAlarmRepository.deleteById(alarm.getConsumerAlarmId()));
             log.info("사용자 ID에 해당하는 모든 알람이 성공적으로 삭제되었습니다, 사용자 ID: {}", consumerId);
+            consumerAlarmPublisher.publishUnreadCount(consumerId, 0);
         } catch (Exception e) {
             log.error("사용자 ID로 알람 삭제 중 오류 발생, 사용자 ID: {}: ", consumerId, e);
             throw new CustomException(ErrorType.ALARM_DELETION_BY_USER_FAILED);
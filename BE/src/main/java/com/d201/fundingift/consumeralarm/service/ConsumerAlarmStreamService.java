@@ -0,0 +1,301 @@
+package com.d201.fundingift.consumeralarm.service;
+
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift._common.util.SecurityUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.d201.fundingift._common.response.ErrorType.ALARM_STREAM_LIMIT;
+import static com.d201.fundingift.consumeralarm.service.ConsumerAlarmPublisher.ALARM_EVENT;
+import static com.d201.fundingift.consumeralarm.service.ConsumerAlarmPublisher.CHANNEL_PREFIX;
+import static com.d201.fundingift.consumeralarm.service.ConsumerAlarmPublisher.UNREAD_COUNT_EVENT;
+
+/*
+ *  내 알람 실시간 수신(SSE) 관리 - 알람함 폴링 대체
+ *  - 구독 시 현재 안 읽은 알람 수를 첫 이벤트로 보낸다.
+ *  - 이 서버에 연결된 사용자가 있는 동안만 해당 사용자 채널(consumer_alarm:channel:{consumerId})을 구독한다.
+ *    (채널 구독 / 해제는 Redis 와 통신하므로 맵의 compute 밖에서, 현재 연결 상태에 맞춰 맞춘다)
+ *
+ *  느린 클라이언트 처리
+ *  - 연결마다 크기가 제한된 큐를 두고, 전용 Executor 에서 연결당 하나의 작업만 큐를 비운다.
+ *    (Redis 리스너 스레드는 큐에 넣기만 하므로 느린 연결이 다른 연결의 수신을 막지 않는다)
+ *  - 안 읽은 알람 수는 마지막 값만 남긴다.
+ *  - 알람이 큐 크기를 넘으면 쌓인 알람을 버리고 resync 이벤트를 보낸다. (클라이언트는 목록을 다시 조회)
+ */
+@Slf4j
+@Service
+public class ConsumerAlarmStreamService implements MessageListener {
+
+    private static final String RESYNC_EVENT = "resync";
+
+    private final ConsumerAlarmPublisher consumerAlarmPublisher;
+    private final SecurityUtil securityUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AsyncTaskExecutor executor;
+
+    private final int maxConnections;
+    private final int maxConnectionsPerConsumer;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+
+    private final Map<Long, Set<Subscription>> subscriptionsByConsumer = new ConcurrentHashMap<>();
+    // 채널을 구독 중인 사용자 (listenerLock 으로 동기화)
+    private final Set<Long> listeningConsumers = new HashSet<>();
+    private final Object listenerLock = new Object();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public ConsumerAlarmStreamService(ConsumerAlarmPublisher consumerAlarmPublisher,
+                                      SecurityUtil securityUtil,
+                                      RedisMessageListenerContainer redisMessageListenerContainer,
+                                      @Qualifier("alarmStreamTaskExecutor") AsyncTaskExecutor alarmStreamTaskExecutor,
+                                      @Value("${consumer-alarm.stream.max-connections:2000}") int maxConnections,
+                                      @Value("${consumer-alarm.stream.max-connections-per-consumer:3}") int maxConnectionsPerConsumer,
+                                      @Value("${consumer-alarm.stream.queue-capacity:32}") int queueCapacity,
+                                      @Value("${consumer-alarm.stream.timeout-millis:1800000}") long timeoutMillis) {
+        this.consumerAlarmPublisher = consumerAlarmPublisher;
+        this.securityUtil = securityUtil;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.executor = alarmStreamTaskExecutor;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerConsumer = maxConnectionsPerConsumer;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe() {
+        Long consumerId = securityUtil.getConsumerId();
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = register(consumerId, emitter);
+        emitter.onCompletion(subscription::release);
+        emitter.onTimeout(subscription::release);
+        emitter.onError(e -> subscription.release());
+
+        // 채널 구독 후 현재 값을 보내, 그 사이 바뀐 값은 이후 이벤트로 덮어쓴다
+        subscription.offer(UNREAD_COUNT_EVENT, "{\"unreadCount\":" + consumerAlarmPublisher.countUnread(consumerId) + "}");
+        return emitter;
+    }
+
+    // Redis 채널 메시지 -> 이 서버에 연결된 해당 사용자의 구독자
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Set<Subscription> subscriptions = subscriptionsByConsumer.get(Long.valueOf(channel.substring(CHANNEL_PREFIX.length())));
+        if (subscriptions == null) {
+            return;
+        }
+
+        // "이벤트명\nJSON"
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            return;
+        }
+        String event = body.substring(0, separator);
+        String data = body.substring(separator + 1);
+
+        subscriptions.forEach(subscription -> subscription.offer(event, data));
+    }
+
+    // 프록시 / 로드밸런서의 유휴 연결 종료를 막고, 끊긴 연결을 찾아 정리한다
+    @Scheduled(fixedDelayString = "${consumer-alarm.stream.heartbeat-millis:15000}")
+    public void heartbeat() {
+        subscriptionsByConsumer.values().forEach(subscriptions -> subscriptions.forEach(Subscription::requestHeartbeat));
+    }
+
+    private Subscription register(Long consumerId, SseEmitter emitter) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new CustomException(ALARM_STREAM_LIMIT);
+        }
+
+        Subscription subscription = new Subscription(consumerId, emitter);
+        AtomicBoolean limited = new AtomicBoolean();
+        subscriptionsByConsumer.compute(consumerId, (id, subscriptions) -> {
+            if (subscriptions == null) {
+                subscriptions = ConcurrentHashMap.newKeySet();
+            } else if (subscriptions.size() >= maxConnectionsPerConsumer) {
+                limited.set(true);
+                return subscriptions;
+            }
+            subscriptions.add(subscription);
+            return subscriptions;
+        });
+
+        if (limited.get()) {
+            connections.decrementAndGet();
+            throw new CustomException(ALARM_STREAM_LIMIT);
+        }
+
+        // 이 서버의 첫 연결이면 사용자 채널 구독
+        syncListener(consumerId);
+        return subscription;
+    }
+
+    // 연결이 있으면 채널 구독, 없으면 해제
+    // 등록 / 해제가 동시에 일어나도 마지막 호출이 그 시점의 연결 상태를 반영하므로, 연결이 남았는데 구독이 풀리는 일이 없다
+    private void syncListener(Long consumerId) {
+        synchronized (listenerLock) {
+            boolean connected = subscriptionsByConsumer.containsKey(consumerId);
+            if (connected && listeningConsumers.add(consumerId)) {
+                redisMessageListenerContainer.addMessageListener(this, topicOf(consumerId));
+            } else if (!connected && listeningConsumers.remove(consumerId)) {
+                redisMessageListenerContainer.removeMessageListener(this, topicOf(consumerId));
+            }
+        }
+    }
+
+    private ChannelTopic topicOf(Long consumerId) {
+        return new ChannelTopic(CHANNEL_PREFIX + consumerId);
+    }
+
+    private class Subscription {
+
+        private final Long consumerId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        // 아래 상태는 this 로 동기화
+        private final Queue<String> alarms = new ArrayDeque<>();
+        private String unreadCount;
+        private boolean resync;
+        private boolean heartbeat;
+        private boolean draining;
+
+        private Subscription(Long consumerId, SseEmitter emitter) {
+            this.consumerId = consumerId;
+            this.emitter = emitter;
+        }
+
+        private void offer(String event, String data) {
+            synchronized (this) {
+                if (UNREAD_COUNT_EVENT.equals(event)) {
+                    unreadCount = data;
+                } else if (ALARM_EVENT.equals(event) && !resync) {
+                    if (alarms.size() >= queueCapacity) {
+                        log.debug("[ConsumerAlarmStreamService] 사용자({}) 알람 큐 초과, resync 전환", consumerId);
+                        alarms.clear();
+                        resync = true;
+                    } else {
+                        alarms.add(data);
+                    }
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                heartbeat = true;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (draining || released.get()) {
+                    return;
+                }
+                draining = true;
+            }
+
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                // 다음 이벤트 / heartbeat 때 다시 시도
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        private void drain() {
+            while (!released.get()) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = next();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        // resync -> 알람 -> 안 읽은 수 -> heartbeat 순서
+        private SseEmitter.SseEventBuilder next() {
+            if (resync) {
+                resync = false;
+                return SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON);
+            }
+            String alarm = alarms.poll();
+            if (alarm != null) {
+                return SseEmitter.event().name(ALARM_EVENT).data(alarm, MediaType.APPLICATION_JSON);
+            }
+            if (unreadCount != null) {
+                String data = unreadCount;
+                unreadCount = null;
+                heartbeat = false;
+                return SseEmitter.event().name(UNREAD_COUNT_EVENT).data(data, MediaType.APPLICATION_JSON);
+            }
+            if (heartbeat) {
+                heartbeat = false;
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return null;
+        }
+
+        private void fail(Exception e) {
+            log.debug("[ConsumerAlarmStreamService] 사용자({}) 알람 연결 종료 : {}", consumerId, e.getMessage());
+            release();
+            emitter.completeWithError(e);
+        }
+
+        // 완료 / 타임아웃 / 에러 콜백이 여러 번 불려도 한 번만 정리한다
+        private void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+
+            subscriptionsByConsumer.computeIfPresent(consumerId, (id, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+            connections.decrementAndGet();
+
+            // 이 서버의 마지막 연결이면 사용자 채널 구독 해제
+            syncListener(consumerId);
+        }
+
+    }
+
+}
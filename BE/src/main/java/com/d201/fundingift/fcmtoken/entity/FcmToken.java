@@ -8,6 +8,7 @@ import org.springframework.data.redis.core.index.Indexed;
 
 import java.io.Serializable;
 
+// 이전 저장 구조 (서버 시작 시 FcmTokenRegistry 로 옮긴 뒤 삭제)
 @Getter
 @RedisHash(value = "fcmtoken")
 public class FcmToken implements Serializable {
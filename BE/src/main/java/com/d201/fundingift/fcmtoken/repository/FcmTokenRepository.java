@@ -3,12 +3,7 @@ package com.d201.fundingift.fcmtoken.repository;
 import com.d201.fundingift.fcmtoken.entity.FcmToken;
 import org.springframework.data.repository.CrudRepository;
 
-import java.util.List;
-import java.util.Optional;
-
+// 이전 저장 구조 - FcmTokenRegistry 로 옮기는 데만 쓴다
 public interface FcmTokenRepository extends CrudRepository<FcmToken, String> {
 
-    Optional<FcmToken> findByConsumerIdAndFcmTokenValue(Long consumerId, String fcmTokenValue);
-    List<FcmToken> findAllByConsumerId(Long consumerId);
-
 }
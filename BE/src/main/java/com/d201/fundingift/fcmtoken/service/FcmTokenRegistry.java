@@ -0,0 +1,254 @@
+package com.d201.fundingift.fcmtoken.service;
+
+import com.d201.fundingift._common.util.RedisPipelineUtil;
+import com.d201.fundingift.fcmtoken.entity.FcmToken;
+import com.d201.fundingift.fcmtoken.repository.FcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+
+/*
+ *  FCM 토큰 저장소 (Redis)
+ *  - fcm:token:{토큰 SHA-256}: 토큰 주인 consumerId (TTL = ttl-days), 중복 확인 / 주인 변경 / 발송 실패 시 제거에 쓴다.
+ *  - fcm:tokens:{consumerId}: 사용자 기기 ZSET (값 = 토큰, 점수 = 마지막 등록 시각), 발송 대상 조회는 이 ZSET 만 읽는다.
+ *
+ *  메모리 한도
+ *  - 사용자마다 max-devices 개까지만 두고, 넘으면 마지막 등록이 가장 오래된 기기부터 뺀다.
+ *    뺀 토큰의 토큰 키는 주인이 아직 그 사용자이고 다시 등록되지 않았을 때만 지운다. (그 사이 다른 계정이 등록한 토큰의 주인을 지우지 않도록)
+ *  - ttl-days 동안 다시 등록하지 않은 토큰은 조회에서 제외하고, 다음 등록 때 ZSET 에서 지운다. (토큰 키는 TTL 로 만료)
+ *  - 등록이 없는 사용자의 ZSET 도 ttl-days 후 만료된다.
+ *  - Firebase 가 등록 해제(UNREGISTERED)라고 응답한 토큰은 바로 지운다.
+ *
+ *  같은 기기에서 다른 계정으로 로그인하면 토큰 주인을 바꾸고 이전 주인의 ZSET 에서 뺀다.
+ *  (이전 주인 확인과 변경은 스크립트 하나에서 한다 - 이전 주인의 ZSET 키는 스크립트 안에서 만들므로 단일 노드 Redis 기준)
+ *
+ *  회원 탈퇴 시 사용자 ZSET 과, 주인이 아직 그 사용자인 토큰 키를 지운다. (deleteAll)
+ */
+@Slf4j
+@Component
+public class FcmTokenRegistry {
+
+    private static final String TOKEN_KEY_PREFIX = "fcm:token:";
+    private static final String DEVICES_KEY_PREFIX = "fcm:tokens:";
+
+    // KEYS[1]: 토큰 키, KEYS[2]: 사용자 기기 ZSET
+    // ARGV: consumerId, 토큰, 지금(ms), TTL(초), 최대 기기 수, 만료 기준 시각(ms), 기기 ZSET 키 접두사
+    // 결과: [새로 등록했으면 1 / 이미 있었으면 0, 기기 수 초과로 뺀 토큰 ...]
+    private static final RedisScript<List> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner and owner ~= ARGV[1] then
+                redis.call('ZREM', ARGV[7] .. owner, ARGV[2])
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[4])
+            local added = redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[6])
+            local result = {added}
+            local over = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5])
+            if over > 0 then
+                for _, token in ipairs(redis.call('ZRANGE', KEYS[2], 0, over - 1)) do
+                    result[#result + 1] = token
+                end
+                redis.call('ZREMRANGEBYRANK', KEYS[2], 0, over - 1)
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return result
+            """, List.class);
+
+    // KEYS[1]: 사용자 기기 ZSET, KEYS[2..]: 기기 수 초과로 뺀 토큰들의 토큰 키 / ARGV[1]: consumerId, ARGV[2..]: 그 토큰들 (KEYS 순서대로)
+    // 주인이 아직 ARGV[1] 이고 ZSET 에 다시 등록되지 않은 토큰 키만 지운다, 결과: 지운 토큰 키 수
+    private static final RedisScript<Long> DELETE_EVICTED_SCRIPT = new DefaultRedisScript<>("""
+            local deleted = 0
+            for i = 2, #KEYS do
+                if redis.call('GET', KEYS[i]) == ARGV[1] and not redis.call('ZSCORE', KEYS[1], ARGV[i]) then
+                    deleted = deleted + redis.call('DEL', KEYS[i])
+                end
+            end
+            return deleted
+            """, Long.class);
+
+    // 토큰 주인이 ARGV[1] 일 때만 제거
+    private static final RedisScript<Long> UNREGISTER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 사용자 기기 ZSET, KEYS[2..]: 그 ZSET 에 있던 토큰들의 토큰 키 / ARGV[1]: consumerId
+    // 다른 사용자로 주인이 바뀐 토큰 키는 남긴다, 결과: 지운 토큰 키 수
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local deleted = 0
+            for i = 2, #KEYS do
+                if redis.call('GET', KEYS[i]) == ARGV[1] then
+                    deleted = deleted + redis.call('DEL', KEYS[i])
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            return deleted
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipelineUtil redisPipelineUtil;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final AsyncTaskExecutor backgroundExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final int maxDevices;
+
+    public FcmTokenRegistry(StringRedisTemplate stringRedisTemplate, RedisPipelineUtil redisPipelineUtil,
+                            FcmTokenRepository fcmTokenRepository,
+                            @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${fcm.token.ttl-days:60}") int ttlDays,
+                            @Value("${fcm.token.max-devices:5}") int maxDevices) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisPipelineUtil = redisPipelineUtil;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.backgroundExecutor = backgroundTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.maxDevices = maxDevices;
+    }
+
+    // 등록 (이미 있으면 마지막 등록 시각만 갱신), 반환: 새로 등록했으면 true
+    public boolean register(Long consumerId, String token) {
+        long now = System.currentTimeMillis();
+        List<?> result = stringRedisTemplate.execute(REGISTER_SCRIPT,
+                List.of(tokenKey(token), devicesKey(consumerId)),
+                String.valueOf(consumerId), token, String.valueOf(now), String.valueOf(ttl.getSeconds()),
+                String.valueOf(maxDevices), String.valueOf(now - ttl.toMillis()), DEVICES_KEY_PREFIX);
+        if (result == null || result.isEmpty()) {
+            return false;
+        }
+
+        // 기기 수 초과로 뺀 토큰의 토큰 키 정리 (토큰 키는 SHA-256 이라 등록 스크립트 안에서 만들 수 없어, 주인 확인 후 지운다)
+        List<String> evicted = result.subList(1, result.size()).stream().map(Object::toString).toList();
+        if (!evicted.isEmpty()) {
+            String devicesKey = devicesKey(consumerId);
+            List<String> keys = new ArrayList<>(evicted.size() + 1);
+            List<String> args = new ArrayList<>(evicted.size() + 1);
+            keys.add(devicesKey);
+            args.add(String.valueOf(consumerId));
+            evicted.forEach(evictedToken -> {
+                keys.add(tokenKey(evictedToken));
+                args.add(evictedToken);
+            });
+            stringRedisTemplate.execute(DELETE_EVICTED_SCRIPT, keys, args.toArray());
+            count("device-cap", evicted.size());
+        }
+        return ((Number) result.get(0)).longValue() == 1;
+    }
+
+    // 반환: 제거했으면 true (consumerId 의 토큰이 아니면 false)
+    public boolean unregister(Long consumerId, String token) {
+        Long removed = stringRedisTemplate.execute(UNREGISTER_SCRIPT, List.of(tokenKey(token), devicesKey(consumerId)),
+                String.valueOf(consumerId), token);
+        return Long.valueOf(1).equals(removed);
+    }
+
+    // 회원 탈퇴 - 사용자 기기 ZSET 과 주인이 아직 이 사용자인 토큰 키 삭제, 반환: 지운 토큰 키 수
+    public long deleteAll(Long consumerId) {
+        String devicesKey = devicesKey(consumerId);
+        Set<String> tokens = stringRedisTemplate.opsForZSet().range(devicesKey, 0, -1);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(devicesKey);
+        if (tokens != null) {
+            tokens.forEach(token -> keys.add(tokenKey(token)));
+        }
+        Long deleted = stringRedisTemplate.execute(DELETE_ALL_SCRIPT, keys, String.valueOf(consumerId));
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 발송 실패(등록 해제된 토큰) - 주인을 찾아 제거
+    public void evict(String token) {
+        try {
+            String owner = stringRedisTemplate.opsForValue().get(tokenKey(token));
+            if (owner != null && unregister(Long.valueOf(owner), token)) {
+                count("unregistered", 1);
+            }
+        } catch (Exception e) {
+            log.warn("[FcmTokenRegistry] 토큰 제거 실패 : {}", e.getMessage());
+        }
+    }
+
+    public List<String> findTokens(Long consumerId) {
+        return findTokens(List.of(consumerId)).get(0);
+    }
+
+    // 사용자별 토큰 (파이프라인 한 번, 사용자 순서대로, ttl-days 동안 등록하지 않은 토큰 제외)
+    public List<List<String>> findTokens(List<Long> consumerIds) {
+        if (consumerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        double min = System.currentTimeMillis() - ttl.toMillis();
+        List<Object> results = redisPipelineUtil.execute(connection ->
+                consumerIds.forEach(consumerId -> connection.zRangeByScore(devicesKey(consumerId), min, Double.MAX_VALUE)));
+
+        List<List<String>> tokens = new ArrayList<>(results.size());
+        for (Object result : results) {
+            tokens.add(result instanceof Collection<?> values ? values.stream().map(Object::toString).toList() : Collections.emptyList());
+        }
+        return tokens;
+    }
+
+    // 이전 저장 구조(@RedisHash fcmtoken)에 남은 토큰을 옮긴다 (옮긴 뒤에는 비어 있어 바로 끝난다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyTokens() {
+        backgroundExecutor.execute(() -> {
+            try {
+                long migrated = 0;
+                for (FcmToken legacy : fcmTokenRepository.findAll()) {
+                    if (legacy != null && legacy.getConsumerId() != null && legacy.getFcmTokenValue() != null) {
+                        register(legacy.getConsumerId(), legacy.getFcmTokenValue());
+                        migrated++;
+                    }
+                }
+                if (migrated > 0) {
+                    fcmTokenRepository.deleteAll();
+                    log.info("[FcmTokenRegistry] 이전 저장 구조의 토큰 {}개를 옮겼습니다.", migrated);
+                }
+            } catch (Exception e) {
+                log.error("[FcmTokenRegistry] 이전 토큰 옮기기 실패 : {}", e.getMessage());
+            }
+        });
+    }
+
+    private String tokenKey(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return TOKEN_KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String devicesKey(Long consumerId) {
+        return DEVICES_KEY_PREFIX + consumerId;
+    }
+
+    private void count(String reason, long amount) {
+        Counter.builder("fcm.token.evicted")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+}
@@ -3,15 +3,11 @@ package com.d201.fundingift.fcmtoken.service;
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.fcmtoken.dto.request.FcmTokenRequest;
-import com.d201.fundingift.fcmtoken.entity.FcmToken;
-import com.d201.fundingift.fcmtoken.repository.FcmTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 import static com.d201.fundingift._common.response.ErrorType.FCM_TOKEN_ALREADY_EXIST;
 import static com.d201.fundingift._common.response.ErrorType.FCM_TOKEN_NOT_FOUND;
 
@@ -21,7 +17,7 @@ import static com.d201.fundingift._common.response.ErrorType.FCM_TOKEN_NOT_FOUND
 @RequiredArgsConstructor
 public class FcmTokenService {
 
-    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenRegistry fcmTokenRegistry;
     private final SecurityUtil securityUtil;
 
     @Transactional
@@ -29,12 +25,10 @@ public class FcmTokenService {
         Long consumerId = securityUtil.getConsumerId();
         String fcmTokenValue = request.getFcmToken();
 
-        // 저장된 토큰이 이미 존재하는 경우
-        if (findByConsumerIdAndFcmTokenValue(consumerId, fcmTokenValue).isPresent()) {
+        // 저장 (이미 저장된 토큰이면 마지막 등록 시각만 갱신하고 예외)
+        if (!fcmTokenRegistry.register(consumerId, fcmTokenValue)) {
             throw new CustomException(FCM_TOKEN_ALREADY_EXIST);
         }
-        // 저장
-        fcmTokenRepository.save(FcmToken.of(consumerId, fcmTokenValue));
     }
 
     @Transactional
@@ -43,12 +37,9 @@ public class FcmTokenService {
         String fcmTokenValue = request.getFcmToken();
 
         // 삭제
-        fcmTokenRepository.delete(findByConsumerIdAndFcmTokenValue(consumerId, fcmTokenValue)
-                .orElseThrow(() -> new CustomException(FCM_TOKEN_NOT_FOUND))); // 토큰이 저장되어 있지 않은 경우
-    }
-
-    private Optional<FcmToken> findByConsumerIdAndFcmTokenValue(Long consumerId, String fcmTokenValue) {
-        return fcmTokenRepository.findByConsumerIdAndFcmTokenValue(consumerId, fcmTokenValue);
+        if (!fcmTokenRegistry.unregister(consumerId, fcmTokenValue)) {
+            throw new CustomException(FCM_TOKEN_NOT_FOUND); // 토큰이 저장되어 있지 않은 경우
+        }
     }
 
 }
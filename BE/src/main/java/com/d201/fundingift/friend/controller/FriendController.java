@@ -4,7 +4,9 @@ import com.d201.fundingift._common.response.ErrorResponse;
 import com.d201.fundingift._common.response.ResponseUtils;
 import com.d201.fundingift._common.response.SuccessResponse;
 import com.d201.fundingift._common.response.SuccessType;
+import com.d201.fundingift._common.util.ConditionalGet;
 import com.d201.fundingift.friend.dto.FriendDto;
+import com.d201.fundingift.friend.dto.response.GetFriendBirthdayResponse;
 import com.d201.fundingift.friend.dto.response.GetFriendStoryResponse;
 import com.d201.fundingift.friend.dto.response.GetKakaoFriendsResponse;
 import com.d201.fundingift.friend.service.FriendService;
@@ -20,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 @Tag(name = "friends", description = "친구 관련 API")
@@ -49,11 +52,15 @@ public class FriendController {
             description = """
     내 친구들의 친구정보를 조회합니다. `Token`"
     친한친구 -> 가나다 순 정렬으로 반환합니다.
+    If-None-Match 가 ETag 와 같으면 304를 반환합니다.
     """
     )
     @GetMapping
-    public SuccessResponse<List<FriendDto>> getFriends() {
+    public SuccessResponse<List<FriendDto>> getFriends(WebRequest webRequest) {
         List<FriendDto> friendDtos = friendService.getFriends();
+        if (ConditionalGet.notModified(webRequest, ConditionalGet.etagOf(friendDtos), ConditionalGet.PRIVATE_REVALIDATE)) {
+            return null;
+        }
         return ResponseUtils.ok(friendDtos, SuccessType.GET_FRIEND_INFO_SUCCESS);
     }
     @Operation(summary = "내 친구 모두 삭제",
@@ -98,4 +105,22 @@ public class FriendController {
     public SuccessResponse<List<GetFriendStoryResponse>> getFundingsStory() {
         return ResponseUtils.ok(friendService.getFriendsStory(), SuccessType.GET_FRIENDS_STORY_SUCCESS);
     }
+
+    @Operation(summary = "다가오는 친구 생일",
+            description = """
+                           `token` \n
+                           오늘부터 days 일 안에 생일인 친구 목록을 줍니다. (오늘 포함, 최대 31일) \n
+                           남은 일 수 -> 이름 순으로 정렬해서 줍니다. \n
+                           윤년이 아닌 해에는 2월 29일 생일을 2월 28일로 보여줍니다. \n
+                           """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "성공",
+                    useReturnTypeSchema = true)
+    })
+    @GetMapping("/birthdays")
+    public SuccessResponse<List<GetFriendBirthdayResponse>> getUpcomingBirthdays(@Schema(description = "조회할 일 수 (1~31)", example = "7")
+                                                                                 @RequestParam(required = false, name = "days", defaultValue = "7") Integer days) {
+        return ResponseUtils.ok(friendService.getUpcomingBirthdays(days), SuccessType.GET_FRIEND_BIRTHDAYS_SUCCESS);
+    }
 }
@@ -0,0 +1,25 @@
+package com.d201.fundingift.friend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 카카오 친구 목록 API 응답 한 페이지
+@Getter
+public class KakaoFriendsPage {
+
+    private List<FriendDto> elements;
+    private int totalCount;
+    private int favoriteCount;
+    private String afterUrl;
+
+    @Builder
+    private KakaoFriendsPage(List<FriendDto> elements, int totalCount, int favoriteCount, String afterUrl) {
+        this.elements = elements;
+        this.totalCount = totalCount;
+        this.favoriteCount = favoriteCount;
+        this.afterUrl = afterUrl;
+    }
+
+}
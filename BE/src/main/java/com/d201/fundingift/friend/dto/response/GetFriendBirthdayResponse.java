@@ -0,0 +1,46 @@
+package com.d201.fundingift.friend.dto.response;
+
+import com.d201.fundingift.consumer.entity.Consumer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class GetFriendBirthdayResponse {
+
+    @Schema(description = "친구 아이디", example = "43")
+    private Long consumerId;
+
+    @Schema(description = "친구 이름", example = "수비니")
+    private String name;
+
+    @Schema(description = "친구 프로필 사진", example = "image url")
+    private String profileImageUrl;
+
+    @Schema(description = "다가오는 생일", example = "2024-02-21")
+    private LocalDate birthday;
+
+    @Schema(description = "생일까지 남은 일 수 (오늘이면 0)", example = "3")
+    private Integer daysLeft;
+
+    @Builder
+    private GetFriendBirthdayResponse(Long consumerId, String name, String profileImageUrl, LocalDate birthday, Integer daysLeft) {
+        this.consumerId = consumerId;
+        this.name = name;
+        this.profileImageUrl = profileImageUrl;
+        this.birthday = birthday;
+        this.daysLeft = daysLeft;
+    }
+
+    public static GetFriendBirthdayResponse of(Consumer consumer, LocalDate birthday, Integer daysLeft) {
+        return builder()
+                .consumerId(consumer.getId())
+                .name(consumer.getName())
+                .profileImageUrl(consumer.getProfileImageUrl())
+                .birthday(birthday)
+                .daysLeft(daysLeft)
+                .build();
+    }
+}
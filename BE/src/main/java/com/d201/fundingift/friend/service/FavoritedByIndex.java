@@ -0,0 +1,153 @@
+package com.d201.fundingift.friend.service;
+
+import com.d201.fundingift.friend.entity.Friend;
+import com.d201.fundingift.friend.repository.FriendRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+ *  "나를 친한 친구로 등록한 사용자" 역방향 Set (friend:favorited-by:{consumerId}, 값은 소비자 id)
+ *  - 펀딩 등록 알림 대상을 친구 해시를 하나씩 읽지 않고 SMEMBERS 한 번으로 구한다.
+ *  - 처음 조회할 때 친구 저장소에서 만들고, 그 뒤로는 친한 친구 토글 / 친구 추가 때 갱신한다.
+ *    (Set 이 없을 때의 갱신은 버려, 일부만 담긴 Set 이 만들어지지 않게 한다)
+ *  - Set 이 없을 때의 갱신은 버전 키(friend:favorited-by:{consumerId}:version)를 올린다.
+ *    만드는 쪽은 친구 저장소를 읽기 전 버전과 만들 때 버전이 다르면 만들지 않는다.
+ *    (읽은 뒤 들어온 토글이 Set 에 빠진 채로 만들어지는 것을 막는다 - 이번 조회는 읽은 값을 쓰고 다음 조회 때 다시 만든다)
+ *  - 빈 Set 도 "만들어짐"을 나타내도록 존재하지 않는 id(0)를 함께 넣는다.
+ *  - 갱신이 어긋나도 ttl-days 가 지나면 친구 저장소에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class FavoritedByIndex {
+
+    private static final String KEY_PREFIX = "friend:favorited-by:";
+    private static final String FRIEND_INDEX_KEY_PREFIX = "friend:consumerId:";
+    private static final String SENTINEL = "0";
+    private static final long VERSION_TTL_SECONDS = 60;
+
+    // Set 이 있을 때만 추가(ARGV[1] = 1) / 제거(ARGV[1] = 0), 없으면 버전(KEYS[2])만 올린다
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('INCR', KEYS[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+                return 0
+            end
+            if ARGV[1] == '1' then
+                return redis.call('SADD', KEYS[1], ARGV[2])
+            end
+            return redis.call('SREM', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    // 다른 서버가 먼저 만들었거나, 친구 저장소를 읽은 뒤 갱신이 있었으면(버전 KEYS[2] != ARGV[2]) 만들지 않는다
+    // (unpack 인자 수 제한이 있어 1000개씩 SADD)
+    private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[2] then
+                return 0
+            end
+            for i = 3, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final FriendRepository friendRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+
+    public FavoritedByIndex(FriendRepository friendRepository, StringRedisTemplate stringRedisTemplate,
+                            @Value("${friend.favorited-by.ttl-days:7}") int ttlDays) {
+        this.friendRepository = friendRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    // toConsumerId 를 친한 친구로 등록한 사용자 id
+    public List<Long> findConsumerIds(Long toConsumerId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(key(toConsumerId));
+        if (members == null || members.isEmpty()) {
+            return load(toConsumerId);
+        }
+        return members.stream()
+                .filter(member -> !SENTINEL.equals(member))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // consumerId 가 toConsumerId 를 친한 친구로 등록 / 해제
+    public void update(Long consumerId, Long toConsumerId, boolean isFavorite) {
+        try {
+            stringRedisTemplate.execute(UPDATE_SCRIPT, List.of(key(toConsumerId), versionKey(toConsumerId)),
+                    isFavorite ? "1" : "0", String.valueOf(consumerId), String.valueOf(VERSION_TTL_SECONDS));
+        } catch (Exception e) {
+            // 다음 조회 때 친구 저장소에서 다시 만든다
+            log.warn("[FavoritedByIndex] consumerId={} -> {} 갱신 실패 : {}", consumerId, toConsumerId, e.getMessage());
+            evict(List.of(toConsumerId));
+        }
+    }
+
+    // 친구 관계 일괄 삭제 전: consumerId 가 등록한 친구들의 Set 과 자신의 Set 을 지워 다음 조회 때 다시 만들게 한다
+    public void evictAll(Long consumerId) {
+        Set<String> friendIds = stringRedisTemplate.opsForSet().members(FRIEND_INDEX_KEY_PREFIX + consumerId);
+        List<Long> keys = new ArrayList<>();
+        keys.add(consumerId);
+        if (friendIds != null) {
+            friendIds.forEach(friendId -> keys.add(Long.valueOf(friendId.substring(friendId.lastIndexOf(':') + 1))));
+        }
+        evict(keys);
+    }
+
+    private List<Long> load(Long toConsumerId) {
+        String version = null;
+        try {
+            version = stringRedisTemplate.opsForValue().get(versionKey(toConsumerId));
+        } catch (Exception e) {
+            log.warn("[FavoritedByIndex] consumerId={} 버전 조회 실패 : {}", toConsumerId, e.getMessage());
+        }
+
+        List<Long> consumerIds = friendRepository.findAllByToConsumerIdAndIsFavorite(toConsumerId, true).stream()
+                .map(Friend::getConsumerId)
+                .toList();
+
+        List<String> args = new ArrayList<>(consumerIds.size() + 3);
+        args.add(String.valueOf(ttl.getSeconds()));
+        args.add(version == null ? "" : version);
+        args.add(SENTINEL);
+        consumerIds.forEach(consumerId -> args.add(String.valueOf(consumerId)));
+        try {
+            stringRedisTemplate.execute(INIT_SCRIPT, List.of(key(toConsumerId), versionKey(toConsumerId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("[FavoritedByIndex] consumerId={} Set 생성 실패 : {}", toConsumerId, e.getMessage());
+        }
+        return consumerIds;
+    }
+
+    private void evict(List<Long> toConsumerIds) {
+        try {
+            stringRedisTemplate.delete(toConsumerIds.stream().map(this::key).toList());
+        } catch (Exception e) {
+            log.warn("[FavoritedByIndex] Set {}개 삭제 실패 : {}", toConsumerIds.size(), e.getMessage());
+        }
+    }
+
+    private String key(Long toConsumerId) {
+        return KEY_PREFIX + toConsumerId;
+    }
+
+    private String versionKey(Long toConsumerId) {
+        return KEY_PREFIX + toConsumerId + ":version";
+    }
+
+}
@@ -4,11 +4,17 @@ import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.jwt.JwtUtil;
 import com.d201.fundingift._common.jwt.RedisJwtRepository;
 import com.d201.fundingift._common.response.ErrorType;
+import com.d201.fundingift._common.util.RedisHashIndexEraser;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.consumer.entity.Consumer;
 import com.d201.fundingift.consumer.repository.ConsumerRepository;
+import com.d201.fundingift.consumer.service.ConsumerBirthdayIndex;
+import com.d201.fundingift.consumer.service.ConsumerBirthdayIndex.UpcomingBirthday;
 import com.d201.fundingift.consumer.service.ConsumerService;
+import com.d201.fundingift.consumer.service.SocialIdBloomFilter;
 import com.d201.fundingift.friend.dto.FriendDto;
+import com.d201.fundingift.friend.dto.KakaoFriendsPage;
+import com.d201.fundingift.friend.dto.response.GetFriendBirthdayResponse;
 import com.d201.fundingift.friend.dto.response.GetFriendStoryResponse;
 import com.d201.fundingift.friend.dto.response.GetKakaoFriendsResponse;
 import com.d201.fundingift.friend.entity.Friend;
@@ -16,13 +22,10 @@ import com.d201.fundingift.friend.entity.Friend;
 import com.d201.fundingift.friend.repository.FriendRepository;
 import com.d201.fundingift.funding.entity.Funding;
 import com.d201.fundingift.funding.repository.FundingRepository;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.reflect.TypeToken;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -32,7 +35,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -54,16 +60,29 @@ public class FriendService {
     private final StringRedisTemplate stringRedisTemplate;
     private final SecurityUtil securityUtil;
     private final JwtUtil jwtUtil;
+    private final KakaoFriendRefreshCoordinator kakaoFriendRefreshCoordinator;
+    private final RestTemplate restTemplate;
+    private final KakaoFriendsPageReader kakaoFriendsPageReader;
+    private final RedisHashIndexEraser redisHashIndexEraser;
+    private final SocialIdBloomFilter socialIdBloomFilter;
+    private final ConsumerBirthdayIndex consumerBirthdayIndex;
+    private final FavoritedByIndex favoritedByIndex;
+
+    @Value("${kakao.api-url}")
+    private String kakaoApiUrl;
 
     @PostConstruct
     private void init() {
         hashOperations = redisTemplate.opsForHash();
     }
-    private static final String FRIENDS_LIST_SERVICE_URL = "https://kapi.kakao.com/v1/api/talk/friends";
+    private static final String FRIENDS_LIST_SERVICE_PATH = "/v1/api/talk/friends";
+    private static final String FRIEND_KEYSPACE = "friend";
+    private static final int FRIEND_DELETE_BATCH_SIZE = 500;
+    private static final int BIRTHDAY_MAX_DAYS = 31;
 
     public GetKakaoFriendsResponse getKakaoFriendByController() {
         Long consumerId = Long.valueOf(securityUtil.getConsumerId());
-        return getKakaoFriendsByConsumerId(consumerId);
+        return kakaoFriendRefreshCoordinator.getKakaoFriends(consumerId, () -> getKakaoFriendsByConsumerId(consumerId));
     }
 
     public GetKakaoFriendsResponse getKakaoFriendsByConsumerId(Long consumerId) {
@@ -72,42 +91,43 @@ public class FriendService {
         // 카카오 액세스 토큰 가져오기
         String kakaoAccessToken = redisJwtRepository.getKakaoAccessToken(consumerId);
         List<FriendDto> allFriends = new ArrayList<>();
-        String nextUrl = FRIENDS_LIST_SERVICE_URL;
+        String nextUrl = kakaoApiUrl + FRIENDS_LIST_SERVICE_PATH;
 
         // totalCount와 favoriteCount 초기화
         int totalCount = 0;
         int favoriteCount = 0;
 
         try {
-            RestTemplate restTemplate = new RestTemplate();
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "Bearer " + kakaoAccessToken);
             headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
 
-            // 반복하여 모든 친구 정보 가져오기
+            // 반복하여 모든 친구 정보 가져오기 (응답 본문을 스트림으로 바로 파싱)
             while (nextUrl != null) {
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-                ResponseEntity<String> response = restTemplate.exchange(
-                        nextUrl,
+                KakaoFriendsPage page = restTemplate.execute(
+                        URI.create(nextUrl),
                         HttpMethod.GET,
-                        entity,
-                        String.class
+                        request -> request.getHeaders().putAll(headers),
+                        response -> kakaoFriendsPageReader.read(response.getBody())
                 );
 
-                // JSON 응답 파싱
-                JsonObject jsonResponse = JsonParser.parseString(response.getBody()).getAsJsonObject();
-
-                // 친구 정보 파싱 및 추가
-                Gson gson = new Gson();
-                Type listType = new TypeToken<List<FriendDto>>(){}.getType();
-                List<FriendDto> friendList = gson.fromJson(jsonResponse.get("elements"), listType);
+                // 친구 정보 추가
+                List<FriendDto> friendList = page.getElements();
                 allFriends.addAll(friendList);
 
                 // totalCount와 favoriteCount 업데이트
-                totalCount = jsonResponse.get("total_count").getAsInt();
-                favoriteCount = jsonResponse.get("favorite_count").getAsInt();
-
-                for (FriendDto friendDto : friendList) {
+                totalCount = page.getTotalCount();
+                favoriteCount = page.getFavoriteCount();
+
+                // 가입하지 않은 것이 확실한 친구는 DB 조회를 건너뛴다
+                boolean[] mightBeConsumers = socialIdBloomFilter.mightContainAll(
+                        friendList.stream().map(friendDto -> friendDto.getId().toString()).toList());
+
+                for (int i = 0; i < friendList.size(); i++) {
+                    if (!mightBeConsumers[i]) {
+                        continue;
+                    }
+                    FriendDto friendDto = friendList.get(i);
                     consumerRepository.findBySocialIdAndDeletedAtIsNull(friendDto.getId().toString()).ifPresent(consumer -> {
                         // 이미 레디스에 친구 정보가 존재하는지 확인
                         String friendKey = consumerId + ":" + consumer.getId();
@@ -115,6 +135,9 @@ public class FriendService {
                             // 레디스에 친구 정보가 없는 경우에만 추가
                             Friend friend = Friend.from(consumerId, friendDto, consumer.getId());
                             friendRepository.save(friend);
+                            if (Boolean.TRUE.equals(friend.getIsFavorite())) {
+                                favoritedByIndex.update(consumerId, consumer.getId(), true);
+                            }
                         }
 
                         // 프로필 이미지가 변경된 경우 업데이트
@@ -125,8 +148,7 @@ public class FriendService {
                 }
 
                 // 다음 페이지 URL 업데이트
-                nextUrl = jsonResponse.has("after_url") && !jsonResponse.get("after_url").isJsonNull()
-                        ? jsonResponse.get("after_url").getAsString() : null;
+                nextUrl = page.getAfterUrl();
             }
 
             // GetKakaoFriendsResponse 객체 생성
@@ -199,6 +221,30 @@ public class FriendService {
         return getFriendStoryResponses;
     }
 
+    // 오늘부터 days 일 안에 생일인 친구 (친구 인덱스 Set 과 생일 버킷의 교집합, 생일인 친구만 DB 조회)
+    public List<GetFriendBirthdayResponse> getUpcomingBirthdays(Integer days) {
+        Long consumerId = securityUtil.getConsumerId();
+        int period = Math.min(Math.max(days, 1), BIRTHDAY_MAX_DAYS);
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        List<UpcomingBirthday> upcoming = consumerBirthdayIndex.findUpcoming(FRIEND_KEYSPACE + ":consumerId:" + consumerId, today, period);
+        if (upcoming.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Consumer> consumers = consumerRepository.findAllByIdInAndDeletedAtIsNull(
+                        upcoming.stream().map(UpcomingBirthday::consumerId).toList()).stream()
+                .collect(Collectors.toMap(Consumer::getId, consumer -> consumer));
+
+        return upcoming.stream()
+                .filter(birthday -> consumers.containsKey(birthday.consumerId())) // 탈퇴한 회원 제외
+                .map(birthday -> GetFriendBirthdayResponse.of(consumers.get(birthday.consumerId()), birthday.date(),
+                        (int) ChronoUnit.DAYS.between(today, birthday.date())))
+                .sorted(Comparator.comparing(GetFriendBirthdayResponse::getDaysLeft)
+                        .thenComparing(GetFriendBirthdayResponse::getName))
+                .toList();
+    }
+
     @Transactional
     public void toggleFavorite(Long toConsumerId) {
         Long consumerId = Long.valueOf(securityUtil.getConsumerId());
@@ -208,26 +254,24 @@ public class FriendService {
         if (friend != null) {
             friend.toggleFavorite();
             friendRepository.save(friend);
+            favoritedByIndex.update(consumerId, toConsumerId, friend.getIsFavorite());
         } else {
             throw new CustomException(FRIEND_RELATIONSHIP_NOT_FOUND);
         }
     }
 
-    @Transactional
+    // 양방향 친구 관계 일괄 삭제 (인덱스 Set 기준 파이프라인 삭제)
     public void deleteAllFriendsByConsumerId(Long consumerId) {
         try {
-            List<Friend> friendsByConsumer = friendRepository.findByConsumerId(consumerId);
-            for (Friend friend : friendsByConsumer) {
-                friendRepository.delete(friend);
-            }
-            log.info("consumerId({})가 생성한 모든 친구 관계를 삭제했습니다.", consumerId);
+            favoritedByIndex.evictAll(consumerId);
 
-            List<Friend> friendsByToConsumer = friendRepository.findByToConsumerId(consumerId);
-            for (Friend friend : friendsByToConsumer) {
-                friendRepository.delete(friend);
-            }
-            log.info("다른 사용자가 consumerId({})를 추가한 모든 친구 관계를 삭제했습니다.", consumerId);
+            long byConsumer = redisHashIndexEraser.deleteByIndex(FRIEND_KEYSPACE, "consumerId", consumerId, FRIEND_DELETE_BATCH_SIZE);
+            log.info("consumerId({})가 생성한 친구 관계 {}개를 삭제했습니다.", consumerId, byConsumer);
+
+            long byToConsumer = redisHashIndexEraser.deleteByIndex(FRIEND_KEYSPACE, "toConsumerId", consumerId, FRIEND_DELETE_BATCH_SIZE);
+            log.info("다른 사용자가 consumerId({})를 추가한 친구 관계 {}개를 삭제했습니다.", consumerId, byToConsumer);
 
+            kakaoFriendRefreshCoordinator.evict(consumerId);
             log.info("consumerId({})와 관련된 모든 친구 정보가 성공적으로 삭제되었습니다.", consumerId);
         } catch (Exception e) {
             throw new CustomException(FRIEND_RELATIONSHIP_DELETE_FAILED);
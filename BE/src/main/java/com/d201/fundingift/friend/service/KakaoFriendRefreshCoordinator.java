@@ -0,0 +1,236 @@
+package com.d201.fundingift.friend.service;
+
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift._common.response.ErrorType;
+import com.d201.fundingift._common.util.RedisTokenBucket;
+import com.d201.fundingift.friend.dto.response.GetKakaoFriendsResponse;
+import com.google.gson.Gson;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static com.d201.fundingift._common.response.ErrorType.*;
+
+/*
+ *  카카오 친구목록 갱신 조정자
+ *  - 마지막 동기화 결과(스냅샷)가 staleness 보다 최신이면 카카오를 호출하지 않고 스냅샷을 반환한다.
+ *  - 같은 사용자의 동시 갱신은 하나로 합친다 (인스턴스 내: in-flight Future, 인스턴스 간: Redis 락).
+ *  - 다른 인스턴스가 갱신 중이면 오래된 스냅샷이 있으면 바로 반환하고, 없으면 갱신이 끝났다는 알림
+ *    (kakaoFriends:refreshed:{consumerId} 채널)을 기다린다. (요청 스레드에서 폴링하지 않는다)
+ *  - 사용자별 / 전체 토큰 버킷으로 카카오 호출량을 제한하고, 제한에 걸리면 오래된 스냅샷이라도 반환한다.
+ *    (두 버킷을 스크립트 한 번으로 확인해, 둘 다 허용할 때만 차감한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoFriendRefreshCoordinator implements MessageListener {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "kakaoFriends:";
+    private static final String LOCK_KEY_PREFIX = "kakaoFriends:lock:";
+    private static final String CONSUMER_BUCKET_KEY_PREFIX = "rateLimit:kakaoFriends:";
+    private static final String GLOBAL_BUCKET_KEY = "rateLimit:kakaoFriends:global";
+    private static final String REFRESHED_CHANNEL_PREFIX = "kakaoFriends:refreshed:";
+    private static final Duration SNAPSHOT_TTL = Duration.ofDays(7);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTokenBucket redisTokenBucket;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Gson gson = new Gson();
+    private final Map<Long, CompletableFuture<GetKakaoFriendsResponse>> inFlight = new ConcurrentHashMap<>();
+    // 다른 인스턴스의 갱신이 끝나기를 기다리는 사용자 (인스턴스 내에서는 in-flight 로 합쳐지므로 사용자당 하나)
+    private final Map<Long, CompletableFuture<Void>> remoteWaiters = new ConcurrentHashMap<>();
+
+    @Value("${kakao.friends.staleness-seconds:300}")
+    private long stalenessSeconds;
+
+    @Value("${kakao.friends.lock-ttl-millis:10000}")
+    private long lockTtlMillis;
+
+    @Value("${kakao.friends.rate-limit.consumer.capacity:3}")
+    private int consumerCapacity;
+
+    @Value("${kakao.friends.rate-limit.consumer.refill-per-second:0.05}")
+    private double consumerRefillPerSecond;
+
+    @Value("${kakao.friends.rate-limit.global.capacity:50}")
+    private int globalCapacity;
+
+    @Value("${kakao.friends.rate-limit.global.refill-per-second:20}")
+    private double globalRefillPerSecond;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(REFRESHED_CHANNEL_PREFIX + "*"));
+    }
+
+    // 다른 인스턴스의 갱신 종료 알림
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            CompletableFuture<Void> waiter = remoteWaiters.get(Long.valueOf(channel.substring(REFRESHED_CHANNEL_PREFIX.length())));
+            if (waiter != null) {
+                waiter.complete(null);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[KakaoFriendRefreshCoordinator] 알 수 없는 채널 : {}", channel);
+        }
+    }
+
+    public GetKakaoFriendsResponse getKakaoFriends(Long consumerId, Supplier<GetKakaoFriendsResponse> fetcher) {
+        KakaoFriendsSnapshot snapshot = readSnapshot(consumerId);
+        if (snapshot != null && isFresh(snapshot)) {
+            return snapshot.response();
+        }
+
+        CompletableFuture<GetKakaoFriendsResponse> mine = new CompletableFuture<>();
+        CompletableFuture<GetKakaoFriendsResponse> running = inFlight.putIfAbsent(consumerId, mine);
+        if (running != null) {
+            return awaitRunning(running, snapshot);
+        }
+
+        try {
+            GetKakaoFriendsResponse response = refresh(consumerId, snapshot, fetcher);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(consumerId, mine);
+        }
+    }
+
+    // 스냅샷 삭제 (회원 탈퇴 등)
+    public void evict(Long consumerId) {
+        stringRedisTemplate.delete(SNAPSHOT_KEY_PREFIX + consumerId);
+    }
+
+    private GetKakaoFriendsResponse refresh(Long consumerId, KakaoFriendsSnapshot snapshot, Supplier<GetKakaoFriendsResponse> fetcher) {
+        String lockKey = LOCK_KEY_PREFIX + consumerId;
+        String lockValue = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, lockValue, Duration.ofMillis(lockTtlMillis));
+        if (!Boolean.TRUE.equals(locked)) {
+            return awaitOtherInstance(consumerId, snapshot);
+        }
+
+        try {
+            if (!acquirePermit(consumerId)) {
+                log.info("[KakaoFriendRefreshCoordinator] 카카오 친구목록 갱신 제한 consumerId={}", consumerId);
+                return orElseThrow(snapshot, KAKAO_FRIEND_REFRESH_RATE_LIMITED);
+            }
+
+            GetKakaoFriendsResponse response = fetcher.get();
+            if (response == null) {
+                return orElseThrow(snapshot, KAKAO_FRIEND_NOT_FOUND);
+            }
+            writeSnapshot(consumerId, response);
+            return response;
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockValue);
+            // 성공 / 실패와 관계없이 기다리는 인스턴스를 깨운다 (실패면 깨어난 쪽이 스냅샷이 그대로인 것을 보고 처리)
+            stringRedisTemplate.convertAndSend(REFRESHED_CHANNEL_PREFIX + consumerId, "1");
+        }
+    }
+
+    // 사용자 / 전체 버킷을 한 번에 확인한다. (한쪽이 거절하면 다른 쪽 토큰도 쓰지 않는다)
+    private boolean acquirePermit(Long consumerId) {
+        return redisTokenBucket.tryConsumeAll(List.of(
+                new RedisTokenBucket.Limit(CONSUMER_BUCKET_KEY_PREFIX + consumerId, consumerCapacity, consumerRefillPerSecond),
+                new RedisTokenBucket.Limit(GLOBAL_BUCKET_KEY, globalCapacity, globalRefillPerSecond)));
+    }
+
+    // 같은 인스턴스에서 진행 중인 갱신 결과를 기다린다.
+    private GetKakaoFriendsResponse awaitRunning(CompletableFuture<GetKakaoFriendsResponse> running, KakaoFriendsSnapshot snapshot) {
+        try {
+            return running.get(lockTtlMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            return orElseThrow(snapshot, KAKAO_FRIEND_NOT_FOUND);
+        } catch (TimeoutException e) {
+            return orElseThrow(snapshot, KAKAO_FRIEND_REFRESH_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return orElseThrow(snapshot, KAKAO_FRIEND_REFRESH_IN_PROGRESS);
+        }
+    }
+
+    // 다른 인스턴스가 갱신 중: 오래된 스냅샷이 있으면 바로 반환하고, 없으면 갱신 종료 알림을 기다린다.
+    private GetKakaoFriendsResponse awaitOtherInstance(Long consumerId, KakaoFriendsSnapshot snapshot) {
+        if (snapshot != null) {
+            return snapshot.response();
+        }
+
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        remoteWaiters.put(consumerId, waiter);
+        try {
+            // 등록 전에 끝났을 수 있으므로 한 번 확인
+            if (readSnapshot(consumerId) == null && Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOCK_KEY_PREFIX + consumerId))) {
+                waiter.get(lockTtlMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // 아래에서 스냅샷으로 판단
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            remoteWaiters.remove(consumerId, waiter);
+        }
+
+        KakaoFriendsSnapshot latest = readSnapshot(consumerId);
+        if (latest == null) {
+            throw new CustomException(KAKAO_FRIEND_REFRESH_IN_PROGRESS);
+        }
+        return latest.response();
+    }
+
+    private GetKakaoFriendsResponse orElseThrow(KakaoFriendsSnapshot snapshot, ErrorType errorType) {
+        if (snapshot == null) {
+            throw new CustomException(errorType);
+        }
+        return snapshot.response();
+    }
+
+    private boolean isFresh(KakaoFriendsSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.syncedAt() < TimeUnit.SECONDS.toMillis(stalenessSeconds);
+    }
+
+    private KakaoFriendsSnapshot readSnapshot(Long consumerId) {
+        String json = stringRedisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + consumerId);
+        return json == null ? null : gson.fromJson(json, KakaoFriendsSnapshot.class);
+    }
+
+    private void writeSnapshot(Long consumerId, GetKakaoFriendsResponse response) {
+        String json = gson.toJson(new KakaoFriendsSnapshot(System.currentTimeMillis(), response));
+        stringRedisTemplate.opsForValue().set(SNAPSHOT_KEY_PREFIX + consumerId, json, SNAPSHOT_TTL);
+    }
+
+    private record KakaoFriendsSnapshot(long syncedAt, GetKakaoFriendsResponse response) {
+    }
+
+}
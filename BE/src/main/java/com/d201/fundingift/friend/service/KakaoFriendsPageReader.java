@@ -0,0 +1,87 @@
+package com.d201.fundingift.friend.service;
+
+import com.d201.fundingift.friend.dto.FriendDto;
+import com.d201.fundingift.friend.dto.KakaoFriendsPage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ *  카카오 친구 목록 응답을 스트림으로 읽는 클래스
+ *  - 응답 InputStream 을 Jackson 스트리밍 파서로 한 번만 읽으며 바로 FriendDto 를 만든다.
+ *    (본문 String, JSON 트리, 바인딩용 중간 객체를 만들지 않음)
+ *  - FriendDto 는 클라이언트 응답에도 쓰이므로 Jackson 어노테이션을 붙이지 않고 필드를 직접 매핑한다.
+ *  - 사용하지 않는 필드(uuid, allowed_msg 등)는 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KakaoFriendsPageReader {
+
+    private final ObjectMapper objectMapper;
+
+    public KakaoFriendsPage read(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+            KakaoFriendsPage.KakaoFriendsPageBuilder page = KakaoFriendsPage.builder().elements(new ArrayList<>());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "elements" -> page.elements(readElements(parser, value));
+                    case "total_count" -> page.totalCount(parser.getValueAsInt());
+                    case "favorite_count" -> page.favoriteCount(parser.getValueAsInt());
+                    case "after_url" -> page.afterUrl(value == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+            return page.build();
+        }
+    }
+
+    private List<FriendDto> readElements(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return new ArrayList<>();
+        }
+        expect(token, JsonToken.START_ARRAY);
+
+        List<FriendDto> friends = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            friends.add(readFriend(parser));
+        }
+        return friends;
+    }
+
+    private FriendDto readFriend(JsonParser parser) throws IOException {
+        FriendDto.FriendDtoBuilder friend = FriendDto.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> friend.id(parser.getLongValue());
+                case "favorite" -> friend.favorite(parser.getBooleanValue());
+                case "profile_nickname" -> friend.profileNickname(parser.getText());
+                case "profile_thumbnail_image" -> friend.profileThumbnailImage(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+        return friend.build();
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("카카오 친구 목록 응답 형식 오류: " + expected + " 대신 " + actual);
+        }
+    }
+
+}
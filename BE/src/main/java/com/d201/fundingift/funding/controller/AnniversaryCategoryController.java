@@ -4,6 +4,7 @@ import com.d201.fundingift._common.response.ErrorResponse;
 import com.d201.fundingift._common.response.ResponseUtils;
 import com.d201.fundingift._common.response.SuccessResponse;
 import com.d201.fundingift._common.response.SuccessType;
+import com.d201.fundingift._common.util.ConditionalGet;
 import com.d201.fundingift.funding.dto.response.GetAnniversaryCategoryResponse;
 import com.d201.fundingift.funding.service.AnniversaryCategoryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,15 +30,21 @@ public class AnniversaryCategoryController {
     private final AnniversaryCategoryService anniversaryCategoryService;
 
     @Operation(summary = "기념일 카테고리 전체 조회",
-            description = "기념일 카테고리를 전체 조회합니다.")
+            description = "기념일 카테고리를 전체 조회합니다. If-None-Match 가 ETag 와 같으면 304를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "성공",
                     useReturnTypeSchema = true)
     })
     @GetMapping
-    public SuccessResponse<List<GetAnniversaryCategoryResponse>> getAnniversaryCategoryResponseList() {
+    public SuccessResponse<List<GetAnniversaryCategoryResponse>> getAnniversaryCategoryResponseList(WebRequest webRequest) {
 
-        return ResponseUtils.ok(anniversaryCategoryService.getAnniversaryCategoryResponseList(), SuccessType.GET_ANNIVERSARY_CATEGORIES_SUCCESS);
+        List<GetAnniversaryCategoryResponse> categories = anniversaryCategoryService.getAnniversaryCategoryResponseList();
+        String etag = ConditionalGet.etagOf(categories);
+        if (ConditionalGet.notModified(webRequest, etag, ConditionalGet.SHARED)) {
+            return null;
+        }
+        return ResponseUtils.ok(categories, SuccessType.GET_ANNIVERSARY_CATEGORIES_SUCCESS)
+                .cacheSerializedAs("anniversaryCategories:" + etag);
     }
 }
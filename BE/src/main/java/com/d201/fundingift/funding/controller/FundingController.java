@@ -2,11 +2,16 @@ package com.d201.fundingift.funding.controller;
 
 
 import com.d201.fundingift._common.response.*;
+import com.d201.fundingift._common.util.ConditionalGet;
 import com.d201.fundingift.funding.dto.request.DeleteFundingRequest;
 import com.d201.fundingift.funding.dto.request.PostFundingRequest;
 import com.d201.fundingift.funding.dto.response.GetFundingCalendarResponse;
 import com.d201.fundingift.funding.dto.response.GetFundingDetailResponse;
+import com.d201.fundingift.funding.dto.response.GetFundingProgressResponse;
 import com.d201.fundingift.funding.dto.response.GetFundingResponse;
+import com.d201.fundingift.funding.dto.response.GetFundingViewersResponse;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.service.FundingProgressStreamService;
 import com.d201.fundingift.funding.service.FundingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,7 +23,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -31,6 +39,7 @@ import static com.d201.fundingift._common.response.SuccessType.*;
 public class FundingController {
 
     private final FundingService fundingService;
+    private final FundingProgressStreamService fundingProgressStreamService;
 
     @Operation(summary = "펀딩 생성",
             description = "소비자가 펀딩을 생성합니다.")
@@ -75,22 +84,26 @@ public class FundingController {
                            `token` \n
                            내가 만든 펀딩 목록을 볼 수 있습니다. \n
                            제품명 keyword에 넣으면 검색 가능합니다. \n
+                           cursor를 넣으면 커서 기반으로 조회하고, 다음 요청에는 응답의 nextCursor를 넣어주세요. \n
+                           viewerCount 는 펀딩을 본 친구 수(중복 제외 근사값)입니다. \n
                            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "성공",
                     useReturnTypeSchema = true),
             @ApiResponse(responseCode = "400",
-                    description = "로그인 여부",
+                    description = "로그인 여부 / 잘못된 cursor",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class)
                     ))
     })
     @GetMapping("/my-fundings")
     public SuccessResponse<SliceList<GetFundingResponse>> getMyFundings(@Schema(description = "제품명으로 펀딩 목록 조회", example = "귀걸이") @RequestParam(required = false, name = "keyword") String keyword,
+                                                                        @Schema(description = "이전 응답의 nextCursor, 넣으면 커서 기반으로 조회합니다. (첫 페이지는 빈 값)")
+                                                                        @RequestParam(required = false, name = "cursor") String cursor,
                                                                         @PageableDefault(size=4, sort="createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        return ResponseUtils.ok(fundingService.getMyFundings(keyword, pageable), GET_MY_FUNDINGS_SUCCESS);
+        return ResponseUtils.ok(fundingService.getMyFundings(keyword, pageable, cursor), GET_MY_FUNDINGS_SUCCESS);
     }
 
     @Operation(summary = "내가 참여한 펀딩 목록 보기",
@@ -121,13 +134,14 @@ public class FundingController {
                            친구가 만든 펀딩 목록을 볼 수 있습니다. \n
                            친구 아이디 friend-consumer-id에 필수로 넣어야 합니다. \n
                            제품명 keyword에 넣으면 검색 가능합니다. \n
+                           cursor를 넣으면 커서 기반으로 조회하고, 다음 요청에는 응답의 nextCursor를 넣어주세요. \n
                            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "성공",
                     useReturnTypeSchema = true),
             @ApiResponse(responseCode = "400",
-                    description = "로그인 여부 / 친구 아이디 존재 여부 / 보려는 펀딩 목록의 대상이 자신의 친구인지와 친한친구인지 여부",
+                    description = "로그인 여부 / 친구 아이디 존재 여부 / 보려는 펀딩 목록의 대상이 자신의 친구인지와 친한친구인지 여부 / 잘못된 cursor",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class)
                     ))
@@ -138,9 +152,11 @@ public class FundingController {
                                                                         @RequestParam(required = true, name = "friend-consumer-id") Long friendConsumerId,
                                                                         @Schema(description = "제품명으로 펀딩 목록 조회", example = "귀걸이")
                                                                         @RequestParam(required = false, name = "keyword") String keyword,
+                                                                        @Schema(description = "이전 응답의 nextCursor, 넣으면 커서 기반으로 조회합니다. (첫 페이지는 빈 값)")
+                                                                        @RequestParam(required = false, name = "cursor") String cursor,
                                                                         @PageableDefault(size=3, sort="createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        return ResponseUtils.ok(fundingService.getFriendFundings(friendConsumerId, keyword, pageable), GET_FRIEND_FUNDINGS_SUCCESS);
+        return ResponseUtils.ok(fundingService.getFriendFundings(friendConsumerId, keyword, pageable, cursor), GET_FRIEND_FUNDINGS_SUCCESS);
     }
 
     @Operation(summary = "펀딩 스토리 보기",
@@ -172,6 +188,7 @@ public class FundingController {
             description = """
                            `token` \n
                            펀딩 상세 조회입니다. \n
+                           If-None-Match 가 ETag 와 같으면 304를 반환합니다. \n
                            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
@@ -184,8 +201,78 @@ public class FundingController {
                     ))
     })
     @GetMapping("/detail/{funding-id}")
-    public SuccessResponse<GetFundingDetailResponse> getFundingDetailResponse(@PathVariable(required = true, name = "funding-id") Long fundingId) {
-        return ResponseUtils.ok(fundingService.getFundingDetailResponse(fundingId), GET_FUNDING_DETAIL_SUCCESS);
+    public SuccessResponse<GetFundingDetailResponse> getFundingDetailResponse(@PathVariable(required = true, name = "funding-id") Long fundingId,
+                                                                              WebRequest webRequest) {
+        //접근 권한 확인은 항상 거친 뒤 응답 데이터가 같으면 304
+        GetFundingDetailResponse fundingDetail = fundingService.getFundingDetailResponse(fundingId);
+        String etag = ConditionalGet.etagOf(fundingDetail);
+        if (ConditionalGet.notModified(webRequest, etag, ConditionalGet.PRIVATE_REVALIDATE))
+            return null;
+
+        SuccessResponse<GetFundingDetailResponse> response = ResponseUtils.ok(fundingDetail, GET_FUNDING_DETAIL_SUCCESS);
+
+        //종료된 펀딩은 내용이 더 이상 바뀌지 않으므로 직렬화 결과를 재사용
+        if (isFinished(fundingDetail.getFundingStatus()))
+            response.cacheSerializedAs("fundingDetail:" + etag);
+
+        return response;
+    }
+
+    @Operation(summary = "내 펀딩을 본 친구 수 추이",
+            description = """
+                           `token` \n
+                           내 펀딩을 본 친구 수(중복 제외 근사값)와 오늘까지 days 일(최대 30일)의 날짜별 추이를 조회합니다. \n
+                           - viewerCount: 전체 기간 동안 본 친구 수
+                           - daily.viewerCount: 그날 본 친구 수
+                           - daily.cumulativeViewerCount: 조회 기간 첫날부터 그날까지 본 친구 수
+                           """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "성공",
+                    useReturnTypeSchema = true),
+            @ApiResponse(responseCode = "400",
+                    description = "로그인 여부 / 펀딩이 존재하지 않는 경우 / 내 펀딩이 아닌 경우",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+    })
+    @GetMapping("/viewers/{funding-id}")
+    public SuccessResponse<GetFundingViewersResponse> getFundingViewers(@PathVariable(required = true, name = "funding-id") Long fundingId,
+                                                                        @Schema(description = "조회할 일 수 (1~30)", example = "7")
+                                                                        @RequestParam(required = false, name = "days", defaultValue = "7") Integer days) {
+        return ResponseUtils.ok(fundingService.getFundingViewers(fundingId, days), GET_FUNDING_VIEWERS_SUCCESS);
+    }
+
+    @Operation(summary = "펀딩 진행 현황 실시간 구독 (SSE)",
+            description = """
+                           `token` \n
+                           펀딩의 모인 금액, 참여자 수, 상태가 바뀔 때마다 progress 이벤트로 받습니다. \n
+                           연결 직후 현재 값을 한 번 보내고, 15초마다 heartbeat 주석을 보냅니다. \n
+                           펀딩이 종료(SUCCESS / FAIL)되면 마지막 이벤트를 보낸 뒤 연결을 닫습니다. \n
+                           펀딩 상세 조회 폴링 대신 사용해주세요. \n
+                           """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = GetFundingProgressResponse.class)
+                    )),
+            @ApiResponse(responseCode = "400",
+                    description = "로그인 여부 / 펀딩 존재 여부 / 친구 여부 / 친한 친구 여부",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+            @ApiResponse(responseCode = "429",
+                    description = "연결 수 초과",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+    })
+    @GetMapping("/progress/{funding-id}")
+    public SseEmitter subscribeFundingProgress(@PathVariable(required = true, name = "funding-id") Long fundingId) {
+
+        return fundingProgressStreamService.subscribe(fundingId);
     }
 
     @Operation(summary = "펀딩 달력 리스트 조회",
@@ -213,21 +300,28 @@ public class FundingController {
             description = """
                            `token` \n
                            친구 펀딩 리스트를 피드 형태의 리스트로 조회합니다. \n
+                           cursor를 넣으면 커서 기반으로 조회하고, 다음 요청에는 응답의 nextCursor를 넣어주세요. \n
                            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "성공",
                     useReturnTypeSchema = true),
             @ApiResponse(responseCode = "400",
-                    description = "로그인 여부",
+                    description = "로그인 여부 / 잘못된 cursor",
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class)
                     ))
     })
     @GetMapping("/feed")
     public SuccessResponse<SliceList<GetFundingResponse>> getFundingFeeds(
+            @Schema(description = "이전 응답의 nextCursor, 넣으면 커서 기반으로 조회합니다. (첫 페이지는 빈 값)")
+            @RequestParam(required = false, name = "cursor") String cursor,
             @PageableDefault(size=3, sort="startDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        return ResponseUtils.ok(fundingService.getFundingFeeds(pageable), GET_FUNDINGS_FEED_SUCCESS);
+        return ResponseUtils.ok(fundingService.getFundingFeeds(pageable, cursor), GET_FUNDINGS_FEED_SUCCESS);
+    }
+
+    private boolean isFinished(String fundingStatus) {
+        return FundingStatus.SUCCESS.name().equals(fundingStatus) || FundingStatus.FAIL.name().equals(fundingStatus);
     }
 }
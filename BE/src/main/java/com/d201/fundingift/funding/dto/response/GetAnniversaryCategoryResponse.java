@@ -4,7 +4,9 @@ import com.d201.fundingift.funding.entity.AnniversaryCategory;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.ToString;
 
+@ToString
 @Getter
 public class GetAnniversaryCategoryResponse {
 
@@ -0,0 +1,35 @@
+package com.d201.fundingift.funding.dto.response;
+
+import com.d201.fundingift.funding.service.FundingViewCounter.DailyViewers;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class GetFundingDailyViewersResponse {
+
+    @Schema(description = "날짜", example = "2024-12-08")
+    private String date;
+
+    @Schema(description = "그날 펀딩을 본 친구 수", example = "5")
+    private Long viewerCount;
+
+    @Schema(description = "조회 기간 첫날부터 그날까지 펀딩을 본 친구 수 (중복 제외)", example = "9")
+    private Long cumulativeViewerCount;
+
+    @Builder
+    private GetFundingDailyViewersResponse(String date, Long viewerCount, Long cumulativeViewerCount) {
+        this.date = date;
+        this.viewerCount = viewerCount;
+        this.cumulativeViewerCount = cumulativeViewerCount;
+    }
+
+    public static GetFundingDailyViewersResponse from(DailyViewers dailyViewers) {
+        return builder()
+                .date(dailyViewers.date().toString())
+                .viewerCount(dailyViewers.viewers())
+                .cumulativeViewerCount(dailyViewers.cumulativeViewers())
+                .build();
+    }
+
+}
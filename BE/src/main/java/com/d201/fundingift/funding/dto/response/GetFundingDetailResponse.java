@@ -1,10 +1,14 @@
 package com.d201.fundingift.funding.dto.response;
 
 import com.d201.fundingift.funding.entity.Funding;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
+@ToString
 @Getter
 public class GetFundingDetailResponse {
 
@@ -68,6 +72,11 @@ public class GetFundingDetailResponse {
     @Schema(description = "제품옵션명", example = "실버")
     private String productOptionName;
 
+    @Schema(description = "펀딩을 본 친구 수 (중복 제외 근사값, 내 펀딩일 때만)", example = "12")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Setter
+    private Long viewerCount;
+
     @Builder
     private GetFundingDetailResponse(Long fundingId, Integer sumPrice, Integer minPrice, Integer targetPrice, String anniversaryDate, String startDate, String endDate, String title, String content, String fundingStatus, Boolean isPrivate, Long consumerId, String consumerName, Integer anniversaryCategoryId, String anniversaryCategoryName, Long productId, String productName, String productImage, Long productOptionId, String productOptionName) {
         this.fundingId = fundingId;
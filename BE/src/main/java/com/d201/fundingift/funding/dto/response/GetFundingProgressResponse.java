@@ -0,0 +1,56 @@
+package com.d201.fundingift.funding.dto.response;
+
+import com.d201.fundingift.funding.event.FundingProgressChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Schema(name = "GetFundingProgressResponse", description = "펀딩 진행 현황 (SSE progress 이벤트 데이터)")
+public class GetFundingProgressResponse {
+
+    @Schema(description = "펀딩 고유번호", example = "55")
+    private Long fundingId;
+
+    @Schema(description = "모인 금액", example = "50000")
+    private Integer sumPrice;
+
+    @Schema(description = "목표 금액", example = "500000")
+    private Integer targetPrice;
+
+    @Schema(description = "참여자 수", example = "3")
+    private Long attendanceCount;
+
+    @Schema(description = "펀딩 상태", example = "IN_PROGRESS")
+    private String fundingStatus;
+
+    @Builder
+    private GetFundingProgressResponse(Long fundingId, Integer sumPrice, Integer targetPrice, Long attendanceCount, String fundingStatus) {
+        this.fundingId = fundingId;
+        this.sumPrice = sumPrice;
+        this.targetPrice = targetPrice;
+        this.attendanceCount = attendanceCount;
+        this.fundingStatus = fundingStatus;
+    }
+
+    public static GetFundingProgressResponse of(FundingProgressChangedEvent event, Long attendanceCount) {
+        return builder()
+                .fundingId(event.getFundingId())
+                .sumPrice(event.getSumPrice())
+                .targetPrice(event.getTargetPrice())
+                .attendanceCount(attendanceCount)
+                .fundingStatus(event.getFundingStatus())
+                .build();
+    }
+
+    public static GetFundingProgressResponse of(GetFundingDetailResponse fundingDetail, Long attendanceCount) {
+        return builder()
+                .fundingId(fundingDetail.getFundingId())
+                .sumPrice(fundingDetail.getSumPrice())
+                .targetPrice(fundingDetail.getTargetPrice())
+                .attendanceCount(attendanceCount)
+                .fundingStatus(fundingDetail.getFundingStatus())
+                .build();
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.d201.fundingift.funding.dto.response;
 
 import com.d201.fundingift.funding.entity.Funding;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
 public class GetFundingResponse {
@@ -59,6 +61,11 @@ public class GetFundingResponse {
     @Schema(description = "펀딩 상태", example = "IN_PROGRESS")
     private String fundingStatus;
 
+    @Schema(description = "펀딩을 본 친구 수 (중복 제외 근사값, 내 펀딩일 때만)", example = "12")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Setter
+    private Long viewerCount;
+
     @Builder
     private GetFundingResponse(Long fundingId, Integer targetPrice, Integer sumPrice, String anniversaryDate, String startDate, String endDate, String title, Boolean isPrivate, Long consumerId, String consumerName, String profileImageUrl, Integer anniversaryCategoryId, String anniversaryCategoryName, Long productId, String productName, String productImage, String fundingStatus) {
         this.fundingId = fundingId;
@@ -0,0 +1,37 @@
+package com.d201.fundingift.funding.dto.response;
+
+import com.d201.fundingift.funding.service.FundingViewCounter.DailyViewers;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class GetFundingViewersResponse {
+
+    @Schema(description = "펀딩 고유번호", example = "55")
+    private Long fundingId;
+
+    @Schema(description = "펀딩을 본 친구 수 (전체 기간, 중복 제외 근사값)", example = "12")
+    private Long viewerCount;
+
+    @Schema(description = "날짜별 조회자 수 (오래된 날짜부터)")
+    private List<GetFundingDailyViewersResponse> daily;
+
+    @Builder
+    private GetFundingViewersResponse(Long fundingId, Long viewerCount, List<GetFundingDailyViewersResponse> daily) {
+        this.fundingId = fundingId;
+        this.viewerCount = viewerCount;
+        this.daily = daily;
+    }
+
+    public static GetFundingViewersResponse of(Long fundingId, long viewerCount, List<DailyViewers> daily) {
+        return builder()
+                .fundingId(fundingId)
+                .viewerCount(viewerCount)
+                .daily(daily.stream().map(GetFundingDailyViewersResponse::from).toList())
+                .build();
+    }
+
+}
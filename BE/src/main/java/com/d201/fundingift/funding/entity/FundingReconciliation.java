@@ -0,0 +1,47 @@
+package com.d201.fundingift.funding.entity;
+
+import com.d201.fundingift._common.entity.BaseTime;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+ *  펀딩 모인 금액 대사(reconciliation) 불일치 리포트 - 실행(runId)마다 불일치한 펀딩 한 행
+ *  - recordedSumPrice: funding.sum_price, actualSumPrice: 결제 완료된 참여 금액 합계
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_funding_reconciliation_run", columnList = "runId"))
+public class FundingReconciliation extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "funding_reconciliation_id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String runId; // 실행 시각-파티션 (yyyyMMddHHmmss-n)
+
+    @Column(nullable = false)
+    private Long fundingId;
+
+    @Column(nullable = false)
+    private String fundingStatus;
+
+    @Column(nullable = false)
+    private Integer recordedSumPrice;
+
+    @Column(nullable = false)
+    private Long actualSumPrice;
+
+    @Column(nullable = false)
+    private Long drift; // recorded - actual
+
+    @Column(nullable = false)
+    private Boolean corrected; // 자동 보정 여부
+
+}
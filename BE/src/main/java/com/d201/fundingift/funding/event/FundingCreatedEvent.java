@@ -0,0 +1,31 @@
+package com.d201.fundingift.funding.event;
+
+import com.d201.fundingift._common.event.DomainEvent;
+import com.d201.fundingift.funding.entity.Funding;
+import lombok.Builder;
+import lombok.Getter;
+
+// 펀딩 등록 (친한 친구 알림)
+@Getter
+public class FundingCreatedEvent implements DomainEvent {
+
+    private Long fundingId;
+    private Long consumerId;
+    private String consumerName;
+
+    @Builder
+    private FundingCreatedEvent(Long fundingId, Long consumerId, String consumerName) {
+        this.fundingId = fundingId;
+        this.consumerId = consumerId;
+        this.consumerName = consumerName;
+    }
+
+    public static FundingCreatedEvent from(Funding funding) {
+        return builder()
+                .fundingId(funding.getId())
+                .consumerId(funding.getConsumer().getId())
+                .consumerName(funding.getConsumer().getName())
+                .build();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.d201.fundingift.funding.event;
+
+import com.d201.fundingift.funding.entity.Funding;
+import lombok.Builder;
+import lombok.Getter;
+
+// 펀딩 모인 금액 / 상태가 바뀌었을 때 발행하는 이벤트 (커밋 후 Redis 로 전파)
+@Getter
+public class FundingProgressChangedEvent {
+
+    private Long fundingId;
+    private Integer sumPrice;
+    private Integer targetPrice;
+    private String fundingStatus;
+
+    @Builder
+    private FundingProgressChangedEvent(Long fundingId, Integer sumPrice, Integer targetPrice, String fundingStatus) {
+        this.fundingId = fundingId;
+        this.sumPrice = sumPrice;
+        this.targetPrice = targetPrice;
+        this.fundingStatus = fundingStatus;
+    }
+
+    public static FundingProgressChangedEvent from(Funding funding) {
+        return builder()
+                .fundingId(funding.getId())
+                .sumPrice(funding.getSumPrice())
+                .targetPrice(funding.getTargetPrice())
+                .fundingStatus(String.valueOf(funding.getFundingStatus()))
+                .build();
+    }
+
+}
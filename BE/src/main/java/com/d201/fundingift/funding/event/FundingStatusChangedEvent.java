@@ -0,0 +1,34 @@
+package com.d201.fundingift.funding.event;
+
+import com.d201.fundingift._common.event.DomainEvent;
+import com.d201.fundingift.funding.entity.Funding;
+import lombok.Builder;
+import lombok.Getter;
+
+// 펀딩 상태 변경 (PRE_PROGRESS -> IN_PROGRESS -> SUCCESS / FAIL)
+@Getter
+public class FundingStatusChangedEvent implements DomainEvent {
+
+    private Long fundingId;
+    private Long consumerId;
+    private String fundingName; // 펀딩 제목 (Funding.name 은 선물 받는 사람 이름)
+    private String fundingStatus;
+
+    @Builder
+    private FundingStatusChangedEvent(Long fundingId, Long consumerId, String fundingName, String fundingStatus) {
+        this.fundingId = fundingId;
+        this.consumerId = consumerId;
+        this.fundingName = fundingName;
+        this.fundingStatus = fundingStatus;
+    }
+
+    public static FundingStatusChangedEvent from(Funding funding) {
+        return builder()
+                .fundingId(funding.getId())
+                .consumerId(funding.getConsumer().getId())
+                .fundingName(funding.getTitle())
+                .fundingStatus(String.valueOf(funding.getFundingStatus()))
+                .build();
+    }
+
+}
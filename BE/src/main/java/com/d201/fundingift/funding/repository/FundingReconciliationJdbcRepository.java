@@ -0,0 +1,121 @@
+package com.d201.fundingift.funding.repository;
+
+import com.d201.fundingift.payment.entity.status.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ *  펀딩 모인 금액 대사용 JDBC 쿼리 (엔티티를 만들지 않고 값만 읽는다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FundingReconciliationJdbcRepository {
+
+    // 결제가 한 번이라도 완료된 상태 (환불돼도 모인 금액에는 남는다)
+    private static final String PAID_STATUSES = Stream.of(PaymentStatus.PAID, PaymentStatus.REFUNDING,
+                    PaymentStatus.REFUNDED, PaymentStatus.REFUND_FAILED)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    // funding_id keyset 범위(afterFundingId < id <= toFundingId) 안에서 펀딩별 참여 금액 합계 (GROUP BY 한 번)
+    private static final String AGGREGATE_SQL = """
+            select f.funding_id, f.funding_status, f.sum_price, coalesce(sum(p.price_paid), 0) as actual_sum_price
+            from funding f
+                left join (
+                    select a.funding_id, a.price as price_paid
+                    from attendance a
+                        join payment_info pi on pi.payment_info_id = a.payment_info_id
+                    where a.deleted_at is null and pi.payment_status in (%s)
+                ) p on p.funding_id = f.funding_id
+            where f.funding_id > ? and f.funding_id <= ? and f.deleted_at is null
+            group by f.funding_id, f.funding_status, f.sum_price
+            order by f.funding_id
+            limit ?
+            """.formatted(PAID_STATUSES);
+
+    private static final String INSERT_REPORT_SQL = """
+            insert into funding_reconciliation (run_id, funding_id, funding_status, recorded_sum_price, actual_sum_price,
+                                                drift, corrected, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 읽은 뒤 바뀌지 않았을 때만 보정
+    private static final String CORRECT_SQL =
+            "update funding set sum_price = ?, updated_at = ? where funding_id = ? and sum_price = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 파티션 나누기용 (빈 테이블이면 0)
+    public long findMaxFundingId() {
+        Long maxId = jdbcTemplate.queryForObject("select max(funding_id) from funding", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    public List<FundingSum> findSums(long afterFundingId, long toFundingId, int limit) {
+        return jdbcTemplate.query(AGGREGATE_SQL, (rs, rowNum) -> new FundingSum(
+                rs.getLong("funding_id"),
+                rs.getString("funding_status"),
+                rs.getInt("sum_price"),
+                rs.getLong("actual_sum_price")
+        ), afterFundingId, toFundingId, limit);
+    }
+
+    // 반환: 펀딩별 보정 성공 여부
+    public boolean[] correct(List<FundingSum> sums, LocalDateTime now) {
+        if (sums.isEmpty()) {
+            return new boolean[0];
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] updated = jdbcTemplate.batchUpdate(CORRECT_SQL, sums, sums.size(), (ps, sum) -> {
+            ps.setLong(1, sum.actualSumPrice());
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, sum.fundingId());
+            ps.setInt(4, sum.recordedSumPrice());
+        });
+
+        boolean[] corrected = new boolean[sums.size()];
+        for (int i = 0; i < corrected.length; i++) {
+            // 드라이버가 건별 결과를 주지 않으면(SUCCESS_NO_INFO) 성공으로 본다
+            corrected[i] = updated[0][i] != 0;
+        }
+        return corrected;
+    }
+
+    public void insertReports(String runId, List<Discrepancy> discrepancies, LocalDateTime now) {
+        if (discrepancies.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_REPORT_SQL, discrepancies, discrepancies.size(), (ps, discrepancy) -> {
+            FundingSum sum = discrepancy.sum();
+            ps.setString(1, runId);
+            ps.setLong(2, sum.fundingId());
+            ps.setString(3, sum.fundingStatus());
+            ps.setInt(4, sum.recordedSumPrice());
+            ps.setLong(5, sum.actualSumPrice());
+            ps.setLong(6, sum.drift());
+            ps.setBoolean(7, discrepancy.corrected());
+            ps.setTimestamp(8, timestamp);
+            ps.setTimestamp(9, timestamp);
+        });
+    }
+
+    public record FundingSum(Long fundingId, String fundingStatus, int recordedSumPrice, long actualSumPrice) {
+
+        public long drift() {
+            return recordedSumPrice - actualSumPrice;
+        }
+
+    }
+
+    public record Discrepancy(FundingSum sum, boolean corrected) {
+    }
+
+}
@@ -6,14 +6,17 @@ import com.d201.fundingift.product.entity.Product;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface FundingRepository extends JpaRepository<Funding, Long> {
+public interface FundingRepository extends JpaRepository<Funding, Long>, JpaSpecificationExecutor<Funding> {
 
     @Query("select f from Funding f " +
             "where f.consumer.id = :consumerId and f.deletedAt is null")
@@ -68,7 +71,13 @@ public interface FundingRepository extends JpaRepository<Funding, Long> {
     @Query("select f from Funding f where f.fundingStatus = :fundingStatus and f.startDate = :date and f.deletedAt IS NULL")
     List<Funding> findAllByFundingStatusAndStartDateAndDeletedAtIsNull(@Param("fundingStatus")FundingStatus fundingStatus, @Param("date") LocalDate date);
 
-    @Query("select f from Funding f where f.fundingStatus = :fundingStatus and f.startDate = :date and f.deletedAt IS NULL")
+    @Query("select f from Funding f where f.fundingStatus = :fundingStatus and f.endDate = :date and f.deletedAt IS NULL")
     List<Funding> findAllByFundingStatusAndEndDateAndDateAndDeletedAtIsNull(@Param("fundingStatus")FundingStatus fundingStatus, @Param("date") LocalDate date);
 
+    // 진행 중인 펀딩은 참여자 결제가 걸려 있으므로 제외
+    @Modifying(clearAutomatically = true)
+    @Query("update Funding f set f.deletedAt = :deletedAt " +
+            "where f.consumer.id = :consumerId and f.fundingStatus <> 'IN_PROGRESS' and f.deletedAt is null")
+    int softDeleteAllNotInProgressByConsumerId(@Param("consumerId") Long consumerId, @Param("deletedAt") LocalDateTime deletedAt);
+
 }
@@ -0,0 +1,47 @@
+package com.d201.fundingift.funding.repository;
+
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+// 커서 페이지네이션용 펀딩 조회 조건 (FundingRepository 의 JPQL 조건과 같음)
+public final class FundingSpecifications {
+
+    private FundingSpecifications() {
+    }
+
+    public static Specification<Funding> isNotDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<Funding> consumerIdEquals(Long consumerId) {
+        return (root, query, cb) -> cb.equal(root.get("consumer").get("id"), consumerId);
+    }
+
+    public static Specification<Funding> consumerIdIn(List<Long> consumerIds) {
+        return (root, query, cb) -> root.get("consumer").get("id").in(consumerIds);
+    }
+
+    public static Specification<Funding> isInProgress() {
+        return (root, query, cb) -> cb.equal(root.get("fundingStatus"), FundingStatus.IN_PROGRESS);
+    }
+
+    public static Specification<Funding> isPublic() {
+        return (root, query, cb) -> cb.isFalse(root.get("isPrivate"));
+    }
+
+    // 공개 펀딩이거나 consumerIds 가 만든 펀딩 (피드: 비공개 펀딩은 나를 친한 친구로 설정한 친구의 것만)
+    public static Specification<Funding> isPublicOrConsumerIdIn(Collection<Long> consumerIds) {
+        return (root, query, cb) -> consumerIds.isEmpty() ? cb.isFalse(root.get("isPrivate"))
+                : cb.or(cb.isFalse(root.get("isPrivate")), root.get("consumer").get("id").in(consumerIds));
+    }
+
+    public static Specification<Funding> productNameContains(String keyword) {
+        return (root, query, cb) -> keyword == null ? null
+                : cb.like(root.get("product").get("name"), "%" + keyword + "%");
+    }
+
+}
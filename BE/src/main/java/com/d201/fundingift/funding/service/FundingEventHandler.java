@@ -0,0 +1,87 @@
+package com.d201.fundingift.funding.service;
+
+import com.d201.fundingift._common.dto.FcmNotificationDto;
+import com.d201.fundingift._common.util.FcmFanOutSender;
+import com.d201.fundingift._common.util.FcmNotificationProvider;
+import com.d201.fundingift.consumeralarm.dto.request.PostConsumerAlarmRequest;
+import com.d201.fundingift.consumeralarm.entity.ConsumerAlarm;
+import com.d201.fundingift.consumeralarm.service.ConsumerAlarmService;
+import com.d201.fundingift.friend.service.FavoritedByIndex;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.event.FundingCreatedEvent;
+import com.d201.fundingift.funding.event.FundingStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+ *  펀딩 도메인 이벤트 후처리 (DomainEventRelay 가 커밋 후 비동기로 호출)
+ *  - 이벤트는 최소 한 번 전달되므로, 펀딩 종료 알람함 / 푸시는 단계마다 완료 표시를 남겨 재처리 때 다시 하지 않는다.
+ *    (펀딩은 SUCCESS / FAIL 로 한 번만 바뀌므로 펀딩 id + 상태를 키로 쓴다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FundingEventHandler {
+
+    private final FavoritedByIndex favoritedByIndex;
+    private final FcmFanOutSender fcmFanOutSender;
+    private final FcmNotificationProvider fcmNotificationProvider;
+    private final ConsumerAlarmService consumerAlarmService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String DONE_KEY_PREFIX = "funding-event:done:";
+    private static final Duration DONE_TTL = Duration.ofDays(7);
+
+    // 펀딩 등록 -> 나를 친한 친구로 등록한 친구들에게 알림 (역방향 Set + 청크 멀티캐스트)
+    @EventListener
+    public void onFundingCreated(FundingCreatedEvent event) {
+        fcmFanOutSender.sendToMany(
+                "funding-created:" + event.getFundingId(),
+                favoritedByIndex.findConsumerIds(event.getConsumerId()),
+                FcmNotificationDto.of("펀딩 등록 알림", event.getConsumerName() + "님이 펀딩을 등록했어요!")
+        );
+    }
+
+    // 펀딩 종료 -> 펀딩 생성자에게 알림 + 알람함
+    @EventListener
+    public void onFundingStatusChanged(FundingStatusChangedEvent event) {
+        String message;
+        if (FundingStatus.SUCCESS.name().equals(event.getFundingStatus())) {
+            message = "펀딩이 목표 금액을 달성했어요!";
+        } else if (FundingStatus.FAIL.name().equals(event.getFundingStatus())) {
+            message = "펀딩이 목표 금액에 도달하지 못하고 종료되었어요.";
+        } else {
+            return;
+        }
+
+        String stepKey = DONE_KEY_PREFIX + event.getFundingId() + ":" + event.getFundingStatus();
+        runOnce(stepKey + ":alarm", () -> consumerAlarmService.createAlarm(PostConsumerAlarmRequest.builder()
+                .consumerId(event.getConsumerId())
+                .message(message)
+                .messageType(ConsumerAlarm.MessageType.펀딩.name())
+                .build()));
+        runOnce(stepKey + ":push", () -> fcmNotificationProvider.sendToOne(event.getConsumerId(),
+                FcmNotificationDto.of("펀딩 종료 알림", "[" + event.getFundingName() + "] " + message)));
+    }
+
+    // 완료 표시가 없을 때만 실행, 실패하면 표시를 지우고 예외를 던져 재처리 때 그 단계만 다시 한다
+    private void runOnce(String doneKey, Runnable step) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(doneKey, "1", DONE_TTL))) {
+            log.info("[FundingEventHandler] 이미 처리한 단계 건너뜀 : {}", doneKey);
+            return;
+        }
+
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(doneKey);
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.d201.fundingift.funding.service;
+
+import com.d201.fundingift.attendance.repository.AttendanceRepository;
+import com.d201.fundingift.funding.dto.response.GetFundingProgressResponse;
+import com.d201.fundingift.funding.event.FundingProgressChangedEvent;
+import com.google.gson.Gson;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ *  펀딩 진행 현황 변경을 Redis pub/sub 으로 모든 서버에 전파하는 클래스
+ *  - 트랜잭션이 커밋된 뒤에만 발행한다. (롤백된 결제는 전파되지 않음)
+ *  - 각 서버의 FundingProgressStreamService 가 받아서 자신에게 연결된 SSE 구독자에게 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FundingProgressPublisher {
+
+    public static final String CHANNEL = "funding:progress";
+
+    private final AttendanceRepository attendanceRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Gson gson = new Gson();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(FundingProgressChangedEvent event) {
+        try {
+            long attendanceCount = attendanceRepository.countByFundingIdAndDeletedAtIsNull(event.getFundingId());
+            GetFundingProgressResponse progress = GetFundingProgressResponse.of(event, attendanceCount);
+            stringRedisTemplate.convertAndSend(CHANNEL, gson.toJson(progress));
+        } catch (Exception e) {
+            // 전파 실패는 결제 / 상태 변경 결과에 영향을 주지 않는다 (클라이언트는 다음 이벤트나 재연결 시 최신 값을 받음)
+            log.warn("[FundingProgressPublisher] 펀딩({}) 진행 현황 발행 실패 : {}", event.getFundingId(), e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.d201.fundingift.funding.service;
+
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift._common.util.SecurityUtil;
+import com.d201.fundingift.attendance.repository.AttendanceRepository;
+import com.d201.fundingift.funding.dto.response.GetFundingDetailResponse;
+import com.d201.fundingift.funding.dto.response.GetFundingProgressResponse;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.d201.fundingift._common.response.ErrorType.FUNDING_PROGRESS_STREAM_LIMIT;
+
+/*
+ *  펀딩 진행 현황(모인 금액, 참여자 수, 상태) SSE 구독 관리
+ *  - 구독 시 펀딩 상세와 같은 권한 검사를 한 번 하고, 현재 값을 첫 이벤트로 보낸다.
+ *  - 이후에는 Redis 채널(funding:progress)로 들어온 변경만 해당 펀딩 구독자에게 보낸다.
+ *  - 서버 전체 / 사용자별 연결 수를 제한하고, 주기적으로 heartbeat 주석을 보내 끊긴 연결을 정리한다.
+ *  - 펀딩이 종료(SUCCESS / FAIL)되면 마지막 이벤트를 보낸 뒤 연결을 닫는다.
+ *  - 구독 연결은 펀딩 조회 기록(본 친구 수)에 포함하지 않는다.
+ *
+ *  느린 클라이언트 처리 (ConsumerAlarmStreamService 와 같은 방식)
+ *  - Redis 리스너 스레드는 연결별 대기 상태에 최신 값만 남기고, 전용 Executor 에서 연결당 하나의 작업이 전송한다.
+ *  - 진행 현황은 마지막 값만 의미가 있으므로 아직 보내지 못한 이전 값은 덮어쓴다.
+ */
+@Slf4j
+@Service
+public class FundingProgressStreamService implements MessageListener {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final FundingService fundingService;
+    private final AttendanceRepository attendanceRepository;
+    private final SecurityUtil securityUtil;
+    private final AsyncTaskExecutor executor;
+    private final Gson gson = new Gson();
+
+    private final int maxConnections;
+    private final int maxConnectionsPerConsumer;
+    private final long timeoutMillis;
+
+    private final Map<Long, Set<Subscription>> subscriptionsByFunding = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> connectionsByConsumer = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public FundingProgressStreamService(FundingService fundingService,
+                                        AttendanceRepository attendanceRepository,
+                                        SecurityUtil securityUtil,
+                                        RedisMessageListenerContainer redisMessageListenerContainer,
+                                        @Qualifier("progressStreamTaskExecutor") AsyncTaskExecutor progressStreamTaskExecutor,
+                                        @Value("${funding.progress.max-connections:2000}") int maxConnections,
+                                        @Value("${funding.progress.max-connections-per-consumer:3}") int maxConnectionsPerConsumer,
+                                        @Value("${funding.progress.timeout-millis:1800000}") long timeoutMillis) {
+        this.fundingService = fundingService;
+        this.attendanceRepository = attendanceRepository;
+        this.securityUtil = securityUtil;
+        this.executor = progressStreamTaskExecutor;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerConsumer = maxConnectionsPerConsumer;
+        this.timeoutMillis = timeoutMillis;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(FundingProgressPublisher.CHANNEL));
+    }
+
+    public SseEmitter subscribe(Long fundingId) {
+        Long consumerId = securityUtil.getConsumerId();
+
+        // 펀딩 상세 조회와 같은 권한 검사 + 현재 값 (조회 기록은 남기지 않음)
+        GetFundingDetailResponse fundingDetail = fundingService.getFundingDetailWithoutView(fundingId);
+        long attendanceCount = attendanceRepository.countByFundingIdAndDeletedAtIsNull(fundingId);
+        GetFundingProgressResponse progress = GetFundingProgressResponse.of(fundingDetail, attendanceCount);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        // 이미 종료된 펀딩은 현재 값만 보내고 닫는다 (연결 수에 포함하지 않음)
+        if (isFinished(progress.getFundingStatus())) {
+            sendAndComplete(emitter, progress);
+            return emitter;
+        }
+
+        Subscription subscription = register(fundingId, consumerId, emitter);
+        emitter.onCompletion(subscription::release);
+        emitter.onTimeout(subscription::release);
+        emitter.onError(e -> subscription.release());
+
+        subscription.offer(progress, false);
+        return emitter;
+    }
+
+    // Redis 채널 메시지 -> 이 서버에 연결된 해당 펀딩 구독자
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        GetFundingProgressResponse progress = gson.fromJson(new String(message.getBody(), StandardCharsets.UTF_8), GetFundingProgressResponse.class);
+        Set<Subscription> subscriptions = subscriptionsByFunding.get(progress.getFundingId());
+        if (subscriptions == null) {
+            return;
+        }
+
+        boolean finished = isFinished(progress.getFundingStatus());
+        subscriptions.forEach(subscription -> subscription.offer(progress, finished));
+    }
+
+    // 프록시 / 로드밸런서의 유휴 연결 종료를 막고, 끊긴 연결을 찾아 정리한다
+    @Scheduled(fixedDelayString = "${funding.progress.heartbeat-millis:15000}")
+    public void heartbeat() {
+        subscriptionsByFunding.values().forEach(subscriptions -> subscriptions.forEach(Subscription::requestHeartbeat));
+    }
+
+    private Subscription register(Long fundingId, Long consumerId, SseEmitter emitter) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new CustomException(FUNDING_PROGRESS_STREAM_LIMIT);
+        }
+
+        // 증가와 제거(release)가 같은 키의 compute 안에서만 일어나므로, 제거된 카운터를 올리는 일이 없다
+        AtomicBoolean limited = new AtomicBoolean();
+        connectionsByConsumer.compute(consumerId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxConnectionsPerConsumer) {
+                limited.set(true);
+                return count;
+            }
+            return current + 1;
+        });
+        if (limited.get()) {
+            connections.decrementAndGet();
+            throw new CustomException(FUNDING_PROGRESS_STREAM_LIMIT);
+        }
+
+        Subscription subscription = new Subscription(fundingId, consumerId, emitter);
+        subscriptionsByFunding.compute(fundingId, (id, subscriptions) -> {
+            if (subscriptions == null) {
+                subscriptions = ConcurrentHashMap.newKeySet();
+            }
+            subscriptions.add(subscription);
+            return subscriptions;
+        });
+        return subscription;
+    }
+
+    private void sendAndComplete(SseEmitter emitter, GetFundingProgressResponse progress) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(progress));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private boolean isFinished(String fundingStatus) {
+        return FundingStatus.SUCCESS.name().equals(fundingStatus) || FundingStatus.FAIL.name().equals(fundingStatus);
+    }
+
+    private class Subscription {
+
+        private final Long fundingId;
+        private final Long consumerId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        // 아래 상태는 this 로 동기화
+        private GetFundingProgressResponse progress;
+        private boolean finished;
+        private boolean heartbeat;
+        private boolean draining;
+
+        private Subscription(Long fundingId, Long consumerId, SseEmitter emitter) {
+            this.fundingId = fundingId;
+            this.consumerId = consumerId;
+            this.emitter = emitter;
+        }
+
+        private void offer(GetFundingProgressResponse progress, boolean finished) {
+            synchronized (this) {
+                if (this.finished) {
+                    return;
+                }
+                this.progress = progress;
+                this.finished = finished;
+            }
+            scheduleDrain();
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                heartbeat = true;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (draining || released.get()) {
+                    return;
+                }
+                draining = true;
+            }
+
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                // 다음 이벤트 / heartbeat 때 다시 시도
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        private void drain() {
+            while (!released.get()) {
+                SseEmitter.SseEventBuilder event;
+                boolean complete = false;
+                synchronized (this) {
+                    if (progress != null) {
+                        event = SseEmitter.event().name(EVENT_NAME).data(progress);
+                        progress = null;
+                        heartbeat = false;
+                        complete = finished;
+                    } else if (heartbeat) {
+                        event = SseEmitter.event().comment("heartbeat");
+                        heartbeat = false;
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    fail(e);
+                    return;
+                }
+
+                if (complete) {
+                    emitter.complete();
+                    return;
+                }
+            }
+        }
+
+        private void fail(Exception e) {
+            log.debug("[FundingProgressStreamService] 펀딩({}) 구독 연결 종료 : {}", fundingId, e.getMessage());
+            release();
+            emitter.completeWithError(e);
+        }
+
+        // 완료 / 타임아웃 / 에러 콜백이 여러 번 불려도 한 번만 정리한다
+        private void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+
+            subscriptionsByFunding.computeIfPresent(fundingId, (id, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+            connectionsByConsumer.computeIfPresent(consumerId, (id, count) -> count <= 1 ? null : count - 1);
+            connections.decrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.d201.fundingift.funding.service;
+
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.repository.FundingReconciliationJdbcRepository;
+import com.d201.fundingift.funding.repository.FundingReconciliationJdbcRepository.Discrepancy;
+import com.d201.fundingift.funding.repository.FundingReconciliationJdbcRepository.FundingSum;
+import com.d201.fundingift.job.service.JobContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *  펀딩 모인 금액(sum_price) 야간 대사
+ *  - funding_id keyset chunk 마다 GROUP BY 한 번으로 결제 완료된 참여 금액 합계를 구해 sum_price 와 비교한다.
+ *    (엔티티를 만들지 않고, 긴 커서로 커넥션을 오래 잡지 않는다)
+ *  - 불일치는 funding_reconciliation 에 실행(runId)별로 남긴다.
+ *  - 진행 중인 펀딩(PRE_PROGRESS / IN_PROGRESS)이고 차이가 max-drift 이하면 sum_price 를 자동 보정한다.
+ *    (읽은 값에서 바뀌지 않았을 때만 - 그 사이 결제가 들어왔으면 다음 실행에서 다시 본다)
+ *  - 종료된 펀딩은 환불 / 정산이 이미 sum_price 를 사용했으므로 리포트만 남긴다.
+ *  - JobConfig 의 funding-reconciliation 작업으로 실행되며, funding_id 범위 파티션마다 따로 실행된다.
+ *
+ *  측정 (actuator /actuator/metrics)
+ *  - funding.reconciliation.scanned: 확인한 펀딩 수
+ *  - funding.reconciliation.discrepancies{corrected}: 불일치 펀딩 수
+ *  - funding.reconciliation.drift: 불일치 금액(절댓값) 분포
+ *  - funding.reconciliation.duration: 전체 실행 시간
+ */
+@Slf4j
+@Service
+public class FundingReconciliationService {
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Set<String> CORRECTABLE_STATUSES = Set.of(FundingStatus.PRE_PROGRESS.name(), FundingStatus.IN_PROGRESS.name());
+
+    private final FundingReconciliationJdbcRepository fundingReconciliationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reconciliation.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${reconciliation.auto-correct.enabled:true}")
+    private boolean autoCorrectEnabled;
+
+    @Value("${reconciliation.auto-correct.max-drift:100000}")
+    private long maxDrift;
+
+    public FundingReconciliationService(FundingReconciliationJdbcRepository fundingReconciliationJdbcRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        MeterRegistry meterRegistry) {
+        this.fundingReconciliationJdbcRepository = fundingReconciliationJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public long findMaxFundingId() {
+        return fundingReconciliationJdbcRepository.findMaxFundingId();
+    }
+
+    // 파티션(context.fromId < funding_id <= context.toId) 대사, 반환: 확인한 펀딩 수
+    public long reconcile(JobContext context) {
+        String runId = LocalDateTime.now().format(RUN_ID_FORMAT) + "-" + context.partition();
+        long start = System.nanoTime();
+        long scanned = 0;
+        long discrepancies = 0;
+        long corrected = 0;
+        try {
+            long afterId = context.fromId();
+            List<FundingSum> chunk;
+            while (!(chunk = fundingReconciliationJdbcRepository.findSums(afterId, context.toId(), chunkSize)).isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).fundingId();
+                scanned += chunk.size();
+
+                List<Discrepancy> found = handleChunk(runId, chunk);
+                discrepancies += found.size();
+                corrected += found.stream().filter(Discrepancy::corrected).count();
+            }
+            return scanned;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("funding.reconciliation.duration").register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+            Counter.builder("funding.reconciliation.scanned").register(meterRegistry).increment(scanned);
+            log.info("[FundingReconciliationService] runId={} 펀딩 {}건 확인, 불일치 {}건 (보정 {}건), {}ms ({}건/s)",
+                    runId, scanned, discrepancies, corrected, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    elapsed > 0 ? scanned * 1_000_000_000L / elapsed : scanned);
+        }
+    }
+
+    private List<Discrepancy> handleChunk(String runId, List<FundingSum> chunk) {
+        List<FundingSum> mismatched = chunk.stream().filter(sum -> sum.drift() != 0).toList();
+        if (mismatched.isEmpty()) {
+            return List.of();
+        }
+
+        List<FundingSum> correctable = mismatched.stream().filter(this::isCorrectable).toList();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            boolean[] correctedFlags = fundingReconciliationJdbcRepository.correct(correctable, now);
+
+            List<Discrepancy> discrepancies = new ArrayList<>(mismatched.size());
+            int correctableIndex = 0;
+            for (FundingSum sum : mismatched) {
+                boolean corrected = correctableIndex < correctable.size() && correctable.get(correctableIndex) == sum
+                        && correctedFlags[correctableIndex++];
+                discrepancies.add(new Discrepancy(sum, corrected));
+                record(sum, corrected);
+            }
+
+            fundingReconciliationJdbcRepository.insertReports(runId, discrepancies, now);
+            return discrepancies;
+        });
+    }
+
+    private boolean isCorrectable(FundingSum sum) {
+        return autoCorrectEnabled
+                && CORRECTABLE_STATUSES.contains(sum.fundingStatus())
+                && Math.abs(sum.drift()) <= maxDrift
+                && sum.actualSumPrice() <= Integer.MAX_VALUE;
+    }
+
+    private void record(FundingSum sum, boolean corrected) {
+        log.warn("[FundingReconciliationService] fundingId={} ({}) sum_price={} 실제={} 차이={}{}",
+                sum.fundingId(), sum.fundingStatus(), sum.recordedSumPrice(), sum.actualSumPrice(), sum.drift(),
+                corrected ? " -> 보정" : "");
+        Counter.builder("funding.reconciliation.discrepancies")
+                .tag("corrected", String.valueOf(corrected))
+                .register(meterRegistry)
+                .increment();
+        DistributionSummary.builder("funding.reconciliation.drift")
+                .baseUnit("won")
+                .register(meterRegistry)
+                .record(Math.abs(sum.drift()));
+    }
+
+}
@@ -1,11 +1,14 @@
 package com.d201.fundingift.funding.service;
 
+import com.d201.fundingift._common.event.DomainEventPublisher;
 import com.d201.fundingift.funding.entity.Funding;
 import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.event.FundingProgressChangedEvent;
+import com.d201.fundingift.funding.event.FundingStatusChangedEvent;
 import com.d201.fundingift.funding.repository.FundingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,29 +22,39 @@ import java.util.List;
 public class FundingSchedulerService {
 
     private final FundingRepository fundingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher domainEventPublisher;
 
+    // 시작일이 date 인 펀딩 진행 시작 (JobConfig 의 funding-status-in-progress 작업)
     @Transactional
-//    @Scheduled(cron = "0 0 0 * * ?", zone = "Asia/Seoul") //실제 서비스용
-    @Scheduled(cron = "0 8 2 * * ?", zone = "Asia/Seoul") //테스트용
-    public void updateFundingStatusInProgress() {
-        log.info("start updateFundingStatusInProgress");
-        List<Funding> fundings = fundingRepository.findAllByFundingStatusAndStartDateAndDeletedAtIsNull(FundingStatus.PRE_PROGRESS, LocalDate.now());
+    public int updateFundingStatusInProgress(LocalDate date) {
+        log.info("start updateFundingStatusInProgress {}", date);
+        List<Funding> fundings = fundingRepository.findAllByFundingStatusAndStartDateAndDeletedAtIsNull(FundingStatus.PRE_PROGRESS, date);
 
-        for(Funding f : fundings)
+        for(Funding f : fundings) {
             f.changeStatus(String.valueOf(FundingStatus.IN_PROGRESS));
+            eventPublisher.publishEvent(FundingProgressChangedEvent.from(f));
+            domainEventPublisher.publish(FundingStatusChangedEvent.from(f));
+        }
+        return fundings.size();
     }
 
+    // 종료일이 endDate 인 펀딩 성공 / 실패 처리 (JobConfig 의 funding-status-success-or-fail 작업)
     @Transactional
-//    @Scheduled(cron = "0 0 0 * * ?", zone = "Asia/Seoul") //실제 서비스용
-    @Scheduled(cron = "0 48 2 * * ?", zone = "Asia/Seoul") //테스트용
-    public void updateFundingStatusSuccessOrFail() {
-        log.info("start updateFundingStatusSuccessOrFail");
-        List<Funding> fundings = fundingRepository.findAllByFundingStatusAndEndDateAndDateAndDeletedAtIsNull(FundingStatus.IN_PROGRESS, LocalDate.now().minusDays(1));
+    public int updateFundingStatusSuccessOrFail(LocalDate endDate) {
+        log.info("start updateFundingStatusSuccessOrFail {}", endDate);
+        List<Funding> fundings = fundingRepository.findAllByFundingStatusAndEndDateAndDateAndDeletedAtIsNull(FundingStatus.IN_PROGRESS, endDate);
 
-        for(Funding f : fundings)
+        for(Funding f : fundings) {
             if(f.getSumPrice() < f.getTargetPrice())
                 f.changeStatus(String.valueOf(FundingStatus.FAIL));
             else
                 f.changeStatus(String.valueOf(FundingStatus.SUCCESS));
+
+            //종료 상태를 구독자에게 전파 (커밋 후)
+            eventPublisher.publishEvent(FundingProgressChangedEvent.from(f));
+            domainEventPublisher.publish(FundingStatusChangedEvent.from(f));
+        }
+        return fundings.size();
     }
 }
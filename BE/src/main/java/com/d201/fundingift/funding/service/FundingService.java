@@ -1,9 +1,12 @@
 package com.d201.fundingift.funding.service;
 
+import com.d201.fundingift._common.event.DomainEventPublisher;
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.response.ErrorType;
 import com.d201.fundingift._common.response.SliceList;
-import com.d201.fundingift._common.util.FcmNotificationProvider;
+import com.d201.fundingift._common.util.FanOutExecutor;
+import com.d201.fundingift._common.util.KeysetPagination;
+import com.d201.fundingift._common.util.RedisPipelineUtil;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.attendance.repository.AttendanceRepository;
 import com.d201.fundingift.consumer.entity.Consumer;
@@ -15,12 +18,14 @@ import com.d201.fundingift.funding.dto.request.PostFundingRequest;
 import com.d201.fundingift.funding.dto.response.GetFundingCalendarResponse;
 import com.d201.fundingift.funding.dto.response.GetFundingDetailResponse;
 import com.d201.fundingift.funding.dto.response.GetFundingResponse;
+import com.d201.fundingift.funding.dto.response.GetFundingViewersResponse;
 import com.d201.fundingift.funding.entity.AnniversaryCategory;
 import com.d201.fundingift.funding.entity.Funding;
 import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.event.FundingCreatedEvent;
 import com.d201.fundingift.funding.repository.AnniversaryCategoryRepository;
 import com.d201.fundingift.funding.repository.FundingRepository;
-import com.d201.fundingift._common.dto.FcmNotificationDto;
+import com.d201.fundingift.funding.repository.FundingSpecifications;
 import com.d201.fundingift.product.entity.Product;
 import com.d201.fundingift.product.entity.ProductOption;
 import com.d201.fundingift.product.repository.ProductOptionRepository;
@@ -28,11 +33,14 @@ import com.d201.fundingift.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,7 +56,10 @@ public class FundingService {
     private final ProductOptionRepository productOptionRepository;
     private final AnniversaryCategoryRepository anniversaryCategoryRepository;
     private final SecurityUtil securityUtil;
-    private final FcmNotificationProvider fcmNotificationProvider;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FanOutExecutor fanOutExecutor;
+    private final RedisPipelineUtil redisPipelineUtil;
+    private final FundingViewCounter fundingViewCounter;
 
     @Transactional
     public void postFunding(PostFundingRequest postFundingRequest) {
@@ -79,13 +90,10 @@ public class FundingService {
         isOver7Days(postFundingRequest.getStartDate(), postFundingRequest.getEndDate());
 
         //시작일이 오늘이면 IN_PROGRESS로 상태 변경, 미래면 PRE_PROGRESS
-        fundingRepository.save(Funding.from(postFundingRequest, IsStartDateToday(postFundingRequest.getStartDate()), consumer, anniversaryCategory, product, productOption));
+        Funding funding = fundingRepository.save(Funding.from(postFundingRequest, IsStartDateToday(postFundingRequest.getStartDate()), consumer, anniversaryCategory, product, productOption));
 
-        // 알림
-        fcmNotificationProvider.sendToMany(
-                getConsumersByToConsumerIdAndFavorite(consumer.getId()),
-                FcmNotificationDto.of("펀딩 등록 알림", consumer.getName() + "님이 펀딩을 등록했어요!")
-        );
+        // 알림 (커밋 후 비동기)
+        domainEventPublisher.publish(FundingCreatedEvent.from(funding));
     }
 
     @Transactional
@@ -107,15 +115,19 @@ public class FundingService {
     }
 
     //내 펀딩 목록 보기
-    public SliceList<GetFundingResponse> getMyFundings(String keyword, Pageable pageable) {
+    public SliceList<GetFundingResponse> getMyFundings(String keyword, Pageable pageable, String cursor) {
         Long myConsumerId = securityUtil.getConsumerId();
 
+        //커서 기반 조회
+        if (cursor != null)
+            return withViewerCounts(getFundingsByCursor(consumerFundings(myConsumerId, keyword), pageable, cursor));
+
         //제품명으로 검색 안하는 경우
         if (keyword == null)
-            return getFundingsSliceList(findAllByConsumerId(myConsumerId, pageable));
+            return withViewerCounts(getFundingsSliceList(findAllByConsumerId(myConsumerId, pageable)));
 
         //제품명으로 검색하는 경우
-        return getFundingsSliceList(findAllByConsumerIdAndProductName(myConsumerId, keyword, pageable));
+        return withViewerCounts(getFundingsSliceList(findAllByConsumerIdAndProductName(myConsumerId, keyword, pageable)));
     }
 
     //내가 참여한 펀딩 목록 조회
@@ -126,7 +138,7 @@ public class FundingService {
     }
 
     //친구 펀딩 목록 보기
-    public SliceList<GetFundingResponse> getFriendFundings(Long friendConsumerId, String keyword, Pageable pageable) {
+    public SliceList<GetFundingResponse> getFriendFundings(Long friendConsumerId, String keyword, Pageable pageable, String cursor) {
         Long myConsumerId = securityUtil.getConsumerId();
 
         //친구 아이디 존재 여부 확인
@@ -137,12 +149,20 @@ public class FundingService {
 
         //보려는 펀딩 목록의 대상에 자신이 친한 친구인지 확인
         if(checkingIsFavoriteFriend(friendConsumerId, myConsumerId)) {
+            //커서 기반 조회
+            if(cursor != null)
+                return getFundingsByCursor(consumerFundings(friendConsumerId, keyword), pageable, cursor);
+
             //제품명으로 검색 안하는 경우
             if(keyword == null)
                 return getFundingsSliceList(findAllByConsumerId(friendConsumerId, pageable));
 
             return getFundingsSliceList(findAllByConsumerIdAndProductName(friendConsumerId, keyword, pageable));
         } else {
+            //커서 기반 조회 - 공개 펀딩만
+            if(cursor != null)
+                return getFundingsByCursor(consumerFundings(friendConsumerId, keyword).and(FundingSpecifications.isPublic()), pageable, cursor);
+
             //제품명으로 검색 안하는 경우
             if(keyword == null)
                 return getFundingsSliceList(findAllByConsumerIdAndIsPrivate(friendConsumerId, pageable));
@@ -151,12 +171,23 @@ public class FundingService {
         }
     }
 
-    public SliceList<GetFundingResponse> getFundingFeeds(Pageable pageable) {
+    public SliceList<GetFundingResponse> getFundingFeeds(Pageable pageable, String cursor) {
         Long myConsumerId = securityUtil.getConsumerId();
 
         //친구 리스트 조회
         List<Friend> friends = friendRepository.findByConsumerId(myConsumerId);
 
+        //커서 기반 조회 - 비공개 펀딩 필터도 조건에 넣어 페이지가 size 만큼 채워지게 한다
+        if (cursor != null) {
+            List<Long> friendIds = friends.stream()
+                    .map(Friend::getToConsumerId).toList();
+            Specification<Funding> where = FundingSpecifications.consumerIdIn(friendIds)
+                    .and(FundingSpecifications.isInProgress())
+                    .and(FundingSpecifications.isNotDeleted())
+                    .and(FundingSpecifications.isPublicOrConsumerIdIn(getConsumerIdsFavoritingMe(friends)));
+            return KeysetPagination.fetch(fundingRepository, where, pageable.getSort(), cursor, pageable.getPageSize(), GetFundingResponse::from);
+        }
+
         return getFundingsFeedSliceList(findAllByConsumerIdsAndFundingStatus(friends, pageable), friends);
     }
 
@@ -183,22 +214,70 @@ public class FundingService {
     public GetFundingDetailResponse getFundingDetailResponse(Long fundingId) {
         Long myConsumerId = securityUtil.getConsumerId();
 
+        Funding funding = getReadableFunding(fundingId, myConsumerId);
+        Long fundingConsumerId = funding.getConsumer().getId();
+
+        GetFundingDetailResponse fundingDetail = GetFundingDetailResponse.from(funding);
+
+        //내 펀딩이면 본 친구 수, 친구의 펀딩이면 조회 기록 (DB 를 거치지 않음)
+        if(Objects.equals(myConsumerId, fundingConsumerId))
+            fundingDetail.setViewerCount(fundingViewCounter.count(fundingId));
+        else
+            fundingViewCounter.record(fundingId, myConsumerId);
+
+        return fundingDetail;
+    }
+
+    //펀딩 상세와 같은 권한 검사만 하고 조회 기록은 남기지 않음 (진행 현황 구독 등)
+    public GetFundingDetailResponse getFundingDetailWithoutView(Long fundingId) {
+        return GetFundingDetailResponse.from(getReadableFunding(fundingId, securityUtil.getConsumerId()));
+    }
+
+    //내 펀딩이거나, 친구의 펀딩(비공개면 친한 친구)일 때만 반환
+    private Funding getReadableFunding(Long fundingId, Long myConsumerId) {
         Funding funding = getFunding(fundingId);
         Long fundingConsumerId = funding.getConsumer().getId();
 
         //내 펀딩인지 확인
         if(!Objects.equals(myConsumerId, fundingConsumerId)) {
-
-            //보려는 펀딩 목록의 대상이 자신의 친구인지 확인
-            checkingFriend(myConsumerId, fundingConsumerId);
+            //친구 관계, 친한 친구 관계는 서로 독립적인 Redis 조회이므로 병렬로 확인
+            CompletableFuture<Optional<Friend>> friend = fanOutExecutor.fork(() -> friendRepository.findById(myConsumerId + ":" + fundingConsumerId));
+            CompletableFuture<Optional<Friend>> toFriend = funding.getIsPrivate()
+                    ? fanOutExecutor.fork(() -> friendRepository.findById(fundingConsumerId + ":" + myConsumerId))
+                    : CompletableFuture.completedFuture(Optional.empty());
+
+            //보려는 펀딩 목록의 대상이 자신의 친구인지 확인 (아니면 친한 친구 조회는 취소)
+            try {
+                fanOutExecutor.join(friend)
+                        .orElseThrow(() -> new CustomException(ErrorType.FRIEND_NOT_FOUND));
+            } catch (RuntimeException e) {
+                fanOutExecutor.cancel(toFriend);
+                throw e;
+            }
 
             //글 허용범위가 펀딩 생성자의 친한 친구 인지 확인
             if(funding.getIsPrivate()) {
-                checkingIsFavoriteFriendOrElseThrow(fundingConsumerId, myConsumerId);
+                fanOutExecutor.join(toFriend)
+                        .orElseThrow(() -> new CustomException(ErrorType.FRIEND_NOT_IS_FAVORITE));
             }
         }
 
-        return GetFundingDetailResponse.from(funding);
+        return funding;
+    }
+
+    //내 펀딩을 본 친구 수 추이 (오늘까지 days 일)
+    public GetFundingViewersResponse getFundingViewers(Long fundingId, Integer days) {
+        Long myConsumerId = securityUtil.getConsumerId();
+        Funding funding = getFunding(fundingId);
+
+        if(!Objects.equals(myConsumerId, funding.getConsumer().getId()))
+            throw new CustomException(ErrorType.FUNDING_NOT_MINE);
+
+        //날짜별 기록은 30일 보관
+        int period = Math.min(Math.max(days, 1), 30);
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        return GetFundingViewersResponse.of(fundingId, fundingViewCounter.count(fundingId),
+                fundingViewCounter.countDaily(fundingId, today.minusDays(period - 1), today));
     }
 
     public List<GetFundingCalendarResponse> getFundingCalendarsResponse(Integer year, Integer month) {
@@ -272,14 +351,37 @@ public class FundingService {
         return SliceList.from(fundings.stream().map(GetFundingResponse::from).collect(Collectors.toList()), fundings.getPageable(), fundings.hasNext());
     }
 
+    //내 펀딩 목록에 본 친구 수 채우기 (Redis 파이프라인 한 번)
+    private SliceList<GetFundingResponse> withViewerCounts(SliceList<GetFundingResponse> fundings) {
+        List<GetFundingResponse> data = fundings.getData();
+        List<Long> viewerCounts = fundingViewCounter.countAll(data.stream().map(GetFundingResponse::getFundingId).toList());
+        for (int i = 0; i < data.size(); i++) {
+            data.get(i).setViewerCount(viewerCounts.get(i));
+        }
+        return fundings;
+    }
+
+    //커서 기반 펀딩 목록 조회 (OFFSET 없이 마지막으로 본 펀딩 뒤부터 조회)
+    private SliceList<GetFundingResponse> getFundingsByCursor(Specification<Funding> where, Pageable pageable, String cursor) {
+        return KeysetPagination.fetch(fundingRepository, where, pageable.getSort(), cursor, pageable.getPageSize(), GetFundingResponse::from);
+    }
+
+    //consumerId, 검색어(있으면)로 삭제되지 않은 펀딩 조건
+    private Specification<Funding> consumerFundings(Long consumerId, String keyword) {
+        return FundingSpecifications.consumerIdEquals(consumerId)
+                .and(FundingSpecifications.isNotDeleted())
+                .and(FundingSpecifications.productNameContains(keyword));
+    }
+
     //slice<Funding> -> SliceList<GetFundingResponse> 변경 매서드
     private SliceList<GetFundingResponse> getFundingsFeedSliceList(Slice<Funding> fundings, List<Friend> friends) {
-        Map<Long, Friend> toFriends = new HashMap<>();
+        return SliceList.from(filterFeedFundings(fundings.getContent(), friends).stream().map(GetFundingResponse::from).collect(Collectors.toList()), fundings.getPageable(), fundings.hasNext());
+    }
 
-        for(Friend f : friends) {
-            Optional<Friend> toFriend =friendRepository.findById(f.getToConsumerId() + ":" + f.getConsumerId());
-            toFriend.ifPresent(friend -> toFriends.put(f.getToConsumerId(), friend));
-        }
+    //비공개 펀딩은 나를 친한 친구로 설정한 친구의 것만 남긴다
+    private List<Funding> filterFeedFundings(List<Funding> fundings, List<Friend> friends) {
+        //나를 친한 친구로 설정한 친구 ID - 친구 수만큼의 조회를 파이프라인 한 번으로 처리
+        Set<Long> favoriteMeIds = getConsumerIdsFavoritingMe(friends);
 
         List<Funding> changed = new ArrayList<>();
         for(Funding f : fundings) {
@@ -288,11 +390,30 @@ public class FundingService {
                 continue;
             }
 
-            if(toFriends.containsKey(f.getConsumer().getId()) && toFriends.get(f.getConsumer().getId()).getIsFavorite())
+            if(favoriteMeIds.contains(f.getConsumer().getId()))
                 changed.add(f);
         }
 
-        return SliceList.from(changed.stream().map(GetFundingResponse::from).collect(Collectors.toList()), fundings.getPageable(), fundings.hasNext());
+        return changed;
+    }
+
+    private Set<Long> getConsumerIdsFavoritingMe(List<Friend> friends) {
+        List<String> keys = friends.stream()
+                .map(f -> "friend:" + f.getToConsumerId() + ":" + f.getConsumerId())
+                .toList();
+        List<String> isFavorites = redisPipelineUtil.hGet(keys, "isFavorite");
+
+        Set<Long> favoriteMeIds = new HashSet<>();
+        for(int i = 0; i < friends.size(); i++) {
+            if(isFavoriteValue(isFavorites.get(i)))
+                favoriteMeIds.add(friends.get(i).getToConsumerId());
+        }
+        return favoriteMeIds;
+    }
+
+    //@RedisHash 의 Boolean 필드는 "1"/"0" 으로 저장된다
+    private boolean isFavoriteValue(String value) {
+        return "1".equals(value) || "true".equalsIgnoreCase(value);
     }
 
     //consumerId로 펀딩 목록 찾기
@@ -343,11 +464,6 @@ public class FundingService {
         return friend.isPresent() && friend.get().getIsFavorite();
     }
 
-    private void checkingIsFavoriteFriendOrElseThrow(Long toConsumerId, Long consumerId) {
-        friendRepository.findById(toConsumerId + ":" + consumerId)
-                .orElseThrow(() -> new CustomException(ErrorType.FRIEND_NOT_IS_FAVORITE));
-    }
-
     private AnniversaryCategory getAnniversaryCategory(PostFundingRequest postFundingRequest) {
         return anniversaryCategoryRepository.findById(postFundingRequest.getAnniversaryCategoryId())
                 .orElseThrow(() -> new CustomException(ErrorType.ANNIVERSARY_CATEGORY_NOT_FOUND));
@@ -394,12 +510,4 @@ public class FundingService {
         return "PRE_PROGRESS";
     }
 
-    private List<Consumer> getConsumersByToConsumerIdAndFavorite(Long toConsumerId) {
-        List<Long> consumerIds =  friendRepository.findAllByToConsumerIdAndIsFavorite(toConsumerId, true)
-                .stream().map(Friend::getConsumerId).toList();
-        return consumerIds.stream()
-                .map(id -> consumerRepository.findByIdAndDeletedAtIsNull(id).orElse(null))
-                .collect(Collectors.toList());
-    }
-
 }
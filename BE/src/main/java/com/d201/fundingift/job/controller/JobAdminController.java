@@ -0,0 +1,76 @@
+package com.d201.fundingift.job.controller;
+
+import com.d201.fundingift._common.response.ErrorResponse;
+import com.d201.fundingift._common.response.ResponseUtils;
+import com.d201.fundingift._common.response.SliceList;
+import com.d201.fundingift._common.response.SuccessResponse;
+import com.d201.fundingift.job.dto.response.GetJobRunResponse;
+import com.d201.fundingift.job.dto.response.GetJobSummaryResponse;
+import com.d201.fundingift.job.service.JobAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.d201.fundingift._common.response.SuccessType.GET_JOBS_SUCCESS;
+import static com.d201.fundingift._common.response.SuccessType.GET_JOB_RUNS_SUCCESS;
+
+@Tag(name = "admin jobs", description = "배치 작업 관리 API (관리자)")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jobs")
+public class JobAdminController {
+
+    private final JobAdminService jobAdminService;
+
+    @Operation(summary = "배치 작업 목록 조회",
+            description = """
+                           `token` \n
+                           등록된 배치 작업과 최근 실행(최대 50회) 요약을 조회합니다. \n
+                           - lastStatus: 마지막 시도 상태 (RUNNING, SUCCEEDED, FAILED)
+                           - lastSucceededAt: 마지막 성공 종료 시각
+                           - recentFailures: 최근 시도 중 실패 수
+                           - avgDurationMillis / maxDurationMillis: 최근 종료된 시도의 실행 시간
+                           """)
+    @ApiResponse(responseCode = "200",
+            description = "성공",
+            useReturnTypeSchema = true)
+    @ApiResponse(responseCode = "401",
+            description = "관리자가 아님",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("")
+    public SuccessResponse<List<GetJobSummaryResponse>> getJobs() {
+        log.info("[JobAdminController.getJobs]");
+        return ResponseUtils.ok(jobAdminService.getJobs(), GET_JOBS_SUCCESS);
+    }
+
+    @Operation(summary = "배치 작업 실행 이력 조회",
+            description = """
+                           `token` \n
+                           작업의 시도(window / 파티션별) 이력을 최신 순으로 조회합니다. \n
+                           Query Parameter로 page, size 넣어주세요.
+                           """)
+    @ApiResponse(responseCode = "200",
+            description = "성공",
+            useReturnTypeSchema = true)
+    @ApiResponse(responseCode = "401",
+            description = "관리자가 아님",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping("/{job-name}/runs")
+    public SuccessResponse<SliceList<GetJobRunResponse>> getJobRuns(@Schema(description = "작업 이름", example = "funding-reconciliation")
+                                                                    @PathVariable("job-name") String jobName,
+                                                                    @PageableDefault(size = 20) Pageable pageable) {
+        log.info("[JobAdminController.getJobRuns]");
+        return ResponseUtils.ok(jobAdminService.getJobRuns(jobName, pageable), GET_JOB_RUNS_SUCCESS);
+    }
+
+}
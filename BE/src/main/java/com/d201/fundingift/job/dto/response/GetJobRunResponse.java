@@ -0,0 +1,61 @@
+package com.d201.fundingift.job.dto.response;
+
+import com.d201.fundingift.job.entity.JobRun;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+public class GetJobRunResponse {
+
+    private Long jobRunId;
+    private String jobName;
+    private LocalDate windowDate;
+    private Integer partitionNo;
+    private Integer partitions;
+    private String status;
+    private String nodeId;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private Long durationMillis;
+    private Long rowsProcessed;
+    private String error;
+
+    @Builder
+    private GetJobRunResponse(Long jobRunId, String jobName, LocalDate windowDate, Integer partitionNo, Integer partitions,
+                              String status, String nodeId, LocalDateTime startedAt, LocalDateTime endedAt,
+                              Long durationMillis, Long rowsProcessed, String error) {
+        this.jobRunId = jobRunId;
+        this.jobName = jobName;
+        this.windowDate = windowDate;
+        this.partitionNo = partitionNo;
+        this.partitions = partitions;
+        this.status = status;
+        this.nodeId = nodeId;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.durationMillis = durationMillis;
+        this.rowsProcessed = rowsProcessed;
+        this.error = error;
+    }
+
+    public static GetJobRunResponse from(JobRun jobRun) {
+        return builder()
+                .jobRunId(jobRun.getId())
+                .jobName(jobRun.getJobName())
+                .windowDate(jobRun.getWindowDate())
+                .partitionNo(jobRun.getPartitionNo())
+                .partitions(jobRun.getPartitions())
+                .status(jobRun.getStatus().name())
+                .nodeId(jobRun.getNodeId())
+                .startedAt(jobRun.getStartedAt())
+                .endedAt(jobRun.getEndedAt())
+                .durationMillis(jobRun.getDurationMillis())
+                .rowsProcessed(jobRun.getRowsProcessed())
+                .error(jobRun.getError())
+                .build();
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.d201.fundingift.job.dto.response;
+
+import com.d201.fundingift.job.entity.JobRun;
+import com.d201.fundingift.job.entity.status.JobRunStatus;
+import com.d201.fundingift.job.service.ScheduledJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+
+@Getter
+public class GetJobSummaryResponse {
+
+    private String jobName;
+    private LocalTime runAt;
+    private Integer catchUpDays;
+    private Integer partitions;
+    private String lastStatus;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastSucceededAt;
+    private Integer recentRuns; // 최근 시도 수 (최대 50)
+    private Long recentFailures;
+    private Long avgDurationMillis; // 최근 종료된 시도 기준
+    private Long maxDurationMillis;
+
+    @Builder
+    private GetJobSummaryResponse(String jobName, LocalTime runAt, Integer catchUpDays, Integer partitions,
+                                  String lastStatus, LocalDateTime lastStartedAt, LocalDateTime lastSucceededAt,
+                                  Integer recentRuns, Long recentFailures, Long avgDurationMillis, Long maxDurationMillis) {
+        this.jobName = jobName;
+        this.runAt = runAt;
+        this.catchUpDays = catchUpDays;
+        this.partitions = partitions;
+        this.lastStatus = lastStatus;
+        this.lastStartedAt = lastStartedAt;
+        this.lastSucceededAt = lastSucceededAt;
+        this.recentRuns = recentRuns;
+        this.recentFailures = recentFailures;
+        this.avgDurationMillis = avgDurationMillis;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    public static GetJobSummaryResponse of(ScheduledJob job, List<JobRun> recentRuns, JobRun lastSucceeded) {
+        JobRun last = recentRuns.isEmpty() ? null : recentRuns.get(0);
+        LongSummaryStatistics durations = recentRuns.stream()
+                .map(JobRun::getDurationMillis)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .summaryStatistics();
+
+        return builder()
+                .jobName(job.getName())
+                .runAt(job.getRunAt())
+                .catchUpDays(job.getCatchUpDays())
+                .partitions(job.getPartitions())
+                .lastStatus(last == null ? null : last.getStatus().name())
+                .lastStartedAt(last == null ? null : last.getStartedAt())
+                .lastSucceededAt(lastSucceeded == null ? null : lastSucceeded.getEndedAt())
+                .recentRuns(recentRuns.size())
+                .recentFailures(recentRuns.stream().filter(run -> run.getStatus() == JobRunStatus.FAILED).count())
+                .avgDurationMillis(durations.getCount() == 0 ? null : Math.round(durations.getAverage()))
+                .maxDurationMillis(durations.getCount() == 0 ? null : durations.getMax())
+                .build();
+    }
+
+}
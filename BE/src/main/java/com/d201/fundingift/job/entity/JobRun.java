@@ -0,0 +1,101 @@
+package com.d201.fundingift.job.entity;
+
+import com.d201.fundingift._common.entity.BaseTime;
+import com.d201.fundingift.job.entity.status.JobRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+ *  배치 작업 실행 원장 - 작업(jobName) / 실행 날짜(windowDate) / 파티션마다 시도 한 번에 한 행
+ *  - 같은 window / 파티션에 SUCCEEDED 행이 있으면 다시 실행하지 않는다.
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_job_run_window", columnList = "jobName, windowDate, partitionNo"))
+public class JobRun extends BaseTime {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_run_id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String jobName;
+
+    @Column(nullable = false)
+    private LocalDate windowDate; // 실행 대상 날짜 (늦게 따라잡아 실행해도 이 날짜 기준으로 처리)
+
+    @Column(nullable = false)
+    private Integer partitionNo;
+
+    @Column(nullable = false)
+    private Integer partitions;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobRunStatus status; // RUNNING, SUCCEEDED, FAILED
+
+    @Column(nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime endedAt;
+
+    private Long durationMillis;
+
+    private Long rowsProcessed;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @Builder
+    private JobRun(String jobName, LocalDate windowDate, Integer partitionNo, Integer partitions, JobRunStatus status,
+                   String nodeId, LocalDateTime startedAt) {
+        this.jobName = jobName;
+        this.windowDate = windowDate;
+        this.partitionNo = partitionNo;
+        this.partitions = partitions;
+        this.status = status;
+        this.nodeId = nodeId;
+        this.startedAt = startedAt;
+    }
+
+    public static JobRun start(String jobName, LocalDate windowDate, int partitionNo, int partitions, String nodeId) {
+        return builder()
+                .jobName(jobName)
+                .windowDate(windowDate)
+                .partitionNo(partitionNo)
+                .partitions(partitions)
+                .status(JobRunStatus.RUNNING)
+                .nodeId(nodeId)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void succeeded(long rowsProcessed) {
+        finish(JobRunStatus.SUCCEEDED);
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    public void failed(String error) {
+        finish(JobRunStatus.FAILED);
+        this.error = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private void finish(JobRunStatus status) {
+        this.status = status;
+        this.endedAt = LocalDateTime.now();
+        this.durationMillis = Duration.between(startedAt, endedAt).toMillis();
+    }
+
+}
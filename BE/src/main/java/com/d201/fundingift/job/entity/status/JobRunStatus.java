@@ -0,0 +1,5 @@
+package com.d201.fundingift.job.entity.status;
+
+public enum JobRunStatus {
+    RUNNING, SUCCEEDED, FAILED
+}
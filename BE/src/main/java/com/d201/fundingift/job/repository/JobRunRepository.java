@@ -0,0 +1,46 @@
+package com.d201.fundingift.job.repository;
+
+import com.d201.fundingift.job.entity.JobRun;
+import com.d201.fundingift.job.entity.status.JobRunStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    boolean existsByJobNameAndWindowDateAndPartitionNoAndStatus(String jobName, LocalDate windowDate, Integer partitionNo, JobRunStatus status);
+
+    // 실행하던 노드가 중간에 내려가 RUNNING 으로 남은 시도를 FAILED 로 정리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update JobRun r set r.status = com.d201.fundingift.job.entity.status.JobRunStatus.FAILED, " +
+            "r.error = :error, r.endedAt = :now, r.updatedAt = :now " +
+            "where r.jobName = :jobName and r.windowDate = :windowDate and r.partitionNo = :partitionNo " +
+            "and r.status = com.d201.fundingift.job.entity.status.JobRunStatus.RUNNING")
+    int abandonRunning(@Param("jobName") String jobName, @Param("windowDate") LocalDate windowDate,
+                       @Param("partitionNo") Integer partitionNo, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    long countByJobNameAndWindowDateAndPartitionNoAndStatus(String jobName, LocalDate windowDate, Integer partitionNo, JobRunStatus status);
+
+    // window 안에서 성공한 파티션 번호
+    @Query("select distinct r.partitionNo from JobRun r " +
+            "where r.jobName = :jobName and r.windowDate = :windowDate " +
+            "and r.status = com.d201.fundingift.job.entity.status.JobRunStatus.SUCCEEDED")
+    List<Integer> findSucceededPartitions(@Param("jobName") String jobName, @Param("windowDate") LocalDate windowDate);
+
+    Slice<JobRun> findAllByJobNameOrderByIdDesc(String jobName, Pageable pageable);
+
+    // 작업별 최근 시도 (요약 통계용)
+    List<JobRun> findTop50ByJobNameOrderByIdDesc(String jobName);
+
+    JobRun findFirstByJobNameAndStatusOrderByIdDesc(String jobName, JobRunStatus status);
+
+}
@@ -0,0 +1,35 @@
+package com.d201.fundingift.job.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ *  파티션 실행용 id 범위 (fromId < id <= toId)
+ */
+public record IdRange(long fromId, long toId) {
+
+    public static final IdRange ALL = new IdRange(0, Long.MAX_VALUE);
+
+    // 같은 크기로 n 등분 (마지막 파티션은 범위를 계산한 뒤 추가된 행까지 포함하도록 끝을 열어 둔다)
+    public List<IdRange> split(int partitions) {
+        long size = Math.max(1, (toId - fromId + partitions - 1) / partitions);
+        List<IdRange> ranges = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            long from = Math.min(toId, fromId + size * i);
+            long to = i == partitions - 1 ? Long.MAX_VALUE : Math.min(toId, from + size);
+            ranges.add(new IdRange(from, to));
+        }
+        return ranges;
+    }
+
+    // Redis 저장 형식 "fromId:toId"
+    public String serialize() {
+        return fromId + ":" + toId;
+    }
+
+    public static IdRange parse(String value) {
+        int separator = value.indexOf(':');
+        return new IdRange(Long.parseLong(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+    }
+
+}
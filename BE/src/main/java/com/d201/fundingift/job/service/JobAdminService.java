@@ -0,0 +1,66 @@
+package com.d201.fundingift.job.service;
+
+import com.d201.fundingift._common.exception.CustomException;
+import com.d201.fundingift._common.response.SliceList;
+import com.d201.fundingift._common.util.SecurityUtil;
+import com.d201.fundingift.job.dto.response.GetJobRunResponse;
+import com.d201.fundingift.job.dto.response.GetJobSummaryResponse;
+import com.d201.fundingift.job.entity.JobRun;
+import com.d201.fundingift.job.entity.status.JobRunStatus;
+import com.d201.fundingift.job.repository.JobRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.d201.fundingift._common.response.ErrorType.USER_UNAUTHORIZED;
+
+/*
+ *  배치 작업 실행 이력 조회 (관리자 - admin.consumer-ids 에 등록된 사용자만)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class JobAdminService {
+
+    private final JobRunner jobRunner;
+    private final JobRunRepository jobRunRepository;
+    private final SecurityUtil securityUtil;
+    private final Set<Long> adminConsumerIds;
+
+    public JobAdminService(JobRunner jobRunner, JobRunRepository jobRunRepository, SecurityUtil securityUtil,
+                           @Value("${admin.consumer-ids:}") List<Long> adminConsumerIds) {
+        this.jobRunner = jobRunner;
+        this.jobRunRepository = jobRunRepository;
+        this.securityUtil = securityUtil;
+        this.adminConsumerIds = Set.copyOf(adminConsumerIds);
+    }
+
+    public List<GetJobSummaryResponse> getJobs() {
+        checkAdmin();
+        return jobRunner.getJobs().stream()
+                .map(job -> GetJobSummaryResponse.of(job,
+                        jobRunRepository.findTop50ByJobNameOrderByIdDesc(job.getName()),
+                        jobRunRepository.findFirstByJobNameAndStatusOrderByIdDesc(job.getName(), JobRunStatus.SUCCEEDED)))
+                .collect(Collectors.toList());
+    }
+
+    public SliceList<GetJobRunResponse> getJobRuns(String jobName, Pageable pageable) {
+        checkAdmin();
+        Slice<JobRun> jobRuns = jobRunRepository.findAllByJobNameOrderByIdDesc(jobName, pageable);
+        return SliceList.from(jobRuns.stream().map(GetJobRunResponse::from).collect(Collectors.toList()), jobRuns.getPageable(), jobRuns.hasNext());
+    }
+
+    private void checkAdmin() {
+        if (!adminConsumerIds.contains(securityUtil.getConsumerId())) {
+            throw new CustomException(USER_UNAUTHORIZED);
+        }
+    }
+
+}
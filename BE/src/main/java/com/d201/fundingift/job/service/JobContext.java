@@ -0,0 +1,11 @@
+package com.d201.fundingift.job.service;
+
+import java.time.LocalDate;
+
+/*
+ *  작업 한 번(window / 파티션)의 실행 정보
+ *  - window: 처리할 날짜 (놓친 날을 늦게 따라잡아 실행해도 그 날짜 기준으로 처리한다)
+ *  - fromId / toId: 이 파티션이 맡은 id 범위 (fromId < id <= toId, 파티션을 나누지 않는 작업은 전체 범위)
+ */
+public record JobContext(String jobName, LocalDate window, int partition, int partitions, long fromId, long toId) {
+}
@@ -0,0 +1,254 @@
+package com.d201.fundingift.job.service;
+
+import com.d201.fundingift.job.entity.JobRun;
+import com.d201.fundingift.job.entity.status.JobRunStatus;
+import com.d201.fundingift.job.repository.JobRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ *  일 단위 배치 작업 실행기 - 모든 노드가 주기적으로 돌며, 실행할 window / 파티션을 리스로 나눠 가진다
+ *
+ *  리스 (Redis job:lease:{작업}:{window}:{파티션})
+ *  - 토큰(노드 id + UUID)을 값으로 setIfAbsent 한 노드만 실행하고, 실행 중에는 매 주기마다 TTL 을 연장한다.
+ *  - 연장 / 해제는 토큰이 같을 때만 하는 스크립트로 처리해, 리스가 만료돼 다른 노드가 가져간 뒤에는 건드리지 않는다.
+ *  - 노드가 내려가면 리스가 만료되고, 다른 노드가 RUNNING 으로 남은 시도를 FAILED 로 정리한 뒤 다시 실행한다.
+ *
+ *  실행 원장 (job_run)
+ *  - 시도마다 시작 / 종료 / 처리 행 수 / 에러를 남기고, SUCCEEDED 가 있는 window / 파티션은 다시 실행하지 않는다.
+ *  - runAt 이 지났는데 성공 기록이 없는 window 는 catchUpDays 이내면 늦게라도 실행한다. (서버 중단 / 배포 중 놓친 실행)
+ *  - 실패한 window / 파티션은 다음 주기에 다시 시도하고, max-attempts 번 실패하면 멈춘다.
+ *
+ *  파티션
+ *  - id 범위는 window 의 첫 실행 때 한 번 계산해 Redis 에 고정하므로, 노드마다 경계가 달라지지 않는다.
+ *  - 노드마다 다른 파티션부터 리스를 시도해 여러 노드가 나눠 실행한다.
+ */
+@Slf4j
+@Service
+public class JobRunner {
+
+    private static final String LEASE_KEY_PREFIX = "job:lease:";
+    private static final String RANGE_KEY_PREFIX = "job:range:";
+    private static final Duration RANGE_TTL = Duration.ofDays(7);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String ABANDONED = "리스 만료 (실행 노드 중단)";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final List<ScheduledJob> jobs;
+    private final JobRunRepository jobRunRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncTaskExecutor executor;
+    private final String nodeId;
+    private final int maxCatchUpDays;
+
+    // 성공한 실행 (작업:window:파티션 -> window), 매 주기 원장을 다시 조회하지 않기 위한 캐시
+    private final Map<String, LocalDate> completed = new ConcurrentHashMap<>();
+    // 이 노드가 실행 중인 리스 (리스 키 -> 토큰)
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${job.lease-millis:300000}")
+    private long leaseMillis;
+
+    @Value("${job.max-attempts:3}")
+    private int maxAttempts;
+
+    public JobRunner(List<ScheduledJob> jobs, JobRunRepository jobRunRepository, StringRedisTemplate stringRedisTemplate,
+                     @Qualifier("jobTaskExecutor") AsyncTaskExecutor jobTaskExecutor) {
+        this.jobs = jobs;
+        this.jobRunRepository = jobRunRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.executor = jobTaskExecutor;
+        this.nodeId = resolveNodeId();
+        this.maxCatchUpDays = jobs.stream().mapToInt(ScheduledJob::getCatchUpDays).max().orElse(0);
+    }
+
+    public List<ScheduledJob> getJobs() {
+        return jobs;
+    }
+
+    @Scheduled(fixedDelayString = "${job.tick-millis:60000}", initialDelayString = "${job.initial-delay-millis:30000}")
+    public void tick() {
+        renewLeases();
+
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        LocalDate today = now.toLocalDate();
+        completed.values().removeIf(window -> window.isBefore(today.minusDays(maxCatchUpDays)));
+
+        for (ScheduledJob job : jobs) {
+            for (LocalDate window = today.minusDays(job.getCatchUpDays()); !window.isAfter(today); window = window.plusDays(1)) {
+                if (now.isBefore(window.atTime(job.getRunAt()))) {
+                    continue;
+                }
+                try {
+                    runWindow(job, window);
+                } catch (Exception e) {
+                    log.error("[JobRunner] {} ({}) 실행 확인 실패 : {}", job.getName(), window, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void runWindow(ScheduledJob job, LocalDate window) {
+        int partitions = job.getPartitions();
+        Set<Integer> succeeded = null;
+
+        // 노드마다 다른 파티션부터 시도
+        int offset = Math.floorMod(nodeId.hashCode(), partitions);
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            String runKey = job.getName() + ":" + window + ":" + partition;
+            if (completed.containsKey(runKey) || inFlight.containsKey(LEASE_KEY_PREFIX + runKey)) {
+                continue;
+            }
+
+            if (succeeded == null) {
+                succeeded = new HashSet<>(jobRunRepository.findSucceededPartitions(job.getName(), window));
+            }
+            if (succeeded.contains(partition)) {
+                completed.put(runKey, window);
+                continue;
+            }
+            if (jobRunRepository.countByJobNameAndWindowDateAndPartitionNoAndStatus(job.getName(), window, partition, JobRunStatus.FAILED) >= maxAttempts) {
+                log.debug("[JobRunner] {} ({}, 파티션 {}) 최대 시도 횟수 초과", job.getName(), window, partition);
+                continue;
+            }
+
+            tryStart(job, window, partition, runKey);
+        }
+    }
+
+    private void tryStart(ScheduledJob job, LocalDate window, int partition, String runKey) {
+        String leaseKey = LEASE_KEY_PREFIX + runKey;
+        String token = nodeId + ":" + UUID.randomUUID();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, Duration.ofMillis(leaseMillis)))) {
+            return; // 다른 노드가 실행 중
+        }
+
+        // 원장을 읽은 뒤 리스를 잡기 전에 다른 노드가 끝냈을 수 있다
+        if (jobRunRepository.existsByJobNameAndWindowDateAndPartitionNoAndStatus(job.getName(), window, partition, JobRunStatus.SUCCEEDED)) {
+            completed.put(runKey, window);
+            release(leaseKey, token);
+            return;
+        }
+
+        inFlight.put(leaseKey, token);
+        try {
+            executor.execute(() -> run(job, window, partition, runKey, leaseKey, token));
+        } catch (TaskRejectedException e) {
+            // 다음 주기에 다시 시도
+            inFlight.remove(leaseKey);
+            release(leaseKey, token);
+        }
+    }
+
+    private void run(ScheduledJob job, LocalDate window, int partition, String runKey, String leaseKey, String token) {
+        JobRun jobRun = null;
+        try {
+            int abandoned = jobRunRepository.abandonRunning(job.getName(), window, partition, ABANDONED, LocalDateTime.now());
+            if (abandoned > 0) {
+                log.warn("[JobRunner] {} ({}, 파티션 {}) 중단된 시도 {}건 정리", job.getName(), window, partition, abandoned);
+            }
+            jobRun = jobRunRepository.save(JobRun.start(job.getName(), window, partition, job.getPartitions(), nodeId));
+
+            IdRange range = partitionRange(job, window, partition);
+            long rows = job.getWork().applyAsLong(
+                    new JobContext(job.getName(), window, partition, job.getPartitions(), range.fromId(), range.toId()));
+
+            jobRun.succeeded(rows);
+            completed.put(runKey, window);
+            log.info("[JobRunner] {} ({}, 파티션 {}/{}) 완료 {}건, {}ms",
+                    job.getName(), window, partition, job.getPartitions(), rows, jobRun.getDurationMillis());
+        } catch (Exception e) {
+            log.error("[JobRunner] {} ({}, 파티션 {}) 실패 : {}", job.getName(), window, partition, e.getMessage());
+            if (jobRun != null) {
+                jobRun.failed(e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        } finally {
+            if (jobRun != null) {
+                saveQuietly(jobRun);
+            }
+            inFlight.remove(leaseKey);
+            release(leaseKey, token);
+        }
+    }
+
+    // window 의 첫 실행에서 계산한 범위를 고정해 모든 노드가 같은 경계로 나눈다
+    private IdRange partitionRange(ScheduledJob job, LocalDate window, int partition) {
+        if (job.getIdRange() == null) {
+            return IdRange.ALL;
+        }
+
+        String rangeKey = RANGE_KEY_PREFIX + job.getName() + ":" + window;
+        String pinned = stringRedisTemplate.opsForValue().get(rangeKey);
+        if (pinned == null) {
+            stringRedisTemplate.opsForValue().setIfAbsent(rangeKey, job.getIdRange().get().serialize(), RANGE_TTL);
+            pinned = stringRedisTemplate.opsForValue().get(rangeKey);
+        }
+        return IdRange.parse(pinned).split(job.getPartitions()).get(partition);
+    }
+
+    private void renewLeases() {
+        inFlight.forEach((leaseKey, token) -> {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey), token, String.valueOf(leaseMillis));
+            if (!Long.valueOf(1).equals(renewed)) {
+                // 작업은 끝까지 실행되며, 다른 노드가 같은 window 를 다시 실행할 수 있다 (작업은 재실행에 안전해야 함)
+                log.warn("[JobRunner] 리스 연장 실패 {}", leaseKey);
+            }
+        });
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            log.warn("[JobRunner] 리스 해제 실패 {} (TTL 만료 후 해제) : {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private void saveQuietly(JobRun jobRun) {
+        try {
+            jobRunRepository.save(jobRun);
+        } catch (Exception e) {
+            log.error("[JobRunner] 실행 기록 저장 실패 {} : {}", jobRun, e.getMessage());
+        }
+    }
+
+    private static String resolveNodeId() {
+        String hostname = System.getenv("HOSTNAME");
+        return hostname != null && !hostname.isBlank() ? hostname : ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.d201.fundingift.job.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/*
+ *  JobRunner 가 실행하는 일 단위 작업 정의 (JobConfig 에 Bean 으로 등록)
+ *  - runAt: 매일 이 시각(Asia/Seoul)이 지나면 그날 window 를 실행한다.
+ *  - catchUpDays: 서버가 내려가 있어 놓친 window 를 며칠 전까지 따라잡아 실행할지 (0 이면 당일만)
+ *  - partitions / idRange: 큰 작업을 id 범위로 나눠 여러 노드가 나눠 실행한다.
+ *  - work: 처리한 행 수를 반환한다. 같은 window 를 다시 실행해도 안전해야 한다. (실패 / 리스 만료 시 재실행)
+ */
+@Getter
+public class ScheduledJob {
+
+    private final String name;
+    private final LocalTime runAt;
+    private final int catchUpDays;
+    private final int partitions;
+    private final Supplier<IdRange> idRange;
+    private final ToLongFunction<JobContext> work;
+
+    @Builder
+    private ScheduledJob(String name, LocalTime runAt, Integer catchUpDays, Integer partitions,
+                         Supplier<IdRange> idRange, ToLongFunction<JobContext> work) {
+        this.name = Objects.requireNonNull(name);
+        this.runAt = Objects.requireNonNull(runAt);
+        this.catchUpDays = catchUpDays == null ? 3 : catchUpDays;
+        this.partitions = partitions == null || idRange == null ? 1 : Math.max(1, partitions);
+        this.idRange = idRange;
+        this.work = Objects.requireNonNull(work);
+    }
+
+}
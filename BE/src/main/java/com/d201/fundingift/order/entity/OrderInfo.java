@@ -1,6 +1,10 @@
 package com.d201.fundingift.order.entity;
 
 import com.d201.fundingift._common.entity.BaseTime;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.order.entity.status.OrderStatus;
+import com.d201.fundingift.product.entity.Product;
+import com.d201.fundingift.product.entity.ProductOption;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -8,9 +12,13 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.SQLDelete;
 
+/*
+ *  성공한 펀딩의 상품 주문 (정산 배치가 JDBC 로 일괄 생성)
+ *  - idempotencyKey(order:{fundingId}) 가 유니크라 정산을 다시 실행해도 주문이 중복되지 않는다.
+ */
 @Entity
 @Getter
-@ToString
+@ToString(exclude = {"funding", "product", "productOption"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE order_info set deleted_at = DATE_ADD(NOW(), INTERVAL 9 HOUR) where order_info_id = ?")
 public class OrderInfo extends BaseTime {
@@ -20,4 +28,45 @@ public class OrderInfo extends BaseTime {
     @Column(name = "order_info_id", nullable = false)
     private Long id;
 
+    @Column(nullable = false, unique = true, length = 50)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Integer price; // 상품 가격 + 옵션 가격
+
+    @Column(nullable = false, length = 10)
+    private String recipientName;
+
+    @Column(nullable = true, length = 20)
+    private String phoneNumber;
+
+    @Column(nullable = false, length = 50)
+    private String defaultAddr;
+
+    @Column(nullable = true, length = 50)
+    private String detailAddr;
+
+    @Column(nullable = false, length = 10)
+    private String zipCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus orderStatus; // ORDERED, SHIPPING, DELIVERED
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "funding_id", referencedColumnName = "funding_id")
+    private Funding funding;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", referencedColumnName = "product_id")
+    private Product product;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_option_id", referencedColumnName = "product_option_id")
+    private ProductOption productOption;
+
+    public static String idempotencyKeyOf(Long fundingId) {
+        return "order:" + fundingId;
+    }
+
 }
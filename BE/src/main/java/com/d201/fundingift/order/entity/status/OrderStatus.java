@@ -1,5 +1,5 @@
 package com.d201.fundingift.order.entity.status;
 
 public enum OrderStatus {
-
+    ORDERED, SHIPPING, DELIVERED
 }
@@ -21,12 +21,15 @@ public class PaymentInfo extends BaseTime {
 
     private String paymentInfoUid; // 결제정보 UUID
 
+    // 상태 값이 늘어나므로 enum 이 아닌 varchar 로 둔다 (기존 DB 의 enum 컬럼은 EnumColumnMigration 이 바꾼다)
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
-    private PaymentStatus paymentStatus; // NOT_PAID, PAID, DELETED
+    @Column(nullable = false, columnDefinition = "varchar(20)")
+    private PaymentStatus paymentStatus; // READY, PAID, REFUNDING, REFUNDED, REFUND_FAILED
 
     private Integer price;
 
+    private String refundClaimToken; // 환불 선점(PAID -> REFUNDING) 시 실행마다 만든 토큰 - 일괄 선점 후 이 실행이 바꾼 결제를 다시 조회
+
     @Builder
     private PaymentInfo(Long id, String paymentInfoUid, PaymentStatus paymentStatus, Integer price) {
         this.id = id;
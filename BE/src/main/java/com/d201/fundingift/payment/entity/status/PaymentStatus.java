@@ -1,5 +1,8 @@
 package com.d201.fundingift.payment.entity.status;
 
 public enum PaymentStatus {
-    READY, PAID
+    READY, PAID,
+    REFUNDING, // 환불 요청 직전에 기록 (요청 결과를 모르는 상태, 재개 시 아임포트에 조회해 확정)
+    REFUNDED,
+    REFUND_FAILED // 아임포트가 취소를 거절 - 수동 확인 필요
 }
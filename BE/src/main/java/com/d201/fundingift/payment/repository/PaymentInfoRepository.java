@@ -1,7 +1,54 @@
 package com.d201.fundingift.payment.repository;
 
 import com.d201.fundingift.payment.entity.PaymentInfo;
+import com.d201.fundingift.payment.entity.status.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PaymentInfoRepository extends JpaRepository<PaymentInfo, Long> {
+
+    // 펀딩 참여 결제 중 해당 상태인 것 (id 순 keyset)
+    @Query("select p from Attendance a join a.paymentInfo p " +
+            "where a.funding.id = :fundingId and p.paymentStatus = :paymentStatus and p.id > :afterId " +
+            "order by p.id")
+    List<PaymentInfo> findAllByFundingIdAndPaymentStatus(@Param("fundingId") Long fundingId,
+                                                         @Param("paymentStatus") PaymentStatus paymentStatus,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
+
+    // 실패한 펀딩 중 환불이 끝나지 않은 펀딩
+    @Query("select distinct a.funding.id from Attendance a join a.paymentInfo p " +
+            "where a.funding.fundingStatus = com.d201.fundingift.funding.entity.status.FundingStatus.FAIL " +
+            "and p.paymentStatus in :paymentStatuses")
+    List<Long> findFailedFundingIdsByPaymentStatusIn(@Param("paymentStatuses") Collection<PaymentStatus> paymentStatuses);
+
+    // 상태 일괄 변경 (from 상태인 것만)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentInfo p set p.paymentStatus = :to, p.updatedAt = :updatedAt " +
+            "where p.id in :ids and p.paymentStatus = :from")
+    int updatePaymentStatus(@Param("ids") Collection<Long> ids, @Param("from") PaymentStatus from,
+                            @Param("to") PaymentStatus to, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 환불 일괄 선점 (PAID 인 것만 REFUNDING 으로 바꾸고 선점 토큰을 남긴다)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentInfo p set p.paymentStatus = com.d201.fundingift.payment.entity.status.PaymentStatus.REFUNDING, " +
+            "p.refundClaimToken = :claimToken, p.updatedAt = :updatedAt " +
+            "where p.id in :ids and p.paymentStatus = com.d201.fundingift.payment.entity.status.PaymentStatus.PAID")
+    int claimForRefund(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // ids 중 해당 토큰으로 선점된 결제
+    @Query("select p.id from PaymentInfo p where p.id in :ids and p.refundClaimToken = :claimToken")
+    List<Long> findIdsByRefundClaimToken(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken);
+
 }
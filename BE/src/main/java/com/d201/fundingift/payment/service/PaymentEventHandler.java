@@ -0,0 +1,24 @@
+package com.d201.fundingift.payment.service;
+
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.event.FundingStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 결제 관련 도메인 이벤트 후처리 (DomainEventRelay 가 커밋 후 비동기로 호출)
+@Component
+@RequiredArgsConstructor
+public class PaymentEventHandler {
+
+    private final RefundService refundService;
+
+    // 펀딩 실패 -> 참여 결제 자동 환불
+    @EventListener
+    public void onFundingStatusChanged(FundingStatusChangedEvent event) {
+        if (FundingStatus.FAIL.name().equals(event.getFundingStatus())) {
+            refundService.requestRefund(event.getFundingId());
+        }
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.d201.fundingift.payment.service;
 
+import com.d201.fundingift._common.event.DomainEventPublisher;
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.response.ErrorType;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.attendance.entity.Attendance;
+import com.d201.fundingift.attendance.event.AttendanceConfirmedEvent;
 import com.d201.fundingift.attendance.repository.AttendanceRepository;
+import com.d201.fundingift.funding.event.FundingProgressChangedEvent;
 import com.d201.fundingift.payment.dto.request.PostPaymentInfoRequest;
 import com.d201.fundingift.payment.entity.PaymentInfo;
 import com.d201.fundingift.payment.entity.status.PaymentStatus;
@@ -16,6 +19,7 @@ import com.siot.IamportRestClient.response.IamportResponse;
 import com.siot.IamportRestClient.response.Payment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +37,8 @@ public class PaymentInfoService {
     private final PaymentInfoRepository paymentInfoRepository;
     private final IamportClient iamportClient;
     private final SecurityUtil securityUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public IamportResponse<Payment> postPaymentInfo(PostPaymentInfoRequest postPaymentInfoRequest) {
@@ -72,6 +78,12 @@ public class PaymentInfoService {
             attendance.updatePaymentInfo(save);
             attendance.updateDeletedAt(null);
 
+            // 펀딩 진행 현황 구독자에게 전파 (커밋 후)
+            eventPublisher.publishEvent(FundingProgressChangedEvent.from(attendance.getFunding()));
+
+            // 펀딩 생성자 알림 (커밋 후 비동기)
+            domainEventPublisher.publish(AttendanceConfirmedEvent.from(attendance));
+
             return paymentIamportResponse;
         } catch (IamportResponseException e) {
             throw new RuntimeException(e);
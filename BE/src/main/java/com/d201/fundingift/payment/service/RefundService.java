@@ -0,0 +1,280 @@
+package com.d201.fundingift.payment.service;
+
+import com.d201.fundingift._common.util.RedisTokenBucket;
+import com.d201.fundingift.payment.entity.PaymentInfo;
+import com.d201.fundingift.payment.entity.status.PaymentStatus;
+import com.d201.fundingift.payment.repository.PaymentInfoRepository;
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ *  실패(FAIL)한 펀딩의 결제 자동 환불
+ *  - 펀딩별로 PAID 결제를 id 순으로 batch-size 만큼씩 읽어 처리한다.
+ *  - 아임포트 호출 전에 batch 를 update 한 번으로 PAID -> REFUNDING 선점하고(실행마다 만든 선점 토큰으로 실제 바뀐 결제만 다시 조회해 취소),
+ *    결과에 따라 REFUNDED / REFUND_FAILED 로 일괄 변경한다.
+ *  - 취소 요청은 전용 Executor(refund.parallelism)로 병렬 처리하고, 모든 서버가 공유하는 토큰 버킷으로 아임포트 호출 속도를 제한한다.
+ *
+ *  재개 / 중복 환불 방지
+ *  - 진행 상태는 결제의 PaymentStatus 자체이므로, 서버가 중간에 내려가도 주기적인 재개 작업이 남은 결제부터 이어서 처리한다.
+ *  - 결과를 모르는 REFUNDING 결제는 다시 취소하지 않고 아임포트에 결제 상태를 조회해
+ *    이미 취소됐으면 REFUNDED, 아니면 PAID 로 되돌린 뒤 다시 환불한다.
+ *  - 펀딩 단위 락으로 한 펀딩은 한 스레드 / 인스턴스만 처리한다.
+ *    (락 값은 실행마다 만든 토큰이며, 연장 / 해제는 토큰이 같을 때만 한다 - TTL 이 지나 다른 서버가 잡은 락을 지우지 않도록)
+ */
+@Slf4j
+@Service
+public class RefundService {
+
+    private static final String LOCK_KEY_PREFIX = "refund:lock:";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final String RATE_LIMIT_KEY = "refund:rate:iamport";
+    private static final long RATE_LIMIT_WAIT_MILLIS = 50;
+    private static final String CANCELLED = "cancelled";
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    enum Outcome {
+        REFUNDED, FAILED, UNKNOWN
+    }
+
+    private final PaymentInfoRepository paymentInfoRepository;
+    private final IamportClient iamportClient;
+    private final RedisTokenBucket redisTokenBucket;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncTaskExecutor backgroundExecutor;
+    private final AsyncTaskExecutor refundExecutor;
+
+    @Value("${refund.batch-size:100}")
+    private int batchSize;
+
+    @Value("${refund.rate.capacity:10}")
+    private int rateCapacity;
+
+    @Value("${refund.rate.per-second:10}")
+    private double ratePerSecond;
+
+    public RefundService(PaymentInfoRepository paymentInfoRepository, IamportClient iamportClient,
+                         RedisTokenBucket redisTokenBucket, StringRedisTemplate stringRedisTemplate,
+                         @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor,
+                         @Qualifier("refundTaskExecutor") AsyncTaskExecutor refundTaskExecutor) {
+        this.paymentInfoRepository = paymentInfoRepository;
+        this.iamportClient = iamportClient;
+        this.redisTokenBucket = redisTokenBucket;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.backgroundExecutor = backgroundTaskExecutor;
+        this.refundExecutor = refundTaskExecutor;
+    }
+
+    // 펀딩 환불 요청 (백그라운드 처리)
+    public void requestRefund(Long fundingId) {
+        backgroundExecutor.execute(() -> refundFunding(fundingId));
+    }
+
+    // 중단된 환불 재개
+    @Scheduled(fixedDelayString = "${refund.resume-interval-millis:300000}", initialDelayString = "${refund.resume-interval-millis:300000}")
+    public void resumePending() {
+        List<Long> fundingIds = paymentInfoRepository.findFailedFundingIdsByPaymentStatusIn(
+                List.of(PaymentStatus.PAID, PaymentStatus.REFUNDING));
+        if (fundingIds.isEmpty()) {
+            return;
+        }
+        log.info("[RefundService.resumePending] 환불이 끝나지 않은 펀딩 {}건", fundingIds.size());
+        fundingIds.forEach(this::requestRefund);
+    }
+
+    void refundFunding(Long fundingId) {
+        String lockKey = LOCK_KEY_PREFIX + fundingId;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+            return; // 다른 스레드 / 인스턴스가 처리 중
+        }
+
+        long start = System.currentTimeMillis();
+        Map<Outcome, Integer> total = new EnumMap<>(Outcome.class);
+        try {
+            // 이전 실행에서 결과를 모르게 된 결제부터 확정
+            reconcileRefunding(fundingId);
+
+            Long afterId = 0L;
+            List<PaymentInfo> batch;
+            while (!(batch = paymentInfoRepository.findAllByFundingIdAndPaymentStatus(
+                    fundingId, PaymentStatus.PAID, afterId, PageRequest.of(0, batchSize))).isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+
+                Map<Outcome, List<Long>> outcomes = refundBatch(batch);
+                outcomes.forEach((outcome, ids) -> total.merge(outcome, ids.size(), Integer::sum));
+                if (!Long.valueOf(1).equals(stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(lockKey), token, String.valueOf(LOCK_TTL.toMillis())))) {
+                    log.warn("[RefundService] fundingId={} 락을 잃어 중단, 다음 재개 때 이어서 처리", fundingId);
+                    return;
+                }
+            }
+
+            log.info("[RefundService] fundingId={} 환불 처리 완료 {} ({}ms)", fundingId, total, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[RefundService] fundingId={} 환불 처리 실패, 다음 재개 때 이어서 처리 : {}", fundingId, e.getMessage());
+        } finally {
+            releaseLock(lockKey, token);
+        }
+    }
+
+    Map<Outcome, List<Long>> refundBatch(List<PaymentInfo> batch) {
+        // 한 번의 update 로 PAID -> REFUNDING 선점 후, 이 실행이 바꾼 결제만 취소 (다른 실행이 이미 선점했거나 상태가 바뀐 결제는 건너뜀)
+        List<Long> ids = batch.stream().map(PaymentInfo::getId).toList();
+        String claimToken = UUID.randomUUID().toString();
+        int claimedCount = paymentInfoRepository.claimForRefund(ids, claimToken, LocalDateTime.now());
+        List<PaymentInfo> claimed;
+        if (claimedCount == batch.size()) {
+            claimed = batch;
+        } else if (claimedCount == 0) {
+            claimed = List.of();
+        } else {
+            Set<Long> claimedIds = new HashSet<>(paymentInfoRepository.findIdsByRefundClaimToken(ids, claimToken));
+            claimed = batch.stream().filter(paymentInfo -> claimedIds.contains(paymentInfo.getId())).toList();
+        }
+
+        List<CompletableFuture<Outcome>> futures = claimed.stream()
+                .map(paymentInfo -> CompletableFuture.supplyAsync(() -> cancel(paymentInfo), refundExecutor))
+                .toList();
+
+        Map<Outcome, List<Long>> outcomes = new EnumMap<>(Outcome.class);
+        for (int i = 0; i < claimed.size(); i++) {
+            outcomes.computeIfAbsent(futures.get(i).join(), outcome -> new ArrayList<>()).add(claimed.get(i).getId());
+        }
+
+        // UNKNOWN 은 REFUNDING 으로 남겨 재개 시 확정
+        LocalDateTime now = LocalDateTime.now();
+        if (outcomes.containsKey(Outcome.REFUNDED)) {
+            paymentInfoRepository.updatePaymentStatus(outcomes.get(Outcome.REFUNDED), PaymentStatus.REFUNDING, PaymentStatus.REFUNDED, now);
+        }
+        if (outcomes.containsKey(Outcome.FAILED)) {
+            paymentInfoRepository.updatePaymentStatus(outcomes.get(Outcome.FAILED), PaymentStatus.REFUNDING, PaymentStatus.REFUND_FAILED, now);
+        }
+        return outcomes;
+    }
+
+    private Outcome cancel(PaymentInfo paymentInfo) {
+        try {
+            acquirePermit();
+            IamportResponse<Payment> response = iamportClient.cancelPaymentByImpUid(
+                    new CancelData(paymentInfo.getPaymentInfoUid(), true, new BigDecimal(paymentInfo.getPrice())));
+            if (response.getCode() == 0) {
+                return Outcome.REFUNDED;
+            }
+
+            // 이미 취소된 결제 등 - 실제 상태로 판단
+            log.warn("[RefundService] paymentInfoId={} 취소 거절 : {}", paymentInfo.getId(), response.getMessage());
+            return verify(paymentInfo, Outcome.FAILED);
+        } catch (IamportResponseException e) {
+            log.warn("[RefundService] paymentInfoId={} 취소 거절 : {}", paymentInfo.getId(), e.getMessage());
+            return verify(paymentInfo, Outcome.FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.UNKNOWN;
+        } catch (Exception e) {
+            // 타임아웃 등 - 취소가 됐는지 알 수 없음
+            log.warn("[RefundService] paymentInfoId={} 취소 결과 확인 불가 : {}", paymentInfo.getId(), e.getMessage());
+            return Outcome.UNKNOWN;
+        }
+    }
+
+    // 아임포트 결제 상태로 확정 (취소됨 -> REFUNDED, 아니면 notCancelled)
+    private Outcome verify(PaymentInfo paymentInfo, Outcome notCancelled) {
+        try {
+            acquirePermit();
+            IamportResponse<Payment> response = iamportClient.paymentByImpUid(paymentInfo.getPaymentInfoUid());
+            return CANCELLED.equals(response.getResponse().getStatus()) ? Outcome.REFUNDED : notCancelled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.UNKNOWN;
+        } catch (Exception e) {
+            log.warn("[RefundService] paymentInfoId={} 결제 상태 조회 실패 : {}", paymentInfo.getId(), e.getMessage());
+            return Outcome.UNKNOWN;
+        }
+    }
+
+    // REFUNDING 결제: 취소됐으면 REFUNDED, 취소되지 않았으면 PAID 로 되돌려 다시 환불
+    private void reconcileRefunding(Long fundingId) {
+        Long afterId = 0L;
+        List<PaymentInfo> batch;
+        while (!(batch = paymentInfoRepository.findAllByFundingIdAndPaymentStatus(
+                fundingId, PaymentStatus.REFUNDING, afterId, PageRequest.of(0, batchSize))).isEmpty()) {
+            afterId = batch.get(batch.size() - 1).getId();
+
+            List<CompletableFuture<Outcome>> futures = batch.stream()
+                    .map(paymentInfo -> CompletableFuture.supplyAsync(() -> verify(paymentInfo, Outcome.FAILED), refundExecutor))
+                    .toList();
+
+            List<Long> refunded = new ArrayList<>();
+            List<Long> notCancelled = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                switch (futures.get(i).join()) {
+                    case REFUNDED -> refunded.add(batch.get(i).getId());
+                    case FAILED -> notCancelled.add(batch.get(i).getId());
+                    case UNKNOWN -> { } // 다음 재개 때 다시 조회
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            if (!refunded.isEmpty()) {
+                paymentInfoRepository.updatePaymentStatus(refunded, PaymentStatus.REFUNDING, PaymentStatus.REFUNDED, now);
+            }
+            if (!notCancelled.isEmpty()) {
+                paymentInfoRepository.updatePaymentStatus(notCancelled, PaymentStatus.REFUNDING, PaymentStatus.PAID, now);
+            }
+            log.info("[RefundService] fundingId={} 미확정 환불 확인 (취소됨 {}건, 재시도 {}건)", fundingId, refunded.size(), notCancelled.size());
+        }
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("[RefundService] 락 해제 실패 {} (TTL 만료 후 해제) : {}", lockKey, e.getMessage());
+        }
+    }
+
+    // 모든 서버가 공유하는 아임포트 호출 한도
+    private void acquirePermit() throws InterruptedException {
+        while (!redisTokenBucket.tryConsume(RATE_LIMIT_KEY, rateCapacity, ratePerSecond)) {
+            Thread.sleep(RATE_LIMIT_WAIT_MILLIS);
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import com.d201.fundingift._common.response.ErrorResponse;
 import com.d201.fundingift._common.response.ResponseUtils;
 import com.d201.fundingift._common.response.SliceList;
 import com.d201.fundingift._common.response.SuccessResponse;
+import com.d201.fundingift._common.util.ConditionalGet;
 import com.d201.fundingift.product.dto.response.GetProductCategoryResponse;
 import com.d201.fundingift.product.dto.response.GetProductDetailResponse;
 import com.d201.fundingift.product.dto.response.GetProductResponse;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,14 +33,20 @@ public class ProductController {
     private final ProductService productService;
 
     @Operation(summary = "상품 카테고리 목록 조회",
-            description = "상품 카테고리 목록을 조회합니다.")
+            description = "상품 카테고리 목록을 조회합니다. If-None-Match 가 ETag 와 같으면 304를 반환합니다.")
     @ApiResponse(responseCode = "200",
                 description = "성공",
                 useReturnTypeSchema = true)
     @GetMapping("/categories")
-    public SuccessResponse<List<GetProductCategoryResponse>> getCategories() {
+    public SuccessResponse<List<GetProductCategoryResponse>> getCategories(WebRequest webRequest) {
         log.info("[ProductController.getCategories]");
-        return ResponseUtils.ok(productService.getCategories(), GET_PRODUCT_CATEGORIES_SUCCESS);
+        List<GetProductCategoryResponse> categories = productService.getCategories();
+        String etag = ConditionalGet.etagOf(categories);
+        if (ConditionalGet.notModified(webRequest, etag, ConditionalGet.SHARED)) {
+            return null;
+        }
+        return ResponseUtils.ok(categories, GET_PRODUCT_CATEGORIES_SUCCESS)
+                .cacheSerializedAs("productCategories:" + etag);
     }
 
     @Operation(summary = "상품 목록 조회",
@@ -47,24 +55,27 @@ public class ProductController {
                            Query Parameter로 category-id, keyword, page, size, sort 넣어주세요. \n
                            category-id가 없으면 전체 목록을 조회합니다. \n
                            keyword가 있으면 해당 검색어 목록을 조회합니다. \n
-                           결과로 data, page, size, hasNext를 반환합니다.
+                           page를 생략하면 커서 기반으로 조회합니다. 다음 요청에 응답의 nextCursor를 cursor로 넣어주세요. \n
+                           결과로 data, page, size, hasNext, nextCursor를 반환합니다.
                            - data: 응답 데이터
                            - page: 현재 페이지 번호
                            - size: 현재 데이터 개수
                            - hasNext: 다음 페이지 존재 여부
+                           - nextCursor: 다음 페이지 커서 (커서 기반 조회일 때만)
                            """)
     @ApiResponse(responseCode = "200",
                 description = "성공",
                 useReturnTypeSchema = true)
     @ApiResponse(responseCode = "400",
-                description = "잘못된 category-id / 잘못된 sort",
+                description = "잘못된 category-id / 잘못된 sort / 잘못된 cursor",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("")
     public SuccessResponse<SliceList<GetProductResponse>> getProducts
             (@Schema(description = "카테고리 ID, 없으면 전체 목록을 조회합니다.", example = "1") @RequestParam(required = false, name = "category-id") Integer categoryId,
              @Schema(description = "검색 키워드, 없으면 키워드 없이 조회합니다.", example = "반지") @RequestParam(required = false, name = "keyword") String keyword,
-             @Schema(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(required = true, name = "page") Integer page,
+             @Schema(description = "페이지 번호 (0부터 시작), 없으면 커서 기반으로 조회합니다.", example = "0") @RequestParam(required = false, name = "page") Integer page,
              @Schema(description = "한 페이지에 불러올 데이터의 개수", example = "10") @RequestParam(required = true, name = "size") Integer size,
+             @Schema(description = "이전 응답의 nextCursor, 없으면 처음부터 조회합니다.") @RequestParam(required = false, name = "cursor") String cursor,
              @Schema(description = """
                                     정렬 조건
                                     - 0: 기본 순
@@ -74,7 +85,7 @@ public class ProductController {
                                     - 4: 가격 낮은 순
                                     """, example = "0") @RequestParam(required = true, name = "sort") Integer sort) {
         log.info("[ProductController.getProducts]");
-        return ResponseUtils.ok(productService.getProducts(categoryId, keyword, page, size, sort), GET_PRODUCTS_SUCCESS);
+        return ResponseUtils.ok(productService.getProducts(categoryId, keyword, page, size, sort, cursor), GET_PRODUCTS_SUCCESS);
     }
 
     @Operation(summary = "추천 상품 목록 조회",
@@ -99,7 +110,7 @@ public class ProductController {
     }
 
     @Operation(summary = "상품 상세 조회",
-            description = "상품의 디테일을 조회합니다. Path Variable로 product-id 넣어주세요.")
+            description = "상품의 디테일을 조회합니다. Path Variable로 product-id 넣어주세요. If-None-Match 가 ETag 와 같으면 304를 반환합니다.")
     @ApiResponse(responseCode = "200",
                 description = "성공",
                 useReturnTypeSchema = true)
@@ -108,9 +119,15 @@ public class ProductController {
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("/{product-id}")
     public SuccessResponse<GetProductDetailResponse> getProductDetail
-            (@Schema(description = "상품 ID", example = "1") @PathVariable(required = true, name = "product-id") Long productId) {
+            (@Schema(description = "상품 ID", example = "1") @PathVariable(required = true, name = "product-id") Long productId,
+             WebRequest webRequest) {
         log.info("[ProductController.getProductDetail]");
-        return ResponseUtils.ok(productService.getProductDetail(productId), GET_PRODUCT_DETAIL_SUCCESS);
+        // ETag 는 상세 조회 결과로 만든다 (304 여도 추가 조회 없이 직렬화 / 전송만 아낀다)
+        GetProductDetailResponse productDetail = productService.getProductDetail(productId);
+        if (ConditionalGet.notModified(webRequest, ConditionalGet.etagOf(productDetail), ConditionalGet.PRIVATE_REVALIDATE)) {
+            return null;
+        }
+        return ResponseUtils.ok(productDetail, GET_PRODUCT_DETAIL_SUCCESS);
     }
 
 }
@@ -88,6 +88,12 @@ public class Product extends BaseTime {
         reviewAvg = Math.round(reviewAvg * 100) / 100.0; // 소수점 둘째자리에서 반올림
     }
 
+    // 리뷰 일괄 삭제 시 (회원 탈퇴) - 남은 리뷰로 다시 계산한 값
+    public void resetReviewStats(Integer reviewCnt, Double reviewAvg) {
+        this.reviewCnt = reviewCnt;
+        this.reviewAvg = Math.round(reviewAvg * 100) / 100.0; // 소수점 둘째자리에서 반올림
+    }
+
     // 리뷰 삭제 시
     public void deleteReview(Integer star) {
         // 평균
@@ -0,0 +1,37 @@
+package com.d201.fundingift.product.repository;
+
+import com.d201.fundingift.product.entity.Product;
+import com.d201.fundingift.product.entity.status.ProductStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+// 커서 페이지네이션용 상품 조회 조건 (ProductRepository 의 JPQL 조건과 같음)
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> isActive() {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("status"), ProductStatus.ACTIVE),
+                cb.isNull(root.get("deletedAt")));
+    }
+
+    public static Specification<Product> categoryIdEquals(Integer categoryId) {
+        return (root, query, cb) -> categoryId == null ? null
+                : cb.equal(root.get("productCategory").get("id"), categoryId);
+    }
+
+    public static Specification<Product> keywordContains(String keyword) {
+        return (root, query, cb) -> {
+            if (keyword == null) {
+                return null;
+            }
+            String pattern = "%" + keyword + "%";
+            return cb.or(
+                    cb.like(root.get("name"), pattern),
+                    cb.like(root.get("description"), pattern),
+                    cb.like(root.get("productCategory").get("name"), pattern));
+        };
+    }
+
+}
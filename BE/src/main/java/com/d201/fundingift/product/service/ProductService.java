@@ -2,6 +2,8 @@ package com.d201.fundingift.product.service;
 
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.response.SliceList;
+import com.d201.fundingift._common.util.FanOutExecutor;
+import com.d201.fundingift._common.util.KeysetPagination;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.funding.repository.FundingRepository;
 import com.d201.fundingift.product.dto.response.GetProductCategoryResponse;
@@ -12,6 +14,7 @@ import com.d201.fundingift.product.entity.Product;
 import com.d201.fundingift.product.repository.ProductCategoryRepository;
 import com.d201.fundingift.product.repository.ProductOptionRepository;
 import com.d201.fundingift.product.repository.ProductRepository;
+import com.d201.fundingift.product.repository.ProductSpecifications;
 import com.d201.fundingift.wishlist.entity.Wishlist;
 import com.d201.fundingift.wishlist.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +23,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.d201.fundingift._common.response.ErrorType.*;
@@ -40,6 +45,7 @@ public class ProductService {
     private final WishlistRepository wishlistRepository;
     private final FundingRepository fundingRepository;
     private final SecurityUtil securityUtil;
+    private final FanOutExecutor fanOutExecutor;
 
     // 카테고리 리스트 조회
     public List<GetProductCategoryResponse> getCategories() {
@@ -49,7 +55,12 @@ public class ProductService {
     }
 
     // 상품 리스트 조회
-    public SliceList<GetProductResponse> getProducts(Integer categoryId, String keyword, Integer page, Integer size, Integer sort) {
+    public SliceList<GetProductResponse> getProducts(Integer categoryId, String keyword, Integer page, Integer size, Integer sort, String cursor) {
+        // 페이지 번호가 없으면 커서 기반 조회
+        if (page == null) {
+            return getProductsByCursor(categoryId, keyword, size, sort, cursor);
+        }
+
         // 페이징 객체
         Pageable pageable = PageRequest.of(page, size, getSort(sort));
 
@@ -78,6 +89,19 @@ public class ProductService {
         return getProductResponseSliceList(productRepository.findAllSliceByCategoryIdAndKeyword(categoryId, keyword, pageable));
     }
 
+    // 커서 기반 상품 리스트 조회 (OFFSET 없이 마지막으로 본 상품 뒤부터 조회)
+    private SliceList<GetProductResponse> getProductsByCursor(Integer categoryId, String keyword, Integer size, Integer sort, String cursor) {
+        if (categoryId != null) {
+            validateCategoryId(categoryId); // 카테고리 유효성 검사
+        }
+
+        Specification<Product> where = ProductSpecifications.isActive()
+                .and(ProductSpecifications.categoryIdEquals(categoryId))
+                .and(ProductSpecifications.keywordContains(keyword));
+
+        return KeysetPagination.fetch(productRepository, where, getSort(sort), cursor, size, GetProductResponse::from);
+    }
+
     public SliceList<GetProductResponse> getProductsRank(Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size);
         return getProductResponseSliceList(fundingRepository.findProductSliceOrderByFundingCount(pageable));
@@ -85,14 +109,20 @@ public class ProductService {
 
     // 상품 상세 조회
     public GetProductDetailResponse getProductDetail(Long productId) {
-        // 상품
+        // 상품 (없으면 위시리스트 조회를 시작하지 않는다)
         Product product = findByProductId(productId);
+        // 위시리스트 여부 (Redis) - 옵션 조회와 병렬로 실행
+        CompletableFuture<Boolean> isWishlist = fanOutExecutor.fork(() -> getIsWishlist(productId));
         // 해당 상품의 옵션
-        List<GetProductOptionResponse> options = getOptions(product);
-        // 위시리스트 여부
-        boolean isWishlist = getIsWishlist(productId);
+        List<GetProductOptionResponse> options;
+        try {
+            options = getOptions(product);
+        } catch (RuntimeException e) {
+            fanOutExecutor.cancel(isWishlist);
+            throw e;
+        }
         // 반환
-        return GetProductDetailResponse.from(product, options, isWishlist);
+        return GetProductDetailResponse.from(product, options, fanOutExecutor.join(isWishlist));
     }
 
     // 정렬 객체
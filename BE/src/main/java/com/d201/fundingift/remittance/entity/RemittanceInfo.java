@@ -1,6 +1,8 @@
 package com.d201.fundingift.remittance.entity;
 
 import com.d201.fundingift._common.entity.BaseTime;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.remittance.entity.status.RemittanceStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -8,9 +10,13 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.SQLDelete;
 
+/*
+ *  성공한 펀딩에서 상품 가격을 넘고 남은 금액의 송금 (정산 배치가 JDBC 로 일괄 생성)
+ *  - idempotencyKey(remittance:{fundingId}) 가 유니크라 정산을 다시 실행해도 송금이 중복되지 않는다.
+ */
 @Entity
 @Getter
-@ToString
+@ToString(exclude = "funding")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE remittance set deleted_at = DATE_ADD(NOW(), INTERVAL 9 HOUR) where remittance_id = ?")
 public class RemittanceInfo extends BaseTime {
@@ -20,4 +26,28 @@ public class RemittanceInfo extends BaseTime {
     @Column(name = "remittance_info_id", nullable = false)
     private Long id;
 
+    @Column(nullable = false, unique = true, length = 50)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Column(nullable = false, length = 10)
+    private String accountBank;
+
+    @Column(nullable = false, length = 50)
+    private String accountNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RemittanceStatus remittanceStatus; // REQUESTED, COMPLETED
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "funding_id", referencedColumnName = "funding_id")
+    private Funding funding;
+
+    public static String idempotencyKeyOf(Long fundingId) {
+        return "remittance:" + fundingId;
+    }
+
 }
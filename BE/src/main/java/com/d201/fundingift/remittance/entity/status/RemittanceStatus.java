@@ -0,0 +1,5 @@
+package com.d201.fundingift.remittance.entity.status;
+
+public enum RemittanceStatus {
+    REQUESTED, COMPLETED
+}
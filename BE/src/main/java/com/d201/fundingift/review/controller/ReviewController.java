@@ -59,24 +59,27 @@ public class ReviewController {
                            상품 별 리뷰 목록을 조회합니다. \n
                            Query Parameter로 product-id, product-option-id, page, size, sort 넣어주세요. \n
                            product-option-id가 없으면 전체 옵션을 조회합니다. \n
-                           결과로 data, page, size, hasNext를 반환합니다.
+                           page를 생략하면 커서 기반으로 조회합니다. 다음 요청에 응답의 nextCursor를 cursor로 넣어주세요. \n
+                           결과로 data, page, size, hasNext, nextCursor를 반환합니다.
                            - data: 응답 데이터
                            - page: 현재 페이지 번호
                            - size: 현재 데이터 개수
                            - hasNext: 다음 페이지 존재 여부
+                           - nextCursor: 다음 페이지 커서 (커서 기반 조회일 때만)
                            """)
     @ApiResponse(responseCode = "200",
             description = "성공",
             useReturnTypeSchema = true)
     @ApiResponse(responseCode = "400",
-            description = "잘못된 product-id / 잘못된 sort",
+            description = "잘못된 product-id / 잘못된 sort / 잘못된 cursor",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("")
     public SuccessResponse<SliceList<GetReviewResponse>> getReviews
             (@Schema(description = "상품 ID", example = "1") @RequestParam(required = true, name = "product-id") Long productId,
              @Schema(description = "상품 옵션 ID", example = "1") @RequestParam(required = false, name = "product-option-id") Long productOptionId,
-             @Schema(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(required = true, name = "page") Integer page,
+             @Schema(description = "페이지 번호 (0부터 시작), 없으면 커서 기반으로 조회합니다.", example = "0") @RequestParam(required = false, name = "page") Integer page,
              @Schema(description = "한 페이지에 불러올 데이터의 개수", example = "10") @RequestParam(required = true, name = "size") Integer size,
+             @Schema(description = "이전 응답의 nextCursor, 없으면 처음부터 조회합니다.") @RequestParam(required = false, name = "cursor") String cursor,
              @Schema(description = """
                                     정렬 조건
                                     - 0: 최신 순
@@ -84,7 +87,7 @@ public class ReviewController {
                                     - 2: 별점 낮은 순
                                     """, example = "0") @RequestParam(required = true, name = "sort") Integer sort) {
         log.info("[ReviewController.getReviews]");
-        return ResponseUtils.ok(reviewService.getReviews(productId, productOptionId, page, size, sort), GET_REVIEWS_BY_PRODUCT_SUCCESS);
+        return ResponseUtils.ok(reviewService.getReviews(productId, productOptionId, page, size, sort, cursor), GET_REVIEWS_BY_PRODUCT_SUCCESS);
     }
 
     @Operation(summary = "리뷰 수정 (보류)",
@@ -0,0 +1,37 @@
+package com.d201.fundingift.review.event;
+
+import com.d201.fundingift._common.event.DomainEvent;
+import com.d201.fundingift.review.entity.Review;
+import lombok.Builder;
+import lombok.Getter;
+
+// 리뷰 등록
+@Getter
+public class ReviewPostedEvent implements DomainEvent {
+
+    private Long reviewId;
+    private Long productId;
+    private Long productOptionId;
+    private Long consumerId;
+    private Integer star;
+
+    @Builder
+    private ReviewPostedEvent(Long reviewId, Long productId, Long productOptionId, Long consumerId, Integer star) {
+        this.reviewId = reviewId;
+        this.productId = productId;
+        this.productOptionId = productOptionId;
+        this.consumerId = consumerId;
+        this.star = star;
+    }
+
+    public static ReviewPostedEvent from(Review review) {
+        return builder()
+                .reviewId(review.getId())
+                .productId(review.getProduct().getId())
+                .productOptionId(review.getProductOption().getId())
+                .consumerId(review.getConsumer().getId())
+                .star(review.getStar())
+                .build();
+    }
+
+}
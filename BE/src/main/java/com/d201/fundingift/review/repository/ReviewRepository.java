@@ -6,12 +6,17 @@ import com.d201.fundingift.review.entity.Review;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, JpaSpecificationExecutor<Review> {
 
     @Query("select r from Review r " +
             "where r.id = :reviewId " +
@@ -32,4 +37,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Slice<Review> findAllSliceByProductAndOption(
             @Param("product") Product product, @Param("productOption") ProductOption productOption, Pageable pageable);
 
+    // 소비자가 작성한 리뷰의 상품 id (회원 탈퇴 시 리뷰 집계를 다시 계산할 상품)
+    @Query("select distinct r.product.id from Review r " +
+            "where r.consumer.id = :consumerId " +
+            "and r.status = 'ACTIVE' and r.deletedAt is null")
+    List<Long> findProductIdsByConsumerId(@Param("consumerId") Long consumerId);
+
+    // 상품별 리뷰 수 / 평균 별점 (리뷰가 없는 상품은 결과에 없다)
+    @Query("select r.product.id as productId, count(r) as reviewCnt, avg(r.star) as reviewAvg from Review r " +
+            "where r.product.id in :productIds " +
+            "and r.status = 'ACTIVE' and r.deletedAt is null " +
+            "group by r.product.id")
+    List<ReviewStats> findStatsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    interface ReviewStats {
+        Long getProductId();
+        Long getReviewCnt();
+        Double getReviewAvg();
+    }
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Review r set r.deletedAt = :deletedAt " +
+            "where r.consumer.id = :consumerId and r.deletedAt is null")
+    int softDeleteAllByConsumerId(@Param("consumerId") Long consumerId, @Param("deletedAt") LocalDateTime deletedAt);
+
 }
@@ -0,0 +1,30 @@
+package com.d201.fundingift.review.repository;
+
+import com.d201.fundingift.product.entity.Product;
+import com.d201.fundingift.product.entity.ProductOption;
+import com.d201.fundingift.review.entity.Review;
+import com.d201.fundingift.review.entity.status.ReviewStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+// 커서 페이지네이션용 리뷰 조회 조건 (ReviewRepository 의 JPQL 조건과 같음)
+public final class ReviewSpecifications {
+
+    private ReviewSpecifications() {
+    }
+
+    public static Specification<Review> isActive() {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("status"), ReviewStatus.ACTIVE),
+                cb.isNull(root.get("deletedAt")));
+    }
+
+    public static Specification<Review> productEquals(Product product) {
+        return (root, query, cb) -> cb.equal(root.get("product"), product);
+    }
+
+    public static Specification<Review> productOptionEquals(ProductOption productOption) {
+        return (root, query, cb) -> productOption == null ? null
+                : cb.equal(root.get("productOption"), productOption);
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.d201.fundingift.review.service;
 
+import com.d201.fundingift._common.event.DomainEventPublisher;
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.response.SliceList;
+import com.d201.fundingift._common.util.KeysetPagination;
 import com.d201.fundingift._common.util.S3Uploader;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.consumer.entity.Consumer;
@@ -13,13 +15,16 @@ import com.d201.fundingift.review.dto.request.PostReviewRequest;
 import com.d201.fundingift.review.dto.request.PutReviewRequest;
 import com.d201.fundingift.review.dto.response.GetReviewResponse;
 import com.d201.fundingift.review.entity.Review;
+import com.d201.fundingift.review.event.ReviewPostedEvent;
 import com.d201.fundingift.review.repository.ReviewRepository;
+import com.d201.fundingift.review.repository.ReviewSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -40,6 +45,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public void postReview(PostReviewRequest request, MultipartFile image1, MultipartFile image2) throws IOException {
@@ -62,33 +68,47 @@ public class ReviewService {
         }
 
         // 리뷰 생성
-        reviewRepository.save(Review.from(request, imageUrl1, imageUrl2, product, productOption, consumer));
+        Review review = reviewRepository.save(Review.from(request, imageUrl1, imageUrl2, product, productOption, consumer));
 
         // 리뷰 개수 추가
         product.insertReview(request.getStar());
+
+        domainEventPublisher.publish(ReviewPostedEvent.from(review));
     }
 
-    public SliceList<GetReviewResponse> getReviews(Long productId, Long productOptionId, Integer page, Integer size, Integer sort) {
+    public SliceList<GetReviewResponse> getReviews(Long productId, Long productOptionId, Integer page, Integer size, Integer sort, String cursor) {
         // 소비자
         Consumer consumer = getConsumerOrNull();
 
         // 상품
         Product product = findProductById(productId);
 
+        // 상품 옵션 (없으면 전체 옵션)
+        ProductOption productOption = null;
+        if (productOptionId != null) {
+            productOption = findProductOptionById(productOptionId);
+
+            // 상품 옵션이 상품과 매칭되는지 검사
+            validateProductOption(product, productOption);
+        }
+
+        // 페이지 번호가 없으면 커서 기반 조회
+        if (page == null) {
+            Specification<Review> where = ReviewSpecifications.isActive()
+                    .and(ReviewSpecifications.productEquals(product))
+                    .and(ReviewSpecifications.productOptionEquals(productOption));
+            return KeysetPagination.fetch(reviewRepository, where, getSort(sort), cursor, size,
+                    review -> GetReviewResponse.from(review, consumer));
+        }
+
         // 페이징 객체
         Pageable pageable = PageRequest.of(page, size, getSort(sort));
 
         // 전체 옵션의 리뷰 반환
-        if (productOptionId == null) {
+        if (productOption == null) {
             return getReviewResponseSliceList(reviewRepository.findAllSliceByProduct(product, pageable), consumer);
         }
 
-        // 상품 옵션
-        ProductOption productOption = findProductOptionById(productOptionId);
-
-        // 상품 옵션이 상품과 매칭되는지 검사
-        validateProductOption(product, productOption);
-
         // 해당 옵션의 리뷰 반환
         return getReviewResponseSliceList(reviewRepository.findAllSliceByProductAndOption(product, productOption, pageable), consumer);
     }
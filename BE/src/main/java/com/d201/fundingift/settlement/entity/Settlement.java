@@ -0,0 +1,51 @@
+package com.d201.fundingift.settlement.entity;
+
+import com.d201.fundingift._common.entity.BaseTime;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.settlement.entity.status.SettlementStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/*
+ *  정산 원장 - 성공한 펀딩마다 한 행 (funding_id 유니크)
+ *  - PENDING 으로 기록된 뒤 정산 배치가 주문 / 송금을 만들고 같은 트랜잭션에서 COMPLETED 로 바꾼다.
+ *  - 혼자서도 정산되지 않는 펀딩(데이터 오류 등)은 FAILED 와 마지막 오류를 남겨 수동 확인한다.
+ */
+@Entity
+@Getter
+@ToString(exclude = "funding")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_settlement_status", columnList = "status, settlement_id"))
+public class Settlement extends BaseTime {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "settlement_id", nullable = false)
+    private Long id;
+
+    // 상태 값이 늘어나므로 enum 이 아닌 varchar 로 둔다 (기존 DB 의 enum 컬럼은 EnumColumnMigration 이 바꾼다)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "varchar(20)")
+    private SettlementStatus status; // PENDING, COMPLETED, FAILED
+
+    private Integer orderAmount;
+
+    private Integer remittanceAmount;
+
+    private LocalDateTime settledAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "funding_id", referencedColumnName = "funding_id", unique = true, nullable = false)
+    private Funding funding;
+
+}
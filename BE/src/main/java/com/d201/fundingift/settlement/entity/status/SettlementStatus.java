@@ -0,0 +1,5 @@
+package com.d201.fundingift.settlement.entity.status;
+
+public enum SettlementStatus {
+    PENDING, COMPLETED, FAILED
+}
@@ -0,0 +1,164 @@
+package com.d201.fundingift.settlement.repository;
+
+import com.d201.fundingift.order.entity.OrderInfo;
+import com.d201.fundingift.order.entity.status.OrderStatus;
+import com.d201.fundingift.remittance.entity.RemittanceInfo;
+import com.d201.fundingift.remittance.entity.status.RemittanceStatus;
+import com.d201.fundingift.settlement.entity.Settlement;
+import com.d201.fundingift.settlement.entity.status.SettlementStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ *  정산 배치용 JDBC 쿼리
+ *  - IDENTITY 키 엔티티는 Hibernate 가 insert 를 배치로 묶지 못하므로, 주문 / 송금 / 원장 변경은 JDBC batch 로 한 번에 보낸다.
+ *  - idempotency_key(원장은 funding_id) 유니크 + on duplicate key update 로 같은 펀딩을 다시 정산해도 행이 중복되지 않는다.
+ *    (insert ignore 는 중복 외의 오류 - NOT NULL 위반, 값 잘림 등 - 까지 경고로 바꿔 삼키므로 쓰지 않는다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementJdbcRepository {
+
+    private static final String INSERT_PENDING_SQL =
+            "insert into settlement (funding_id, status, created_at, updated_at) values (?, ?, ?, ?) " +
+            "on duplicate key update funding_id = funding_id";
+
+    private static final String SELECT_PENDING_SQL = """
+            select s.settlement_id, f.funding_id, f.sum_price, f.product_id, f.product_option_id,
+                   p.price + coalesce(po.price, 0) as order_price,
+                   f.name, f.phone_number, f.default_addr, f.detail_addr, f.zip_code, f.account_bank, f.account_no
+            from settlement s
+                join funding f on f.funding_id = s.funding_id
+                join product p on p.product_id = f.product_id
+                left join product_option po on po.product_option_id = f.product_option_id
+            where s.status = ? and s.settlement_id > ?
+            order by s.settlement_id
+            limit ?
+            """;
+
+    private static final String INSERT_ORDER_SQL = """
+            insert into order_info (idempotency_key, funding_id, product_id, product_option_id, price,
+                                    recipient_name, phone_number, default_addr, detail_addr, zip_code,
+                                    order_status, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update idempotency_key = idempotency_key
+            """;
+
+    private static final String INSERT_REMITTANCE_SQL = """
+            insert into remittance_info (idempotency_key, funding_id, amount, account_bank, account_no,
+                                         remittance_status, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update idempotency_key = idempotency_key
+            """;
+
+    private static final String COMPLETE_SQL = """
+            update settlement set status = ?, order_amount = ?, remittance_amount = ?, settled_at = ?, updated_at = ?
+            where settlement_id = ? and status = ?
+            """;
+
+    private static final String FAIL_SQL = """
+            update settlement set status = ?, last_error = ?, updated_at = ?
+            where settlement_id = ? and status = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 원장에 정산 대기 기록 (이미 있으면 무시)
+    public void insertPending(Long fundingId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT_PENDING_SQL, fundingId, SettlementStatus.PENDING.name(), timestamp, timestamp);
+    }
+
+    // 정산 대기 중인 펀딩 (settlement_id 순 keyset)
+    public List<SettlementTarget> findPending(Long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) -> new SettlementTarget(
+                rs.getLong("settlement_id"),
+                rs.getLong("funding_id"),
+                rs.getInt("sum_price"),
+                rs.getLong("product_id"),
+                rs.getObject("product_option_id", Long.class),
+                rs.getInt("order_price"),
+                rs.getString("name"),
+                rs.getString("phone_number"),
+                rs.getString("default_addr"),
+                rs.getString("detail_addr"),
+                rs.getString("zip_code"),
+                rs.getString("account_bank"),
+                rs.getString("account_no")
+        ), SettlementStatus.PENDING.name(), afterId, limit);
+    }
+
+    public void insertOrders(List<SettlementTarget> targets, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, targets, targets.size(), (ps, target) -> {
+            ps.setString(1, OrderInfo.idempotencyKeyOf(target.fundingId()));
+            ps.setLong(2, target.fundingId());
+            ps.setLong(3, target.productId());
+            ps.setObject(4, target.productOptionId(), Types.BIGINT);
+            ps.setInt(5, target.orderPrice());
+            ps.setString(6, target.name());
+            ps.setString(7, target.phoneNumber());
+            ps.setString(8, target.defaultAddr());
+            ps.setString(9, target.detailAddr());
+            ps.setString(10, target.zipCode());
+            ps.setString(11, OrderStatus.ORDERED.name());
+            ps.setTimestamp(12, timestamp);
+            ps.setTimestamp(13, timestamp);
+        });
+    }
+
+    public void insertRemittances(List<SettlementTarget> targets, LocalDateTime now) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_REMITTANCE_SQL, targets, targets.size(), (ps, target) -> {
+            ps.setString(1, RemittanceInfo.idempotencyKeyOf(target.fundingId()));
+            ps.setLong(2, target.fundingId());
+            ps.setInt(3, target.surplus());
+            ps.setString(4, target.accountBank());
+            ps.setString(5, target.accountNo());
+            ps.setString(6, RemittanceStatus.REQUESTED.name());
+            ps.setTimestamp(7, timestamp);
+            ps.setTimestamp(8, timestamp);
+        });
+    }
+
+    public void complete(List<SettlementTarget> targets, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(COMPLETE_SQL, targets, targets.size(), (ps, target) -> {
+            ps.setString(1, SettlementStatus.COMPLETED.name());
+            ps.setInt(2, target.orderPrice());
+            ps.setInt(3, target.surplus());
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+            ps.setLong(6, target.settlementId());
+            ps.setString(7, SettlementStatus.PENDING.name());
+        });
+    }
+
+    // 혼자서도 정산되지 않는 펀딩 - 다음 실행부터 건너뛴다
+    public void fail(Long settlementId, String error, LocalDateTime now) {
+        String lastError = error == null || error.length() <= Settlement.MAX_ERROR_LENGTH ? error : error.substring(0, Settlement.MAX_ERROR_LENGTH);
+        jdbcTemplate.update(FAIL_SQL, SettlementStatus.FAILED.name(), lastError, Timestamp.valueOf(now),
+                settlementId, SettlementStatus.PENDING.name());
+    }
+
+    public record SettlementTarget(Long settlementId, Long fundingId, int sumPrice, Long productId, Long productOptionId,
+                                   int orderPrice, String name, String phoneNumber, String defaultAddr, String detailAddr,
+                                   String zipCode, String accountBank, String accountNo) {
+
+        // 상품 가격을 넘고 남은 금액 (펀딩 계좌로 송금)
+        public int surplus() {
+            return Math.max(0, sumPrice - orderPrice);
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.d201.fundingift.settlement.service;
+
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.event.FundingStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 정산 관련 도메인 이벤트 후처리 (DomainEventRelay 가 커밋 후 비동기로 호출)
+@Component
+@RequiredArgsConstructor
+public class SettlementEventHandler {
+
+    private final SettlementService settlementService;
+
+    // 펀딩 성공 -> 정산 대기 기록
+    @EventListener
+    public void onFundingStatusChanged(FundingStatusChangedEvent event) {
+        if (FundingStatus.SUCCESS.name().equals(event.getFundingStatus())) {
+            settlementService.requestSettlement(event.getFundingId());
+        }
+    }
+
+}
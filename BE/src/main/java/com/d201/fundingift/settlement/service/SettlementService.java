@@ -0,0 +1,148 @@
+package com.d201.fundingift.settlement.service;
+
+import com.d201.fundingift.settlement.repository.SettlementJdbcRepository;
+import com.d201.fundingift.settlement.repository.SettlementJdbcRepository.SettlementTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ *  성공(SUCCESS)한 펀딩 정산 - 상품 주문(OrderInfo) + 남은 금액 송금(RemittanceInfo)
+ *  - 펀딩이 성공하면 정산 원장(settlement)에 PENDING 으로 기록만 하고, 실제 정산은 chunk 단위 배치로 처리한다.
+ *  - chunk 하나(chunk-size 개 펀딩)의 주문 / 송금 생성과 원장 COMPLETED 변경은 한 트랜잭션이다.
+ *    중간에 실패하면 해당 chunk 만 롤백되고, 그 chunk 의 펀딩을 하나씩 다시 정산한다.
+ *    하나씩 해도 실패하는 펀딩은 FAILED 로 남기고 다음 펀딩으로 넘어가, 한 건 때문에 뒤의 정산이 막히지 않는다.
+ *  - 주문 / 송금은 펀딩별 idempotency key 로 한 번만 만들어지므로 같은 chunk 를 다시 실행해도 안전하다.
+ *  - 배치는 전역 락으로 한 스레드 / 인스턴스만 실행한다.
+ *    (락 값은 실행마다 만든 토큰이며, 연장 / 해제는 토큰이 같을 때만 한다 - TTL 이 지나 다른 서버가 잡은 락을 지우지 않도록)
+ */
+@Slf4j
+@Service
+public class SettlementService {
+
+    private static final String LOCK_KEY = "settlement:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final SettlementJdbcRepository settlementJdbcRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor executor;
+
+    @Value("${settlement.chunk-size:500}")
+    private int chunkSize;
+
+    public SettlementService(SettlementJdbcRepository settlementJdbcRepository, StringRedisTemplate stringRedisTemplate,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("backgroundTaskExecutor") AsyncTaskExecutor backgroundTaskExecutor) {
+        this.settlementJdbcRepository = settlementJdbcRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = backgroundTaskExecutor;
+    }
+
+    // 정산 대기 기록 후 배치 실행 요청 (이미 실행 중이면 그 실행이 함께 처리)
+    public void requestSettlement(Long fundingId) {
+        settlementJdbcRepository.insertPending(fundingId, LocalDateTime.now());
+        executor.execute(this::settlePending);
+    }
+
+    @Scheduled(fixedDelayString = "${settlement.interval-millis:60000}", initialDelayString = "${settlement.interval-millis:60000}")
+    public void settlePending() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            return; // 다른 스레드 / 인스턴스가 처리 중
+        }
+
+        long start = System.currentTimeMillis();
+        int settled = 0;
+        int failed = 0;
+        try {
+            Long afterId = 0L;
+            List<SettlementTarget> chunk;
+            while (!(chunk = settlementJdbcRepository.findPending(afterId, chunkSize)).isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).settlementId();
+                try {
+                    settleChunk(chunk);
+                    settled += chunk.size();
+                } catch (Exception e) {
+                    log.warn("[SettlementService] chunk({}건) 정산 실패, 하나씩 다시 정산 : {}", chunk.size(), e.getMessage());
+                    for (SettlementTarget target : chunk) {
+                        if (settleOne(target)) {
+                            settled++;
+                        } else {
+                            failed++;
+                        }
+                    }
+                }
+                if (!Long.valueOf(1).equals(stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(LOCK_KEY), token, String.valueOf(LOCK_TTL.toMillis())))) {
+                    log.warn("[SettlementService] 락을 잃어 중단 ({}건 완료), 다음 실행 때 이어서 처리", settled);
+                    return;
+                }
+            }
+
+            if (settled > 0 || failed > 0) {
+                log.info("[SettlementService] 펀딩 {}건 정산 완료, {}건 실패 ({}ms)", settled, failed, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("[SettlementService] 정산 실패 ({}건 완료), 다음 실행 때 이어서 처리 : {}", settled, e.getMessage());
+        } finally {
+            releaseLock(token);
+        }
+    }
+
+    private void settleChunk(List<SettlementTarget> targets) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            settlementJdbcRepository.insertOrders(targets, now);
+            settlementJdbcRepository.insertRemittances(targets.stream().filter(target -> target.surplus() > 0).toList(), now);
+            settlementJdbcRepository.complete(targets, now);
+        });
+    }
+
+    private void releaseLock(String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        } catch (Exception e) {
+            log.warn("[SettlementService] 락 해제 실패 (TTL 만료 후 해제) : {}", e.getMessage());
+        }
+    }
+
+    // 반환: 정산됐으면 true, 실패해 FAILED 로 남겼으면 false
+    private boolean settleOne(SettlementTarget target) {
+        try {
+            settleChunk(List.of(target));
+            return true;
+        } catch (Exception e) {
+            log.error("[SettlementService] 펀딩({}) 정산 실패, FAILED 로 남김 : {}", target.fundingId(), e.getMessage());
+            settlementJdbcRepository.fail(target.settlementId(), e.toString(), LocalDateTime.now());
+            return false;
+        }
+    }
+
+}
@@ -68,24 +68,28 @@ public class WishlistController {
                            `token` \n
                            유저의 위시리스트 목록을 조회합니다. \n
                            Query Parameter로 page, size 넣어주세요.
-                           결과로 data, page, size, hasNext를 반환합니다.
+                           page를 생략하면 커서 기반으로 조회합니다. 다음 요청에 응답의 nextCursor를 cursor로 넣어주세요.
+                           (커서 기반 조회에서 size는 대략적인 개수이며, 응답 개수는 조금 다를 수 있습니다.)
+                           결과로 data, page, size, hasNext, nextCursor를 반환합니다.
                            - data: 응답 데이터
                            - page: 현재 페이지 번호
                            - size: 현재 데이터 개수
                            - hasNext: 다음 페이지 존재 여부
+                           - nextCursor: 다음 페이지 커서 (커서 기반 조회일 때만)
                            """)
     @ApiResponse(responseCode = "200",
             description = "성공",
             useReturnTypeSchema = true)
     @ApiResponse(responseCode = "400",
-            description = "토큰이 없는 경우",
+            description = "토큰이 없는 경우 / 잘못된 cursor",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping("")
     public SuccessResponse<SliceList<GetWishlistResponse>> getWishlists
-                (@Schema(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam Integer page,
-                 @Schema(description = "한 페이지에 불러올 데이터의 개수", example = "10") @RequestParam Integer size) {
+                (@Schema(description = "페이지 번호 (0부터 시작), 없으면 커서 기반으로 조회합니다.", example = "0") @RequestParam(required = false) Integer page,
+                 @Schema(description = "한 페이지에 불러올 데이터의 개수", example = "10") @RequestParam Integer size,
+                 @Schema(description = "이전 응답의 nextCursor, 없으면 처음부터 조회합니다.") @RequestParam(required = false) String cursor) {
         log.info("[WishlistController.getWishlists]");
-        return ResponseUtils.ok(wishlistService.getWishlists(page, size), GET_WISHLISTS_SUCCESS);
+        return ResponseUtils.ok(wishlistService.getWishlists(page, size, cursor), GET_WISHLISTS_SUCCESS);
     }
 
 }
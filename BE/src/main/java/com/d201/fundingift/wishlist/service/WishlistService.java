@@ -2,6 +2,7 @@ package com.d201.fundingift.wishlist.service;
 
 import com.d201.fundingift._common.exception.CustomException;
 import com.d201.fundingift._common.response.SliceList;
+import com.d201.fundingift._common.util.RedisPipelineUtil;
 import com.d201.fundingift._common.util.SecurityUtil;
 import com.d201.fundingift.product.entity.Product;
 import com.d201.fundingift.product.repository.ProductRepository;
@@ -15,10 +16,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.d201.fundingift._common.response.ErrorType.*;
@@ -33,6 +42,19 @@ public class WishlistService {
     private final ProductRepository productRepository;
     private final SecurityUtil securityUtil;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipelineUtil redisPipelineUtil;
+
+    // SSCAN 한 번의 결과를 [다음 커서, 원소...] 의 평평한 리스트로 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SSCAN_SCRIPT = new DefaultRedisScript<>("""
+            local result = redis.call('SSCAN', KEYS[1], ARGV[1], 'COUNT', ARGV[2])
+            local flat = { result[1] }
+            for _, member in ipairs(result[2]) do
+                table.insert(flat, member)
+            end
+            return flat
+            """, List.class);
 
     @Transactional
     public void createWishlistItem(WishlistRequest request) {
@@ -74,10 +96,15 @@ public class WishlistService {
         wishlistRepository.delete(wishlist);
     }
 
-    public SliceList<GetWishlistResponse> getWishlists(Integer page, Integer size) {
+    public SliceList<GetWishlistResponse> getWishlists(Integer page, Integer size, String cursor) {
         // 소비자
         Long consumerId = getConsumerId();
 
+        // 페이지 번호가 없으면 커서 기반 조회
+        if (page == null) {
+            return getWishlistsByCursor(consumerId, size, cursor);
+        }
+
         // 페이징
         Pageable pageable = PageRequest.of(page, size);
 
@@ -91,6 +118,59 @@ public class WishlistService {
         return SliceList.of(wishlistDtos, page, wishlistDtos.size(), hasNext);
     }
 
+    /*
+     *  커서 기반 조회 - 인덱스 Set(wishlist:consumerId:{id}) 을 SSCAN 으로 이어서 읽는다.
+     *  SSCAN 의 COUNT 는 힌트라 한 번에 돌려받는 개수는 size 와 다를 수 있고,
+     *  Redis 커서가 0 이 되면 마지막 페이지이다.
+     */
+    private SliceList<GetWishlistResponse> getWishlistsByCursor(Long consumerId, Integer size, String cursor) {
+        List<String> scanned = stringRedisTemplate.execute(SSCAN_SCRIPT,
+                List.of("wishlist:consumerId:" + consumerId), decodeCursor(cursor), String.valueOf(size));
+
+        // 첫 번째 값은 다음 Redis 커서, 나머지는 위시리스트 ID
+        String nextScanCursor = scanned.get(0);
+        List<String> keys = scanned.subList(1, scanned.size()).stream()
+                .distinct()
+                .map(wishlistId -> "wishlist:" + wishlistId)
+                .toList();
+
+        // 위시리스트 해시의 상품 ID - 파이프라인 한 번으로 조회
+        List<Long> productIds = redisPipelineUtil.hGet(keys, "productId").stream()
+                .filter(Objects::nonNull)
+                .map(Long::valueOf)
+                .toList();
+
+        // 상품 - IN 쿼리 한 번으로 조회 후 위시리스트 순서대로 정렬
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<GetWishlistResponse> wishlistDtos = productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(GetWishlistResponse::from)
+                .toList();
+
+        String nextCursor = "0".equals(nextScanCursor) ? null : encodeCursor(nextScanCursor);
+        return SliceList.ofCursor(wishlistDtos, wishlistDtos.size(), nextCursor);
+    }
+
+    private String encodeCursor(String scanCursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(scanCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return "0";
+        }
+
+        try {
+            String scanCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            Long.parseUnsignedLong(scanCursor);
+            return scanCursor;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
     private boolean getHasNext(Integer page, Integer requestSize, Integer resultSize, Long consumerId) {
         Long cnt = redisTemplate.opsForSet().size("wishlist:consumerId:" + consumerId);
         log.info("getWishlistCntByConsumerId: {}", cnt);
@@ -0,0 +1,55 @@
+package com.d201.fundingift._common.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+class DomainEventOutboxTest {
+
+    private static final long RETRY_DELAY_MILLIS = 60_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 300_000;
+
+    @Test
+    void failed_재시도_간격은_두_배씩_늘고_상한을_넘지_않는다() {
+        DomainEventOutbox outbox = pending();
+
+        outbox.failed("error", 10, RETRY_DELAY_MILLIS, MAX_RETRY_DELAY_MILLIS);
+        assertThat(outbox.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, SECONDS));
+
+        outbox.failed("error", 10, RETRY_DELAY_MILLIS, MAX_RETRY_DELAY_MILLIS);
+        assertThat(outbox.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(120), within(5, SECONDS));
+
+        outbox.failed("error", 10, RETRY_DELAY_MILLIS, MAX_RETRY_DELAY_MILLIS);
+        outbox.failed("error", 10, RETRY_DELAY_MILLIS, MAX_RETRY_DELAY_MILLIS);
+        assertThat(outbox.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(300), within(5, SECONDS));
+        assertThat(outbox.getStatus()).isEqualTo(DomainEventStatus.PENDING);
+        assertThat(outbox.getLockedUntil()).isNull();
+    }
+
+    @Test
+    void failed_최대_시도_횟수에_도달하면_FAILED() {
+        DomainEventOutbox outbox = pending();
+
+        outbox.failed("error", 2, RETRY_DELAY_MILLIS, MAX_RETRY_DELAY_MILLIS);
+        assertThat(outbox.getStatus()).isEqualTo(DomainEventStatus.PENDING);
+
+        outbox.failed("x".repeat(1000), 2, RETRY_DELAY_MILLIS, MAX_RETRY_DELAY_MILLIS);
+        assertThat(outbox.getStatus()).isEqualTo(DomainEventStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+        assertThat(outbox.getLastError()).hasSize(500);
+    }
+
+    private DomainEventOutbox pending() {
+        return DomainEventOutbox.builder()
+                .eventType("event")
+                .payload("{}")
+                .status(DomainEventStatus.PENDING)
+                .attempts(0)
+                .build();
+    }
+
+}
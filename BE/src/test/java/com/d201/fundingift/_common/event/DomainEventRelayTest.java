@@ -0,0 +1,40 @@
+package com.d201.fundingift._common.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DomainEventRelayTest {
+
+    @Test
+    void purgeDispatched_보관_기간이_지난_처리된_이벤트를_나눠_지운다() {
+        DomainEventOutboxRepository domainEventOutboxRepository = mock(DomainEventOutboxRepository.class);
+        when(domainEventOutboxRepository.findDispatchedIds(any(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(domainEventOutboxRepository.deleteAllByIdIn(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        DomainEventRelay domainEventRelay = new DomainEventRelay(domainEventOutboxRepository,
+                mock(ApplicationEventPublisher.class), new TaskExecutorAdapter(Runnable::run));
+        ReflectionTestUtils.setField(domainEventRelay, "retentionDays", 7);
+        ReflectionTestUtils.setField(domainEventRelay, "purgeBatchSize", 2);
+
+        assertThat(domainEventRelay.purgeDispatched()).isEqualTo(3);
+
+        verify(domainEventOutboxRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(domainEventOutboxRepository).deleteAllByIdIn(List.of(3L));
+        verify(domainEventOutboxRepository, times(3)).findDispatchedIds(
+                argThat(before -> before.isBefore(LocalDateTime.now().minusDays(7).plusSeconds(5))
+                        && before.isAfter(LocalDateTime.now().minusDays(7).minusSeconds(5))),
+                argThat(pageable -> pageable.getPageSize() == 2));
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.d201.fundingift._common.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisJwtRepositoryTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private HashOperations<String, Object, Object> hashOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisJwtRepository redisJwtRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+
+        meterRegistry = new SimpleMeterRegistry();
+        redisJwtRepository = new RedisJwtRepository(redisTemplate, new TaskExecutorAdapter(Runnable::run),
+                meterRegistry, 360, 600_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rotateRefreshToken_저장된_리프레시_토큰과_같을_때만_교체한다() {
+        doReturn(1L).when(redisTemplate).execute(any(RedisScript.class), eq(List.of("auth:1")), any(Object[].class));
+        doReturn(0L).when(redisTemplate).execute(any(RedisScript.class), eq(List.of("auth:2")), any(Object[].class));
+
+        assertThat(redisJwtRepository.rotateRefreshToken(1L, "old", "newRefresh", "newAccess")).isTrue();
+        assertThat(redisJwtRepository.rotateRefreshToken(2L, "stale", "newRefresh", "newAccess")).isFalse();
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("auth:1")),
+                anyString(), eq("old"), eq("newRefresh"), anyString(), eq("newAccess"), anyString());
+    }
+
+    @Test
+    void measure_락을_잡지_못하면_SCAN_하지_않고_공유된_결과만_읽는다() {
+        when(valueOperations.setIfAbsent(eq("auth-metrics:lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(hashOperations.entries("auth-metrics:result"))
+                .thenReturn(Map.of("hashKeys", "10", "legacyKeys", "0", "memoryBytes", "2048"));
+
+        redisJwtRepository.measure();
+
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+        assertThat(meterRegistry.get("auth.token.keys").tag("layout", "hash").gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("auth.token.memory.bytes").gauge().value()).isEqualTo(2048);
+    }
+
+    @Test
+    void migrateLegacyTokens_옮기기가_끝났으면_SCAN_하지_않는다() {
+        when(redisTemplate.hasKey("auth-legacy:migrated")).thenReturn(true);
+
+        redisJwtRepository.migrateLegacyTokens();
+
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+}
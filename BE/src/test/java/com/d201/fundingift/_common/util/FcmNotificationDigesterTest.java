@@ -0,0 +1,101 @@
+package com.d201.fundingift._common.util;
+
+import com.d201.fundingift._common.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.d201.fundingift._common.response.ErrorType.FCM_NOTIFICATION_SEND_FAILED;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FcmNotificationDigesterTest {
+
+    private static final String MEMBER = "ATTENDANCE:5";
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private ValueOperations<String, String> valueOperations;
+    private FcmNotificationProvider fcmNotificationProvider;
+    private FcmNotificationDigester fcmNotificationDigester;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.rangeByScore(eq("fcm:digest-due"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(Set.of(MEMBER));
+
+        fcmNotificationProvider = mock(FcmNotificationProvider.class);
+        fcmNotificationDigester = new FcmNotificationDigester(stringRedisTemplate, fcmNotificationProvider,
+                new SimpleMeterRegistry(), new TaskExecutorAdapter(Runnable::run));
+        ReflectionTestUtils.setField(fcmNotificationDigester, "windowMillis", 30000L);
+        ReflectionTestUtils.setField(fcmNotificationDigester, "leaseMillis", 300000L);
+        ReflectionTestUtils.setField(fcmNotificationDigester, "maxPerHour", 12);
+        ReflectionTestUtils.setField(fcmNotificationDigester, "flushBatchSize", 200);
+    }
+
+    @Test
+    void flush_발송에_성공하면_보내는_중인_묶음을_지운다() {
+        claimReturns(List.of(3L, "철수"));
+
+        fcmNotificationDigester.flush();
+
+        verify(fcmNotificationProvider).sendToOne(eq(5L), argThat(dto -> dto.getBody().contains("철수님 외 2명")), eq(MEMBER));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keysOfSize(3), any(Object[].class));
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    void flush_발송에_실패하면_묶음을_남기고_다시_예약한다() {
+        claimReturns(List.of(1L, "철수"));
+        doThrow(new CustomException(FCM_NOTIFICATION_SEND_FAILED))
+                .when(fcmNotificationProvider).sendToOne(eq(5L), any(), eq(MEMBER));
+
+        fcmNotificationDigester.flush();
+
+        verify(zSetOperations).add(eq("fcm:digest-due"), eq(MEMBER), doubleThat(score -> score > System.currentTimeMillis()));
+        verify(valueOperations).decrement(startsWith("fcm:digest-rate:5:"));
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), keysOfSize(3), any(Object[].class));
+    }
+
+    @Test
+    void flush_다른_서버가_가져간_묶음은_보내지_않는다() {
+        claimReturns(List.of());
+
+        fcmNotificationDigester.flush();
+
+        verifyNoInteractions(fcmNotificationProvider);
+    }
+
+    @Test
+    void flush_한도를_넘으면_보내지_않는다() {
+        claimReturns(List.of(-1L));
+
+        fcmNotificationDigester.flush();
+
+        verifyNoInteractions(fcmNotificationProvider);
+    }
+
+    private void claimReturns(List<?> result) {
+        doReturn(result).when(stringRedisTemplate).execute(any(RedisScript.class), keysOfSize(4), any(Object[].class));
+    }
+
+    private static List<String> keysOfSize(int size) {
+        return argThat(keys -> keys != null && keys.size() == size);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.d201.fundingift.fcmtoken.service;
+
+import com.d201.fundingift._common.util.RedisPipelineUtil;
+import com.d201.fundingift.fcmtoken.repository.FcmTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FcmTokenRegistryTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private FcmTokenRegistry fcmTokenRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        fcmTokenRegistry = new FcmTokenRegistry(stringRedisTemplate, mock(RedisPipelineUtil.class),
+                mock(FcmTokenRepository.class), mock(AsyncTaskExecutor.class), new SimpleMeterRegistry(), 60, 5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void register_이전_주인_확인은_스크립트_안에서_하고_초과한_기기의_토큰_키는_주인을_확인해_지운다() throws Exception {
+        doReturn(List.of(1L, "old-token")).doReturn(1L).when(stringRedisTemplate)
+                .execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        boolean registered = fcmTokenRegistry.register(7L, "new-token");
+
+        assertThat(registered).isTrue();
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertThat(keys.getAllValues().get(0)).containsExactly(tokenKey("new-token"), "fcm:tokens:7");
+        assertThat(keys.getAllValues().get(1)).containsExactly("fcm:tokens:7", tokenKey("old-token"));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("fcm:tokens:7", tokenKey("old-token"))),
+                eq("7"), eq("old-token"));
+        verify(stringRedisTemplate, never()).opsForValue();
+        verify(stringRedisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void register_뺀_기기가_없으면_토큰_키를_정리하지_않는다() {
+        doReturn(List.of(0L)).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        assertThat(fcmTokenRegistry.register(7L, "token")).isFalse();
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteAll_사용자_기기_ZSET_과_토큰_키를_함께_넘긴다() throws Exception {
+        when(zSetOperations.range("fcm:tokens:7", 0, -1)).thenReturn(new LinkedHashSet<>(List.of("a", "b")));
+        doReturn(2L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        long deleted = fcmTokenRegistry.deleteAll(7L);
+
+        assertThat(deleted).isEqualTo(2);
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(), eq("7"));
+        assertThat(keys.getValue()).containsExactly("fcm:tokens:7", tokenKey("a"), tokenKey("b"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteAll_기기가_없어도_ZSET_키는_지운다() {
+        when(zSetOperations.range("fcm:tokens:7", 0, -1)).thenReturn(null);
+        doReturn(0L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        assertThat(fcmTokenRegistry.deleteAll(7L)).isZero();
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("fcm:tokens:7")), eq("7"));
+    }
+
+    private static String tokenKey(String token) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return "fcm:token:" + HexFormat.of().formatHex(digest);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.d201.fundingift.funding.service;
+
+import com.d201.fundingift._common.dto.FcmNotificationDto;
+import com.d201.fundingift._common.util.FcmFanOutSender;
+import com.d201.fundingift._common.util.FcmNotificationProvider;
+import com.d201.fundingift.consumer.entity.Consumer;
+import com.d201.fundingift.consumeralarm.service.ConsumerAlarmService;
+import com.d201.fundingift.friend.service.FavoritedByIndex;
+import com.d201.fundingift.funding.entity.Funding;
+import com.d201.fundingift.funding.entity.status.FundingStatus;
+import com.d201.fundingift.funding.event.FundingStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FundingEventHandlerTest {
+
+    private FcmNotificationProvider fcmNotificationProvider;
+    private ConsumerAlarmService consumerAlarmService;
+    private ValueOperations<String, String> valueOperations;
+    private FundingEventHandler fundingEventHandler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        fcmNotificationProvider = mock(FcmNotificationProvider.class);
+        consumerAlarmService = mock(ConsumerAlarmService.class);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        fundingEventHandler = new FundingEventHandler(mock(FavoritedByIndex.class), mock(FcmFanOutSender.class),
+                fcmNotificationProvider, consumerAlarmService, stringRedisTemplate);
+    }
+
+    @Test
+    void from_펀딩_이름에는_받는_사람_이름이_아닌_펀딩_제목을_담는다() {
+        FundingStatusChangedEvent event = FundingStatusChangedEvent.from(funding(FundingStatus.SUCCESS));
+
+        assertThat(event.getFundingName()).isEqualTo("엄마 생신 선물");
+        assertThat(event.getConsumerId()).isEqualTo(3L);
+    }
+
+    @Test
+    void onFundingStatusChanged_푸시에는_펀딩_제목을_쓴다() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        fundingEventHandler.onFundingStatusChanged(FundingStatusChangedEvent.from(funding(FundingStatus.SUCCESS)));
+
+        ArgumentCaptor<FcmNotificationDto> notification = ArgumentCaptor.forClass(FcmNotificationDto.class);
+        verify(fcmNotificationProvider).sendToOne(eq(3L), notification.capture());
+        assertThat(notification.getValue().getBody()).startsWith("[엄마 생신 선물] ").doesNotContain("김엄마");
+    }
+
+    @Test
+    void onFundingStatusChanged_이미_처리한_단계는_다시_하지_않는다() {
+        when(valueOperations.setIfAbsent(eq("funding-event:done:1:SUCCESS:alarm"), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("funding-event:done:1:SUCCESS:push"), anyString(), any(Duration.class))).thenReturn(true);
+
+        fundingEventHandler.onFundingStatusChanged(FundingStatusChangedEvent.from(funding(FundingStatus.SUCCESS)));
+
+        verifyNoInteractions(consumerAlarmService);
+        verify(fcmNotificationProvider).sendToOne(eq(3L), any(FcmNotificationDto.class));
+    }
+
+    private Funding funding(FundingStatus fundingStatus) {
+        Consumer consumer = mock(Consumer.class);
+        when(consumer.getId()).thenReturn(3L);
+        Funding funding = spy(Funding.builder()
+                .title("엄마 생신 선물")
+                .name("김엄마")
+                .fundingStatus(fundingStatus)
+                .consumer(consumer)
+                .build());
+        doReturn(1L).when(funding).getId();
+        return funding;
+    }
+
+}
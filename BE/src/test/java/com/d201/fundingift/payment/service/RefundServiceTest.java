@@ -0,0 +1,148 @@
+package com.d201.fundingift.payment.service;
+
+import com.d201.fundingift._common.util.RedisTokenBucket;
+import com.d201.fundingift.loadtest.stub.StubIamportClient;
+import com.d201.fundingift.loadtest.stub.StubLatency;
+import com.d201.fundingift.payment.entity.PaymentInfo;
+import com.d201.fundingift.payment.entity.status.PaymentStatus;
+import com.d201.fundingift.payment.repository.PaymentInfoRepository;
+import com.siot.IamportRestClient.request.CancelData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefundServiceTest {
+
+    private PaymentInfoRepository paymentInfoRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private StubIamportClient iamportClient;
+    private RefundService refundService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        paymentInfoRepository = mock(PaymentInfoRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        RedisTokenBucket redisTokenBucket = mock(RedisTokenBucket.class);
+        when(redisTokenBucket.tryConsume(anyString(), anyInt(), anyDouble())).thenReturn(true);
+
+        iamportClient = new StubIamportClient(new StubLatency());
+        TaskExecutorAdapter sameThread = new TaskExecutorAdapter(Runnable::run);
+        refundService = new RefundService(paymentInfoRepository, iamportClient, redisTokenBucket,
+                stringRedisTemplate, sameThread, sameThread);
+        ReflectionTestUtils.setField(refundService, "batchSize", 100);
+    }
+
+    @Test
+    void refundBatch_한_번에_선점하고_다른_실행이_선점한_결제는_취소하지_않는다() {
+        PaymentInfo mine = payment(1L, "loadtest_1000_a");
+        PaymentInfo taken = payment(2L, "loadtest_2000_b");
+        when(paymentInfoRepository.claimForRefund(eq(List.of(1L, 2L)), anyString(), any())).thenReturn(1);
+        when(paymentInfoRepository.findIdsByRefundClaimToken(eq(List.of(1L, 2L)), anyString())).thenReturn(List.of(1L));
+
+        Map<RefundService.Outcome, List<Long>> outcomes = refundService.refundBatch(List.of(mine, taken));
+
+        assertThat(outcomes).containsOnlyKeys(RefundService.Outcome.REFUNDED);
+        assertThat(outcomes.get(RefundService.Outcome.REFUNDED)).containsExactly(1L);
+        assertThat(iamportClient.paymentByImpUid("loadtest_1000_a").getResponse().getStatus()).isEqualTo("cancelled");
+        assertThat(iamportClient.paymentByImpUid("loadtest_2000_b").getResponse().getStatus()).isEqualTo("paid");
+        verify(paymentInfoRepository, times(1)).claimForRefund(anyCollection(), anyString(), any());
+        verify(paymentInfoRepository, never()).updatePaymentStatus(anyCollection(), eq(PaymentStatus.PAID), eq(PaymentStatus.REFUNDING), any());
+        verify(paymentInfoRepository).updatePaymentStatus(eq(List.of(1L)), eq(PaymentStatus.REFUNDING), eq(PaymentStatus.REFUNDED), any());
+    }
+
+    @Test
+    void refundBatch_모두_선점하면_다시_조회하지_않는다() {
+        when(paymentInfoRepository.claimForRefund(anyCollection(), anyString(), any())).thenReturn(2);
+
+        Map<RefundService.Outcome, List<Long>> outcomes = refundService.refundBatch(
+                List.of(payment(1L, "loadtest_1000_a"), payment(2L, "loadtest_2000_b")));
+
+        assertThat(outcomes.get(RefundService.Outcome.REFUNDED)).containsExactly(1L, 2L);
+        verify(paymentInfoRepository, never()).findIdsByRefundClaimToken(anyCollection(), anyString());
+    }
+
+    @Test
+    void refundBatch_이미_취소된_결제는_거절되어도_상태를_조회해_환불로_확정한다() {
+        PaymentInfo paymentInfo = payment(1L, "loadtest_1000_a");
+        // 이전 실행에서 취소는 됐지만 응답을 받지 못한 경우
+        iamportClient.cancelPaymentByImpUid(new CancelData("loadtest_1000_a", true, new BigDecimal(1000)));
+        when(paymentInfoRepository.claimForRefund(anyCollection(), anyString(), any())).thenReturn(1);
+        when(paymentInfoRepository.updatePaymentStatus(anyCollection(), any(), any(), any())).thenReturn(1);
+
+        Map<RefundService.Outcome, List<Long>> outcomes = refundService.refundBatch(List.of(paymentInfo));
+
+        assertThat(outcomes.get(RefundService.Outcome.REFUNDED)).containsExactly(1L);
+        assertThat(outcomes).doesNotContainKey(RefundService.Outcome.FAILED);
+    }
+
+    @Test
+    void refundFunding_남아있던_REFUNDING_결제는_다시_취소하지_않고_조회로_확정한다() {
+        PaymentInfo refunding = payment(1L, "loadtest_1000_a");
+        PaymentInfo notCancelled = payment(2L, "loadtest_2000_b");
+        iamportClient.cancelPaymentByImpUid(new CancelData("loadtest_1000_a", true, new BigDecimal(1000)));
+        when(valueOperations.setIfAbsent(eq("refund:lock:7"), anyString(), any(Duration.class))).thenReturn(true);
+        when(paymentInfoRepository.findAllByFundingIdAndPaymentStatus(eq(7L), eq(PaymentStatus.REFUNDING), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(refunding, notCancelled));
+        when(paymentInfoRepository.findAllByFundingIdAndPaymentStatus(eq(7L), eq(PaymentStatus.REFUNDING), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(paymentInfoRepository.findAllByFundingIdAndPaymentStatus(eq(7L), eq(PaymentStatus.PAID), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        refundService.refundFunding(7L);
+
+        verify(paymentInfoRepository).updatePaymentStatus(eq(List.of(1L)), eq(PaymentStatus.REFUNDING), eq(PaymentStatus.REFUNDED), any());
+        verify(paymentInfoRepository).updatePaymentStatus(eq(List.of(2L)), eq(PaymentStatus.REFUNDING), eq(PaymentStatus.PAID), any());
+        assertThat(iamportClient.paymentByImpUid("loadtest_2000_b").getResponse().getStatus()).isEqualTo("paid");
+    }
+
+    @Test
+    void refundFunding_락을_잡지_못하면_아무것도_하지_않는다() {
+        when(valueOperations.setIfAbsent(eq("refund:lock:7"), anyString(), any(Duration.class))).thenReturn(false);
+
+        refundService.refundFunding(7L);
+
+        verifyNoInteractions(paymentInfoRepository);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    void refundFunding_락은_자신의_토큰일_때만_해제한다() {
+        when(valueOperations.setIfAbsent(eq("refund:lock:7"), anyString(), any(Duration.class))).thenReturn(true);
+        when(paymentInfoRepository.findAllByFundingIdAndPaymentStatus(anyLong(), any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        refundService.refundFunding(7L);
+
+        verify(stringRedisTemplate, never()).delete(anyString());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("refund:lock:7")), anyString());
+    }
+
+    private PaymentInfo payment(Long id, String impUid) {
+        return PaymentInfo.builder()
+                .id(id)
+                .paymentInfoUid(impUid)
+                .paymentStatus(PaymentStatus.PAID)
+                .price(Integer.parseInt(impUid.split("_")[1]))
+                .build();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.d201.fundingift.settlement.service;
+
+import com.d201.fundingift.settlement.repository.SettlementJdbcRepository;
+import com.d201.fundingift.settlement.repository.SettlementJdbcRepository.SettlementTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SettlementServiceTest {
+
+    private SettlementJdbcRepository settlementJdbcRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private SettlementService settlementService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        settlementJdbcRepository = mock(SettlementJdbcRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        doReturn(1L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        settlementService = new SettlementService(settlementJdbcRepository, stringRedisTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(AsyncTaskExecutor.class));
+        ReflectionTestUtils.setField(settlementService, "chunkSize", 3);
+    }
+
+    @Test
+    void settlePending_정산되지_않는_펀딩은_FAILED_로_남기고_나머지와_다음_chunk_를_정산한다() {
+        SettlementTarget first = target(1L);
+        SettlementTarget broken = target(2L);
+        SettlementTarget third = target(3L);
+        SettlementTarget next = target(4L);
+        when(settlementJdbcRepository.findPending(0L, 3)).thenReturn(List.of(first, broken, third));
+        when(settlementJdbcRepository.findPending(3L, 3)).thenReturn(List.of(next));
+        when(settlementJdbcRepository.findPending(4L, 3)).thenReturn(List.of());
+        doThrow(new IllegalStateException("bad row"))
+                .when(settlementJdbcRepository).insertOrders(argThat(targets -> targets.contains(broken)), any());
+
+        settlementService.settlePending();
+
+        verify(settlementJdbcRepository).fail(eq(2L), contains("bad row"), any());
+        verify(settlementJdbcRepository).complete(eq(List.of(first)), any());
+        verify(settlementJdbcRepository).complete(eq(List.of(third)), any());
+        verify(settlementJdbcRepository).complete(eq(List.of(next)), any());
+        verify(settlementJdbcRepository, never()).complete(eq(List.of(broken)), any());
+    }
+
+    @Test
+    void settlePending_chunk_가_성공하면_한_번에_정산한다() {
+        List<SettlementTarget> chunk = List.of(target(1L), target(2L));
+        when(settlementJdbcRepository.findPending(0L, 3)).thenReturn(chunk);
+        when(settlementJdbcRepository.findPending(2L, 3)).thenReturn(List.of());
+
+        settlementService.settlePending();
+
+        verify(settlementJdbcRepository).complete(eq(chunk), any());
+        verify(settlementJdbcRepository, never()).fail(anyLong(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void settlePending_락을_잃으면_중단하고_락은_자신의_토큰일_때만_해제한다() {
+        when(settlementJdbcRepository.findPending(0L, 3)).thenReturn(List.of(target(1L)));
+        // 연장 실패 (TTL 이 지나 다른 서버가 락을 잡음)
+        doReturn(0L).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        settlementService.settlePending();
+
+        verify(settlementJdbcRepository, never()).findPending(eq(1L), anyInt());
+        verify(stringRedisTemplate, never()).delete(anyString());
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("settlement:lock")), any(Object[].class));
+    }
+
+    private SettlementTarget target(Long settlementId) {
+        return new SettlementTarget(settlementId, settlementId * 10, 50000, 1L, null, 30000,
+                "이름", "010-0000-0000", "주소", "상세", "00000", "은행", "000-000");
+    }
+
+}